@@ -30,6 +30,8 @@ import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskResponse;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsResponse;
@@ -61,6 +63,26 @@ public interface MachineLearningClient {
      */
     void predict(String modelId, MLInput mlInput, ActionListener<MLOutput> listener);
 
+    /**
+     * Predict with several models in one request. Items are grouped by worker node, so each worker node gets one request,
+     * and a failed item doesn't fail the other items.
+     * @param requests predict requests, each with the model id and ML input
+     * @return ActionFuture of the bulk predict response, holding one result per request in the same order
+     */
+    default ActionFuture<MLBulkPredictionResponse> bulkPredict(List<MLPredictionTaskRequest> requests) {
+        PlainActionFuture<MLBulkPredictionResponse> actionFuture = PlainActionFuture.newFuture();
+        bulkPredict(requests, actionFuture);
+        return actionFuture;
+    }
+
+    /**
+     * Predict with several models in one request. Items are grouped by worker node, so each worker node gets one request,
+     * and a failed item doesn't fail the other items.
+     * @param requests predict requests, each with the model id and ML input
+     * @param listener a listener to be notified of the result, holding one result per request in the same order
+     */
+    void bulkPredict(List<MLPredictionTaskRequest> requests, ActionListener<MLBulkPredictionResponse> listener);
+
     /**
      * Train model then predict with the same data set.
      * For additional info on train and predict, refer: https://opensearch.org/docs/latest/ml-commons-plugin/api/#train-and-predict
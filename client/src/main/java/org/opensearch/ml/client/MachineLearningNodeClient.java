@@ -61,6 +61,9 @@ import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
@@ -109,6 +112,24 @@ public class MachineLearningNodeClient implements MachineLearningClient {
         client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, getMlPredictionTaskResponseActionListener(listener));
     }
 
+    @Override
+    public void bulkPredict(List<MLPredictionTaskRequest> requests, ActionListener<MLBulkPredictionResponse> listener) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Bulk predict requests can't be empty");
+        }
+        for (MLPredictionTaskRequest request : requests) {
+            validateMLInput(request.getMlInput(), true);
+            request.setDispatchTask(true);
+        }
+        MLBulkPredictionRequest bulkRequest = new MLBulkPredictionRequest(requests);
+        client
+            .execute(
+                MLBulkPredictionAction.INSTANCE,
+                bulkRequest,
+                wrapActionListener(listener, res -> MLBulkPredictionResponse.fromActionResponse(res))
+            );
+    }
+
     @Override
     public void trainAndPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
         validateMLInput(mlInput, true);
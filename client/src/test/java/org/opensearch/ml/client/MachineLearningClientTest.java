@@ -51,6 +51,9 @@ import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskResponse;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionItemResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsResponse;
@@ -129,6 +132,15 @@ public class MachineLearningClientTest {
                 listener.onResponse(output);
             }
 
+            @Override
+            public void bulkPredict(List<MLPredictionTaskRequest> requests, ActionListener<MLBulkPredictionResponse> listener) {
+                List<MLBulkPredictionItemResponse> items = new ArrayList<>();
+                for (MLPredictionTaskRequest request : requests) {
+                    items.add(MLBulkPredictionItemResponse.success(request.getModelId(), output));
+                }
+                listener.onResponse(new MLBulkPredictionResponse(items));
+            }
+
             @Override
             public void trainAndPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
                 listener.onResponse(output);
@@ -261,6 +273,18 @@ public class MachineLearningClientTest {
         assertEquals(output, machineLearningClient.predict("modelId", mlInput).actionGet());
     }
 
+    @Test
+    public void bulkPredict() {
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(input)).build();
+        List<MLPredictionTaskRequest> requests = Arrays
+            .asList(new MLPredictionTaskRequest("modelId1", mlInput), new MLPredictionTaskRequest("modelId2", mlInput));
+        MLBulkPredictionResponse response = machineLearningClient.bulkPredict(requests).actionGet();
+        assertEquals(2, response.getItems().size());
+        assertEquals("modelId1", response.getItems().get(0).getModelId());
+        assertEquals("modelId2", response.getItems().get(1).getModelId());
+        assertEquals(output, response.getItems().get(1).getOutput());
+    }
+
     @Test
     public void predict_WithAlgoAndInputDataAndListener() {
         MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(input)).build();
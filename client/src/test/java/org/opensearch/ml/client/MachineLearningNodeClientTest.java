@@ -105,6 +105,10 @@ import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionItemResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
@@ -151,6 +155,9 @@ public class MachineLearningNodeClientTest {
     @Mock
     ActionListener<MLOutput> dataFrameActionListener;
 
+    @Mock
+    ActionListener<MLBulkPredictionResponse> bulkPredictionActionListener;
+
     @Mock
     ActionListener<MLOutput> trainingActionListener;
 
@@ -239,6 +246,41 @@ public class MachineLearningNodeClientTest {
         assertEquals(output, ((MLPredictionOutput) dataFrameArgumentCaptor.getValue()).getPredictionResult());
     }
 
+    @Test
+    public void bulkPredict() {
+        doAnswer(invocation -> {
+            ActionListener<MLBulkPredictionResponse> actionListener = invocation.getArgument(2);
+            MLPredictionOutput predictionOutput = MLPredictionOutput.builder().status("Success").predictionResult(output).build();
+            List<MLBulkPredictionItemResponse> items = Arrays
+                .asList(
+                    MLBulkPredictionItemResponse.success("modelId1", predictionOutput),
+                    MLBulkPredictionItemResponse.failure("modelId2", new IllegalArgumentException("model not found"))
+                );
+            actionListener.onResponse(new MLBulkPredictionResponse(items));
+            return null;
+        }).when(client).execute(eq(MLBulkPredictionAction.INSTANCE), any(), any());
+
+        ArgumentCaptor<MLBulkPredictionResponse> argumentCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(input).build();
+        List<MLPredictionTaskRequest> requests = Arrays
+            .asList(new MLPredictionTaskRequest("modelId1", mlInput), new MLPredictionTaskRequest("modelId2", mlInput));
+        machineLearningNodeClient.bulkPredict(requests, bulkPredictionActionListener);
+
+        verify(client).execute(eq(MLBulkPredictionAction.INSTANCE), isA(MLBulkPredictionRequest.class), any());
+        verify(bulkPredictionActionListener).onResponse(argumentCaptor.capture());
+        MLBulkPredictionResponse response = argumentCaptor.getValue();
+        assertTrue(response.hasFailures());
+        assertFalse(response.getItems().get(0).isFailed());
+        assertEquals("model not found", response.getItems().get(1).getFailure().getMessage());
+    }
+
+    @Test
+    public void bulkPredict_Exception_WithEmptyRequests() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Bulk predict requests can't be empty");
+        machineLearningNodeClient.bulkPredict(Collections.emptyList(), bulkPredictionActionListener);
+    }
+
     @Test
     public void predict_Exception_WithNullAlgorithm() {
         exceptionRule.expect(IllegalArgumentException.class);
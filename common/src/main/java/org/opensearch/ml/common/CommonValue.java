@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.common;
 
+import org.opensearch.Version;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.connector.AbstractConnector;
 import org.opensearch.ml.common.controller.MLModelController;
@@ -42,6 +43,8 @@ public class CommonValue {
     public static final String SCHEMA_VERSION_FIELD = "schema_version";
     public static final String UNDEPLOYED = "undeployed";
     public static final String NOT_FOUND = "not_found";
+    // Stream fields added in 3.0.0 are only sent to and read from nodes on 3.0.0 or later, released 2.x nodes don't know them.
+    public static final Version VERSION_3_0_0 = Version.V_3_0_0;
 
     public static final String MASTER_KEY = "master_key";
     public static final String CREATE_TIME_FIELD = "create_time";
@@ -56,8 +59,11 @@ public class CommonValue {
     public static final String ML_TASK_INDEX = ".plugins-ml-task";
     public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
     public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 9;
+    public static final String ML_MODEL_CHUNK_INDEX = ".plugins-ml-model-chunk";
+    public static final Integer ML_MODEL_CHUNK_INDEX_SCHEMA_VERSION = 1;
+    public static final String MODEL_CHUNK_COMPRESSION_FIELD = "compression";
     public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
-    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
+    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 3;
     public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 2;
     public static final String ML_CONFIG_INDEX = ".plugins-ml-config";
     public static final Integer ML_CONFIG_INDEX_SCHEMA_VERSION = 2;
@@ -302,6 +308,9 @@ public class CommonValue {
             + "      \""
             + MLTask.IS_ASYNC_TASK_FIELD
             + "\" : {\"type\" : \"boolean\"}, \n"
+            + "      \""
+            + MLTask.BATCH_JOB_FIELD
+            + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
             + USER_FIELD_MAPPING
             + "    }\n"
             + "}";
@@ -362,6 +371,36 @@ public class CommonValue {
             + "    }\n"
             + "}";
 
+    // Chunk content is a stored binary field left out of the source, so reading a chunk doesn't decode base64 from JSON.
+    public static final String ML_MODEL_CHUNK_INDEX_MAPPING = "{\n"
+            + "    \"_meta\": {\"schema_version\": "
+            + ML_MODEL_CHUNK_INDEX_SCHEMA_VERSION
+            + "},\n"
+            + "    \"_source\": {\"excludes\": [\""
+            + MLModel.MODEL_CONTENT_FIELD
+            + "\"]},\n"
+            + "    \"properties\": {\n"
+            + "      \""
+            + MLModel.MODEL_ID_FIELD
+            + "\" : {\"type\": \"keyword\"},\n"
+            + "      \""
+            + MLModel.CHUNK_NUMBER_FIELD
+            + "\" : {\"type\": \"long\"},\n"
+            + "      \""
+            + MLModel.MODEL_CONTENT_FIELD
+            + "\" : {\"type\": \"binary\", \"store\": true},\n"
+            + "      \""
+            + MODEL_CHUNK_COMPRESSION_FIELD
+            + "\" : {\"type\": \"keyword\"},\n"
+            + "      \""
+            + MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD
+            + "\" : {\"type\": \"long\"},\n"
+            + "      \""
+            + CREATE_TIME_FIELD
+            + "\": {\"type\": \"date\", \"format\": \"strict_date_time||epoch_millis\"}\n"
+            + "    }\n"
+            + "}";
+
     public static final String ML_MODEL_CONTROLLER_INDEX_MAPPING = "{\n"
             + "    \"_meta\": {\"schema_version\": "
             + ML_MODEL_CONTROLLER_INDEX_SCHEMA_VERSION
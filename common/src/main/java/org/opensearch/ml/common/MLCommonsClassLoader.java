@@ -25,9 +25,12 @@ import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Log4j2
 public class MLCommonsClassLoader {
@@ -37,6 +40,8 @@ public class MLCommonsClassLoader {
     private static Map<Enum<?>, Class<?>> executeOutputClassMap = new HashMap<>();
     private static Map<Enum<?>, Class<?>> mlInputClassMap = new HashMap<>();
     private static Map<String, Class<?>> connectorClassMap = new HashMap<>();
+    // Constructors resolved by class and parameter types, so creating instances on the request path skips the lookup.
+    private static Map<Class<?>, Map<List<Class<?>>, Constructor<?>>> constructorCache = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -53,20 +58,21 @@ public class MLCommonsClassLoader {
         ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(MLCommonsClassLoader.class.getClassLoader());
-            loadMLAlgoParameterClassMapping();
-            loadMLOutputClassMapping();
-            loadMLInputDataSetClassMapping();
-            loadExecuteInputClassMapping();
-            loadExecuteOutputClassMapping();
-            loadMLInputClassMapping();
-            loadConnectorClassMapping();
+            // Scan the classpath once and look up every annotation from the same index.
+            Reflections reflections = new Reflections("org.opensearch.ml.common");
+            loadMLAlgoParameterClassMapping(reflections);
+            loadMLOutputClassMapping(reflections);
+            loadMLInputDataSetClassMapping(reflections);
+            loadExecuteInputClassMapping(reflections);
+            loadExecuteOutputClassMapping(reflections);
+            loadMLInputClassMapping(reflections);
+            loadConnectorClassMapping(reflections);
         } finally {
             Thread.currentThread().setContextClassLoader(originalClassLoader);
         }
     }
 
-    private static void loadConnectorClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.connector");
+    private static void loadConnectorClassMapping(Reflections reflections) {
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(Connector.class);
         for (Class<?> clazz : classes) {
             Connector connector = clazz.getAnnotation(Connector.class);
@@ -82,8 +88,7 @@ public class MLCommonsClassLoader {
     /**
      * Load ML algorithm parameter and ML output class.
      */
-    private static void loadMLAlgoParameterClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.parameter");
+    private static void loadMLAlgoParameterClassMapping(Reflections reflections) {
 
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoParameter.class);
         // Load ML algorithm parameter class
@@ -113,8 +118,7 @@ public class MLCommonsClassLoader {
     /**
      * Load ML algorithm parameter and ML output class.
      */
-    private static void loadMLOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output");
+    private static void loadMLOutputClassMapping(Reflections reflections) {
 
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoOutput.class);
         for (Class<?> clazz : classes) {
@@ -131,8 +135,7 @@ public class MLCommonsClassLoader {
     /**
      * Load ML input data set class
      */
-    private static void loadMLInputDataSetClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.dataset");
+    private static void loadMLInputDataSetClassMapping(Reflections reflections) {
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(InputDataSet.class);
         for (Class<?> clazz : classes) {
             InputDataSet inputDataSet = clazz.getAnnotation(InputDataSet.class);
@@ -148,8 +151,7 @@ public class MLCommonsClassLoader {
     /**
      * Load execute input output class.
      */
-    private static void loadExecuteInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.execute");
+    private static void loadExecuteInputClassMapping(Reflections reflections) {
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteInput.class);
         for (Class<?> clazz : classes) {
             ExecuteInput executeInput = clazz.getAnnotation(ExecuteInput.class);
@@ -167,8 +169,7 @@ public class MLCommonsClassLoader {
     /**
      * Load execute input output class.
      */
-    private static void loadExecuteOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output.execute");
+    private static void loadExecuteOutputClassMapping(Reflections reflections) {
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteOutput.class);
         for (Class<?> clazz : classes) {
             ExecuteOutput executeOutput = clazz.getAnnotation(ExecuteOutput.class);
@@ -183,8 +184,7 @@ public class MLCommonsClassLoader {
         }
     }
 
-    private static void loadMLInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input");
+    private static void loadMLInputClassMapping(Reflections reflections) {
         Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLInput.class);
         for (Class<?> clazz : classes) {
             MLInput mlInput = clazz.getAnnotation(MLInput.class);
@@ -236,7 +236,7 @@ public class MLCommonsClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParamClass);
+            Constructor<?> constructor = getConstructor(clazz, constructorParamClass);
             return (S) constructor.newInstance(in);
         } catch (Exception e) {
             Throwable cause = e.getCause();
@@ -249,6 +249,17 @@ public class MLCommonsClassLoader {
         }
     }
 
+    private static Constructor<?> getConstructor(Class<?> clazz, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Map<List<Class<?>>, Constructor<?>> constructors = constructorCache.computeIfAbsent(clazz, it -> new ConcurrentHashMap<>());
+        List<Class<?>> key = Arrays.asList(parameterTypes);
+        Constructor<?> constructor = constructors.get(key);
+        if (constructor == null) {
+            constructor = clazz.getConstructor(parameterTypes);
+            constructors.put(key, constructor);
+        }
+        return constructor;
+    }
+
     public static boolean canInitMLInput(FunctionName functionName) {
         return mlInputClassMap.containsKey(functionName);
     }
@@ -271,7 +282,7 @@ public class MLCommonsClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParameterTypes);
+            Constructor<?> constructor = getConstructor(clazz, constructorParameterTypes);
             return (S) constructor.newInstance(initArgs);
         } catch (Exception e) {
             Throwable cause = e.getCause();
@@ -23,9 +23,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.USER;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 
 @Getter
 @EqualsAndHashCode
@@ -44,6 +46,7 @@ public class MLTask implements ToXContentObject, Writeable {
     public static final String LAST_UPDATE_TIME_FIELD = "last_update_time";
     public static final String ERROR_FIELD = "error";
     public static final String IS_ASYNC_TASK_FIELD = "is_async";
+    public static final String BATCH_JOB_FIELD = "batch_job";
 
     @Setter
     private String taskId;
@@ -65,6 +68,9 @@ public class MLTask implements ToXContentObject, Writeable {
     private String error;
     private User user; // TODO: support document level access control later
     private boolean async;
+    // Input and checkpoint of batch prediction tasks.
+    @Setter
+    private Map<String, Object> batchJob;
 
     @Builder(toBuilder = true)
     public MLTask(
@@ -81,7 +87,8 @@ public class MLTask implements ToXContentObject, Writeable {
         Instant lastUpdateTime,
         String error,
         User user,
-        boolean async
+        boolean async,
+        Map<String, Object> batchJob
     ) {
         this.taskId = taskId;
         this.modelId = modelId;
@@ -97,6 +104,7 @@ public class MLTask implements ToXContentObject, Writeable {
         this.error = error;
         this.user = user;
         this.async = async;
+        this.batchJob = batchJob;
     }
 
     public MLTask(StreamInput input) throws IOException {
@@ -122,6 +130,9 @@ public class MLTask implements ToXContentObject, Writeable {
             this.user = null;
         }
         this.async = input.readBoolean();
+        if (input.getVersion().onOrAfter(VERSION_3_0_0) && input.readBoolean()) {
+            this.batchJob = input.readMap();
+        }
     }
 
     @Override
@@ -149,6 +160,14 @@ public class MLTask implements ToXContentObject, Writeable {
             out.writeBoolean(false);
         }
         out.writeBoolean(async);
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            if (batchJob != null) {
+                out.writeBoolean(true);
+                out.writeMap(batchJob);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     @Override
@@ -194,6 +213,9 @@ public class MLTask implements ToXContentObject, Writeable {
             builder.field(USER, user);
         }
         builder.field(IS_ASYNC_TASK_FIELD, async);
+        if (batchJob != null) {
+            builder.field(BATCH_JOB_FIELD, batchJob);
+        }
         return builder.endObject();
     }
 
@@ -217,6 +239,7 @@ public class MLTask implements ToXContentObject, Writeable {
         String error = null;
         User user = null;
         boolean async = false;
+        Map<String, Object> batchJob = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -274,6 +297,9 @@ public class MLTask implements ToXContentObject, Writeable {
                 case IS_ASYNC_TASK_FIELD:
                     async = parser.booleanValue();
                     break;
+                case BATCH_JOB_FIELD:
+                    batchJob = parser.map();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -294,6 +320,7 @@ public class MLTask implements ToXContentObject, Writeable {
                 .error(error)
                 .user(user)
                 .async(async)
+                .batchJob(batchJob)
                 .build();
     }
 }
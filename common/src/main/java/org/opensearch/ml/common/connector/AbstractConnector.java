@@ -18,6 +18,8 @@ import org.opensearch.ml.common.utils.StringUtils;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -140,4 +142,20 @@ public abstract class AbstractConnector implements Connector {
         return predictEndpoint;
     }
 
+    @Override
+    public List<String> getPredictEndpoints(Map<String, String> parameters) {
+        Optional<ConnectorAction> predictAction = findPredictAction();
+        if (!predictAction.isPresent()) {
+            return Collections.emptyList();
+        }
+        List<String> predictEndpoints = new ArrayList<>();
+        StringSubstitutor substitutor = parameters != null && parameters.size() > 0
+            ? new StringSubstitutor(parameters, "${parameters.", "}")
+            : null;
+        for (String endpoint : predictAction.get().getAllUrls()) {
+            predictEndpoints.add(substitutor == null ? endpoint : substitutor.replace(endpoint));
+        }
+        return predictEndpoints;
+    }
+
 }
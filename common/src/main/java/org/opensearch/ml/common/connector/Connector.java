@@ -55,6 +55,14 @@ public interface Connector extends ToXContentObject, Writeable {
     List<ConnectorAction> getActions();
     String getPredictEndpoint(Map<String, String> parameters);
 
+    /**
+     * Resolve all endpoints of the predict action. Contains only the predict endpoint when the
+     * action has no endpoint list configured.
+     * @param parameters parameters used to fill url placeholders
+     * @return resolved endpoints in configured order, empty if the connector has no predict action
+     */
+    List<String> getPredictEndpoints(Map<String, String> parameters);
+
     String getPredictHttpMethod();
 
     <T> T createPredictPayload(Map<String, String> parameters);
@@ -143,18 +151,20 @@ public interface Connector extends ToXContentObject, Writeable {
         Map<String, String> parameters = getParameters();
         for (ConnectorAction action : getActions()) {
             StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            String url = substitutor.replace(action.getUrl());
-            boolean hasMatchedUrl = false;
-            for (String urlRegex : urlRegexes) {
-                Pattern pattern = Pattern.compile(urlRegex);
-                Matcher matcher = pattern.matcher(url);
-                if (matcher.matches()) {
-                    hasMatchedUrl = true;
-                    break;
+            for (String actionUrl : action.getAllUrls()) {
+                String url = substitutor.replace(actionUrl);
+                boolean hasMatchedUrl = false;
+                for (String urlRegex : urlRegexes) {
+                    Pattern pattern = Pattern.compile(urlRegex);
+                    Matcher matcher = pattern.matcher(url);
+                    if (matcher.matches()) {
+                        hasMatchedUrl = true;
+                        break;
+                    }
+                }
+                if (!hasMatchedUrl) {
+                    throw new IllegalArgumentException("Connector URL is not matching the trusted connector endpoint regex, URL is: " + url);
                 }
-            }
-            if (!hasMatchedUrl) {
-                throw new IllegalArgumentException("Connector URL is not matching the trusted connector endpoint regex, URL is: " + url);
             }
         }
     }
@@ -16,10 +16,14 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 
 @Getter
 @EqualsAndHashCode
@@ -32,6 +36,8 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     public static final String REQUEST_BODY_FIELD = "request_body";
     public static final String ACTION_PRE_PROCESS_FUNCTION = "pre_process_function";
     public static final String ACTION_POST_PROCESS_FUNCTION = "post_process_function";
+    public static final String ENDPOINTS_FIELD = "endpoints";
+    public static final String LOAD_BALANCING_FIELD = "load_balancing";
 
     private ActionType actionType;
     private String method;
@@ -40,8 +46,9 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    private List<String> endpoints;
+    private LoadBalancingStrategy loadBalancing;
 
-    @Builder(toBuilder = true)
     public ConnectorAction(
         ActionType actionType,
         String method,
@@ -50,10 +57,28 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         String requestBody,
         String preProcessFunction,
         String postProcessFunction
+    ) {
+        this(actionType, method, url, headers, requestBody, preProcessFunction, postProcessFunction, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorAction(
+        ActionType actionType,
+        String method,
+        String url,
+        Map<String, String> headers,
+        String requestBody,
+        String preProcessFunction,
+        String postProcessFunction,
+        List<String> endpoints,
+        LoadBalancingStrategy loadBalancing
     ) {
         if (actionType == null) {
             throw new IllegalArgumentException("action type can't null");
         }
+        if (url == null && endpoints != null && endpoints.size() > 0) {
+            url = endpoints.get(0);
+        }
         if (url == null) {
             throw new IllegalArgumentException("url can't null");
         }
@@ -67,6 +92,8 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         this.requestBody = requestBody;
         this.preProcessFunction = preProcessFunction;
         this.postProcessFunction = postProcessFunction;
+        this.endpoints = endpoints;
+        this.loadBalancing = loadBalancing;
     }
 
     public ConnectorAction(StreamInput input) throws IOException {
@@ -79,6 +106,12 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         this.requestBody = input.readOptionalString();
         this.preProcessFunction = input.readOptionalString();
         this.postProcessFunction = input.readOptionalString();
+        if (input.getVersion().onOrAfter(VERSION_3_0_0)) {
+            this.endpoints = input.readOptionalStringList();
+            if (input.readBoolean()) {
+                this.loadBalancing = input.readEnum(LoadBalancingStrategy.class);
+            }
+        }
     }
 
     @Override
@@ -95,6 +128,16 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         out.writeOptionalString(requestBody);
         out.writeOptionalString(preProcessFunction);
         out.writeOptionalString(postProcessFunction);
+        // Older nodes only know the url, which is the first endpoint.
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            out.writeOptionalStringCollection(endpoints);
+            if (loadBalancing != null) {
+                out.writeBoolean(true);
+                out.writeEnum(loadBalancing);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     @Override
@@ -121,6 +164,12 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         if (postProcessFunction != null) {
             builder.field(ACTION_POST_PROCESS_FUNCTION, postProcessFunction);
         }
+        if (endpoints != null) {
+            builder.field(ENDPOINTS_FIELD, endpoints);
+        }
+        if (loadBalancing != null) {
+            builder.field(LOAD_BALANCING_FIELD, loadBalancing.name().toLowerCase(Locale.ROOT));
+        }
         return builder.endObject();
     }
 
@@ -137,6 +186,8 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         String requestBody = null;
         String preProcessFunction = null;
         String postProcessFunction = null;
+        List<String> endpoints = null;
+        LoadBalancingStrategy loadBalancing = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -165,6 +216,16 @@ public class ConnectorAction implements ToXContentObject, Writeable {
                 case ACTION_POST_PROCESS_FUNCTION:
                     postProcessFunction = parser.text();
                     break;
+                case ENDPOINTS_FIELD:
+                    endpoints = new ArrayList<>();
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        endpoints.add(parser.text());
+                    }
+                    break;
+                case LOAD_BALANCING_FIELD:
+                    loadBalancing = LoadBalancingStrategy.from(parser.text());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -178,10 +239,40 @@ public class ConnectorAction implements ToXContentObject, Writeable {
                 .requestBody(requestBody)
                 .preProcessFunction(preProcessFunction)
                 .postProcessFunction(postProcessFunction)
+                .endpoints(endpoints)
+                .loadBalancing(loadBalancing)
                 .build();
     }
 
+    /**
+     * All URLs this action can be sent to. If no endpoint list is configured, this is just the action url.
+     * @return url templates in configured order
+     */
+    public List<String> getAllUrls() {
+        if (endpoints == null || endpoints.size() == 0) {
+            return Collections.singletonList(url);
+        }
+        return endpoints;
+    }
+
     public enum ActionType {
         PREDICT
     }
+
+    /**
+     * How requests are spread across the endpoints of an action.
+     */
+    public enum LoadBalancingStrategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING,
+        EWMA;
+
+        public static LoadBalancingStrategy from(String value) {
+            try {
+                return LoadBalancingStrategy.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Wrong load balancing strategy: " + value);
+            }
+        }
+    }
 }
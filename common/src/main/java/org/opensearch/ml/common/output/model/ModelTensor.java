@@ -23,9 +23,11 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 
 @Data
@@ -40,6 +42,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String BYTE_BUFFER_ORDER_FIELD = "order";
     public static final String RESULT_FIELD = "result";
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
+    // Data packed as little-endian float32 for floating data types and int32 for the others. It's base64 encoded in
+    // JSON and written as raw bytes in binary formats like CBOR and Smile.
+    public static final String BINARY_DATA_FIELD = "binary_data";
+    // Response param to render data as BINARY_DATA_FIELD instead of a number array, e.g. data_format=binary
+    public static final String DATA_FORMAT_PARAM = "data_format";
+    public static final String BINARY_DATA_FORMAT = "binary";
+    private static final int PACKED_ELEMENT_BYTES = Integer.BYTES;
+    // Encodings of dataAsMap on the wire. Maps which only hold strings, numbers, booleans, lists and nested maps are
+    // written as generic values, other maps fall back to a JSON string.
+    private static final byte DATA_AS_MAP_GENERIC = 0;
+    private static final byte DATA_AS_MAP_JSON = 1;
 
     private String name;
     private Number[] data;
@@ -76,7 +89,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
             builder.field(SHAPE_FIELD, shape);
         }
         if (data != null) {
-            builder.field(DATA_FIELD, data);
+            if (BINARY_DATA_FORMAT.equals(params.param(DATA_FORMAT_PARAM)) && isPackable(dataType)) {
+                builder.field(BINARY_DATA_FIELD, packData(data, dataType));
+            } else {
+                builder.field(DATA_FIELD, data);
+            }
         }
         if (byteBuffer != null) {
             builder.startObject(BYTE_BUFFER_FIELD);
@@ -97,6 +114,7 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static ModelTensor parser(XContentParser parser) throws IOException {
         String name = null;
         List<Object> dataList = null;
+        byte[] binaryData = null;
         Number[] data = null;
         long[] shape = null;
         MLResultDataType dataType = null;
@@ -116,6 +134,9 @@ public class ModelTensor implements Writeable, ToXContentObject {
                 case DATA_FIELD:
                     dataList = parser.list();
                     break;
+                case BINARY_DATA_FIELD:
+                    binaryData = parser.binaryValue();
+                    break;
                 case DATA_TYPE_FIELD:
                     dataType = MLResultDataType.valueOf(parser.text());
                     break;
@@ -174,6 +195,13 @@ public class ModelTensor implements Writeable, ToXContentObject {
             for (int i = 0; i < dataList.size(); i++) {
                 data[i] = (Number) dataList.get(i);
             }
+        } else if (binaryData != null && isPackable(dataType)) {
+            if (binaryData.length % PACKED_ELEMENT_BYTES != 0) {
+                throw new IllegalArgumentException(
+                    "Length of " + BINARY_DATA_FIELD + " must be a multiple of " + PACKED_ELEMENT_BYTES + ", got " + binaryData.length
+                );
+            }
+            data = unpackData(ByteBuffer.wrap(binaryData), binaryData.length / PACKED_ELEMENT_BYTES, dataType);
         }
         return ModelTensor.builder()
                 .name(name)
@@ -185,6 +213,7 @@ public class ModelTensor implements Writeable, ToXContentObject {
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
     public ModelTensor(StreamInput in) throws IOException {
         this.name = in.readOptionalString();
         if (in.readBoolean()) {
@@ -195,17 +224,23 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
-            if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
-            } else {
+            if (!isPackable(dataType)) {
                 data = null;
+            } else if (in.getVersion().onOrAfter(VERSION_3_0_0)) {
+                byte[] bytes = new byte[size * PACKED_ELEMENT_BYTES];
+                in.readBytes(bytes, 0, bytes.length);
+                data = unpackData(ByteBuffer.wrap(bytes), size, dataType);
+            } else {
+                data = new Number[size];
+                if (dataType.isFloating()) {
+                    for (int i = 0; i < size; i++) {
+                        data[i] = in.readFloat();
+                    }
+                } else {
+                    for (int i = 0; i < size; i++) {
+                        data[i] = in.readInt();
+                    }
+                }
             }
         }
         if (in.readBoolean()) {
@@ -224,12 +259,18 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         this.result = in.readOptionalString();
         if (in.readBoolean()) {
-            String mapStr = in.readString();
-            this.dataAsMap = gson.fromJson(mapStr, Map.class);
+            byte encoding = in.getVersion().onOrAfter(VERSION_3_0_0) ? in.readByte() : DATA_AS_MAP_JSON;
+            if (encoding == DATA_AS_MAP_GENERIC) {
+                this.dataAsMap = (Map<String, ?>) toDoubles(in.readMap());
+            } else {
+                String mapStr = in.readString();
+                this.dataAsMap = gson.fromJson(mapStr, Map.class);
+            }
         }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void writeTo(StreamOutput out) throws IOException {
         out.writeOptionalString(name);
         if (dataType != null) {
@@ -247,13 +288,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
             out.writeInt(data.length);
-            if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
+            if (isPackable(dataType)) {
+                if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+                    out.writeBytes(packData(data, dataType));
+                } else if (dataType.isFloating()) {
+                    for (Number n : data) {
+                        out.writeFloat(n.floatValue());
+                    }
+                } else {
+                    for (Number n : data) {
+                        out.writeInt(n.intValue());
+                    }
                 }
             }
         } else {
@@ -269,16 +314,125 @@ public class ModelTensor implements Writeable, ToXContentObject {
         out.writeOptionalString(result);
         if (dataAsMap != null) {
             out.writeBoolean(true);
-            try {
-                AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                    out.writeString(gson.toJson(dataAsMap));
-                    return null;
-                });
-            } catch (PrivilegedActionException e) {
-                throw new RuntimeException(e);
+            boolean encodingAware = out.getVersion().onOrAfter(VERSION_3_0_0);
+            if (encodingAware && isGenericValue(dataAsMap)) {
+                out.writeByte(DATA_AS_MAP_GENERIC);
+                out.writeMap((Map<String, Object>) dataAsMap);
+            } else {
+                if (encodingAware) {
+                    out.writeByte(DATA_AS_MAP_JSON);
+                }
+                try {
+                    AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                        out.writeString(gson.toJson(dataAsMap));
+                        return null;
+                    });
+                } catch (PrivilegedActionException e) {
+                    throw new RuntimeException(e);
+                }
             }
         } else {
             out.writeBoolean(false);
         }
     }
+
+    private static boolean isPackable(MLResultDataType dataType) {
+        return dataType != null && (dataType.isFloating() || dataType.isInteger() || dataType.isBoolean());
+    }
+
+    /**
+     * Pack data into one contiguous little-endian block, so it's copied at once instead of element by element.
+     * @param data tensor data
+     * @param dataType data type, floating data is packed as float32 and other data as int32
+     * @return packed bytes
+     */
+    static byte[] packData(Number[] data, MLResultDataType dataType) {
+        ByteBuffer buffer = ByteBuffer.allocate(data.length * PACKED_ELEMENT_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (dataType.isFloating()) {
+            for (Number n : data) {
+                buffer.putFloat(n.floatValue());
+            }
+        } else {
+            for (Number n : data) {
+                buffer.putInt(n.intValue());
+            }
+        }
+        return buffer.array();
+    }
+
+    static Number[] unpackData(ByteBuffer buffer, int size, MLResultDataType dataType) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        Number[] data = new Number[size];
+        if (dataType.isFloating()) {
+            for (int i = 0; i < size; i++) {
+                data[i] = buffer.getFloat();
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                data[i] = buffer.getInt();
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Turn the numbers of a value read with {@link StreamInput#readGenericValue} into doubles, the type Gson parses JSON
+     * numbers into, so consumers get the same value types whichever encoding dataAsMap came in.
+     */
+    @SuppressWarnings("unchecked")
+    static Object toDoubles(Object value) {
+        if (value instanceof Float) {
+            // Through the string, so 0.1f becomes 0.1 as it does in JSON.
+            return Double.valueOf(value.toString());
+        }
+        if (value instanceof Number && !(value instanceof Double)) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                entry.setValue(toDoubles(entry.getValue()));
+            }
+        } else if (value instanceof List) {
+            ListIterator<Object> iterator = ((List<Object>) value).listIterator();
+            while (iterator.hasNext()) {
+                iterator.set(toDoubles(iterator.next()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Check whether a value can be written with {@link StreamOutput#writeGenericValue}, which keeps the value types
+     * and avoids encoding the value as JSON.
+     */
+    static boolean isGenericValue(Object value) {
+        if (value == null
+            || value instanceof String
+            || value instanceof Boolean
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Float
+            || value instanceof Double
+            || value instanceof Short
+            || value instanceof Byte) {
+            return true;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isGenericValue(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (!isGenericValue(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Input of a batch prediction job, which predicts the text of a field of every document in the source index with a
+ * deployed model and writes the model output into a field of the target index, with the same document id.
+ */
+@Getter
+public class MLBatchPredictionInput implements ToXContentObject, Writeable {
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String SOURCE_INDEX_FIELD = "source_index";
+    public static final String SOURCE_FIELD_FIELD = "source_field";
+    public static final String TARGET_INDEX_FIELD = "target_index";
+    public static final String TARGET_FIELD_FIELD = "target_field";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String SLICES_FIELD = "slices";
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int DEFAULT_SLICES = 1;
+    public static final int MAX_SLICES = 32;
+
+    private final String modelId;
+    private final String sourceIndex;
+    private final String sourceField;
+    private final String targetIndex;
+    private final String targetField;
+    private final int batchSize;
+    private final int slices;
+
+    @Builder(toBuilder = true)
+    public MLBatchPredictionInput(
+        String modelId,
+        String sourceIndex,
+        String sourceField,
+        String targetIndex,
+        String targetField,
+        Integer batchSize,
+        Integer slices
+    ) {
+        if (modelId == null) {
+            throw new IllegalArgumentException("Model id is null");
+        }
+        if (sourceIndex == null) {
+            throw new IllegalArgumentException("Source index is null");
+        }
+        if (sourceField == null) {
+            throw new IllegalArgumentException("Source field is null");
+        }
+        if (targetField == null) {
+            throw new IllegalArgumentException("Target field is null");
+        }
+        if (batchSize != null && (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)) {
+            throw new IllegalArgumentException("Batch size should be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (slices != null && (slices <= 0 || slices > MAX_SLICES)) {
+            throw new IllegalArgumentException("Slices should be between 1 and " + MAX_SLICES);
+        }
+        this.modelId = modelId;
+        this.sourceIndex = sourceIndex;
+        this.sourceField = sourceField;
+        this.targetIndex = targetIndex == null ? sourceIndex : targetIndex;
+        this.targetField = targetField;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.slices = slices == null ? DEFAULT_SLICES : slices;
+    }
+
+    public MLBatchPredictionInput(StreamInput in) throws IOException {
+        this.modelId = in.readString();
+        this.sourceIndex = in.readString();
+        this.sourceField = in.readString();
+        this.targetIndex = in.readString();
+        this.targetField = in.readString();
+        this.batchSize = in.readInt();
+        this.slices = in.readInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(modelId);
+        out.writeString(sourceIndex);
+        out.writeString(sourceField);
+        out.writeString(targetIndex);
+        out.writeString(targetField);
+        out.writeInt(batchSize);
+        out.writeInt(slices);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(MODEL_ID_FIELD, modelId);
+        builder.field(SOURCE_INDEX_FIELD, sourceIndex);
+        builder.field(SOURCE_FIELD_FIELD, sourceField);
+        builder.field(TARGET_INDEX_FIELD, targetIndex);
+        builder.field(TARGET_FIELD_FIELD, targetField);
+        builder.field(BATCH_SIZE_FIELD, batchSize);
+        builder.field(SLICES_FIELD, slices);
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Parse batch prediction input.
+     * @param parser xcontent parser
+     * @param modelId model id from the request path, overrides the model id of the request body if not null
+     * @return batch prediction input
+     */
+    public static MLBatchPredictionInput parse(XContentParser parser, String modelId) throws IOException {
+        String sourceIndex = null;
+        String sourceField = null;
+        String targetIndex = null;
+        String targetField = null;
+        Integer batchSize = null;
+        Integer slices = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    if (modelId == null) {
+                        modelId = parser.text();
+                    }
+                    break;
+                case SOURCE_INDEX_FIELD:
+                    sourceIndex = parser.text();
+                    break;
+                case SOURCE_FIELD_FIELD:
+                    sourceField = parser.text();
+                    break;
+                case TARGET_INDEX_FIELD:
+                    targetIndex = parser.text();
+                    break;
+                case TARGET_FIELD_FIELD:
+                    targetField = parser.text();
+                    break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue();
+                    break;
+                case SLICES_FIELD:
+                    slices = parser.intValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBatchPredictionInput(modelId, sourceIndex, sourceField, targetIndex, targetField, batchSize, slices);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to start a batch prediction job, or to resume the batch prediction job of an existing task from its last
+ * checkpoint.
+ */
+@Getter
+public class MLBatchPredictionRequest extends ActionRequest {
+    private MLBatchPredictionInput mlBatchPredictionInput;
+    // Task id of the job to resume.
+    private String taskId;
+
+    @Builder
+    public MLBatchPredictionRequest(MLBatchPredictionInput mlBatchPredictionInput, String taskId) {
+        this.mlBatchPredictionInput = mlBatchPredictionInput;
+        this.taskId = taskId;
+    }
+
+    public MLBatchPredictionRequest(StreamInput in) throws IOException {
+        super(in);
+        if (in.readBoolean()) {
+            this.mlBatchPredictionInput = new MLBatchPredictionInput(in);
+        }
+        this.taskId = in.readOptionalString();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (mlBatchPredictionInput == null && taskId == null) {
+            exception = addValidationError("Batch prediction input and task id can't both be null", exception);
+        } else if (mlBatchPredictionInput != null && taskId != null) {
+            exception = addValidationError("Batch prediction input and task id can't both be set", exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (mlBatchPredictionInput != null) {
+            out.writeBoolean(true);
+            mlBatchPredictionInput.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeOptionalString(taskId);
+    }
+
+    public static MLBatchPredictionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBatchPredictionRequest) {
+            return (MLBatchPredictionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBatchPredictionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLBatchPredictionRequest", e);
+        }
+    }
+}
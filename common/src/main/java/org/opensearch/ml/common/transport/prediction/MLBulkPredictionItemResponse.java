@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.output.MLOutput;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Result of one item of a bulk predict request, either the model output or the failure of the item.
+ */
+@Getter
+@ToString
+public class MLBulkPredictionItemResponse implements Writeable, ToXContentObject {
+
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String OUTPUT_FIELD = "output";
+    public static final String ERROR_FIELD = "error";
+    public static final String STATUS_FIELD = "status";
+    public static final String REASON_FIELD = "reason";
+
+    private final String modelId;
+    private final MLOutput output;
+    private final Exception failure;
+
+    private MLBulkPredictionItemResponse(String modelId, MLOutput output, Exception failure) {
+        this.modelId = modelId;
+        this.output = output;
+        this.failure = failure;
+    }
+
+    public static MLBulkPredictionItemResponse success(String modelId, MLOutput output) {
+        return new MLBulkPredictionItemResponse(modelId, output, null);
+    }
+
+    public static MLBulkPredictionItemResponse failure(String modelId, Exception failure) {
+        return new MLBulkPredictionItemResponse(modelId, null, failure);
+    }
+
+    public MLBulkPredictionItemResponse(StreamInput in) throws IOException {
+        this.modelId = in.readOptionalString();
+        if (in.readBoolean()) {
+            this.output = MLOutput.fromStream(in);
+        } else {
+            this.output = null;
+        }
+        this.failure = in.readException();
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(modelId);
+        if (output != null) {
+            out.writeBoolean(true);
+            output.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeException(failure);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (modelId != null) {
+            builder.field(MODEL_ID_FIELD, modelId);
+        }
+        if (failure != null) {
+            builder.startObject(ERROR_FIELD);
+            builder.field(STATUS_FIELD, ExceptionsHelper.status(failure).getStatus());
+            builder.field(REASON_FIELD, ExceptionsHelper.unwrapCause(failure).getMessage());
+            builder.endObject();
+        } else if (output != null) {
+            builder.field(OUTPUT_FIELD);
+            output.toXContent(builder, params);
+        }
+        builder.endObject();
+        return builder;
+    }
+}
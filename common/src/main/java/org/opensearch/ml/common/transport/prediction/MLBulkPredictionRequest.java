@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.transport.MLTaskRequest;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Predict request of several items, each item can target a different model. Items are grouped by worker node, so one
+ * request is sent to each worker node and the items run there with their failures isolated from each other.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ToString
+public class MLBulkPredictionRequest extends MLTaskRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    List<MLPredictionTaskRequest> requests;
+    @Setter
+    User user;
+
+    @Builder
+    public MLBulkPredictionRequest(List<MLPredictionTaskRequest> requests, boolean dispatchTask, User user) {
+        super(dispatchTask);
+        this.requests = requests;
+        this.user = user;
+    }
+
+    public MLBulkPredictionRequest(List<MLPredictionTaskRequest> requests) {
+        this(requests, true, null);
+    }
+
+    public MLBulkPredictionRequest(StreamInput in) throws IOException {
+        super(in);
+        int size = in.readVInt();
+        this.requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.requests.add(new MLPredictionTaskRequest(in));
+        }
+        if (in.readBoolean()) {
+            this.user = new User(in);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(requests.size());
+        for (MLPredictionTaskRequest request : requests) {
+            request.writeTo(out);
+        }
+        if (user != null) {
+            out.writeBoolean(true);
+            user.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (requests == null || requests.isEmpty()) {
+            return addValidationError("bulk predict requests can't be empty", exception);
+        }
+        if (requests.size() > MAX_ITEMS) {
+            exception = addValidationError("bulk predict supports at most " + MAX_ITEMS + " requests", exception);
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            MLPredictionTaskRequest request = requests.get(i);
+            if (request == null || request.getModelId() == null) {
+                exception = addValidationError("model id can't be null for request [" + i + "]", exception);
+                continue;
+            }
+            ActionRequestValidationException itemException = request.validate();
+            if (itemException != null) {
+                for (String error : itemException.validationErrors()) {
+                    exception = addValidationError(error + " for request [" + i + "]", exception);
+                }
+            }
+        }
+        return exception;
+    }
+
+    public static MLBulkPredictionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBulkPredictionRequest) {
+            return (MLBulkPredictionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBulkPredictionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBulkPredictionRequest", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Response of a bulk predict request, holds one result per request item in the order of the request items.
+ */
+@Getter
+@ToString
+public class MLBulkPredictionResponse extends ActionResponse implements ToXContentObject {
+
+    public static final String ERRORS_FIELD = "errors";
+    public static final String ITEMS_FIELD = "items";
+
+    private final List<MLBulkPredictionItemResponse> items;
+
+    public MLBulkPredictionResponse(List<MLBulkPredictionItemResponse> items) {
+        this.items = items;
+    }
+
+    public MLBulkPredictionResponse(StreamInput in) throws IOException {
+        super(in);
+        this.items = in.readList(MLBulkPredictionItemResponse::new);
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(MLBulkPredictionItemResponse::isFailed);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(items);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(ERRORS_FIELD, hasFailures());
+        builder.startArray(ITEMS_FIELD);
+        for (MLBulkPredictionItemResponse item : items) {
+            item.toXContent(builder, params);
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+
+    public static MLBulkPredictionResponse fromActionResponse(ActionResponse actionResponse) {
+        if (actionResponse instanceof MLBulkPredictionResponse) {
+            return (MLBulkPredictionResponse) actionResponse;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionResponse.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBulkPredictionResponse(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionResponse into MLBulkPredictionResponse", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+
+/**
+ * Task of a predict request. It's cancelled together with its parent task, e.g. a search request which calls the model,
+ * and runs out at the deadline of the request. Work which can't check the task itself, like a remote model call in
+ * progress, registers a cancel listener to be aborted.
+ */
+public class MLPredictionTask extends CancellableTask {
+    // Thread context transient which holds the task while the model predicts, so connectors can abort remote calls.
+    public static final String THREAD_CONTEXT_KEY = "_ml_prediction_task";
+
+    private final Long deadlineNanos;
+    private final List<Runnable> cancelListeners = new ArrayList<>();
+
+    public MLPredictionTask(
+        long id,
+        String type,
+        String action,
+        String description,
+        TaskId parentTaskId,
+        Map<String, String> headers,
+        Long deadlineNanos
+    ) {
+        super(id, type, action, description, parentTaskId, headers);
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    /**
+     * Get the time left until the deadline of the predict request.
+     * @return remaining time in nanoseconds, negative once expired, or null if the request has no deadline
+     */
+    public Long getRemainingNanos() {
+        return deadlineNanos == null ? null : deadlineNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        Long remainingNanos = getRemainingNanos();
+        return remainingNanos != null && remainingNanos <= 0;
+    }
+
+    /**
+     * Fail if the predict request was cancelled or passed its deadline, so no more work is spent on it.
+     */
+    public void ensureActive() {
+        if (isCancelled()) {
+            throw new TaskCancelledException("Predict request cancelled: " + getReasonCancelled());
+        }
+        if (isExpired()) {
+            throw new OpenSearchStatusException("Predict request timed out", RestStatus.REQUEST_TIMEOUT);
+        }
+    }
+
+    /**
+     * Run the listener once the task is cancelled, right away if it's cancelled already.
+     * @param listener cancel listener
+     */
+    public void addCancelListener(Runnable listener) {
+        synchronized (cancelListeners) {
+            if (!isCancelled()) {
+                cancelListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    public void removeCancelListener(Runnable listener) {
+        synchronized (cancelListeners) {
+            cancelListeners.remove(listener);
+        }
+    }
+
+    @Override
+    protected void onCancelled() {
+        List<Runnable> listeners;
+        synchronized (cancelListeners) {
+            listeners = new ArrayList<>(cancelListeners);
+            cancelListeners.clear();
+        }
+        listeners.forEach(Runnable::run);
+    }
+}
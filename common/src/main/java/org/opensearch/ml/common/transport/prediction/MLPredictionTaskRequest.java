@@ -9,15 +9,20 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Map;
 
 import lombok.Setter;
 import org.opensearch.action.ActionRequest;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.ml.common.input.MLInput;
 
 import lombok.AccessLevel;
@@ -26,8 +31,10 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import org.opensearch.ml.common.transport.MLTaskRequest;
+import org.opensearch.tasks.Task;
 
 import static org.opensearch.action.ValidateActions.addValidationError;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 
 @Getter
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -38,21 +45,36 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
     MLInput mlInput;
     @Setter
     User user;
+    // Time the caller waits for the prediction, counted from when this node got the request. Null waits forever.
+    @Setter
+    TimeValue timeout;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    final long receivedNanos = System.nanoTime();
+    // Task running this request on this node, not sent to other nodes.
+    @Setter
+    @ToString.Exclude
+    MLPredictionTask predictionTask;
 
     @Builder
-    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user, TimeValue timeout) {
         super(dispatchTask);
         this.mlInput = mlInput;
         this.modelId = modelId;
         this.user = user;
+        this.timeout = timeout;
+    }
+
+    public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
+        this(modelId, mlInput, dispatchTask, user, null);
     }
 
     public MLPredictionTaskRequest(String modelId, MLInput mlInput) {
-        this(modelId, mlInput, true, null);
+        this(modelId, mlInput, true, null, null);
     }
 
     public MLPredictionTaskRequest(String modelId, MLInput mlInput, User user) {
-        this(modelId, mlInput, true, user);
+        this(modelId, mlInput, true, user, null);
     }
 
     public MLPredictionTaskRequest(StreamInput in) throws IOException {
@@ -62,6 +84,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_0_0)) {
+            this.timeout = in.readOptionalTimeValue();
+        }
     }
 
     @Override
@@ -75,6 +100,45 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            // Send the time left, so the deadline holds across nodes without relying on their clocks.
+            out.writeOptionalTimeValue(getRemainingTimeout());
+        }
+    }
+
+    /**
+     * Get the deadline of the request on this node.
+     * @return {@link System#nanoTime()} of the deadline, or null if the request has no timeout
+     */
+    public Long getDeadlineNanos() {
+        return timeout == null ? null : receivedNanos + timeout.nanos();
+    }
+
+    /**
+     * Get the time left until the deadline of the request.
+     * @return remaining time, zero once expired, or null if the request has no timeout
+     */
+    public TimeValue getRemainingTimeout() {
+        Long deadlineNanos = getDeadlineNanos();
+        return deadlineNanos == null ? null : TimeValue.timeValueNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Fail if the request was cancelled or passed its deadline, so no more work is spent on it.
+     */
+    public void ensureActive() {
+        if (predictionTask != null) {
+            predictionTask.ensureActive();
+        }
+        Long deadlineNanos = getDeadlineNanos();
+        if (deadlineNanos != null && System.nanoTime() - deadlineNanos >= 0) {
+            throw new OpenSearchStatusException("Predict request timed out", RestStatus.REQUEST_TIMEOUT);
+        }
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new MLPredictionTask(id, type, action, getDescription(), parentTaskId, headers, getDeadlineNanos());
     }
 
     @Override
@@ -85,6 +149,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else if (this.mlInput.getInputDataset() == null) {
             exception = addValidationError("input data can't be null", exception);
         }
+        if (timeout != null && timeout.nanos() < 0) {
+            exception = addValidationError("timeout can't be negative", exception);
+        }
 
         return exception;
     }
@@ -15,6 +15,8 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
+
 @Data
 public class MLSyncUpInput implements Writeable {
     private boolean getDeployedModels;
@@ -35,6 +37,12 @@ public class MLSyncUpInput implements Writeable {
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
 
+    // model groups whose access or models changed, each node drops its cached access decisions of these model groups.
+    private Set<String> updatedModelGroupIds;
+
+    // models which are updated or deleted, each node drops its cached copies of these models.
+    private Set<String> updatedModelIds;
+
     @Builder
     public MLSyncUpInput(boolean getDeployedModels,
                          Map<String, String[]> addedWorkerNodes,
@@ -43,7 +51,9 @@ public class MLSyncUpInput implements Writeable {
                          Map<String, Set<String>> runningDeployModelTasks,
                          Map<String, Boolean> deployToAllNodes,
                          boolean clearRoutingTable,
-                         boolean syncRunningDeployModelTasks) {
+                         boolean syncRunningDeployModelTasks,
+                         Set<String> updatedModelGroupIds,
+                         Set<String> updatedModelIds) {
         this.getDeployedModels = getDeployedModels;
         this.addedWorkerNodes = addedWorkerNodes;
         this.removedWorkerNodes = removedWorkerNodes;
@@ -52,6 +62,8 @@ public class MLSyncUpInput implements Writeable {
         this.deployToAllNodes = deployToAllNodes;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
+        this.updatedModelGroupIds = updatedModelGroupIds;
+        this.updatedModelIds = updatedModelIds;
     }
 
     public MLSyncUpInput(){}
@@ -75,6 +87,12 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.updatedModelGroupIds = in.readSet(StreamInput::readString);
+        }
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.updatedModelIds = in.readSet(StreamInput::readString);
+        }
     }
 
     @Override
@@ -112,6 +130,39 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            if (updatedModelGroupIds != null && updatedModelGroupIds.size() > 0) {
+                out.writeBoolean(true);
+                out.writeStringCollection(updatedModelGroupIds);
+            } else {
+                out.writeBoolean(false);
+            }
+            if (updatedModelIds != null && updatedModelIds.size() > 0) {
+                out.writeBoolean(true);
+                out.writeStringCollection(updatedModelIds);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+    }
+
+    /**
+     * Whether this input only asks nodes to drop cached entries, in which case the nodes skip the sync-up housekeeping
+     * (timed out task and model file clean up).
+     * @return true if no other sync-up field is set
+     */
+    public boolean isCacheInvalidationOnly() {
+        boolean hasInvalidation = (updatedModelGroupIds != null && updatedModelGroupIds.size() > 0)
+            || (updatedModelIds != null && updatedModelIds.size() > 0);
+        return hasInvalidation
+            && !getDeployedModels
+            && (addedWorkerNodes == null || addedWorkerNodes.isEmpty())
+            && (removedWorkerNodes == null || removedWorkerNodes.isEmpty())
+            && (modelRoutingTable == null || modelRoutingTable.isEmpty())
+            && (runningDeployModelTasks == null || runningDeployModelTasks.isEmpty())
+            && (deployToAllNodes == null || deployToAllNodes.isEmpty())
+            && !clearRoutingTable
+            && !syncRunningDeployModelTasks;
     }
 
 }
@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.upload_chunk;
+
+import org.opensearch.action.ActionType;
+
+public class MLModelUploadSessionAction extends ActionType<MLModelUploadSessionResponse> {
+    public static final MLModelUploadSessionAction INSTANCE = new MLModelUploadSessionAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/model_upload_session";
+
+    private MLModelUploadSessionAction() {
+        super(NAME, MLModelUploadSessionResponse::new);
+    }
+}
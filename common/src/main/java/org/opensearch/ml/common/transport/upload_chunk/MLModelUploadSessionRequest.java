@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.upload_chunk;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of a model upload session. A session is opened once for a model registered with its meta, which checks the
+ * access to the model and resolves its meta, then chunks are uploaded in the session in any order and in parallel, and
+ * the session is committed, which checks the model content hash and completes the registration.
+ */
+@Getter
+public class MLModelUploadSessionRequest extends ActionRequest {
+
+    public enum Operation {
+        OPEN,
+        UPLOAD_CHUNK,
+        COMMIT
+    }
+
+    private final Operation operation;
+    private final String modelId;
+    private final String sessionId;
+    private final Integer chunkNumber;
+    private final BytesReference content;
+
+    @Builder
+    public MLModelUploadSessionRequest(
+        Operation operation,
+        String modelId,
+        String sessionId,
+        Integer chunkNumber,
+        BytesReference content
+    ) {
+        this.operation = operation;
+        this.modelId = modelId;
+        this.sessionId = sessionId;
+        this.chunkNumber = chunkNumber;
+        this.content = content;
+    }
+
+    public MLModelUploadSessionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.operation = in.readEnum(Operation.class);
+        this.modelId = in.readString();
+        this.sessionId = in.readOptionalString();
+        this.chunkNumber = in.readOptionalInt();
+        this.content = in.readBoolean() ? in.readBytesReference() : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(operation);
+        out.writeString(modelId);
+        out.writeOptionalString(sessionId);
+        out.writeOptionalInt(chunkNumber);
+        if (content == null) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            out.writeBytesReference(content);
+        }
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (operation == null) {
+            exception = addValidationError("Upload session operation can't be null", exception);
+        }
+        if (modelId == null) {
+            exception = addValidationError("Model id can't be null", exception);
+        }
+        if (operation != null && operation != Operation.OPEN && sessionId == null) {
+            exception = addValidationError("Upload session id can't be null", exception);
+        }
+        if (operation == Operation.UPLOAD_CHUNK) {
+            if (chunkNumber == null || chunkNumber < 0) {
+                exception = addValidationError("Chunk number must be a non-negative number", exception);
+            }
+            if (content == null || content.length() == 0) {
+                exception = addValidationError("Chunk content can't be empty", exception);
+            }
+        }
+        return exception;
+    }
+
+    public static MLModelUploadSessionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLModelUploadSessionRequest) {
+            return (MLModelUploadSessionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLModelUploadSessionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLModelUploadSessionRequest", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.upload_chunk;
+
+import lombok.Getter;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+@Getter
+public class MLModelUploadSessionResponse extends ActionResponse implements ToXContentObject {
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String SESSION_ID_FIELD = "session_id";
+    public static final String TOTAL_CHUNKS_FIELD = "total_chunks";
+    public static final String STATUS_FIELD = "status";
+
+    private String modelId;
+    private String sessionId;
+    private Integer totalChunks;
+    private String status;
+
+    public MLModelUploadSessionResponse(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.sessionId = in.readString();
+        this.totalChunks = in.readOptionalInt();
+        this.status = in.readString();
+    }
+
+    public MLModelUploadSessionResponse(String modelId, String sessionId, Integer totalChunks, String status) {
+        this.modelId = modelId;
+        this.sessionId = sessionId;
+        this.totalChunks = totalChunks;
+        this.status = status;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(modelId);
+        out.writeString(sessionId);
+        out.writeOptionalInt(totalChunks);
+        out.writeString(status);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startObject();
+        builder.field(MODEL_ID_FIELD, modelId);
+        builder.field(SESSION_ID_FIELD, sessionId);
+        if (totalChunks != null) {
+            builder.field(TOTAL_CHUNKS_FIELD, totalChunks);
+        }
+        builder.field(STATUS_FIELD, status);
+        builder.endObject();
+        return builder;
+    }
+}
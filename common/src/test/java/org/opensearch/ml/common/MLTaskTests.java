@@ -9,14 +9,21 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 
 import java.io.IOException;
@@ -68,6 +75,45 @@ public class MLTaskTests {
         );
     }
 
+    @Test
+    public void testWriteTo_BatchJob() throws IOException {
+        Map<String, Object> batchJob = new HashMap<>();
+        batchJob.put("processed_docs", 10L);
+        batchJob.put("slices", Map.of("0", Map.of("done", true)));
+        MLTask task = mlTask.toBuilder().taskType(MLTaskType.BATCH_PREDICTION).batchJob(batchJob).build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        task.writeTo(output);
+        MLTask task2 = new MLTask(output.bytes().streamInput());
+        Assert.assertEquals(task, task2);
+    }
+
+    @Test
+    public void testWriteTo_BatchJob_OlderVersion() throws IOException {
+        MLTask task = mlTask.toBuilder().taskType(MLTaskType.BATCH_PREDICTION).batchJob(Map.of("processed_docs", 10L)).build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_19_0);
+        task.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_19_0);
+        MLTask task2 = new MLTask(input);
+        Assert.assertNull(task2.getBatchJob());
+        Assert.assertEquals(-1, input.read());
+    }
+
+    @Test
+    public void parse_BatchJob() throws IOException {
+        MLTask task = mlTask.toBuilder().taskType(MLTaskType.BATCH_PREDICTION).batchJob(Map.of("processed_docs", 10)).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        task.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, TestHelper.xContentBuilderToString(builder));
+        parser.nextToken();
+        MLTask parsedTask = MLTask.parse(parser);
+        Assert.assertEquals(MLTaskType.BATCH_PREDICTION, parsedTask.getTaskType());
+        Assert.assertEquals(10, parsedTask.getBatchJob().get("processed_docs"));
+    }
+
     @Test
     public void toXContent_NullValue() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
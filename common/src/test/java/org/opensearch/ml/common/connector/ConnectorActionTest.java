@@ -9,8 +9,10 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -20,6 +22,7 @@ import org.opensearch.ml.common.TestHelper;
 import org.opensearch.search.SearchModule;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -140,4 +143,58 @@ public class ConnectorActionTest {
         Assert.assertEquals("connector.pre_process.openai.embedding", action.getPreProcessFunction());
         Assert.assertEquals("connector.post_process.openai.embedding", action.getPostProcessFunction());
     }
+
+    @Test
+    public void parse_Endpoints() throws IOException {
+        String jsonStr = "{\"action_type\":\"PREDICT\",\"method\":\"POST\"," +
+                "\"endpoints\":[\"https://test1.com\",\"https://test2.com\"],\"load_balancing\":\"least_outstanding\"}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+        ConnectorAction action = ConnectorAction.parse(parser);
+        Assert.assertEquals("https://test1.com", action.getUrl());
+        Assert.assertEquals(Arrays.asList("https://test1.com", "https://test2.com"), action.getAllUrls());
+        Assert.assertEquals(ConnectorAction.LoadBalancingStrategy.LEAST_OUTSTANDING, action.getLoadBalancing());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        action.writeTo(output);
+        ConnectorAction action2 = new ConnectorAction(output.bytes().streamInput());
+        Assert.assertEquals(action, action2);
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        action.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        Assert.assertEquals("{\"action_type\":\"PREDICT\",\"method\":\"POST\",\"url\":\"https://test1.com\"," +
+                "\"endpoints\":[\"https://test1.com\",\"https://test2.com\"],\"load_balancing\":\"least_outstanding\"}", content);
+    }
+
+    @Test
+    public void writeTo_OlderVersion() throws IOException {
+        ConnectorAction action = new ConnectorAction(ConnectorAction.ActionType.PREDICT, "POST", null, null, null, null, null,
+                Arrays.asList("https://test1.com", "https://test2.com"), ConnectorAction.LoadBalancingStrategy.ROUND_ROBIN);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_19_0);
+        action.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_19_0);
+        ConnectorAction action2 = new ConnectorAction(input);
+        Assert.assertEquals("https://test1.com", action2.getUrl());
+        Assert.assertNull(action2.getEndpoints());
+        Assert.assertNull(action2.getLoadBalancing());
+        Assert.assertEquals(-1, input.read());
+    }
+
+    @Test
+    public void getAllUrls_NoEndpoints() {
+        ConnectorAction action = new ConnectorAction(ConnectorAction.ActionType.PREDICT, "POST", "https://test.com", null, null, null, null);
+        Assert.assertEquals(Collections.singletonList("https://test.com"), action.getAllUrls());
+        Assert.assertNull(action.getLoadBalancing());
+    }
+
+    @Test
+    public void loadBalancingStrategy_Wrong() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong load balancing strategy: random");
+        ConnectorAction.LoadBalancingStrategy.from("random");
+    }
 }
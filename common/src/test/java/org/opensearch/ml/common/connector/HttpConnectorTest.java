@@ -158,6 +158,18 @@ public class HttpConnectorTest {
         Assert.assertEquals("https://test.com", connector.getPredictEndpoint(null));
     }
 
+    @Test
+    public void getPredictEndpoints() {
+        HttpConnector connector = createHttpConnector();
+        Assert.assertEquals(Collections.singletonList("https://test.com"), connector.getPredictEndpoints(null));
+    }
+
+    @Test
+    public void getPredictEndpoints_NoPredictAction() {
+        HttpConnector connector = HttpConnector.builder().name("test").protocol("http").build();
+        Assert.assertTrue(connector.getPredictEndpoints(null).isEmpty());
+    }
+
     @Test
     public void getPredictHttpMethod() {
         HttpConnector connector = createHttpConnector();
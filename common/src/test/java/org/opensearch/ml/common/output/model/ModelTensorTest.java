@@ -9,18 +9,30 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.TestHelper;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -90,6 +102,154 @@ public class ModelTensorTest {
         assertEquals(tensor, parsedTensor);
     }
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .data(new Number[]{1.0f, 2.5f, -0.125f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_OlderVersion() throws IOException {
+        ModelTensor floatTensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .data(new Number[]{1.0f, 2.5f, -0.125f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ModelTensor intTensor = ModelTensor.builder()
+                .name("token_ids")
+                .data(new Number[]{1, 2, 3})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.INT32)
+                .build();
+        for (ModelTensor tensor : Arrays.asList(floatTensor, intTensor)) {
+            BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+            bytesStreamOutput.setVersion(Version.V_2_19_0);
+            tensor.writeTo(bytesStreamOutput);
+
+            StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+            streamInput.setVersion(Version.V_2_19_0);
+            ModelTensor parsedTensor = new ModelTensor(streamInput);
+            assertEquals(tensor, parsedTensor);
+            assertEquals(-1, streamInput.read());
+        }
+    }
+
+    @Test
+    public void parser_BinaryDataMisaligned() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Length of binary_data must be a multiple of 4, got 3");
+        String content = "{\"name\":\"sentence_embedding\",\"data_type\":\"FLOAT32\",\"shape\":[1],\"binary_data\":\"AACA\"}";
+        XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        ModelTensor.parser(parser);
+    }
+
+    @Test
+    public void toXContent_BinaryDataFormat() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .data(new Number[]{1.0f, 2.5f})
+                .shape(new long[]{2})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        ToXContent.Params params = new ToXContent.MapParams(Collections.singletonMap(ModelTensor.DATA_FORMAT_PARAM, ModelTensor.BINARY_DATA_FORMAT));
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, params);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"sentence_embedding\"," +
+                "\"data_type\":\"FLOAT32\"," +
+                "\"shape\":[2]," +
+                "\"binary_data\":\"AACAPwAAIEA=\"}", modelTensorContent);
+
+        XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, modelTensorContent);
+        parser.nextToken();
+        assertEquals(tensor, ModelTensor.parser(parser));
+    }
+
+    @Test
+    public void toXContent_BinaryDataFormat_Cbor() throws IOException {
+        ToXContent.Params params = new ToXContent.MapParams(Collections.singletonMap(ModelTensor.DATA_FORMAT_PARAM, ModelTensor.BINARY_DATA_FORMAT));
+        XContentBuilder builder = XContentBuilder.builder(XContentType.CBOR.xContent());
+        modelTensor.toXContent(builder, params);
+
+        XContentParser parser = XContentType.CBOR.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, BytesReference.toBytes(BytesReference.bytes(builder)));
+        parser.nextToken();
+        ModelTensor parsedTensor = ModelTensor.parser(parser);
+        assertArrayEquals(modelTensor.getData(), parsedTensor.getData());
+        assertArrayEquals(modelTensor.getShape(), parsedTensor.getShape());
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapNumbersAsDoubles() throws IOException {
+        Map<String, Object> sparseVector = new HashMap<>();
+        sparseVector.put("hello", 1.5f);
+        sparseVector.put("world", 0.1f);
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("response", Arrays.asList(sparseVector));
+        dataAsMap.put("count", 2L);
+        dataAsMap.put("ids", Arrays.asList(1, 2));
+        dataAsMap.put("finished", true);
+        dataAsMap.put("stop_reason", null);
+        ModelTensor tensor = ModelTensor.builder().name("output").dataAsMap(dataAsMap).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        // Numbers come back as doubles, the same as from the JSON string encoding.
+        Map<String, Object> parsedVector = (Map<String, Object>) ((List<?>) parsedTensor.getDataAsMap().get("response")).get(0);
+        assertEquals(1.5, parsedVector.get("hello"));
+        assertEquals(0.1, parsedVector.get("world"));
+        assertEquals(2.0, parsedTensor.getDataAsMap().get("count"));
+        assertEquals(Arrays.asList(1.0, 2.0), parsedTensor.getDataAsMap().get("ids"));
+        assertEquals(true, parsedTensor.getDataAsMap().get("finished"));
+        assertTrue(parsedTensor.getDataAsMap().containsKey("stop_reason"));
+        assertNull(parsedTensor.getDataAsMap().get("stop_reason"));
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapJsonFallback() throws IOException {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("ids", new int[]{1, 2});
+        ModelTensor tensor = ModelTensor.builder().name("output").dataAsMap(dataAsMap).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertEquals(Arrays.asList(1.0, 2.0), parsedTensor.getDataAsMap().get("ids"));
+    }
+
+    @Test
+    public void test_StreamInAndOut_DataAsMapOlderVersion() throws IOException {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("response", "hello");
+        dataAsMap.put("count", 2L);
+        ModelTensor tensor = ModelTensor.builder().name("output").dataAsMap(dataAsMap).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_19_0);
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_19_0);
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertEquals(-1, streamInput.read());
+        assertEquals("hello", parsedTensor.getDataAsMap().get("response"));
+        // Older peers only understand the JSON string, so numbers come back as doubles.
+        assertEquals(2.0, parsedTensor.getDataAsMap().get("count"));
+    }
+
     @Test
     public void test_UnknownDataType() {
         exceptionRule.expect(IllegalArgumentException.class);
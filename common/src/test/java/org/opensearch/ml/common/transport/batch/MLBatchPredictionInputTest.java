@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MLBatchPredictionInputTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final MLBatchPredictionInput input = MLBatchPredictionInput.builder()
+            .modelId("test_model_id")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetIndex("target_index")
+            .targetField("embedding")
+            .batchSize(500)
+            .slices(4)
+            .build();
+
+    @Test
+    public void constructor_Defaults() {
+        MLBatchPredictionInput defaultInput = MLBatchPredictionInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .sourceField("text")
+                .targetField("embedding")
+                .build();
+        assertEquals("source_index", defaultInput.getTargetIndex());
+        assertEquals(MLBatchPredictionInput.DEFAULT_BATCH_SIZE, defaultInput.getBatchSize());
+        assertEquals(MLBatchPredictionInput.DEFAULT_SLICES, defaultInput.getSlices());
+    }
+
+    @Test
+    public void constructor_NullTargetField() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Target field is null");
+        input.toBuilder().targetField(null).build();
+    }
+
+    @Test
+    public void constructor_InvalidBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Batch size should be between 1 and " + MLBatchPredictionInput.MAX_BATCH_SIZE);
+        input.toBuilder().batchSize(0).build();
+    }
+
+    @Test
+    public void constructor_InvalidSlices() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Slices should be between 1 and " + MLBatchPredictionInput.MAX_SLICES);
+        input.toBuilder().slices(MLBatchPredictionInput.MAX_SLICES + 1).build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder().mlBatchPredictionInput(input).build();
+        request.writeTo(output);
+        MLBatchPredictionRequest parsedRequest = new MLBatchPredictionRequest(output.bytes().streamInput());
+        assertNull(parsedRequest.getTaskId());
+        verifyInput(parsedRequest.getMlBatchPredictionInput());
+    }
+
+    @Test
+    public void validate_BothInputAndTaskId() {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder().mlBatchPredictionInput(input).taskId("task_id").build();
+        assertEquals("Batch prediction input and task id can't both be set", request.validate().validationErrors().get(0));
+    }
+
+    @Test
+    public void parse_ModelIdFromPath() throws IOException {
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        input.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = TestHelper.xContentBuilderToString(builder);
+        XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, json);
+        parser.nextToken();
+        verifyInput(MLBatchPredictionInput.parse(parser, null));
+
+        parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, json);
+        parser.nextToken();
+        assertEquals("path_model_id", MLBatchPredictionInput.parse(parser, "path_model_id").getModelId());
+    }
+
+    private void verifyInput(MLBatchPredictionInput parsedInput) {
+        assertEquals("test_model_id", parsedInput.getModelId());
+        assertEquals("source_index", parsedInput.getSourceIndex());
+        assertEquals("text", parsedInput.getSourceField());
+        assertEquals("target_index", parsedInput.getTargetIndex());
+        assertEquals("embedding", parsedInput.getTargetField());
+        assertEquals(500, parsedInput.getBatchSize());
+        assertEquals(4, parsedInput.getSlices());
+    }
+}
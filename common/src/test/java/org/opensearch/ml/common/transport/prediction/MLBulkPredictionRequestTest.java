@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.input.MLInput;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLBulkPredictionRequestTest {
+
+    private MLInput mlInput;
+
+    @Before
+    public void setUp() {
+        DataFrame dataFrame = DataFrameBuilder.load(Collections.singletonList(new HashMap<String, Object>() {{
+            put("key1", 2.0D);
+        }}));
+        mlInput = MLInput.builder()
+                .algorithm(FunctionName.KMEANS)
+                .inputDataset(DataFrameInputDataset.builder().dataFrame(dataFrame).build())
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        User user = User.parse("admin|role-1|all_access");
+        MLBulkPredictionRequest request = MLBulkPredictionRequest.builder()
+                .requests(Arrays.asList(new MLPredictionTaskRequest("modelId1", mlInput), new MLPredictionTaskRequest("modelId2", mlInput)))
+                .dispatchTask(false)
+                .user(user)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLBulkPredictionRequest parsedRequest = new MLBulkPredictionRequest(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(request.getRequestID(), parsedRequest.getRequestID());
+        assertFalse(parsedRequest.isDispatchTask());
+        assertEquals("admin", parsedRequest.getUser().getName());
+        assertEquals(2, parsedRequest.getRequests().size());
+        assertEquals("modelId1", parsedRequest.getRequests().get(0).getModelId());
+        assertEquals("modelId2", parsedRequest.getRequests().get(1).getModelId());
+        assertEquals(FunctionName.KMEANS, parsedRequest.getRequests().get(1).getMlInput().getAlgorithm());
+    }
+
+    @Test
+    public void validate_Success() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(Collections.singletonList(new MLPredictionTaskRequest("modelId", mlInput)));
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception_EmptyRequests() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(Collections.emptyList());
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: bulk predict requests can't be empty;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_InvalidItems() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(
+                Arrays.asList(new MLPredictionTaskRequest("modelId", mlInput), new MLPredictionTaskRequest(null, mlInput),
+                        new MLPredictionTaskRequest("modelId", null)));
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: model id can't be null for request [1];2: ML input can't be null for request [2];",
+                exception.getMessage());
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithMLBulkPredictionRequest() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(Collections.singletonList(new MLPredictionTaskRequest("modelId", mlInput)));
+        assertSame(request, MLBulkPredictionRequest.fromActionRequest(request));
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithNonMLBulkPredictionRequest() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(Collections.singletonList(new MLPredictionTaskRequest("modelId", mlInput)));
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLBulkPredictionRequest result = MLBulkPredictionRequest.fromActionRequest(actionRequest);
+        assertNotSame(result, request);
+        assertEquals(request.getRequestID(), result.getRequestID());
+        assertEquals("modelId", result.getRequests().get(0).getModelId());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.output.MLPredictionOutput;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MLBulkPredictionResponseTest {
+
+    private MLBulkPredictionResponse response;
+
+    @Before
+    public void setUp() {
+        MLPredictionOutput output = MLPredictionOutput.builder()
+                .status("Success")
+                .predictionResult(DataFrameBuilder.load(Collections.singletonList(new HashMap<String, Object>() {{
+                    put("key1", 2.0D);
+                }})))
+                .build();
+        response = new MLBulkPredictionResponse(Arrays.asList(
+                MLBulkPredictionItemResponse.success("modelId1", output),
+                MLBulkPredictionItemResponse.failure("modelId2",
+                        new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS))));
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLBulkPredictionResponse parsedResponse = new MLBulkPredictionResponse(bytesStreamOutput.bytes().streamInput());
+
+        assertTrue(parsedResponse.hasFailures());
+        assertEquals(2, parsedResponse.getItems().size());
+        MLBulkPredictionItemResponse success = parsedResponse.getItems().get(0);
+        assertEquals("modelId1", success.getModelId());
+        assertFalse(success.isFailed());
+        assertEquals(1, ((MLPredictionOutput) success.getOutput()).getPredictionResult().size());
+        MLBulkPredictionItemResponse failure = parsedResponse.getItems().get(1);
+        assertEquals("modelId2", failure.getModelId());
+        assertNull(failure.getOutput());
+        assertEquals("Request is throttled at model level.", failure.getFailure().getMessage());
+    }
+
+    @Test
+    public void toXContent() throws IOException {
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String jsonStr = builder.toString();
+        assertEquals("{\"errors\":true,\"items\":["
+                + "{\"model_id\":\"modelId1\",\"output\":{\"status\":\"Success\",\"prediction_result\":{\"column_metas\":"
+                + "[{\"name\":\"key1\",\"column_type\":\"DOUBLE\"}],\"rows\":[{\"values\":[{\"column_type\":\"DOUBLE\",\"value\":2.0}]}]}}},"
+                + "{\"model_id\":\"modelId2\",\"error\":{\"status\":429,\"reason\":\"Request is throttled at model level.\"}}]}", jsonStr);
+    }
+
+    @Test
+    public void fromActionResponse_Success_WithMLBulkPredictionResponse() {
+        assertSame(response, MLBulkPredictionResponse.fromActionResponse(response));
+    }
+
+    @Test
+    public void fromActionResponse_Success_WithNonMLBulkPredictionResponse() {
+        ActionResponse actionResponse = new ActionResponse() {
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                response.writeTo(out);
+            }
+        };
+        MLBulkPredictionResponse result = MLBulkPredictionResponse.fromActionResponse(actionResponse);
+        assertNotSame(response, result);
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.getItems().get(1).isFailed());
+    }
+}
@@ -9,15 +9,23 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.NonNull;
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.DataFrame;
@@ -30,8 +38,13 @@ import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.Task;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -179,4 +192,104 @@ public class MLPredictionTaskRequestTest {
         };
         MLPredictionTaskRequest.fromActionRequest(actionRequest);
     }
+
+    @Test
+    public void writeTo_Timeout() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .timeout(TimeValue.timeValueMinutes(1))
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLPredictionTaskRequest parsedRequest = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertTrue(parsedRequest.getTimeout().nanos() > 0);
+        assertTrue(parsedRequest.getTimeout().nanos() <= TimeValue.timeValueMinutes(1).nanos());
+        assertNotNull(parsedRequest.getDeadlineNanos());
+        parsedRequest.ensureActive();
+
+        request = MLPredictionTaskRequest.builder().mlInput(mlInput).build();
+        bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        parsedRequest = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertNull(parsedRequest.getTimeout());
+        assertNull(parsedRequest.getDeadlineNanos());
+        assertNull(parsedRequest.getRemainingTimeout());
+    }
+
+    @Test
+    public void writeTo_Timeout_OlderVersion() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .modelId("model_id")
+            .mlInput(mlInput)
+            .timeout(TimeValue.timeValueMinutes(1))
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_19_0);
+        request.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_19_0);
+        MLPredictionTaskRequest parsedRequest = new MLPredictionTaskRequest(streamInput);
+        assertEquals("model_id", parsedRequest.getModelId());
+        assertNull(parsedRequest.getTimeout());
+        assertEquals(-1, streamInput.read());
+    }
+
+    @Test
+    public void constructor_WithoutTimeout() {
+        User user = User.parse("admin|role-1|all_access");
+        MLPredictionTaskRequest request = new MLPredictionTaskRequest("model_id", mlInput, false, user);
+        assertEquals("model_id", request.getModelId());
+        assertFalse(request.isDispatchTask());
+        assertSame(user, request.getUser());
+        assertNull(request.getTimeout());
+    }
+
+    @Test
+    public void ensureActive_Expired() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .timeout(TimeValue.ZERO)
+            .build();
+        assertEquals(0, request.getRemainingTimeout().nanos());
+        OpenSearchStatusException e = assertThrows(OpenSearchStatusException.class, request::ensureActive);
+        assertEquals(RestStatus.REQUEST_TIMEOUT, e.status());
+    }
+
+    @Test
+    public void validate_Exception_NegativeTimeout() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .timeout(TimeValue.timeValueNanos(-1))
+            .build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: timeout can't be negative;", exception.getMessage());
+    }
+
+    @Test
+    public void createTask() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .mlInput(mlInput)
+            .timeout(TimeValue.timeValueMinutes(1))
+            .build();
+        Task task = request.createTask(1, "transport", MLPredictionTaskAction.NAME, TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        assertTrue(task instanceof MLPredictionTask);
+        MLPredictionTask predictionTask = (MLPredictionTask) task;
+        assertTrue(predictionTask.shouldCancelChildrenOnCancellation());
+        assertFalse(predictionTask.isExpired());
+        assertTrue(predictionTask.getRemainingNanos() > 0);
+
+        request.setPredictionTask(predictionTask);
+        request.ensureActive();
+        AtomicInteger aborted = new AtomicInteger();
+        Runnable removedListener = () -> aborted.addAndGet(10);
+        predictionTask.addCancelListener(aborted::incrementAndGet);
+        predictionTask.addCancelListener(removedListener);
+        predictionTask.removeCancelListener(removedListener);
+        predictionTask.cancel("test");
+        assertEquals(1, aborted.get());
+        assertThrows(TaskCancelledException.class, request::ensureActive);
+        // Listeners added after the cancellation run right away.
+        predictionTask.addCancelListener(aborted::incrementAndGet);
+        assertEquals(2, aborted.get());
+    }
 }
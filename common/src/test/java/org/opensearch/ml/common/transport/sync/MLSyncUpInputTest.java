@@ -1,6 +1,7 @@
 package org.opensearch.ml.common.transport.sync;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 
@@ -32,6 +33,7 @@ public class MLSyncUpInputTest {
         assertNull(parsedInput.getRemovedWorkerNodes());
         assertNull(parsedInput.getModelRoutingTable());
         assertNull(parsedInput.getAddedWorkerNodes());
+        assertNull(parsedInput.getUpdatedModelGroupIds());
     }
 
     @Test
@@ -49,6 +51,8 @@ public class MLSyncUpInputTest {
                 .runningDeployModelTasks(runningDeployModelTasks)
                 .clearRoutingTable(true)
                 .syncRunningDeployModelTasks(true)
+                .updatedModelGroupIds(Set.of("modelGroup1"))
+                .updatedModelIds(Set.of("model1"))
                 .build();
 
         Set<String> modelRoutingTableSet = new HashSet<>();
@@ -69,6 +73,41 @@ public class MLSyncUpInputTest {
         assertArrayEquals(syncUpInput.getRemovedWorkerNodes().get("removedWorkerNodesKey1"), parsedInput.getRemovedWorkerNodes().get("removedWorkerNodesKey1"));
         assertEquals(syncUpInput.getModelRoutingTable().get("modelRoutingTableKey1"), parsedInput.getModelRoutingTable().get("modelRoutingTableKey1"));
         assertEquals(syncUpInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"), parsedInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"));
+        assertEquals(Set.of("modelGroup1"), parsedInput.getUpdatedModelGroupIds());
+        assertEquals(Set.of("model1"), parsedInput.getUpdatedModelIds());
 
     }
+
+    @Test
+    public void testConstructorSerialization_OlderVersion() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .getDeployedModels(true)
+                .updatedModelGroupIds(Set.of("modelGroup1"))
+                .updatedModelIds(Set.of("model1"))
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_19_0);
+        syncUpInput.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_19_0);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(streamInput);
+
+        assertTrue(parsedInput.isGetDeployedModels());
+        assertNull(parsedInput.getUpdatedModelGroupIds());
+        assertNull(parsedInput.getUpdatedModelIds());
+        assertEquals(-1, streamInput.read());
+    }
+
+    @Test
+    public void testIsCacheInvalidationOnly() {
+        assertTrue(MLSyncUpInput.builder().updatedModelGroupIds(Set.of("modelGroup1")).build().isCacheInvalidationOnly());
+        assertTrue(MLSyncUpInput.builder().updatedModelIds(Set.of("model1")).build().isCacheInvalidationOnly());
+        assertFalse(MLSyncUpInput.builder().build().isCacheInvalidationOnly());
+        assertFalse(MLSyncUpInput.builder()
+                .updatedModelGroupIds(Set.of("modelGroup1"))
+                .getDeployedModels(true)
+                .build()
+                .isCacheInvalidationOnly());
+    }
 }
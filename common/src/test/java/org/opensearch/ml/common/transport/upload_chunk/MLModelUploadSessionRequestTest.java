@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.upload_chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLModelUploadSessionRequestTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest
+            .builder()
+            .operation(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK)
+            .modelId("modelId")
+            .sessionId("sessionId")
+            .chunkNumber(1)
+            .content(new BytesArray(new byte[] { 12, 3 }))
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLModelUploadSessionRequest newRequest = new MLModelUploadSessionRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK, newRequest.getOperation());
+        assertEquals("modelId", newRequest.getModelId());
+        assertEquals("sessionId", newRequest.getSessionId());
+        assertEquals(Integer.valueOf(1), newRequest.getChunkNumber());
+        assertEquals(request.getContent(), newRequest.getContent());
+        assertNull(newRequest.validate());
+    }
+
+    @Test
+    public void writeTo_Success_Open() throws IOException {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest
+            .builder()
+            .operation(MLModelUploadSessionRequest.Operation.OPEN)
+            .modelId("modelId")
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLModelUploadSessionRequest newRequest = new MLModelUploadSessionRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals(MLModelUploadSessionRequest.Operation.OPEN, newRequest.getOperation());
+        assertNull(newRequest.getSessionId());
+        assertNull(newRequest.getChunkNumber());
+        assertNull(newRequest.getContent());
+        assertNull(newRequest.validate());
+    }
+
+    @Test
+    public void validate_Exception_NullOperationAndModelId() {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest.builder().build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals(
+            "Validation Failed: 1: Upload session operation can't be null;2: Model id can't be null;",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    public void validate_Exception_NullSessionId() {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest
+            .builder()
+            .operation(MLModelUploadSessionRequest.Operation.COMMIT)
+            .modelId("modelId")
+            .build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: Upload session id can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_InvalidChunk() {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest
+            .builder()
+            .operation(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK)
+            .modelId("modelId")
+            .sessionId("sessionId")
+            .chunkNumber(-1)
+            .content(new BytesArray(new byte[0]))
+            .build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals(
+            "Validation Failed: 1: Chunk number must be a non-negative number;2: Chunk content can't be empty;",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    public void fromActionRequest_Success() {
+        MLModelUploadSessionRequest request = MLModelUploadSessionRequest
+            .builder()
+            .operation(MLModelUploadSessionRequest.Operation.COMMIT)
+            .modelId("modelId")
+            .sessionId("sessionId")
+            .build();
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLModelUploadSessionRequest result = MLModelUploadSessionRequest.fromActionRequest(actionRequest);
+        assertNotSame(request, result);
+        assertEquals(request.getOperation(), result.getOperation());
+        assertEquals(request.getModelId(), result.getModelId());
+        assertEquals(request.getSessionId(), result.getSessionId());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void fromActionRequest_IOException() {
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                throw new IOException("test");
+            }
+        };
+        MLModelUploadSessionRequest.fromActionRequest(actionRequest);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.upload_chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.TestHelper;
+
+public class MLModelUploadSessionResponseTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLModelUploadSessionResponse response = new MLModelUploadSessionResponse("modelId", "sessionId", 3, "Opened");
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLModelUploadSessionResponse newResponse = new MLModelUploadSessionResponse(bytesStreamOutput.bytes().streamInput());
+        assertEquals("modelId", newResponse.getModelId());
+        assertEquals("sessionId", newResponse.getSessionId());
+        assertEquals(Integer.valueOf(3), newResponse.getTotalChunks());
+        assertEquals("Opened", newResponse.getStatus());
+    }
+
+    @Test
+    public void testToXContent() throws IOException {
+        MLModelUploadSessionResponse response = new MLModelUploadSessionResponse("modelId", "sessionId", 3, "Opened");
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        response.toXContent(builder, EMPTY_PARAMS);
+        String jsonStr = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"model_id\":\"modelId\",\"session_id\":\"sessionId\",\"total_chunks\":3,\"status\":\"Opened\"}", jsonStr);
+    }
+
+    @Test
+    public void testToXContent_NoTotalChunks() throws IOException {
+        MLModelUploadSessionResponse response = new MLModelUploadSessionResponse("modelId", "sessionId", null, "Uploaded");
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        response.toXContent(builder, EMPTY_PARAMS);
+        String jsonStr = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"model_id\":\"modelId\",\"session_id\":\"sessionId\",\"status\":\"Uploaded\"}", jsonStr);
+    }
+}
@@ -22,8 +22,10 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -34,6 +36,7 @@ public class MLEngine {
 
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
+    public static final String MODEL_ARTIFACT_FOLDER = "artifacts";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -45,6 +48,10 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    // Write trained models in the model format of ModelSerDeSer, which nodes before it can't read.
+    @Setter
+    private volatile boolean modelFormatHeaderEnabled;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
@@ -98,6 +105,14 @@ public class MLEngine {
         return mlModelsCachePath.resolve(DEPLOY_MODEL_FOLDER).resolve(modelId).resolve("chunks").resolve(chunkNumber + "");
     }
 
+    public Path getModelArtifactRootPath() {
+        return mlModelsCachePath.resolve(MODEL_ARTIFACT_FOLDER);
+    }
+
+    public Path getModelArtifactPath(String modelId) {
+        return getModelArtifactRootPath().resolve(modelId);
+    }
+
     public Path getModelCachePath(String modelId, String modelName, String version) {
         return getModelCachePath(modelId).resolve(version).resolve(modelName);
     }
@@ -117,7 +132,8 @@ public class MLEngine {
         if (trainable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
-        return trainable.train(mlInput);
+        MLModel mlModel = trainable.train(mlInput);
+        return modelFormatHeaderEnabled ? ModelSerDeSer.encodeModel(mlModel) : mlModel;
     }
 
     public Predictable deploy(MLModel mlModel, Map<String, Object> params) {
@@ -142,6 +158,24 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Load a trained model into a predictable instance built with the input's algorithm parameters. The instance can
+     * serve later predict requests with the same parameters without deserializing the model again.
+     * @param input predict input
+     * @param model trained model
+     * @return predictable instance with model loaded
+     */
+    public Predictable loadPredictable(Input input, MLModel model) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (predictable == null) {
+            throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+        }
+        predictable.initModel(model, null, encryptor);
+        return predictable;
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
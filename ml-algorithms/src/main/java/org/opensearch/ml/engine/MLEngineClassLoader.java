@@ -12,6 +12,7 @@ import java.security.PrivilegedExceptionAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.logging.log4j.LogManager;
@@ -30,6 +31,8 @@ public class MLEngineClassLoader {
      */
     private static Map<Enum<?>, Class<?>> mlAlgoClassMap = new HashMap<>();
     private static Map<String, Class<?>> connectorExecutorMap = new HashMap<>();
+    // Constructor to use for each class and constructor parameter class, so initInstance doesn't look it up on every call.
+    private static Map<Class<?>, Map<Class<?>, Constructor<?>>> constructorCache = new ConcurrentHashMap<>();
 
     /**
      * This map contains pre-created thread-safe ML objects.
@@ -123,16 +126,11 @@ public class MLEngineClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor;
-            S instance;
-            try {
-                constructor = clazz.getConstructor(constructorParamClass);
-                instance = (S) constructor.newInstance(in);
-            } catch (NoSuchMethodException e) {
-                constructor = clazz.getConstructor();
-                instance = (S) constructor.newInstance();
+            Constructor<?> constructor = getConstructor(clazz, constructorParamClass);
+            S instance = constructor.getParameterCount() == 0 ? (S) constructor.newInstance() : (S) constructor.newInstance(in);
+            if (properties != null && !properties.isEmpty()) {
+                BeanUtils.populate(instance, properties);
             }
-            BeanUtils.populate(instance, properties);
             return instance;
         } catch (Exception e) {
             Throwable cause = e.getCause();
@@ -145,4 +143,21 @@ public class MLEngineClassLoader {
         }
     }
 
+    /**
+     * Get the constructor taking "constructorParamClass", or the default constructor if there is none.
+     */
+    private static Constructor<?> getConstructor(Class<?> clazz, Class<?> constructorParamClass) throws NoSuchMethodException {
+        Map<Class<?>, Constructor<?>> constructors = constructorCache.computeIfAbsent(clazz, it -> new ConcurrentHashMap<>());
+        Class<?> key = constructorParamClass == null ? Void.class : constructorParamClass;
+        Constructor<?> constructor = constructors.get(key);
+        if (constructor == null) {
+            try {
+                constructor = clazz.getConstructor(constructorParamClass);
+            } catch (NoSuchMethodException e) {
+                constructor = clazz.getConstructor();
+            }
+            constructors.put(key, constructor);
+        }
+        return constructor;
+    }
 }
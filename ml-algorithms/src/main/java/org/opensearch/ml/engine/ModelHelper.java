@@ -298,6 +298,7 @@ public class ModelHelper {
         deleteFileQuietly(mlEngine.getModelCachePath(modelId));
         deleteFileQuietly(mlEngine.getDeployModelPath(modelId));
         deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+        deleteFileQuietly(mlEngine.getModelArtifactPath(modelId));
     }
 
 }
@@ -36,6 +36,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 import org.opensearch.ml.engine.utils.ZipUtils;
 
 import ai.djl.Application;
@@ -58,9 +59,11 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String PREDICT_STAGE_METRICS = "predict_stage_metrics";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
+    protected PredictStageMetrics predictStageMetrics;
 
     protected Predictor<Input, Output>[] predictors;
     protected ZooModel[] models;
@@ -101,6 +104,25 @@ public abstract class DLModel implements Predictable {
         return predictors[currentDevice];
     }
 
+    /**
+     * Run the forward pass of one input on the next device.
+     * @param input model input
+     * @return model output
+     * @throws TranslateException if the translator fails
+     */
+    protected Output forward(Input input) throws TranslateException {
+        long startNanos = System.nanoTime();
+        Output output = getPredictor().predict(input);
+        recordStage(PredictStageMetrics.Stage.FORWARD, startNanos);
+        return output;
+    }
+
+    protected void recordStage(PredictStageMetrics.Stage stage, long startNanos) {
+        if (predictStageMetrics != null) {
+            predictStageMetrics.recordStage(stage, System.nanoTime() - startNanos);
+        }
+    }
+
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
 
     @Override
@@ -120,6 +142,7 @@ public abstract class DLModel implements Predictable {
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
+        predictStageMetrics = (PredictStageMetrics) params.get(PREDICT_STAGE_METRICS);
         if (modelZipFile == null) {
             throw new IllegalArgumentException("model file is null");
         }
@@ -13,6 +13,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
@@ -30,8 +31,10 @@ public abstract class TextEmbeddingModel extends DLModel {
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
-            output = getPredictor().predict(input);
+            output = forward(input);
+            long postProcessStart = System.nanoTime();
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+            recordStage(PredictStageMetrics.Stage.POST_PROCESS, postProcessStart);
         }
         return new ModelTensorOutput(tensorOutputs);
     }
@@ -11,6 +11,8 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.ModelSerDeSer.ModelCodec;
 
 import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
 import com.amazon.randomcutforest.state.RandomCutForestState;
@@ -57,14 +59,14 @@ public class RCFModelSerDeSer {
 
     private static <T> byte[] serialize(T model, Schema<T> schema) {
         LinkedBuffer buffer = LinkedBuffer.allocate(SERIALIZATION_BUFFER_BYTES);
-        byte[] bytes = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> ProtostuffIOUtil.toByteArray(model, schema, buffer));
-        return bytes;
+        return AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> ProtostuffIOUtil.toByteArray(model, schema, buffer));
     }
 
     private static <T> T deserialize(byte[] bytes, Schema<T> schema) {
+        byte[] payload = ModelSerDeSer.decode(ModelCodec.PROTOSTUFF, bytes);
         T model = schema.newMessage();
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-            ProtostuffIOUtil.mergeFrom(bytes, model, schema);
+            ProtostuffIOUtil.mergeFrom(payload, model, schema);
             return null;
         });
         return model;
@@ -11,6 +11,7 @@ import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processO
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -18,9 +19,11 @@ import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.AwsConnector;
@@ -29,14 +32,18 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
 import org.opensearch.script.ScriptService;
 
+import com.google.common.io.CountingInputStream;
+
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -61,10 +68,16 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     @Setter
     @Getter
     private Client client;
+    @Setter
+    @Getter
+    private ConnectorMetrics connectorMetrics = new ConnectorMetrics();
+
+    private final RemoteEndpointBalancer endpointBalancer;
 
     public AwsConnectorExecutor(Connector connector, SdkHttpClient httpClient) {
         this.connector = (AwsConnector) connector;
         this.httpClient = httpClient;
+        this.endpointBalancer = RemoteEndpointBalancer.create(connector);
     }
 
     public AwsConnectorExecutor(Connector connector) {
@@ -74,65 +87,92 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
-            String endpoint = connector.getPredictEndpoint(parameters);
-            RequestBody requestBody = RequestBody.fromString(payload);
-
-            SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
-                .builder()
-                .method(POST)
-                .uri(URI.create(endpoint))
-                .contentStreamProvider(requestBody.contentStreamProvider());
-            Map<String, String> headers = connector.getDecryptedHeaders();
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    builder.putHeader(key, headers.get(key));
-                }
-            }
-            SdkHttpFullRequest request = builder.build();
-            HttpExecuteRequest executeRequest = HttpExecuteRequest
-                .builder()
-                .request(signRequest(request))
-                .contentStreamProvider(request.contentStreamProvider().orElse(null))
-                .build();
-
-            HttpExecuteResponse response = AccessController.doPrivileged((PrivilegedExceptionAction<HttpExecuteResponse>) () -> {
-                return httpClient.prepareRequest(executeRequest).call();
-            });
-            int statusCode = response.httpResponse().statusCode();
+            AtomicReference<String> responseRef = new AtomicReference<>("");
+
+            int statusCode = endpointBalancer.invoke(connector.getPredictEndpoints(parameters), endpoint -> {
+                HttpExecuteRequest executeRequest = createExecuteRequest(endpoint, payload);
+                long startTime = System.nanoTime();
+                HttpExecuteResponse response = AccessController.doPrivileged((PrivilegedExceptionAction<HttpExecuteResponse>) () -> {
+                    ExecutableHttpRequest executableRequest = httpClient.prepareRequest(executeRequest);
+                    try (Releasable ignored = registerAbort(executableRequest::abort)) {
+                        return executableRequest.call();
+                    } catch (IOException e) {
+                        // Not a connection error to fail over on if the predict request stopped.
+                        ensurePredictionActive();
+                        throw e;
+                    }
+                });
 
-            AbortableInputStream body = null;
-            if (response.responseBody().isPresent()) {
-                body = response.responseBody().get();
-            }
+                AbortableInputStream body = null;
+                if (response.responseBody().isPresent()) {
+                    body = response.responseBody().get();
+                }
 
-            StringBuilder responseBuilder = new StringBuilder();
-            if (body != null) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        responseBuilder.append(line);
+                StringBuilder responseBuilder = new StringBuilder();
+                CountingInputStream countingBody;
+                if (body != null) {
+                    countingBody = new CountingInputStream(body);
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(countingBody, StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            responseBuilder.append(line);
+                        }
                     }
+                } else {
+                    throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
                 }
-            } else {
-                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
-            }
-            String modelResponse = responseBuilder.toString();
+                connectorMetrics.recordRemoteCall(endpoint, System.nanoTime() - startTime);
+                int code = response.httpResponse().statusCode();
+                connectorMetrics.recordResponse(code, countingBody.getCount());
+                responseRef.set(responseBuilder.toString());
+                return code;
+            });
+            String modelResponse = responseRef.get();
             if (statusCode < 200 || statusCode >= 300) {
                 throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
             }
 
+            long startTime = System.nanoTime();
             ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            connectorMetrics.recordStage(ConnectorMetrics.Stage.POST_PROCESS, System.nanoTime() - startTime);
             tensors.setStatusCode(statusCode);
             tensorOutputs.add(tensors);
         } catch (RuntimeException exception) {
+            connectorMetrics.recordError();
             log.error("Failed to execute predict in aws connector: " + exception.getMessage(), exception);
             throw exception;
         } catch (Throwable e) {
+            connectorMetrics.recordError();
             log.error("Failed to execute predict in aws connector", e);
             throw new MLException("Fail to execute predict in aws connector", e);
         }
     }
 
+    private HttpExecuteRequest createExecuteRequest(String endpoint, String payload) {
+        RequestBody requestBody = RequestBody.fromString(payload);
+
+        SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
+            .builder()
+            .method(POST)
+            .uri(URI.create(endpoint))
+            .contentStreamProvider(requestBody.contentStreamProvider());
+        Map<String, String> headers = connector.getDecryptedHeaders();
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                builder.putHeader(key, headers.get(key));
+            }
+        }
+        SdkHttpFullRequest request = builder.build();
+        long startTime = System.nanoTime();
+        SdkHttpFullRequest signedRequest = signRequest(request);
+        connectorMetrics.recordStage(ConnectorMetrics.Stage.SIGNING, System.nanoTime() - startTime);
+        return HttpExecuteRequest
+            .builder()
+            .request(signedRequest)
+            .contentStreamProvider(request.contentStreamProvider().orElse(null))
+            .build();
+    }
+
     private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
         String accessKey = connector.getAccessKey();
         String secretKey = connector.getSecretKey();
@@ -9,11 +9,14 @@ import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.http.HttpEntity;
@@ -21,11 +24,13 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.HttpEntityWrapper;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
@@ -35,8 +40,11 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
 import org.opensearch.script.ScriptService;
 
+import com.google.common.io.CountingInputStream;
+
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
@@ -60,84 +68,132 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
     @Setter
     @Getter
     private Client client;
+    @Setter
+    @Getter
+    private ConnectorMetrics connectorMetrics = new ConnectorMetrics();
+
+    private final RemoteEndpointBalancer endpointBalancer;
 
     public HttpJsonConnectorExecutor(Connector connector) {
         this.connector = (HttpConnector) connector;
+        this.endpointBalancer = RemoteEndpointBalancer.create(connector);
     }
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
             AtomicReference<String> responseRef = new AtomicReference<>("");
-            AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
-
-            HttpUriRequest request;
-            switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
-                case "POST":
-                    try {
-                        String predictEndpoint = connector.getPredictEndpoint(parameters);
-                        request = new HttpPost(predictEndpoint);
-                        String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
-                        HttpEntity entity = new StringEntity(payload, charset);
-                        ((HttpPost) request).setEntity(entity);
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                case "GET":
-                    try {
-                        request = new HttpGet(connector.getPredictEndpoint(parameters));
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                default:
-                    throw new IllegalArgumentException("unsupported http method");
-            }
+            AtomicLong responseBytes = new AtomicLong();
 
-            Map<String, ?> headers = connector.getDecryptedHeaders();
-            boolean hasContentTypeHeader = false;
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    request.addHeader(key, (String) headers.get(key));
-                    if (key.toLowerCase().equals("Content-Type")) {
-                        hasContentTypeHeader = true;
+            int statusCode = endpointBalancer.invoke(connector.getPredictEndpoints(parameters), endpoint -> {
+                HttpUriRequest request = createHttpRequest(endpoint, parameters, payload);
+                long startTime = System.nanoTime();
+                int code = AccessController.doPrivileged((PrivilegedExceptionAction<Integer>) () -> {
+                    try (
+                        Releasable ignored = registerAbort(request::abort);
+                        CloseableHttpClient httpClient = getHttpClient();
+                        CloseableHttpResponse response = httpClient.execute(request)
+                    ) {
+                        HttpEntity responseEntity = response.getEntity();
+                        CountingEntity countingEntity = new CountingEntity(responseEntity);
+                        String responseBody = EntityUtils.toString(countingEntity);
+                        EntityUtils.consume(responseEntity);
+                        responseRef.set(responseBody);
+                        responseBytes.set(countingEntity.getCount());
+                        return response.getStatusLine().getStatusCode();
+                    } catch (IOException e) {
+                        // Not a connection error to fail over on if the predict request stopped.
+                        ensurePredictionActive();
+                        throw e;
                     }
-                }
-            }
-            if (!hasContentTypeHeader) {
-                request.addHeader("Content-Type", "application/json");
-            }
-
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                try (CloseableHttpClient httpClient = getHttpClient(); CloseableHttpResponse response = httpClient.execute(request)) {
-                    HttpEntity responseEntity = response.getEntity();
-                    String responseBody = EntityUtils.toString(responseEntity);
-                    EntityUtils.consume(responseEntity);
-                    responseRef.set(responseBody);
-                    statusCodeRef.set(response.getStatusLine().getStatusCode());
-                }
-                return null;
+                });
+                connectorMetrics.recordRemoteCall(endpoint, System.nanoTime() - startTime);
+                connectorMetrics.recordResponse(code, responseBytes.get());
+                return code;
             });
             String modelResponse = responseRef.get();
-            Integer statusCode = statusCodeRef.get();
             if (statusCode < 200 || statusCode >= 300) {
                 throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
             }
 
+            long startTime = System.nanoTime();
             ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            connectorMetrics.recordStage(ConnectorMetrics.Stage.POST_PROCESS, System.nanoTime() - startTime);
             tensors.setStatusCode(statusCode);
             tensorOutputs.add(tensors);
         } catch (RuntimeException e) {
+            connectorMetrics.recordError();
             log.error("Fail to execute http connector", e);
             throw e;
         } catch (Throwable e) {
+            connectorMetrics.recordError();
             log.error("Fail to execute http connector", e);
             throw new MLException("Fail to execute http connector", e);
         }
     }
 
+    private HttpUriRequest createHttpRequest(String endpoint, Map<String, String> parameters, String payload) {
+        HttpUriRequest request;
+        switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
+            case "POST":
+                try {
+                    request = new HttpPost(endpoint);
+                    String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
+                    HttpEntity entity = new StringEntity(payload, charset);
+                    ((HttpPost) request).setEntity(entity);
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            case "GET":
+                try {
+                    request = new HttpGet(endpoint);
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported http method");
+        }
+
+        Map<String, ?> headers = connector.getDecryptedHeaders();
+        boolean hasContentTypeHeader = false;
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                request.addHeader(key, (String) headers.get(key));
+                if (key.toLowerCase().equals("Content-Type")) {
+                    hasContentTypeHeader = true;
+                }
+            }
+        }
+        if (!hasContentTypeHeader) {
+            request.addHeader("Content-Type", "application/json");
+        }
+        return request;
+    }
+
     public CloseableHttpClient getHttpClient() {
         return MLHttpClientFactory.getCloseableHttpClient();
     }
+
+    /**
+     * Counts the bytes read from the response entity, so the response size is recorded in bytes rather than chars.
+     */
+    private static class CountingEntity extends HttpEntityWrapper {
+        private CountingInputStream content;
+
+        private CountingEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            content = new CountingInputStream(super.getContent());
+            return content;
+        }
+
+        private long getCount() {
+            return content == null ? 0 : content.getCount();
+        }
+    }
 }
@@ -15,6 +15,8 @@ import java.util.Map;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -28,7 +30,11 @@ import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTask;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
 import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public interface RemoteConnectorExecutor {
 
@@ -98,8 +104,14 @@ public interface RemoteConnectorExecutor {
 
     default void setUserRateLimiterMap(Map<String, TokenBucket> userRateLimiterMap) {}
 
+    ConnectorMetrics getConnectorMetrics();
+
+    default void setConnectorMetrics(ConnectorMetrics connectorMetrics) {}
+
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
         Connector connector = getConnector();
+        ConnectorMetrics connectorMetrics = getConnectorMetrics();
+        connectorMetrics.recordRequest();
 
         Map<String, String> parameters = new HashMap<>();
         if (connector.getParameters() != null) {
@@ -110,23 +122,29 @@ public interface RemoteConnectorExecutor {
             parameters.putAll(((RemoteInferenceInputDataSet) inputDataset).getParameters());
         }
 
+        long startTime = System.nanoTime();
         RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getScriptService());
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
+        connectorMetrics.recordStage(ConnectorMetrics.Stage.PRE_PROCESS, System.nanoTime() - startTime);
+        startTime = System.nanoTime();
         String payload = connector.createPredictPayload(parameters);
         connector.validatePayload(payload);
+        connectorMetrics.recordStage(ConnectorMetrics.Stage.PAYLOAD_RENDERING, System.nanoTime() - startTime);
         String userStr = getClient()
             .threadPool()
             .getThreadContext()
             .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
         User user = User.parse(userStr);
         if (getModelRateLimiter() != null && !getModelRateLimiter().request()) {
+            connectorMetrics.recordThrottled();
             throw new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS);
         } else if (user != null
             && getUserRateLimiterMap() != null
             && getUserRateLimiterMap().get(user.getName()) != null
             && !getUserRateLimiterMap().get(user.getName()).request()) {
+            connectorMetrics.recordThrottled();
             throw new OpenSearchStatusException(
                 "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
                 RestStatus.TOO_MANY_REQUESTS
@@ -138,4 +156,52 @@ public interface RemoteConnectorExecutor {
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Get the task of the predict request this remote model call runs for.
+     * @return predict task, or null if the call doesn't run for a predict request, e.g. when invoked by an agent tool
+     */
+    default MLPredictionTask getPredictionTask() {
+        Client client = getClient();
+        if (client == null || client.threadPool() == null) {
+            return null;
+        }
+        return client.threadPool().getThreadContext().getTransient(MLPredictionTask.THREAD_CONTEXT_KEY);
+    }
+
+    /**
+     * Abort a remote model call in progress once its predict request is cancelled or passes its deadline, so the predict
+     * thread doesn't wait for a response no one is waiting for.
+     * @param abort aborts the call
+     * @return releasable which stops watching the predict request, to be closed once the call returns
+     */
+    default Releasable registerAbort(Runnable abort) {
+        MLPredictionTask predictionTask = getPredictionTask();
+        if (predictionTask == null) {
+            return () -> {};
+        }
+        predictionTask.ensureActive();
+        predictionTask.addCancelListener(abort);
+        Long remainingNanos = predictionTask.getRemainingNanos();
+        Scheduler.ScheduledCancellable timeout = remainingNanos == null
+            ? null
+            : getClient().threadPool().schedule(abort, TimeValue.timeValueNanos(remainingNanos), ThreadPool.Names.SAME);
+        return () -> {
+            predictionTask.removeCancelListener(abort);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        };
+    }
+
+    /**
+     * Fail with the reason the predict request stopped if it did, as a remote model call aborted by
+     * {@link #registerAbort(Runnable)} fails with a plain IO error.
+     */
+    default void ensurePredictionActive() {
+        MLPredictionTask predictionTask = getPredictionTask();
+        if (predictionTask != null) {
+            predictionTask.ensureActive();
+        }
+    }
+
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.security.PrivilegedActionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorAction.LoadBalancingStrategy;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Spreads remote calls of one connector action across its endpoints and fails over to the next
+ * endpoint when the connection can't be established or on 5xx responses. Errors after the request
+ * may have reached the endpoint, e.g. while reading the response, are not failed over, since the
+ * request may not be idempotent. Endpoints which fail too many times in a row are
+ * ejected for a while and only tried again once every healthy endpoint has failed.
+ */
+@Log4j2
+public class RemoteEndpointBalancer {
+
+    public static final String ENDPOINT_MAX_FAILURES_FIELD = "endpoint_max_failures";
+    public static final String ENDPOINT_EJECTION_SECONDS_FIELD = "endpoint_ejection_seconds";
+    public static final int DEFAULT_ENDPOINT_MAX_FAILURES = 3;
+    public static final long DEFAULT_ENDPOINT_EJECTION_SECONDS = 30;
+    // Weight of the newest latency sample in the moving average.
+    private static final double EWMA_ALPHA = 0.3;
+
+    @Getter
+    private final LoadBalancingStrategy strategy;
+    private final int maxFailures;
+    private final long ejectionNanos;
+    private final EndpointState[] endpointStates;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final LongSupplier nanoClock;
+
+    @FunctionalInterface
+    public interface EndpointCall {
+        /**
+         * Send the request to one endpoint.
+         * @param endpoint resolved endpoint url
+         * @return http status code of the response
+         */
+        int call(String endpoint) throws Exception;
+    }
+
+    public static RemoteEndpointBalancer create(Connector connector) {
+        Optional<ConnectorAction> predictAction = connector.findPredictAction();
+        if (!predictAction.isPresent()) {
+            return new RemoteEndpointBalancer(1, null, connector.getParameters());
+        }
+        return new RemoteEndpointBalancer(
+            predictAction.get().getAllUrls().size(),
+            predictAction.get().getLoadBalancing(),
+            connector.getParameters()
+        );
+    }
+
+    public RemoteEndpointBalancer(int endpointCount, LoadBalancingStrategy strategy, Map<String, String> parameters) {
+        this(endpointCount, strategy, parameters, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RemoteEndpointBalancer(int endpointCount, LoadBalancingStrategy strategy, Map<String, String> parameters, LongSupplier nanoClock) {
+        this.strategy = strategy == null ? LoadBalancingStrategy.ROUND_ROBIN : strategy;
+        this.maxFailures = parameters != null && parameters.containsKey(ENDPOINT_MAX_FAILURES_FIELD)
+            ? Integer.parseInt(parameters.get(ENDPOINT_MAX_FAILURES_FIELD))
+            : DEFAULT_ENDPOINT_MAX_FAILURES;
+        long ejectionSeconds = parameters != null && parameters.containsKey(ENDPOINT_EJECTION_SECONDS_FIELD)
+            ? Long.parseLong(parameters.get(ENDPOINT_EJECTION_SECONDS_FIELD))
+            : DEFAULT_ENDPOINT_EJECTION_SECONDS;
+        this.ejectionNanos = TimeUnit.SECONDS.toNanos(ejectionSeconds);
+        this.nanoClock = nanoClock;
+        this.endpointStates = new EndpointState[Math.max(endpointCount, 1)];
+        for (int i = 0; i < endpointStates.length; i++) {
+            endpointStates[i] = new EndpointState();
+        }
+    }
+
+    /**
+     * Call the endpoints in balancing order until one of them answers without a connect failure or 5xx.
+     * The last endpoint's outcome is returned or thrown as is.
+     * @param endpoints resolved endpoints, in the same order as configured on the connector action
+     * @param endpointCall sends the request to one endpoint
+     * @return status code of the accepted response
+     */
+    public int invoke(List<String> endpoints, EndpointCall endpointCall) throws Exception {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("no predict action found");
+        }
+        if (endpoints.size() != endpointStates.length) {
+            throw new IllegalArgumentException("Endpoint count doesn't match connector action");
+        }
+        List<Integer> order = tryOrder();
+        for (int k = 0; k < order.size(); k++) {
+            int index = order.get(k);
+            boolean lastAttempt = k == order.size() - 1;
+            EndpointState state = endpointStates[index];
+            long start = nanoClock.getAsLong();
+            state.outstanding.incrementAndGet();
+            try {
+                int statusCode = endpointCall.call(endpoints.get(index));
+                if (statusCode >= 500) {
+                    onFailure(state);
+                    if (!lastAttempt) {
+                        log.warn("Remote endpoint {} returned {}, failing over to next endpoint", index, statusCode);
+                        continue;
+                    }
+                } else {
+                    onSuccess(state, nanoClock.getAsLong() - start);
+                }
+                return statusCode;
+            } catch (Exception e) {
+                if (!isConnectFailure(e)) {
+                    throw e;
+                }
+                onFailure(state);
+                if (lastAttempt) {
+                    throw e;
+                }
+                log.warn("Failed to connect to remote endpoint {}, failing over to next endpoint", index, e);
+            } finally {
+                state.outstanding.decrementAndGet();
+            }
+        }
+        throw new IllegalStateException("No remote endpoint to call");
+    }
+
+    /**
+     * Order in which endpoints are tried: the endpoint chosen by the strategy, the other healthy
+     * endpoints, then the ejected ones.
+     */
+    @VisibleForTesting
+    List<Integer> tryOrder() {
+        int size = endpointStates.length;
+        long now = nanoClock.getAsLong();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+        int selected = -1;
+        double selectedCost = Double.MAX_VALUE;
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            EndpointState state = endpointStates[index];
+            if (state.isEjected(now)) {
+                continue;
+            }
+            double cost = cost(state);
+            if (selected < 0 || cost < selectedCost) {
+                selected = index;
+                selectedCost = cost;
+            }
+            if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
+                break;
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(size);
+        if (selected >= 0) {
+            order.add(selected);
+        }
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            if (index != selected && !endpointStates[index].isEjected(now)) {
+                order.add(index);
+            }
+        }
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            if (endpointStates[index].isEjected(now)) {
+                order.add(index);
+            }
+        }
+        return order;
+    }
+
+    private double cost(EndpointState state) {
+        switch (strategy) {
+            case LEAST_OUTSTANDING:
+                return state.outstanding.get();
+            case EWMA:
+                // Endpoints without samples have zero latency so that they get probed first.
+                return state.latencyEwmaNanos * (state.outstanding.get() + 1);
+            default:
+                return 0;
+        }
+    }
+
+    private void onSuccess(EndpointState state, long latencyNanos) {
+        synchronized (state) {
+            state.latencyEwmaNanos = state.latencyEwmaNanos == 0
+                ? latencyNanos
+                : EWMA_ALPHA * latencyNanos + (1 - EWMA_ALPHA) * state.latencyEwmaNanos;
+            state.consecutiveFailures = 0;
+            state.ejectedUntilNanos = 0;
+        }
+    }
+
+    private void onFailure(EndpointState state) {
+        synchronized (state) {
+            state.consecutiveFailures++;
+            if (state.consecutiveFailures >= maxFailures) {
+                state.ejectedUntilNanos = nanoClock.getAsLong() + ejectionNanos;
+            }
+        }
+    }
+
+    private boolean isConnectFailure(Exception e) {
+        Throwable cause = e instanceof PrivilegedActionException ? ((PrivilegedActionException) e).getException() : e;
+        return cause instanceof ConnectException
+            || cause instanceof ConnectTimeoutException
+            || cause instanceof NoRouteToHostException
+            || cause instanceof UnknownHostException;
+    }
+
+    @VisibleForTesting
+    boolean isEjected(int index) {
+        return endpointStates[index].isEjected(nanoClock.getAsLong());
+    }
+
+    private static class EndpointState {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile double latencyEwmaNanos;
+        private volatile long ejectedUntilNanos;
+        private int consecutiveFailures;
+
+        private boolean isEjected(long now) {
+            return ejectedUntilNanos != 0 && now < ejectedUntilNanos;
+        }
+    }
+}
@@ -21,10 +21,13 @@ import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
+import org.opensearch.ml.engine.metrics.ConnectorMetricsRegistry;
 import org.opensearch.script.ScriptService;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -37,8 +40,13 @@ public class RemoteModel implements Predictable {
     public static final String XCONTENT_REGISTRY = "xcontent_registry";
     public static final String MODEL_RATE_LIMITER = "model_rate_limiter_config";
     public static final String USER_RATE_LIMITER_MAP = "user_rate_limiter_map";
+    public static final String CONNECTOR_METRICS_REGISTRY = "connector_metrics_registry";
+    public static final String PREDICT_ACTION = "predict";
 
     private RemoteConnectorExecutor connectorExecutor;
+    // Key of the connector metrics in the registry: connector id, or model id for an internal connector.
+    @Getter
+    private String connectorMetricsKey;
 
     @VisibleForTesting
     RemoteConnectorExecutor getConnectorExecutor() {
@@ -68,6 +76,14 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    /**
+     * Get metrics of the connector this model calls.
+     * @return connector metrics, or null if the model is not deployed
+     */
+    public ConnectorMetrics getConnectorMetrics() {
+        return connectorExecutor == null ? null : connectorExecutor.getConnectorMetrics();
+    }
+
     @Override
     public void close() {
         this.connectorExecutor = null;
@@ -90,6 +106,11 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
             this.connectorExecutor.setModelRateLimiter((TokenBucket) params.get(MODEL_RATE_LIMITER));
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
+            ConnectorMetricsRegistry metricsRegistry = (ConnectorMetricsRegistry) params.get(CONNECTOR_METRICS_REGISTRY);
+            if (metricsRegistry != null) {
+                this.connectorMetricsKey = model.getConnectorId() != null ? model.getConnectorId() : model.getModelId();
+                this.connectorExecutor.setConnectorMetrics(metricsRegistry.getOrCreate(connectorMetricsKey, PREDICT_ACTION));
+            }
         } catch (RuntimeException e) {
             log.error("Failed to init remote model.", e);
             throw e;
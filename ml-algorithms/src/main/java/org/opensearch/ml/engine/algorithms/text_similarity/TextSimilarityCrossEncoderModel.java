@@ -29,6 +29,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.annotation.Function;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -50,9 +51,11 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
             Input input = new Input();
             input.add(queryText);
             input.add(doc);
-            output = getPredictor().predict(input);
+            output = forward(input);
+            long postProcessStart = System.nanoTime();
             ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
             tensorOutputs.add(outputTensors);
+            recordStage(PredictStageMetrics.Stage.POST_PROCESS, postProcessStart);
         }
         return new ModelTensorOutput(tensorOutputs);
     }
@@ -32,6 +32,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.annotation.Function;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 
 import com.google.gson.reflect.TypeToken;
 
@@ -74,8 +75,10 @@ public class SparseTokenizerModel extends DLModel {
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
         for (String doc : textDocsInput.getDocs()) {
             Output output = new Output(200, "OK");
+            long tokenizeStart = System.nanoTime();
             Encoding encodings = tokenizer.encode(doc);
             long[] indices = encodings.getIds();
+            recordStage(PredictStageMetrics.Stage.TOKENIZE, tokenizeStart);
             List<ModelTensor> outputs = new ArrayList<>();
             String[] tokens = Arrays
                 .stream(indices)
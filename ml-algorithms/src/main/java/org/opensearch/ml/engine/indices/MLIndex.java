@@ -20,6 +20,9 @@ import static org.opensearch.ml.common.CommonValue.ML_MEMORY_MESSAGE_INDEX_SCHEM
 import static org.opensearch.ml.common.CommonValue.ML_MEMORY_META_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MEMORY_META_INDEX_MAPPING;
 import static org.opensearch.ml.common.CommonValue.ML_MEMORY_META_INDEX_SCHEMA_VERSION;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX_MAPPING;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX_SCHEMA_VERSION;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX_MAPPING;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX_SCHEMA_VERSION;
@@ -36,6 +39,7 @@ import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX_SCHEMA_VERSION;
 public enum MLIndex {
     MODEL_GROUP(ML_MODEL_GROUP_INDEX, false, ML_MODEL_GROUP_INDEX_MAPPING, ML_MODEL_GROUP_INDEX_SCHEMA_VERSION),
     MODEL(ML_MODEL_INDEX, false, ML_MODEL_INDEX_MAPPING, ML_MODEL_INDEX_SCHEMA_VERSION),
+    MODEL_CHUNK(ML_MODEL_CHUNK_INDEX, false, ML_MODEL_CHUNK_INDEX_MAPPING, ML_MODEL_CHUNK_INDEX_SCHEMA_VERSION),
     TASK(ML_TASK_INDEX, false, ML_TASK_INDEX_MAPPING, ML_TASK_INDEX_SCHEMA_VERSION),
     CONNECTOR(ML_CONNECTOR_INDEX, false, ML_CONNECTOR_INDEX_MAPPING, ML_CONNECTOR_SCHEMA_VERSION),
     CONFIG(ML_CONFIG_INDEX, false, ML_CONFIG_INDEX_MAPPING, ML_CONFIG_INDEX_SCHEMA_VERSION),
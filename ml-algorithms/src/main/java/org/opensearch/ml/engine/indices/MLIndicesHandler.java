@@ -56,6 +56,10 @@ public class MLIndicesHandler {
         initMLIndexIfAbsent(MLIndex.MODEL, listener);
     }
 
+    public void initModelChunkIndexIfAbsent(ActionListener<Boolean> listener) {
+        initMLIndexIfAbsent(MLIndex.MODEL_CHUNK, listener);
+    }
+
     public void initMLTaskIndex(ActionListener<Boolean> listener) {
         initMLIndexIfAbsent(MLIndex.TASK, listener);
     }
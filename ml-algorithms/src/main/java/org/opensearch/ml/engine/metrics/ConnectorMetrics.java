@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of one connector action: request, error and throttling counts, response status codes and sizes,
+ * and latency histograms for each stage of a remote inference call.
+ */
+public class ConnectorMetrics {
+
+    public static final String REQUEST_COUNT_FIELD = "request_count";
+    public static final String ERROR_COUNT_FIELD = "error_count";
+    public static final String THROTTLED_COUNT_FIELD = "throttled_count";
+    public static final String STATUS_CODES_FIELD = "status_codes";
+    public static final String RESPONSE_SIZE_FIELD = "response_size_bytes";
+    public static final String LATENCY_FIELD = "latency_ms";
+    public static final String ENDPOINT_LATENCY_FIELD = "endpoint_latency_ms";
+    // Endpoints are resolved from connector parameters, so cap how many of them get their own histogram.
+    static final int MAX_TRACKED_ENDPOINTS = 16;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public enum Stage {
+        PRE_PROCESS,
+        PAYLOAD_RENDERING,
+        SIGNING,
+        REMOTE_CALL,
+        POST_PROCESS
+    }
+
+    private final Map<Stage, LatencyHistogram> stageLatencies;
+    private final Map<String, LatencyHistogram> endpointLatencies = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LatencyHistogram responseSize = new LatencyHistogram();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder throttledCount = new LongAdder();
+
+    public ConnectorMetrics() {
+        stageLatencies = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stageLatencies.put(stage, new LatencyHistogram());
+        }
+    }
+
+    public void recordRequest() {
+        requestCount.increment();
+    }
+
+    public void recordError() {
+        errorCount.increment();
+    }
+
+    public void recordThrottled() {
+        throttledCount.increment();
+    }
+
+    public void recordStage(Stage stage, long durationNanos) {
+        stageLatencies.get(stage).record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /**
+     * Record one HTTP round trip to a remote endpoint.
+     * @param endpoint endpoint url, only scheme, host and port are used as key
+     * @param durationNanos round trip time
+     */
+    public void recordRemoteCall(String endpoint, long durationNanos) {
+        recordStage(Stage.REMOTE_CALL, durationNanos);
+        String endpointKey = endpointKey(endpoint);
+        LatencyHistogram histogram = endpointLatencies.get(endpointKey);
+        if (histogram == null) {
+            if (endpointLatencies.size() >= MAX_TRACKED_ENDPOINTS) {
+                return;
+            }
+            histogram = endpointLatencies.computeIfAbsent(endpointKey, k -> new LatencyHistogram());
+        }
+        histogram.record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    public void recordResponse(int statusCode, long responseBytes) {
+        statusCodes.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        responseSize.record(responseBytes);
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    public LatencyHistogram getStageLatency(Stage stage) {
+        return stageLatencies.get(stage);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(REQUEST_COUNT_FIELD, getRequestCount());
+        map.put(ERROR_COUNT_FIELD, getErrorCount());
+        map.put(THROTTLED_COUNT_FIELD, getThrottledCount());
+        if (statusCodes.size() > 0) {
+            Map<String, Object> codes = new HashMap<>();
+            statusCodes.forEach((code, counter) -> codes.put(String.valueOf(code), counter.sum()));
+            map.put(STATUS_CODES_FIELD, codes);
+        }
+        Map<String, Object> sizeStats = responseSize.toMap(1);
+        if (sizeStats != null) {
+            map.put(RESPONSE_SIZE_FIELD, sizeStats);
+        }
+        Map<String, Object> latencies = new HashMap<>();
+        for (Map.Entry<Stage, LatencyHistogram> entry : stageLatencies.entrySet()) {
+            Map<String, Object> stats = entry.getValue().toMap(MICROS_PER_MILLI);
+            if (stats != null) {
+                latencies.put(entry.getKey().name().toLowerCase(Locale.ROOT), stats);
+            }
+        }
+        if (latencies.size() > 0) {
+            map.put(LATENCY_FIELD, latencies);
+        }
+        Map<String, Object> endpoints = new HashMap<>();
+        endpointLatencies.forEach((endpoint, histogram) -> {
+            Map<String, Object> stats = histogram.toMap(MICROS_PER_MILLI);
+            if (stats != null) {
+                endpoints.put(endpoint, stats);
+            }
+        });
+        if (endpoints.size() > 0) {
+            map.put(ENDPOINT_LATENCY_FIELD, endpoints);
+        }
+        return map;
+    }
+
+    private String endpointKey(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getHost() != null) {
+                String host = uri.getScheme() + "://" + uri.getHost();
+                return uri.getPort() < 0 ? host : host + ":" + uri.getPort();
+            }
+        } catch (IllegalArgumentException e) {
+            // fall back to the raw endpoint
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node level registry of connector metrics, keyed by connector id and action name.
+ * Models with an internal connector have no connector id and are keyed by model id instead.
+ */
+public class ConnectorMetricsRegistry {
+
+    // {"connector_id":{"predict": ConnectorMetrics}}
+    private final Map<String, Map<String, ConnectorMetrics>> connectorMetrics = new ConcurrentHashMap<>();
+
+    public ConnectorMetrics getOrCreate(String connectorId, String action) {
+        Map<String, ConnectorMetrics> actionMetrics = connectorMetrics.computeIfAbsent(connectorId, it -> new ConcurrentHashMap<>());
+        return actionMetrics.computeIfAbsent(action, it -> new ConnectorMetrics());
+    }
+
+    public void remove(String connectorId) {
+        connectorMetrics.remove(connectorId);
+    }
+
+    public String[] getAllConnectors() {
+        return connectorMetrics.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Get metrics of one connector.
+     * @param connectorId connector id
+     * @return action name to metrics map, or null if the connector has no metrics on this node
+     */
+    public Map<String, ConnectorMetrics> getConnectorMetrics(String connectorId) {
+        Map<String, ConnectorMetrics> actionMetrics = connectorMetrics.get(connectorId);
+        return actionMetrics == null ? null : Collections.unmodifiableMap(actionMetrics);
+    }
+
+    /**
+     * Get stats of one connector.
+     * @param connectorId connector id
+     * @return action name to stats map, or null if the connector has no metrics on this node
+     */
+    public Map<String, Object> getConnectorStats(String connectorId) {
+        Map<String, ConnectorMetrics> actionMetrics = connectorMetrics.get(connectorId);
+        if (actionMetrics == null) {
+            return null;
+        }
+        Map<String, Object> stats = new HashMap<>();
+        actionMetrics.forEach((action, metrics) -> stats.put(action, metrics.toMap()));
+        return stats;
+    }
+
+    /**
+     * Get stats of connectors.
+     * @param connectorIds connectors to include, all connectors if null or empty
+     * @return connector id to stats map
+     */
+    public Map<String, Object> getConnectorStats(Set<String> connectorIds) {
+        Map<String, Object> stats = new HashMap<>();
+        for (String connectorId : getAllConnectors()) {
+            if (connectorIds == null || connectorIds.isEmpty() || connectorIds.contains(connectorId)) {
+                Map<String, Object> connectorStats = getConnectorStats(connectorId);
+                if (connectorStats != null) {
+                    stats.put(connectorId, connectorStats);
+                }
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms of the stages a predict request goes through for one model, from routing the request on the
+ * coordinating node to post-processing the model output on the worker node.
+ */
+public class PredictStageMetrics {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public enum Stage {
+        // Coordinating node: pick the worker node of the request.
+        DISPATCH,
+        // Coordinating node: round trip of a request forwarded to another worker node.
+        TRANSPORT,
+        ACCESS_CHECK,
+        RATE_LIMIT_CHECK,
+        // Worker node: wait in the predict thread pool queue.
+        QUEUE_WAIT,
+        // Worker node: whole model predict call, covers the model stages below.
+        INFERENCE,
+        // Tokenization done by the model itself rather than by its translator, e.g. sparse tokenizer models.
+        TOKENIZE,
+        // Forward pass of a local model, including the tokenization and tensor conversion done by its translator.
+        FORWARD,
+        POST_PROCESS
+    }
+
+    private final Map<Stage, LatencyHistogram> stageLatencies;
+
+    public PredictStageMetrics() {
+        stageLatencies = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stageLatencies.put(stage, new LatencyHistogram());
+        }
+    }
+
+    public void recordStage(Stage stage, long durationNanos) {
+        stageLatencies.get(stage).record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    public LatencyHistogram getStageLatency(Stage stage) {
+        return stageLatencies.get(stage);
+    }
+
+    public void reset() {
+        stageLatencies.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Get latency stats in milliseconds of the stages which have been recorded.
+     * @return stage name to latency stats map, or null if no stage has been recorded
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> latencies = new HashMap<>();
+        for (Map.Entry<Stage, LatencyHistogram> entry : stageLatencies.entrySet()) {
+            Map<String, Object> stats = entry.getValue().toMap(MICROS_PER_MILLI);
+            if (stats != null) {
+                latencies.put(entry.getKey().name().toLowerCase(Locale.ROOT), stats);
+            }
+        }
+        return latencies.size() > 0 ? latencies : null;
+    }
+}
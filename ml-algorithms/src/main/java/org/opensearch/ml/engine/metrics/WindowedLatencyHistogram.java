@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free histogram of the most recent values. Values are recorded into two histograms which take turns: once the
+ * current one holds a full window of values, the older one is cleared and becomes the current one. A snapshot merges
+ * both, so it covers between one and two windows of the most recent values. Recording is allocation-free and O(1);
+ * a value recorded while its histogram is being cleared may be dropped, which is fine for monitoring.
+ */
+public class WindowedLatencyHistogram {
+
+    private final LatencyHistogram[] windows = { new LatencyHistogram(), new LatencyHistogram() };
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long windowSize;
+
+    public WindowedLatencyHistogram(long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Record one value. Nothing is recorded if the window size is not positive.
+     * @param value value to record
+     */
+    public void record(long value) {
+        long size = windowSize;
+        if (size <= 0) {
+            return;
+        }
+        long index = recorded.getAndIncrement();
+        LatencyHistogram window = windows[(int) ((index / size) & 1)];
+        if (index > 0 && index % size == 0) {
+            window.reset();
+        }
+        window.record(value);
+    }
+
+    /**
+     * Change the number of values in one window. Recorded values are dropped if the size changes.
+     * @param size window size
+     */
+    public void setWindowSize(long size) {
+        if (windowSize != size) {
+            windowSize = size;
+            reset();
+        }
+    }
+
+    public long getWindowSize() {
+        return windowSize;
+    }
+
+    public void reset() {
+        recorded.set(0);
+        for (LatencyHistogram window : windows) {
+            window.reset();
+        }
+    }
+
+    /**
+     * Merge the recent values into a new histogram, without blocking writers.
+     * @return histogram of the recent values
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram();
+        for (LatencyHistogram window : windows) {
+            window.mergeInto(snapshot);
+        }
+        return snapshot;
+    }
+}
@@ -10,7 +10,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 
 import org.apache.commons.io.serialization.ValidatingObjectInputStream;
 import org.opensearch.ml.common.MLModel;
@@ -19,9 +25,52 @@ import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Serializes trained models into the model content. Algorithms write the raw codec payload, which every node can read.
+ * {@link #encodeModel(MLModel)} wraps it in a small header: magic bytes, format version, codec, compression and
+ * payload length, followed by the payload, deflate compressed when that makes it smaller. Only the ML engine does so,
+ * once the model format header is enabled, as nodes without this class can't read the header.
+ * Both forms are read: Java serialization streams start with 0xACED and 0x4F can't start a protostuff message (it
+ * would be wire type 7), so content without the magic is read as raw payload.
+ */
 @Log4j2
 @UtilityClass
 public class ModelSerDeSer {
+    // "OSML"
+    private static final byte[] MODEL_FORMAT_MAGIC = { 0x4F, 0x53, 0x4D, 0x4C };
+    public static final byte MODEL_FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = MODEL_FORMAT_MAGIC.length + 3 + Integer.BYTES;
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_DEFLATE = 1;
+    // Smaller payloads are stored as is, compressing them saves little.
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+    // Deflate can't compress more than about 1032:1, so a longer payload length in the header is corrupt.
+    private static final int MAX_COMPRESSION_RATIO = 1032;
+    private static final byte[] JAVA_SERIALIZATION_MAGIC = { (byte) 0xAC, (byte) 0xED };
+
+    /**
+     * Codec of the model payload.
+     */
+    public enum ModelCodec {
+        JAVA((byte) 1),
+        PROTOSTUFF((byte) 2);
+
+        private final byte id;
+
+        ModelCodec(byte id) {
+            this.id = id;
+        }
+
+        public static ModelCodec from(byte id) {
+            for (ModelCodec codec : values()) {
+                if (codec.id == id) {
+                    return codec;
+                }
+            }
+            throw new ModelSerDeSerException("Unknown model codec: " + id);
+        }
+    }
+
     // Accept list includes OpenSearch ml plugin classes, JDK common classes and Tribuo libraries.
     public static final String[] ACCEPT_CLASS_PATTERNS = {
         "java.lang.*",
@@ -88,6 +137,10 @@ public class ModelSerDeSer {
     // This method has been tested in K-means, Linear Regression, Logistic regression, Anomaly Detection and Random Cut Forest summarization
     // and passed.
     public static Object deserialize(byte[] modelBin) {
+        return deserializeObject(decode(ModelCodec.JAVA, modelBin));
+    }
+
+    private static Object deserializeObject(byte[] modelBin) {
         try (
             ByteArrayInputStream inputStream = new ByteArrayInputStream(modelBin);
             ValidatingObjectInputStream validatingObjectInputStream = new ValidatingObjectInputStream(inputStream);
@@ -107,6 +160,143 @@ public class ModelSerDeSer {
         return deserialize(decodeBytes);
     }
 
+    /**
+     * Wrap the content of a trained model in the model format header. The codec is told apart by the payload, as
+     * algorithms write either a Java serialization stream or a protostuff message.
+     * @param model trained model with raw codec payload as content
+     * @return model with the content in the model format
+     */
+    public static MLModel encodeModel(MLModel model) {
+        if (model == null || model.getContent() == null) {
+            return model;
+        }
+        byte[] bytes = decodeBase64(model.getContent());
+        if (hasHeader(bytes)) {
+            return model;
+        }
+        ModelCodec codec = startsWith(bytes, JAVA_SERIALIZATION_MAGIC) ? ModelCodec.JAVA : ModelCodec.PROTOSTUFF;
+        return model.toBuilder().content(encodeBase64(encode(codec, bytes))).build();
+    }
+
+    /**
+     * Add the model format header to a codec payload, compressing the payload if that makes it smaller.
+     * @param codec codec which produced the payload
+     * @param payload serialized model
+     * @return model bytes to store
+     */
+    public static byte[] encode(ModelCodec codec, byte[] payload) {
+        byte compression = COMPRESSION_NONE;
+        byte[] body = payload;
+        if (payload.length >= COMPRESSION_THRESHOLD_BYTES) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                compression = COMPRESSION_DEFLATE;
+                body = compressed;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + body.length);
+        buffer.put(MODEL_FORMAT_MAGIC).put(MODEL_FORMAT_VERSION).put(codec.id).put(compression).putInt(payload.length).put(body);
+        return buffer.array();
+    }
+
+    /**
+     * Strip the model format header and decompress the payload. Bytes without the header are models stored in the
+     * legacy format and returned as is.
+     * @param codec codec the caller reads the payload with
+     * @param bytes stored model bytes
+     * @return codec payload
+     */
+    public static byte[] decode(ModelCodec codec, byte[] bytes) {
+        if (!hasHeader(bytes)) {
+            return bytes;
+        }
+        byte version = bytes[MODEL_FORMAT_MAGIC.length];
+        if (version > MODEL_FORMAT_VERSION) {
+            throw new ModelSerDeSerException("Unsupported model format version: " + version);
+        }
+        ModelCodec modelCodec = ModelCodec.from(bytes[MODEL_FORMAT_MAGIC.length + 1]);
+        if (modelCodec != codec) {
+            throw new ModelSerDeSerException("Model is serialized with " + modelCodec + ", can't read it as " + codec);
+        }
+        byte compression = bytes[MODEL_FORMAT_MAGIC.length + 2];
+        int payloadLength = ByteBuffer.wrap(bytes, MODEL_FORMAT_MAGIC.length + 3, Integer.BYTES).getInt();
+        switch (compression) {
+            case COMPRESSION_NONE:
+                if (payloadLength != bytes.length - HEADER_LENGTH) {
+                    throw new ModelSerDeSerException("Model payload length doesn't match its header");
+                }
+                return Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            case COMPRESSION_DEFLATE:
+                return inflate(bytes, payloadLength);
+            default:
+                throw new ModelSerDeSerException("Unknown model compression: " + compression);
+        }
+    }
+
+    public static boolean hasHeader(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH && startsWith(bytes, MODEL_FORMAT_MAGIC);
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2);
+            DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater)
+        ) {
+            deflaterOutputStream.write(bytes);
+            deflaterOutputStream.finish();
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new ModelSerDeSerException("Failed to compress model.", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Inflate the payload into exactly the length recorded in the header, so corrupt content can't inflate without
+     * bound.
+     */
+    private static byte[] inflate(byte[] bytes, int payloadLength) {
+        int compressedLength = bytes.length - HEADER_LENGTH;
+        if (payloadLength < 0 || (long) payloadLength > (long) compressedLength * MAX_COMPRESSION_RATIO) {
+            throw new ModelSerDeSerException("Invalid model payload length: " + payloadLength);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_LENGTH, compressedLength);
+            byte[] payload = new byte[payloadLength];
+            int length = 0;
+            while (length < payloadLength && !inflater.finished()) {
+                int inflated = inflater.inflate(payload, length, payloadLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != payloadLength || !inflater.finished()) {
+                throw new ModelSerDeSerException("Model payload length doesn't match its header");
+            }
+            return payload;
+        } catch (DataFormatException e) {
+            throw new ModelSerDeSerException("Failed to decompress model.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
     public static byte[] decodeBase64(String base64Str) {
         return Base64.getDecoder().decode(base64Str);
     }
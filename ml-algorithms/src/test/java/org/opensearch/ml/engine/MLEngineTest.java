@@ -8,6 +8,7 @@ package org.opensearch.ml.engine;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.opensearch.ml.engine.helper.LinearRegressionHelper.constructLinearRegressionPredictionDataFrame;
 import static org.opensearch.ml.engine.helper.LinearRegressionHelper.constructLinearRegressionTrainDataFrame;
@@ -49,6 +50,7 @@ import org.opensearch.ml.common.output.execute.samplecalculator.LocalSampleCalcu
 import org.opensearch.ml.engine.algorithms.regression.LinearRegression;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
 
 public class MLEngineTest {
     @Rule
@@ -91,6 +93,17 @@ public class MLEngineTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictKMeans_ModelFormatHeader() {
+        mlEngine.setModelFormatHeaderEnabled(true);
+        MLModel model = trainKMeansModel();
+        assertTrue(ModelSerDeSer.hasHeader(ModelSerDeSer.decodeBase64(model.getContent())));
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(10)).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        MLPredictionOutput output = (MLPredictionOutput) mlEngine.predict(mlInput, model);
+        assertEquals(10, output.getPredictionResult().size());
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
@@ -114,6 +127,20 @@ public class MLEngineTest {
         assertEquals(2, predictions.size());
     }
 
+    @Test
+    public void loadPredictableKMeans() {
+        MLModel model = trainKMeansModel();
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        Predictable predictor = mlEngine.loadPredictable(mlInput, model);
+        Assert.assertTrue(predictor.isModelReady());
+        for (int i = 0; i < 2; i++) {
+            MLPredictionOutput output = (MLPredictionOutput) predictor.predict(mlInput);
+            assertEquals(10, output.getPredictionResult().size());
+        }
+    }
+
     @Test
     public void deployLinearRegressionModel_NullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -5,9 +5,19 @@
 
 package org.opensearch.ml.engine;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.ml.engine.helper.MLTestHelper.concstructDataFrameInputDataSet;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -18,7 +28,9 @@ import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParams;
 import org.opensearch.ml.engine.algorithms.clustering.KMeans;
 import org.opensearch.ml.engine.algorithms.regression.LinearRegression;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.ModelSerDeSer.ModelCodec;
 import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.regression.sgd.linear.LinearSGDModel;
 
@@ -48,4 +60,74 @@ public class ModelSerDeSerTest {
         assertNotNull(deserializedModel);
     }
 
+    @Test
+    public void testModelSerDeSer_Header() {
+        byte[] bytes = ModelSerDeSer.encode(ModelCodec.JAVA, ModelSerDeSer.serialize("test model"));
+        assertTrue(ModelSerDeSer.hasHeader(bytes));
+        assertEquals("test model", ModelSerDeSer.deserialize(bytes));
+    }
+
+    @Test
+    public void testModelSerDeSer_Compression() {
+        byte[] payload = new byte[10_000];
+        Arrays.fill(payload, (byte) 1);
+        byte[] bytes = ModelSerDeSer.encode(ModelCodec.PROTOSTUFF, payload);
+        assertTrue(bytes.length < payload.length);
+        assertArrayEquals(payload, ModelSerDeSer.decode(ModelCodec.PROTOSTUFF, bytes));
+    }
+
+    @Test
+    public void testModelSerDeSer_CorruptPayloadLength() {
+        thrown.expect(ModelSerDeSerException.class);
+        thrown.expectMessage("Invalid model payload length");
+        byte[] payload = new byte[10_000];
+        Arrays.fill(payload, (byte) 1);
+        byte[] bytes = ModelSerDeSer.encode(ModelCodec.PROTOSTUFF, payload);
+        // Payload length in the header, after magic, version, codec and compression.
+        ByteBuffer.wrap(bytes, 7, Integer.BYTES).putInt(Integer.MAX_VALUE);
+        ModelSerDeSer.decode(ModelCodec.PROTOSTUFF, bytes);
+    }
+
+    @Test
+    public void testModelSerDeSer_LegacyFormatByDefault() {
+        byte[] bytes = ModelSerDeSer.serialize("test model");
+        assertFalse(ModelSerDeSer.hasHeader(bytes));
+        assertEquals("test model", ModelSerDeSer.deserialize(bytes));
+    }
+
+    @Test
+    public void testEncodeModel() {
+        KMeans kMeans = new KMeans(KMeansParams.builder().build());
+        MLModel model = kMeans
+            .train(MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(concstructDataFrameInputDataSet(100)).build());
+        assertFalse(ModelSerDeSer.hasHeader(ModelSerDeSer.decodeBase64(model.getContent())));
+
+        MLModel encodedModel = ModelSerDeSer.encodeModel(model);
+        byte[] bytes = ModelSerDeSer.decodeBase64(encodedModel.getContent());
+        assertTrue(ModelSerDeSer.hasHeader(bytes));
+        assertArrayEquals(ModelSerDeSer.decodeBase64(model.getContent()), ModelSerDeSer.decode(ModelCodec.JAVA, bytes));
+        assertNotNull(ModelSerDeSer.deserialize(encodedModel));
+        // Encoding again keeps the model as is.
+        assertEquals(encodedModel.getContent(), ModelSerDeSer.encodeModel(encodedModel).getContent());
+    }
+
+    @Test
+    public void testModelSerDeSer_LegacyFormat() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject("test model");
+        }
+        byte[] legacyBytes = outputStream.toByteArray();
+        assertFalse(ModelSerDeSer.hasHeader(legacyBytes));
+        assertEquals("test model", ModelSerDeSer.deserialize(legacyBytes));
+    }
+
+    @Test
+    public void testModelSerDeSer_WrongCodec() {
+        thrown.expect(ModelSerDeSerException.class);
+        thrown.expectMessage("Model is serialized with JAVA, can't read it as PROTOSTUFF");
+        byte[] bytes = ModelSerDeSer.encode(ModelCodec.JAVA, ModelSerDeSer.serialize("test model"));
+        ModelSerDeSer.decode(ModelCodec.PROTOSTUFF, bytes);
+    }
+
 }
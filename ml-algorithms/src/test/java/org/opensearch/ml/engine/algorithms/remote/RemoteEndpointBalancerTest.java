@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.connector.ConnectorAction.LoadBalancingStrategy;
+
+import com.google.common.collect.ImmutableMap;
+
+public class RemoteEndpointBalancerTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final List<String> endpoints = Arrays.asList("http://a.com", "http://b.com", "http://c.com");
+
+    @Test
+    public void invoke_RoundRobin() throws Exception {
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, null, null);
+        List<String> called = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            balancer.invoke(endpoints, endpoint -> {
+                called.add(endpoint);
+                return 200;
+            });
+        }
+        Assert.assertEquals(LoadBalancingStrategy.ROUND_ROBIN, balancer.getStrategy());
+        Assert.assertEquals(Arrays.asList("http://a.com", "http://b.com", "http://c.com", "http://a.com", "http://b.com", "http://c.com"), called);
+    }
+
+    @Test
+    public void invoke_FailoverOnConnectionError() throws Exception {
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.ROUND_ROBIN, null);
+        List<String> called = new ArrayList<>();
+        int statusCode = balancer.invoke(endpoints, endpoint -> {
+            called.add(endpoint);
+            if (endpoint.equals("http://a.com")) {
+                throw new ConnectException("connection refused");
+            }
+            return 200;
+        });
+        Assert.assertEquals(200, statusCode);
+        Assert.assertEquals(Arrays.asList("http://a.com", "http://b.com"), called);
+    }
+
+    @Test
+    public void invoke_NoFailoverOnResponseReadError() throws Exception {
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.ROUND_ROBIN, null);
+        List<String> called = new ArrayList<>();
+        try {
+            balancer.invoke(endpoints, endpoint -> {
+                called.add(endpoint);
+                throw new SocketTimeoutException("Read timed out");
+            });
+            Assert.fail("Expected read error");
+        } catch (SocketTimeoutException e) {
+            Assert.assertEquals("Read timed out", e.getMessage());
+        }
+        // The request may have reached the endpoint, so it's not sent again to the others.
+        Assert.assertEquals(Arrays.asList("http://a.com"), called);
+    }
+
+    @Test
+    public void invoke_NoPredictAction() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("no predict action found");
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(1, null, null);
+        balancer.invoke(Collections.emptyList(), endpoint -> 200);
+    }
+
+    @Test
+    public void invoke_FailoverOnServerError() throws Exception {
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.ROUND_ROBIN, null);
+        List<String> called = new ArrayList<>();
+        int statusCode = balancer.invoke(endpoints, endpoint -> {
+            called.add(endpoint);
+            return endpoint.equals("http://c.com") ? 200 : 503;
+        });
+        Assert.assertEquals(200, statusCode);
+        Assert.assertEquals(endpoints, called);
+    }
+
+    @Test
+    public void invoke_NoFailoverOnClientError() throws Exception {
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.ROUND_ROBIN, null);
+        List<String> called = new ArrayList<>();
+        int statusCode = balancer.invoke(endpoints, endpoint -> {
+            called.add(endpoint);
+            return 429;
+        });
+        Assert.assertEquals(429, statusCode);
+        Assert.assertEquals(1, called.size());
+    }
+
+    @Test
+    public void invoke_AllEndpointsDown() throws Exception {
+        exceptionRule.expect(IOException.class);
+        exceptionRule.expectMessage("connection refused");
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.ROUND_ROBIN, null);
+        balancer.invoke(endpoints, endpoint -> { throw new ConnectException("connection refused"); });
+    }
+
+    @Test
+    public void invoke_EjectAndRecover() throws Exception {
+        AtomicLong clock = new AtomicLong(1);
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(
+            3,
+            LoadBalancingStrategy.ROUND_ROBIN,
+            ImmutableMap.of(RemoteEndpointBalancer.ENDPOINT_MAX_FAILURES_FIELD, "2", RemoteEndpointBalancer.ENDPOINT_EJECTION_SECONDS_FIELD, "10"),
+            clock::get
+        );
+        for (int i = 0; i < 4; i++) {
+            balancer.invoke(endpoints, endpoint -> endpoint.equals("http://a.com") ? 500 : 200);
+        }
+        Assert.assertTrue(balancer.isEjected(0));
+        Assert.assertFalse(balancer.isEjected(1));
+        Assert.assertFalse(balancer.tryOrder().get(0) == 0);
+        Assert.assertEquals(0, balancer.tryOrder().get(2).intValue());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        Assert.assertFalse(balancer.isEjected(0));
+    }
+
+    @Test
+    public void tryOrder_Ewma() throws Exception {
+        AtomicLong clock = new AtomicLong(1);
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(3, LoadBalancingStrategy.EWMA, null, clock::get);
+        for (int i = 0; i < 3; i++) {
+            balancer.invoke(endpoints, endpoint -> {
+                clock.addAndGet(endpoint.equals("http://b.com") ? 10 : 1000);
+                return 200;
+            });
+        }
+        Assert.assertEquals(1, balancer.tryOrder().get(0).intValue());
+        Assert.assertEquals(1, balancer.tryOrder().get(0).intValue());
+    }
+
+    @Test
+    public void invoke_WrongEndpointCount() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Endpoint count doesn't match connector action");
+        RemoteEndpointBalancer balancer = new RemoteEndpointBalancer(2, LoadBalancingStrategy.LEAST_OUTSTANDING, null);
+        balancer.invoke(endpoints, endpoint -> 200);
+    }
+}
@@ -11,6 +11,7 @@ import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkT
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_STAGE_METRICS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
 import java.io.File;
@@ -45,6 +46,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 import org.opensearch.ml.engine.utils.FileUtils;
 
 public class TextEmbeddingDenseModelTest {
@@ -145,6 +147,18 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.close();
     }
 
+    @Test
+    public void initModel_predict_RecordPredictStages() {
+        PredictStageMetrics predictStageMetrics = new PredictStageMetrics();
+        params.put(PREDICT_STAGE_METRICS, predictStageMetrics);
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        textEmbeddingDenseModel.predict(mlInput);
+        assertEquals(2, predictStageMetrics.getStageLatency(PredictStageMetrics.Stage.FORWARD).getCount());
+        assertEquals(2, predictStageMetrics.getStageLatency(PredictStageMetrics.Stage.POST_PROCESS).getCount());
+        textEmbeddingDenseModel.close();
+    }
+
     @Test
     public void initModel_predict_TorchScript_SentenceTransformer_ResultFilter() {
         textEmbeddingDenseModel.initModel(model, params, encryptor);
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+public class ConnectorMetricsTest {
+
+    @Test
+    public void toMap() {
+        ConnectorMetrics metrics = new ConnectorMetrics();
+        metrics.recordRequest();
+        metrics.recordRequest();
+        metrics.recordError();
+        metrics.recordThrottled();
+        metrics.recordStage(ConnectorMetrics.Stage.PRE_PROCESS, 2_000_000L);
+        metrics.recordRemoteCall("https://test.com:8443/v1/predict", 100_000_000L);
+        metrics.recordResponse(200, 1024);
+        metrics.recordResponse(503, 10);
+
+        Map<String, Object> stats = metrics.toMap();
+        Assert.assertEquals(2L, stats.get(ConnectorMetrics.REQUEST_COUNT_FIELD));
+        Assert.assertEquals(1L, stats.get(ConnectorMetrics.ERROR_COUNT_FIELD));
+        Assert.assertEquals(1L, stats.get(ConnectorMetrics.THROTTLED_COUNT_FIELD));
+        Map<String, Object> statusCodes = (Map<String, Object>) stats.get(ConnectorMetrics.STATUS_CODES_FIELD);
+        Assert.assertEquals(1L, statusCodes.get("200"));
+        Assert.assertEquals(1L, statusCodes.get("503"));
+        Map<String, Object> latencies = (Map<String, Object>) stats.get(ConnectorMetrics.LATENCY_FIELD);
+        Assert.assertEquals(2, latencies.size());
+        Map<String, Object> remoteCall = (Map<String, Object>) latencies.get("remote_call");
+        Assert.assertEquals(100.0, (Double) remoteCall.get("max"), 0.001);
+        Map<String, Object> endpoints = (Map<String, Object>) stats.get(ConnectorMetrics.ENDPOINT_LATENCY_FIELD);
+        Assert.assertTrue(endpoints.containsKey("https://test.com:8443"));
+    }
+
+    @Test
+    public void recordRemoteCall_LimitEndpoints() {
+        ConnectorMetrics metrics = new ConnectorMetrics();
+        for (int i = 0; i < ConnectorMetrics.MAX_TRACKED_ENDPOINTS + 5; i++) {
+            metrics.recordRemoteCall("https://test" + i + ".com/predict", 1000L);
+        }
+        Map<String, Object> endpoints = (Map<String, Object>) metrics.toMap().get(ConnectorMetrics.ENDPOINT_LATENCY_FIELD);
+        Assert.assertEquals(ConnectorMetrics.MAX_TRACKED_ENDPOINTS, endpoints.size());
+        Assert.assertEquals(ConnectorMetrics.MAX_TRACKED_ENDPOINTS + 5, metrics.getStageLatency(ConnectorMetrics.Stage.REMOTE_CALL).getCount());
+    }
+
+    @Test
+    public void registry() {
+        ConnectorMetricsRegistry registry = new ConnectorMetricsRegistry();
+        ConnectorMetrics metrics = registry.getOrCreate("connector1", "predict");
+        Assert.assertSame(metrics, registry.getOrCreate("connector1", "predict"));
+        registry.getOrCreate("connector2", "predict").recordRequest();
+
+        Assert.assertEquals(2, registry.getConnectorStats(ImmutableSet.of()).size());
+        Map<String, Object> stats = registry.getConnectorStats(ImmutableSet.of("connector2"));
+        Assert.assertEquals(1, stats.size());
+        Assert.assertNull(registry.getConnectorStats("connector3"));
+
+        registry.remove("connector1");
+        Assert.assertEquals(1, registry.getAllConnectors().length);
+    }
+}
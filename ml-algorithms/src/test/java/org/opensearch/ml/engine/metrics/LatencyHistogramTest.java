@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void record_Empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMax());
+        Assert.assertEquals(0, histogram.getPercentile(99), 0);
+        Assert.assertNull(histogram.toMap(1));
+    }
+
+    @Test
+    public void record_Percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(1, histogram.getMin());
+        Assert.assertEquals(500.5, histogram.getAverage(), 0.001);
+        Assert.assertEquals(500, histogram.getPercentile(50), 500 * 0.04);
+        Assert.assertEquals(900, histogram.getPercentile(90), 900 * 0.04);
+        Assert.assertEquals(990, histogram.getPercentile(99), 990 * 0.04);
+
+        Map<String, Object> stats = histogram.toMap(10);
+        Assert.assertEquals(1000L, stats.get("count"));
+        Assert.assertEquals(100.0, (Double) stats.get("max"), 0.001);
+    }
+
+    @Test
+    public void record_Reset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(2, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMin());
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void bucketIndex() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456789L }) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.lowerBound(index) <= value);
+            Assert.assertTrue(LatencyHistogram.lowerBound(index + 1) > value);
+        }
+        Assert.assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PredictStageMetricsTest {
+
+    @Test
+    public void toMap() {
+        PredictStageMetrics metrics = new PredictStageMetrics();
+        Assert.assertNull(metrics.toMap());
+
+        metrics.recordStage(PredictStageMetrics.Stage.QUEUE_WAIT, 1_000_000L);
+        metrics.recordStage(PredictStageMetrics.Stage.FORWARD, 20_000_000L);
+        metrics.recordStage(PredictStageMetrics.Stage.FORWARD, 40_000_000L);
+
+        Map<String, Object> stats = metrics.toMap();
+        Assert.assertEquals(2, stats.size());
+        Map<String, Object> queueWait = (Map<String, Object>) stats.get("queue_wait");
+        Assert.assertEquals(1L, queueWait.get("count"));
+        Assert.assertEquals(1.0, (Double) queueWait.get("max"), 0.001);
+        Map<String, Object> forward = (Map<String, Object>) stats.get("forward");
+        Assert.assertEquals(2L, forward.get("count"));
+        Assert.assertEquals(20.0, (Double) forward.get("min"), 0.001);
+        Assert.assertEquals(30.0, (Double) forward.get("average"), 0.001);
+        Assert.assertEquals(2L, metrics.getStageLatency(PredictStageMetrics.Stage.FORWARD).getCount());
+    }
+
+    @Test
+    public void reset() {
+        PredictStageMetrics metrics = new PredictStageMetrics();
+        metrics.recordStage(PredictStageMetrics.Stage.INFERENCE, 1_000_000L);
+        metrics.reset();
+        Assert.assertNull(metrics.toMap());
+        Assert.assertEquals(0L, metrics.getStageLatency(PredictStageMetrics.Stage.INFERENCE).getCount());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WindowedLatencyHistogramTest {
+
+    @Test
+    public void record_RotateWindows() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(10);
+        for (int i = 1; i <= 15; i++) {
+            histogram.record(i);
+        }
+        LatencyHistogram snapshot = histogram.snapshot();
+        Assert.assertEquals(15, snapshot.getCount());
+        Assert.assertEquals(1, snapshot.getMin());
+        Assert.assertEquals(15, snapshot.getMax());
+
+        for (int i = 16; i <= 30; i++) {
+            histogram.record(i);
+        }
+        snapshot = histogram.snapshot();
+        Assert.assertEquals(20, snapshot.getCount());
+        Assert.assertEquals(11, snapshot.getMin());
+        Assert.assertEquals(30, snapshot.getMax());
+        Assert.assertEquals(20.5, snapshot.getAverage(), 0.001);
+    }
+
+    @Test
+    public void record_DisabledWindow() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(0);
+        histogram.record(1);
+        Assert.assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    public void setWindowSize() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(10);
+        histogram.record(1);
+        histogram.setWindowSize(10);
+        Assert.assertEquals(1, histogram.snapshot().getCount());
+        histogram.setWindowSize(5);
+        Assert.assertEquals(5, histogram.getWindowSize());
+        Assert.assertEquals(0, histogram.snapshot().getCount());
+        histogram.setWindowSize(0);
+        histogram.record(1);
+        Assert.assertEquals(0, histogram.snapshot().getCount());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLModelArtifactNodeResponse extends BaseNodeResponse {
+    // Whether the node holds the verified artifact of the model.
+    private final boolean available;
+    // Artifact ranges the node is serving at the moment.
+    private final int activeTransfers;
+    private final BytesReference content;
+
+    public MLModelArtifactNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.available = in.readBoolean();
+        this.activeTransfers = in.readVInt();
+        this.content = in.readOptionalBytesReference();
+    }
+
+    public MLModelArtifactNodeResponse(DiscoveryNode node, boolean available, int activeTransfers, BytesReference content) {
+        super(node);
+        this.available = available;
+        this.activeTransfers = activeTransfers;
+        this.content = content;
+    }
+
+    public static MLModelArtifactNodeResponse readResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactNodeResponse(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBoolean(available);
+        out.writeVInt(activeTransfers);
+        out.writeOptionalBytesReference(content);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.constant.CommonValue;
+
+public class MLModelArtifactNodesAction extends ActionType<MLModelArtifactNodesResponse> {
+    // Internal Action which is not used for public facing RestAPIs.
+    public static final String NAME = CommonValue.ACTION_PREFIX + "model_artifact/nodes";
+    public static final MLModelArtifactNodesAction INSTANCE = new MLModelArtifactNodesAction();
+
+    private MLModelArtifactNodesAction() {
+        super(NAME, MLModelArtifactNodesResponse::new);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Request to nodes for the artifact of a model with the given content hash. Nodes tell whether they hold the artifact and
+ * how loaded they are, and return the range of the artifact starting at the offset, if the length isn't 0.
+ */
+@Getter
+public class MLModelArtifactNodesRequest extends BaseNodesRequest<MLModelArtifactNodesRequest> {
+    private final String modelId;
+    private final String modelContentHash;
+    private final long offset;
+    private final int length;
+
+    public MLModelArtifactNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.modelContentHash = in.readString();
+        this.offset = in.readVLong();
+        this.length = in.readVInt();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param nodeIds nodes to send the request to
+     * @param modelId model id
+     * @param modelContentHash SHA-256 hash of the model content
+     * @param offset offset of the artifact range to return
+     * @param length length of the artifact range to return, 0 to only check for the artifact
+     */
+    public MLModelArtifactNodesRequest(String[] nodeIds, String modelId, String modelContentHash, long offset, int length) {
+        super(nodeIds);
+        this.modelId = modelId;
+        this.modelContentHash = modelContentHash;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        out.writeString(modelContentHash);
+        out.writeVLong(offset);
+        out.writeVInt(length);
+    }
+}
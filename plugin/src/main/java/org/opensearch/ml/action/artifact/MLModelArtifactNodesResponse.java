@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLModelArtifactNodesResponse extends BaseNodesResponse<MLModelArtifactNodeResponse> {
+
+    public MLModelArtifactNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLModelArtifactNodeResponse::readResponse), in.readList(FailedNodeException::new));
+    }
+
+    public MLModelArtifactNodesResponse(
+        ClusterName clusterName,
+        List<MLModelArtifactNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLModelArtifactNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLModelArtifactNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLModelArtifactNodeResponse::readResponse);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.model.MLModelArtifactService;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportMessageListener;
+import org.opensearch.transport.TransportService;
+
+public class MLModelArtifactNodesTransportAction extends
+    TransportNodesAction<
+        MLModelArtifactNodesRequest,
+        MLModelArtifactNodesResponse,
+        MLModelArtifactNodeRequest,
+        MLModelArtifactNodeResponse> {
+    private final MLModelArtifactService modelArtifactService;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    private final MLStats mlStats;
+
+    @Inject
+    public MLModelArtifactNodesTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLModelArtifactService modelArtifactService,
+        MLCircuitBreakerService mlCircuitBreakerService,
+        MLStats mlStats
+    ) {
+        super(
+            MLModelArtifactNodesAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelArtifactNodesRequest::new,
+            MLModelArtifactNodeRequest::new,
+            ThreadPool.Names.GENERIC,
+            MLModelArtifactNodeResponse.class
+        );
+        this.modelArtifactService = modelArtifactService;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        this.mlStats = mlStats;
+        // A served range holds its buffer until the response is sent, so the transfer ends only then.
+        transportService.addMessageListener(new TransportMessageListener() {
+            @Override
+            public void onResponseSent(long requestId, String action, TransportResponse response) {
+                if (response instanceof MLModelArtifactNodeResponse && ((MLModelArtifactNodeResponse) response).getContent() != null) {
+                    modelArtifactService.endTransfer();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected MLModelArtifactNodesResponse newResponse(
+        MLModelArtifactNodesRequest request,
+        List<MLModelArtifactNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelArtifactNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelArtifactNodeRequest newNodeRequest(MLModelArtifactNodesRequest request) {
+        return new MLModelArtifactNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelArtifactNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelArtifactNodeResponse nodeOperation(MLModelArtifactNodeRequest request) {
+        MLModelArtifactNodesRequest artifactRequest = request.getModelArtifactNodesRequest();
+        String modelId = artifactRequest.getModelId();
+        String modelContentHash = artifactRequest.getModelContentHash();
+        if (!modelArtifactService.hasArtifact(modelId, modelContentHash)) {
+            return new MLModelArtifactNodeResponse(clusterService.localNode(), false, modelArtifactService.getActiveTransfers(), null);
+        }
+        if (artifactRequest.getLength() <= 0) {
+            return new MLModelArtifactNodeResponse(clusterService.localNode(), true, modelArtifactService.getActiveTransfers(), null);
+        }
+        checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+        // Rejected ranges are fetched by the deploying node from the model index instead.
+        if (!modelArtifactService.tryStartTransfer()) {
+            throw new OpenSearchRejectedExecutionException("Too many artifact ranges are being served, retry later");
+        }
+        BytesReference content;
+        try {
+            content = modelArtifactService
+                .readArtifact(modelId, modelContentHash, artifactRequest.getOffset(), artifactRequest.getLength());
+        } catch (IOException e) {
+            modelArtifactService.endTransfer();
+            throw new MLException("Failed to read artifact of model " + modelId, e);
+        } catch (RuntimeException e) {
+            modelArtifactService.endTransfer();
+            throw e;
+        }
+        return new MLModelArtifactNodeResponse(clusterService.localNode(), true, modelArtifactService.getActiveTransfers(), content);
+    }
+}
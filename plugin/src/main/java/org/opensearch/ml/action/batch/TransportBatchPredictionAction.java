@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionResponse;
+import org.opensearch.ml.task.MLBatchPredictionJobRunner;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class TransportBatchPredictionAction extends HandledTransportAction<ActionRequest, MLBatchPredictionResponse> {
+    private final MLBatchPredictionJobRunner mlBatchPredictionJobRunner;
+
+    @Inject
+    public TransportBatchPredictionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLBatchPredictionJobRunner mlBatchPredictionJobRunner
+    ) {
+        super(MLBatchPredictionAction.NAME, transportService, actionFilters, MLBatchPredictionRequest::new);
+        this.mlBatchPredictionJobRunner = mlBatchPredictionJobRunner;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBatchPredictionResponse> listener) {
+        MLBatchPredictionRequest batchPredictionRequest = MLBatchPredictionRequest.fromActionRequest(request);
+        try {
+            if (batchPredictionRequest.getTaskId() != null) {
+                mlBatchPredictionJobRunner.resume(batchPredictionRequest.getTaskId(), listener);
+            } else {
+                mlBatchPredictionJobRunner.start(batchPredictionRequest.getMlBatchPredictionInput(), listener);
+            }
+        } catch (Exception e) {
+            log.error("Failed to run batch prediction", e);
+            listener.onFailure(e);
+        }
+    }
+}
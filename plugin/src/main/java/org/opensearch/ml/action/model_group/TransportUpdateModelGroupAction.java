@@ -48,6 +48,7 @@ import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -192,7 +193,10 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
             client
                 .update(
                     updateModelGroupRequest,
-                    ActionListener.wrap(r -> { wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated")); }, e -> {
+                    ActionListener.wrap(r -> {
+                        modelAccessControlHelper.broadcastModelGroupUpdate(ImmutableSet.of(modelGroupId), client);
+                        wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated"));
+                    }, e -> {
                         if (e instanceof IndexNotFoundException) {
                             wrappedListener.onFailure(new MLResourceNotFoundException("Fail to find model group"));
                         } else {
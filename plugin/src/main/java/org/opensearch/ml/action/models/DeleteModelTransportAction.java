@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.models;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
@@ -24,6 +25,7 @@ import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
@@ -38,18 +40,22 @@ import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLPredictModelCache;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
 
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -71,6 +77,9 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
 
     ModelAccessControlHelper modelAccessControlHelper;
 
+    MLPredictModelCache mlPredictModelCache;
+    MLStats mlStats;
+
     @Inject
     public DeleteModelTransportAction(
         TransportService transportService,
@@ -79,13 +88,17 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         Settings settings,
         NamedXContentRegistry xContentRegistry,
         ClusterService clusterService,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLPredictModelCache mlPredictModelCache,
+        MLStats mlStats
     ) {
         super(MLModelDeleteAction.NAME, transportService, actionFilters, MLModelDeleteRequest::new);
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlPredictModelCache = mlPredictModelCache;
+        this.mlStats = mlStats;
     }
 
     @Override
@@ -123,7 +136,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                     );
                             } else {
                                 if (isModelNotDeployed(mlModelState)) {
-                                    deleteModel(modelId, actionListener);
+                                    deleteModel(modelId, mlModel.getAlgorithm(), actionListener);
                                 } else {
                                     wrappedListener
                                         .onFailure(
@@ -145,7 +158,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                                 )
                                             );
                                     } else if (isModelNotDeployed(mlModelState)) {
-                                        deleteModel(modelId, actionListener);
+                                        deleteModel(modelId, mlModel.getAlgorithm(), actionListener);
                                     } else {
                                         wrappedListener
                                             .onFailure(
@@ -175,7 +188,9 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
 
     @VisibleForTesting
     void deleteModelChunks(String modelId, DeleteResponse deleteResponse, ActionListener<DeleteResponse> actionListener) {
-        DeleteByQueryRequest deleteModelsRequest = new DeleteByQueryRequest(ML_MODEL_INDEX);
+        // Chunks of models registered before the model chunk index existed are in the model index.
+        DeleteByQueryRequest deleteModelsRequest = new DeleteByQueryRequest(ML_MODEL_INDEX, ML_MODEL_CHUNK_INDEX);
+        deleteModelsRequest.setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN);
         deleteModelsRequest.setQuery(new TermsQueryBuilder(MODEL_ID_FIELD, modelId));
 
         client.execute(DeleteByQueryAction.INSTANCE, deleteModelsRequest, ActionListener.wrap(r -> {
@@ -211,11 +226,15 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         actionListener.onFailure(new OpenSearchStatusException(errorMessage, RestStatus.INTERNAL_SERVER_ERROR));
     }
 
-    private void deleteModel(String modelId, ActionListener<DeleteResponse> actionListener) {
+    private void deleteModel(String modelId, FunctionName algorithm, ActionListener<DeleteResponse> actionListener) {
         DeleteRequest deleteRequest = new DeleteRequest(ML_MODEL_INDEX, modelId);
         client.delete(deleteRequest, new ActionListener<DeleteResponse>() {
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
+                if (mlPredictModelCache.isCacheable(algorithm)) {
+                    mlPredictModelCache.broadcastModelUpdate(ImmutableSet.of(modelId), client);
+                }
+                mlStats.removeModelStats(modelId);
                 deleteModelChunks(modelId, deleteResponse, actionListener);
                 deleteModelController(modelId);
             }
@@ -15,10 +15,12 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
@@ -199,10 +201,13 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         MLUpdateModelInput updateModelInput,
         MLModel mlModel,
         User user,
-        ActionListener<UpdateResponse> wrappedListener
+        ActionListener<UpdateResponse> listener
     ) {
         String newModelGroupId = (Strings.hasLength(updateModelInput.getModelGroupId())
             && !Objects.equals(updateModelInput.getModelGroupId(), mlModel.getModelGroupId())) ? updateModelInput.getModelGroupId() : null;
+        ActionListener<UpdateResponse> wrappedListener = newModelGroupId == null
+            ? listener
+            : getModelGroupMoveListener(mlModel.getModelGroupId(), newModelGroupId, listener);
         String newConnectorId = Strings.hasLength(updateModelInput.getConnectorId()) ? updateModelInput.getConnectorId() : null;
         boolean isModelDeployed = isModelDeployed(mlModel.getModelState());
         // This flag is used to decide if we need to re-deploy the predictor(model) when updating the model cache.
@@ -272,6 +277,23 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         }
     }
 
+    private ActionListener<UpdateResponse> getModelGroupMoveListener(
+        String oldModelGroupId,
+        String newModelGroupId,
+        ActionListener<UpdateResponse> listener
+    ) {
+        // Once the model moved, drop cached model info and access decisions of both model groups on all nodes.
+        Set<String> movedModelGroupIds = new HashSet<>();
+        movedModelGroupIds.add(newModelGroupId);
+        if (oldModelGroupId != null) {
+            movedModelGroupIds.add(oldModelGroupId);
+        }
+        return ActionListener.wrap(r -> {
+            modelAccessControlHelper.broadcastModelGroupUpdate(movedModelGroupIds, client);
+            listener.onResponse(r);
+        }, listener::onFailure);
+    }
+
     private void updateModelWithNewStandAloneConnector(
         String modelId,
         String newModelGroupId,
@@ -0,0 +1,362 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionItemResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.ml.task.MLTaskDispatcher;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs the items of a bulk predict request. On the coordinating node the model of each item is resolved and checked
+ * once per model, then the items are grouped by the worker node picked for their model and one request is sent to each
+ * worker node. On the worker node the models are checked again, like forwarded predict requests, then each item runs as
+ * a local predict request, and a failed item doesn't fail the others.
+ */
+@Log4j2
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class TransportBulkPredictionAction extends HandledTransportAction<ActionRequest, MLBulkPredictionResponse> {
+    MLPredictTaskRunner mlPredictTaskRunner;
+    TransportService transportService;
+    MLModelCacheHelper modelCacheHelper;
+    Client client;
+    ClusterService clusterService;
+    MLModelManager mlModelManager;
+    ModelAccessControlHelper modelAccessControlHelper;
+    MLTaskDispatcher mlTaskDispatcher;
+
+    @Inject
+    public TransportBulkPredictionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLModelCacheHelper modelCacheHelper,
+        MLPredictTaskRunner mlPredictTaskRunner,
+        ClusterService clusterService,
+        Client client,
+        MLModelManager mlModelManager,
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLTaskDispatcher mlTaskDispatcher
+    ) {
+        super(MLBulkPredictionAction.NAME, transportService, actionFilters, MLBulkPredictionRequest::new);
+        this.mlPredictTaskRunner = mlPredictTaskRunner;
+        this.transportService = transportService;
+        this.modelCacheHelper = modelCacheHelper;
+        this.clusterService = clusterService;
+        this.client = client;
+        this.mlModelManager = mlModelManager;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlTaskDispatcher = mlTaskDispatcher;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBulkPredictionResponse> listener) {
+        MLBulkPredictionRequest bulkRequest = MLBulkPredictionRequest.fromActionRequest(request);
+        List<MLPredictionTaskRequest> items = bulkRequest.getRequests();
+        User user = bulkRequest.getUser();
+        if (user == null) {
+            user = RestActionUtils.getUserContext(client);
+            bulkRequest.setUser(user);
+        }
+        Map<String, List<Integer>> itemsByModel = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            MLPredictionTaskRequest item = items.get(i);
+            item.setUser(user);
+            itemsByModel.computeIfAbsent(item.getModelId(), it -> new ArrayList<>()).add(i);
+        }
+
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<MLBulkPredictionResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            BulkPrediction bulkPrediction = new BulkPrediction(bulkRequest, itemsByModel.size(), wrappedListener);
+            for (Map.Entry<String, List<Integer>> entry : itemsByModel.entrySet()) {
+                resolveModel(bulkPrediction, entry.getKey(), entry.getValue(), user, context);
+            }
+        }
+    }
+
+    /**
+     * Check the model of a group of items once and pick the worker node of these items. Failures of the model fail
+     * only the items of this model.
+     */
+    private void resolveModel(
+        BulkPrediction bulkPrediction,
+        String modelId,
+        List<Integer> indexes,
+        User user,
+        ThreadContext.StoredContext context
+    ) {
+        ActionListener<MLModel> modelListener = ActionListener.wrap(mlModel -> {
+            context.restore();
+            modelCacheHelper.setModelInfo(modelId, mlModel);
+            modelAccessControlHelper
+                .validateModelGroupAccessWithCache(user, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                    if (!access) {
+                        bulkPrediction
+                            .failModel(
+                                modelId,
+                                indexes,
+                                new MLValidationException("User Doesn't have privilege to perform this operation on this model")
+                            );
+                    } else if (modelCacheHelper.getIsModelEnabled(modelId) != null && !modelCacheHelper.getIsModelEnabled(modelId)) {
+                        bulkPrediction
+                            .failModel(modelId, indexes, new OpenSearchStatusException("Quota is depleted.", RestStatus.TOO_MANY_REQUESTS));
+                    } else {
+                        dispatchModel(bulkPrediction, modelId, mlModel.getAlgorithm(), indexes, user);
+                    }
+                }, e -> {
+                    log.error("Failed to Validate Access for ModelId " + modelId, e);
+                    bulkPrediction.failModel(modelId, indexes, e);
+                }));
+        }, e -> {
+            log.error("Failed to find model " + modelId, e);
+            bulkPrediction.failModel(modelId, indexes, e);
+        });
+
+        MLModel cachedMlModel = modelCacheHelper.getModelInfo(modelId);
+        if (cachedMlModel != null) {
+            modelListener.onResponse(cachedMlModel);
+        } else {
+            mlModelManager.getModel(modelId, modelListener);
+        }
+    }
+
+    /**
+     * Pick the worker node of the items of a model which pass the rate limits. Items sent by a coordinating node run on
+     * this node.
+     */
+    private void dispatchModel(BulkPrediction bulkPrediction, String modelId, FunctionName algorithm, List<Integer> indexes, User user) {
+        List<Integer> allowedIndexes = new ArrayList<>();
+        for (int index : indexes) {
+            MLPredictionTaskRequest item = bulkPrediction.items.get(index);
+            item.getMlInput().setAlgorithm(algorithm);
+            Exception throttled = FunctionName.isDLModel(algorithm) ? checkRateLimit(modelId, user) : null;
+            if (throttled != null) {
+                bulkPrediction.setResult(index, MLBulkPredictionItemResponse.failure(modelId, throttled));
+            } else {
+                allowedIndexes.add(index);
+            }
+        }
+        if (allowedIndexes.isEmpty()) {
+            bulkPrediction.onModelResolved(null, modelId, allowedIndexes);
+            return;
+        }
+        if (!bulkPrediction.request.isDispatchTask()) {
+            bulkPrediction.onModelResolved(clusterService.localNode(), modelId, allowedIndexes);
+            return;
+        }
+        FunctionName functionName = modelCacheHelper.getOptionalFunctionName(modelId).orElse(algorithm);
+        try {
+            mlPredictTaskRunner
+                .selectWorkerNode(
+                    functionName,
+                    modelId,
+                    ActionListener
+                        .wrap(
+                            node -> bulkPrediction.onModelResolved(node, modelId, allowedIndexes),
+                            e -> bulkPrediction.failModel(modelId, allowedIndexes, e)
+                        )
+                );
+        } catch (Exception e) {
+            log.error("Failed to dispatch bulk predict items of model " + modelId, e);
+            bulkPrediction.failModel(modelId, allowedIndexes, e);
+        }
+    }
+
+    private Exception checkRateLimit(String modelId, User user) {
+        if (modelCacheHelper.getModelRateLimiter(modelId) != null && !modelCacheHelper.getModelRateLimiter(modelId).request()) {
+            return new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS);
+        }
+        if (user != null
+            && modelCacheHelper.getUserRateLimiter(modelId, user.getName()) != null
+            && !modelCacheHelper.getUserRateLimiter(modelId, user.getName()).request()) {
+            return new OpenSearchStatusException(
+                "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
+                RestStatus.TOO_MANY_REQUESTS
+            );
+        }
+        return null;
+    }
+
+    /**
+     * Run items as local predict requests on this node. Each item reports its own result, so the response is sent
+     * once every item has finished.
+     */
+    private void runItems(List<MLPredictionTaskRequest> items, ActionListener<MLBulkPredictionResponse> listener) {
+        MLBulkPredictionItemResponse[] results = new MLBulkPredictionItemResponse[items.size()];
+        AtomicInteger pending = new AtomicInteger(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            int index = i;
+            MLPredictionTaskRequest item = items.get(i);
+            String modelId = item.getModelId();
+            ActionListener<MLBulkPredictionItemResponse> itemListener = ActionListener.wrap(result -> {
+                results[index] = result;
+                if (pending.decrementAndGet() == 0) {
+                    listener.onResponse(new MLBulkPredictionResponse(Arrays.asList(results)));
+                }
+            }, listener::onFailure);
+            try {
+                item.setDispatchTask(false);
+                FunctionName functionName = modelCacheHelper
+                    .getOptionalFunctionName(modelId)
+                    .orElse(item.getMlInput().getAlgorithm());
+                mlPredictTaskRunner.run(functionName, item, transportService, ActionListener.wrap(response -> {
+                    itemListener.onResponse(MLBulkPredictionItemResponse.success(modelId, response.getOutput()));
+                }, e -> itemListener.onResponse(MLBulkPredictionItemResponse.failure(modelId, e))));
+            } catch (Exception e) {
+                log.debug("Failed to run bulk predict item of model " + modelId, e);
+                itemListener.onResponse(MLBulkPredictionItemResponse.failure(modelId, e));
+            }
+        }
+    }
+
+    /**
+     * State of a bulk predict request on the coordinating node: the results collected so far and the items waiting for
+     * their worker node. Once all models are resolved, one request is sent to each worker node.
+     */
+    private class BulkPrediction {
+        private final MLBulkPredictionRequest request;
+        private final List<MLPredictionTaskRequest> items;
+        private final MLBulkPredictionItemResponse[] results;
+        private final Map<String, DiscoveryNode> nodes = new HashMap<>();
+        private final Map<String, List<Integer>> itemsByNode = new LinkedHashMap<>();
+        private final AtomicInteger pendingModels;
+        private final AtomicInteger pendingNodes = new AtomicInteger();
+        private final ActionListener<MLBulkPredictionResponse> listener;
+
+        private BulkPrediction(MLBulkPredictionRequest request, int models, ActionListener<MLBulkPredictionResponse> listener) {
+            this.request = request;
+            this.items = request.getRequests();
+            this.results = new MLBulkPredictionItemResponse[items.size()];
+            this.pendingModels = new AtomicInteger(models);
+            this.listener = listener;
+        }
+
+        private synchronized void setResult(int index, MLBulkPredictionItemResponse result) {
+            results[index] = result;
+        }
+
+        private void failModel(String modelId, List<Integer> indexes, Exception e) {
+            for (int index : indexes) {
+                setResult(index, MLBulkPredictionItemResponse.failure(modelId, e));
+            }
+            onModelResolved(null, modelId, List.of());
+        }
+
+        private void onModelResolved(DiscoveryNode node, String modelId, List<Integer> indexes) {
+            if (node != null && !indexes.isEmpty()) {
+                synchronized (this) {
+                    nodes.put(node.getId(), node);
+                    itemsByNode.computeIfAbsent(node.getId(), it -> new ArrayList<>()).addAll(indexes);
+                }
+            }
+            if (pendingModels.decrementAndGet() == 0) {
+                sendToNodes();
+            }
+        }
+
+        private void sendToNodes() {
+            if (itemsByNode.isEmpty()) {
+                respond();
+                return;
+            }
+            pendingNodes.set(itemsByNode.size());
+            for (Map.Entry<String, List<Integer>> entry : itemsByNode.entrySet()) {
+                sendToNode(nodes.get(entry.getKey()), entry.getValue());
+            }
+        }
+
+        private void sendToNode(DiscoveryNode node, List<Integer> indexes) {
+            List<MLPredictionTaskRequest> nodeItems = new ArrayList<>(indexes.size());
+            List<ActionListener<MLBulkPredictionItemResponse>> itemListeners = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                MLPredictionTaskRequest item = items.get(index);
+                item.setDispatchTask(false);
+                nodeItems.add(item);
+                ActionListener<MLBulkPredictionItemResponse> itemListener = ActionListener
+                    .wrap(
+                        result -> setResult(index, result),
+                        e -> setResult(index, MLBulkPredictionItemResponse.failure(item.getModelId(), e))
+                    );
+                // Only the coordinating node routes items, so only it tracks them.
+                if (request.isDispatchTask()) {
+                    itemListener = mlTaskDispatcher.trackPredictTask(item.getModelId(), node.getId(), itemListener);
+                }
+                itemListeners.add(itemListener);
+            }
+            ActionListener<MLBulkPredictionResponse> nodeListener = ActionListener.wrap(response -> {
+                List<MLBulkPredictionItemResponse> nodeResults = response.getItems();
+                for (int i = 0; i < itemListeners.size(); i++) {
+                    itemListeners.get(i).onResponse(nodeResults.get(i));
+                }
+                onNodeDone();
+            }, e -> {
+                log.error("Failed to run bulk predict items on node " + node.getId(), e);
+                itemListeners.forEach(itemListener -> itemListener.onFailure(e));
+                onNodeDone();
+            });
+            MLBulkPredictionRequest nodeRequest = new MLBulkPredictionRequest(nodeItems, false, request.getUser());
+            if (clusterService.localNode().getId().equals(node.getId())) {
+                log.debug("Execute {} bulk predict items locally on node {}", nodeItems.size(), node.getId());
+                runItems(nodeItems, nodeListener);
+            } else {
+                log.debug("Execute {} bulk predict items remotely on node {}", nodeItems.size(), node.getId());
+                transportService
+                    .sendRequest(
+                        node,
+                        MLBulkPredictionAction.NAME,
+                        nodeRequest,
+                        new ActionListenerResponseHandler<>(nodeListener, MLBulkPredictionResponse::new)
+                    );
+            }
+        }
+
+        private void onNodeDone() {
+            if (pendingNodes.decrementAndGet() == 0) {
+                respond();
+            }
+        }
+
+        private synchronized void respond() {
+            listener.onResponse(new MLBulkPredictionResponse(Arrays.asList(results)));
+        }
+    }
+}
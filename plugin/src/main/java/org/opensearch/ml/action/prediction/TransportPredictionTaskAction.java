@@ -5,6 +5,9 @@
 
 package org.opensearch.ml.action.prediction;
 
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.ACCESS_CHECK;
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.RATE_LIMIT_CHECK;
+
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.ActionFilters;
@@ -21,6 +24,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTask;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
@@ -80,6 +84,15 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
     protected void doExecute(Task task, ActionRequest request, ActionListener<MLTaskResponse> listener) {
         MLPredictionTaskRequest mlPredictionTaskRequest = MLPredictionTaskRequest.fromActionRequest(request);
         String modelId = mlPredictionTaskRequest.getModelId();
+        if (task instanceof MLPredictionTask) {
+            mlPredictionTaskRequest.setPredictionTask((MLPredictionTask) task);
+        }
+        try {
+            mlPredictionTaskRequest.ensureActive();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
 
         User user = mlPredictionTaskRequest.getUser();
         if (user == null) {
@@ -98,8 +111,10 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                     modelCacheHelper.setModelInfo(modelId, mlModel);
                     FunctionName functionName = mlModel.getAlgorithm();
                     mlPredictionTaskRequest.getMlInput().setAlgorithm(functionName);
+                    long accessCheckStart = System.nanoTime();
                     modelAccessControlHelper
-                        .validateModelGroupAccess(userInfo, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                        .validateModelGroupAccessWithCache(userInfo, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                            modelCacheHelper.recordPredictStage(modelId, ACCESS_CHECK, System.nanoTime() - accessCheckStart);
                             if (!access) {
                                 wrappedListener
                                     .onFailure(
@@ -111,6 +126,7 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                                         .onFailure(new OpenSearchStatusException("Quota is depleted.", RestStatus.TOO_MANY_REQUESTS));
                                 } else {
                                     if (FunctionName.isDLModel(functionName)) {
+                                        long rateLimitCheckStart = System.nanoTime();
                                         if (modelCacheHelper.getModelRateLimiter(modelId) != null
                                             && !modelCacheHelper.getModelRateLimiter(modelId).request()) {
                                             wrappedListener
@@ -131,6 +147,8 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                                                     )
                                                 );
                                         } else {
+                                            modelCacheHelper
+                                                .recordPredictStage(modelId, RATE_LIMIT_CHECK, System.nanoTime() - rateLimitCheckStart);
                                             executePredict(mlPredictionTaskRequest, wrappedListener, modelId);
                                         }
                                     } else {
@@ -23,6 +23,7 @@ import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLProfileInput;
+import org.opensearch.ml.task.MLPredictQueue;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.threadpool.ThreadPool;
@@ -36,6 +37,7 @@ public class MLProfileTransportAction extends
     private MLTaskManager mlTaskManager;
     private final JvmService jvmService;
     private final MLModelManager mlModelManager;
+    private final MLPredictQueue mlPredictQueue;
 
     /**
      * Constructor
@@ -46,6 +48,7 @@ public class MLProfileTransportAction extends
      * @param mlTaskManager mlTaskCache object
      * @param environment OpenSearch Environment
      * @param mlModelManager ML model manager
+     * @param mlPredictQueue ML predict queue
      */
     @Inject
     public MLProfileTransportAction(
@@ -55,7 +58,8 @@ public class MLProfileTransportAction extends
         ActionFilters actionFilters,
         MLTaskManager mlTaskManager,
         Environment environment,
-        MLModelManager mlModelManager
+        MLModelManager mlModelManager,
+        MLPredictQueue mlPredictQueue
     ) {
         super(
             MLProfileAction.NAME,
@@ -71,6 +75,7 @@ public class MLProfileTransportAction extends
         this.mlTaskManager = mlTaskManager;
         this.jvmService = new JvmService(environment.settings());
         this.mlModelManager = mlModelManager;
+        this.mlPredictQueue = mlPredictQueue;
     }
 
     @Override
@@ -119,6 +124,10 @@ public class MLProfileTransportAction extends
                 log.debug("Runtime model profile is found for model {}", modelId);
                 MLModelProfile modelProfile = mlModelManager.getModelProfile(modelId);
                 if (modelProfile != null) {
+                    Map<String, Object> predictQueueStats = mlPredictQueue.getStats(modelId);
+                    if (predictQueueStats != null) {
+                        modelProfile = modelProfile.toBuilder().predictQueueStats(predictQueueStats).build();
+                    }
                     mlLocalModels.put(modelId, modelProfile);
                 }
             }
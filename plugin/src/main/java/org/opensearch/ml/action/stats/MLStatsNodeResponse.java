@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.action.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
+
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
@@ -38,6 +40,12 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
      * Example: {model_id: { predict: { request_count: 1} }}
      */
     private Map<String, MLModelStats> modelStats;
+    /**
+     * Remote connector stats.
+     *
+     * Example: {connector_id: { predict: { request_count: 1, latency_ms: { remote_call: { p50: 120.5 } } } }}
+     */
+    private Map<String, Object> connectorStats;
 
     /**
      * Constructor
@@ -56,6 +64,9 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         if (in.readBoolean()) {
             this.modelStats = in.readMap(stream -> stream.readOptionalString(), MLModelStats::new);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.connectorStats = in.readMap();
+        }
     }
 
     public MLStatsNodeResponse(DiscoveryNode node, Map<MLNodeLevelStat, Object> nodeStats) {
@@ -75,8 +86,19 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         this.modelStats = modelStats;
     }
 
+    public MLStatsNodeResponse(
+        DiscoveryNode node,
+        Map<MLNodeLevelStat, Object> nodeStats,
+        Map<FunctionName, MLAlgoStats> algorithmStats,
+        Map<String, MLModelStats> modelStats,
+        Map<String, Object> connectorStats
+    ) {
+        this(node, nodeStats, algorithmStats, modelStats);
+        this.connectorStats = connectorStats;
+    }
+
     public boolean isEmpty() {
-        return getNodeLevelStatSize() == 0 && getAlgorithmStatSize() == 0 && getModelStatSize() == 0;
+        return getNodeLevelStatSize() == 0 && getAlgorithmStatSize() == 0 && getModelStatSize() == 0 && getConnectorStatSize() == 0;
     }
 
     /**
@@ -111,6 +133,14 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            if (connectorStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(connectorStats);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
@@ -137,6 +167,9 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
             }
             builder.endObject();
         }
+        if (connectorStats != null && connectorStats.size() > 0) {
+            builder.field(MLStatsInput.CONNECTORS, connectorStats);
+        }
         return builder;
     }
 
@@ -156,6 +189,14 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         return modelStats == null ? 0 : modelStats.size();
     }
 
+    public int getConnectorStatSize() {
+        return connectorStats == null ? 0 : connectorStats.size();
+    }
+
+    public Object getConnectorStats(String connectorId) {
+        return connectorStats == null ? null : connectorStats.get(connectorId);
+    }
+
     public boolean hasAlgorithmStats(FunctionName algorithm) {
         return algorithmStats != null && algorithmStats.containsKey(algorithm);
     }
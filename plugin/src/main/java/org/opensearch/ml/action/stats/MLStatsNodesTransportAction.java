@@ -142,6 +142,12 @@ public class MLStatsNodesTransportAction extends
             }
         }
 
-        return new MLStatsNodeResponse(clusterService.localNode(), statValues, algorithmStats, modelStats);
+        Map<String, Object> connectorStats = new HashMap<>();
+        // return remote connector stats
+        if (mlStatsInput.includeConnectorStats()) {
+            connectorStats.putAll(mlStats.getConnectorStats(mlStatsInput.getConnectors()));
+        }
+
+        return new MLStatsNodeResponse(clusterService.localNode(), statValues, algorithmStats, modelStats, connectorStats);
     }
 }
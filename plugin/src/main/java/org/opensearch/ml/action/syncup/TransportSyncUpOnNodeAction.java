@@ -38,9 +38,12 @@ import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
 import org.opensearch.ml.task.MLTaskCache;
+import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -66,6 +69,9 @@ public class TransportSyncUpOnNodeAction extends
     private volatile Integer mlTaskTimeout;
 
     private final MLModelCacheHelper mlModelCacheHelper;
+    private final ModelAccessControlHelper modelAccessControlHelper;
+    private final MLPredictModelCache mlPredictModelCache;
+    private final MLTaskDispatcher mlTaskDispatcher;
 
     @Inject
     public TransportSyncUpOnNodeAction(
@@ -80,7 +86,10 @@ public class TransportSyncUpOnNodeAction extends
         Client client,
         NamedXContentRegistry xContentRegistry,
         MLEngine mlEngine,
-        MLModelCacheHelper mlModelCacheHelper
+        MLModelCacheHelper mlModelCacheHelper,
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLPredictModelCache mlPredictModelCache,
+        MLTaskDispatcher mlTaskDispatcher
     ) {
         super(
             MLSyncUpAction.NAME,
@@ -103,6 +112,9 @@ public class TransportSyncUpOnNodeAction extends
         this.xContentRegistry = xContentRegistry;
         this.mlEngine = mlEngine;
         this.mlModelCacheHelper = mlModelCacheHelper;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlPredictModelCache = mlPredictModelCache;
+        this.mlTaskDispatcher = mlTaskDispatcher;
 
         this.mlTaskTimeout = ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS, it -> { mlTaskTimeout = it; });
@@ -156,9 +168,26 @@ public class TransportSyncUpOnNodeAction extends
                         Optional.ofNullable(deployToAllNodes).orElse(ImmutableMap.of()).containsKey(entry.getKey()),
                         entry.getValue()
                     );
+                String[] workerNodes = mlModelCacheHelper.getWorkerNodes(entry.getKey());
+                if (workerNodes == null || workerNodes.length == 0) {
+                    mlTaskDispatcher.removePredictRoutes(entry.getKey());
+                }
             }
         }
 
+        Set<String> updatedModelGroupIds = syncUpInput.getUpdatedModelGroupIds();
+        if (updatedModelGroupIds != null && updatedModelGroupIds.size() > 0) {
+            modelAccessControlHelper.invalidateModelGroupAccessCache(updatedModelGroupIds);
+            mlModelCacheHelper.removeModelInfo(updatedModelGroupIds);
+        }
+        Set<String> updatedModelIds = syncUpInput.getUpdatedModelIds();
+        if (updatedModelIds != null && updatedModelIds.size() > 0) {
+            mlPredictModelCache.invalidate(updatedModelIds);
+        }
+        if (syncUpInput.isCacheInvalidationOnly()) {
+            return new MLSyncUpNodeResponse(clusterService.localNode(), "ok", null, null, null);
+        }
+
         String[] deployedModelIds = null;
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
@@ -171,11 +200,13 @@ public class TransportSyncUpOnNodeAction extends
 
         if (syncUpInput.isClearRoutingTable()) {
             mlModelManager.clearRoutingTable();
+            mlTaskDispatcher.retainPredictRoutes(Set.of());
         } else if (modelRoutingTable != null) {
             for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
                 log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
             mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+            mlTaskDispatcher.retainPredictRoutes(modelRoutingTable.keySet());
         }
 
         cleanUpLocalCache(runningDeployModelTasks);
@@ -225,7 +256,9 @@ public class TransportSyncUpOnNodeAction extends
         Path registerModelRootPath = mlEngine.getRegisterModelRootPath();
         Path deployModelRootPath = mlEngine.getDeployModelRootPath();
         Path modelCacheRootPath = mlEngine.getModelCacheRootPath();
-        Set<String> modelsInCacheFolder = FileUtils.getFileNames(registerModelRootPath, deployModelRootPath, modelCacheRootPath);
+        Path modelArtifactRootPath = mlEngine.getModelArtifactRootPath();
+        Set<String> modelsInCacheFolder = FileUtils
+            .getFileNames(registerModelRootPath, deployModelRootPath, modelCacheRootPath, modelArtifactRootPath);
         if (modelsInCacheFolder.size() > 0) {
             log
                 .debug(
@@ -248,5 +281,6 @@ public class TransportSyncUpOnNodeAction extends
         deleteFileQuietly(mlEngine.getModelCachePath(modelId));
         deleteFileQuietly(mlEngine.getDeployModelPath(modelId));
         deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+        deleteFileQuietly(mlEngine.getModelArtifactPath(modelId));
     }
 }
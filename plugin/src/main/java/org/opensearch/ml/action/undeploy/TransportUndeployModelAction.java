@@ -45,6 +45,7 @@ import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.task.MLPredictQueue;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -63,6 +64,7 @@ public class TransportUndeployModelAction extends
     private NamedXContentRegistry xContentRegistry;
 
     private ModelAccessControlHelper modelAccessControlHelper;
+    private final MLPredictQueue mlPredictQueue;
 
     @Inject
     public TransportUndeployModelAction(
@@ -75,7 +77,8 @@ public class TransportUndeployModelAction extends
         DiscoveryNodeHelper nodeFilter,
         MLStats mlStats,
         NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLPredictQueue mlPredictQueue
     ) {
         super(
             MLUndeployModelAction.NAME,
@@ -95,6 +98,7 @@ public class TransportUndeployModelAction extends
         this.mlStats = mlStats;
         this.xContentRegistry = xContentRegistry;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlPredictQueue = mlPredictQueue;
     }
 
     @Override
@@ -245,6 +249,11 @@ public class TransportUndeployModelAction extends
         }
 
         Map<String, String> modelUndeployStatus = mlModelManager.undeployModel(modelIds);
+        modelUndeployStatus.forEach((modelId, status) -> {
+            if (UNDEPLOYED.equals(status)) {
+                mlPredictQueue.removeModel(modelId);
+            }
+        });
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement();
         return new MLUndeployModelNodeResponse(clusterService.localNode(), modelUndeployStatus, modelWorkerNodesMap);
     }
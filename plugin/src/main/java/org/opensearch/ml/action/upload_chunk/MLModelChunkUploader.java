@@ -10,7 +10,6 @@ import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
 import org.opensearch.action.get.GetRequest;
@@ -36,6 +35,7 @@ import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkRespons
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelChunkStore;
 import org.opensearch.ml.utils.RestActionUtils;
 
 import lombok.extern.log4j.Log4j2;
@@ -47,18 +47,21 @@ public class MLModelChunkUploader {
     private final Client client;
     private final NamedXContentRegistry xContentRegistry;
     ModelAccessControlHelper modelAccessControlHelper;
+    private final MLModelChunkStore modelChunkStore;
 
     @Inject
     public MLModelChunkUploader(
         MLIndicesHandler mlIndicesHandler,
         Client client,
         final NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLModelChunkStore modelChunkStore
     ) {
         this.mlIndicesHandler = mlIndicesHandler;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.modelChunkStore = modelChunkStore;
     }
 
     public void uploadModelChunk(MLUploadModelChunkInput uploadModelChunkInput, ActionListener<MLUploadModelChunkResponse> listener) {
@@ -102,32 +105,9 @@ public class MLModelChunkUploader {
                                     if (validateChunkSize(bytes.length)) {
                                         throw new Exception("Chunk size exceeds 10MB");
                                     }
-                                    mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
-                                        int chunkNum = uploadModelChunkInput.getChunkNumber();
-                                        MLModel mlModel = MLModel
-                                            .builder()
-                                            .algorithm(existingModel.getAlgorithm())
-                                            .modelGroupId(existingModel.getModelGroupId())
-                                            .version(existingModel.getVersion())
-                                            .modelId(existingModel.getModelId())
-                                            .modelFormat(existingModel.getModelFormat())
-                                            .totalChunks(existingModel.getTotalChunks())
-                                            .algorithm(existingModel.getAlgorithm())
-                                            .chunkNumber(chunkNum)
-                                            .content(Base64.getEncoder().encodeToString(bytes))
-                                            .build();
-                                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                                        indexRequest.id(uploadModelChunkInput.getModelId() + "_" + uploadModelChunkInput.getChunkNumber());
-                                        indexRequest
-                                            .source(
-                                                mlModel
-                                                    .toXContent(
-                                                        XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                        ToXContent.EMPTY_PARAMS
-                                                    )
-                                            );
-                                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                                        client.index(indexRequest, ActionListener.wrap(response -> {
+                                    int chunkNum = uploadModelChunkInput.getChunkNumber();
+                                    modelChunkStore
+                                        .putChunk(modelId, existingModel.getAlgorithm(), chunkNum, bytes, ActionListener.wrap(response -> {
                                             log
                                                 .info(
                                                     "Index model successful for {} for chunk number {}",
@@ -135,39 +115,11 @@ public class MLModelChunkUploader {
                                                     chunkNum + 1
                                                 );
                                             if (existingModel.getTotalChunks() == (uploadModelChunkInput.getChunkNumber() + 1)) {
-                                                Semaphore semaphore = new Semaphore(1);
-                                                semaphore.acquire();
-                                                MLModel mlModelMeta = MLModel
-                                                    .builder()
-                                                    .name(existingModel.getName())
-                                                    .algorithm(existingModel.getAlgorithm())
-                                                    .version(existingModel.getVersion())
-                                                    .modelGroupId((existingModel.getModelGroupId()))
-                                                    .modelFormat(existingModel.getModelFormat())
-                                                    .modelState(MLModelState.REGISTERED)
-                                                    .modelConfig(existingModel.getModelConfig())
-                                                    .totalChunks(existingModel.getTotalChunks())
-                                                    .modelContentHash(existingModel.getModelContentHash())
-                                                    .modelContentSizeInBytes(existingModel.getModelContentSizeInBytes())
-                                                    .createdTime(existingModel.getCreatedTime())
-                                                    .build();
-                                                IndexRequest indexReq = new IndexRequest(ML_MODEL_INDEX);
-                                                indexReq.id(modelId);
-                                                indexReq
-                                                    .source(
-                                                        mlModelMeta
-                                                            .toXContent(
-                                                                XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                                ToXContent.EMPTY_PARAMS
-                                                            )
-                                                    );
-                                                indexReq.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                                                client.index(indexReq, ActionListener.wrap(re -> {
-                                                    log.debug("Index model successful", existingModel.getName());
-                                                    semaphore.release();
+                                                // Chunks aren't refreshed as they're stored, refresh them once with the last one.
+                                                modelChunkStore.refreshChunks(ActionListener.wrap(refreshed -> {
+                                                    markModelRegistered(modelId, existingModel, wrappedListener);
                                                 }, e -> {
-                                                    log.error("Failed to update model state", e);
-                                                    semaphore.release();
+                                                    log.error("Failed to refresh model chunks", e);
                                                     wrappedListener.onFailure(e);
                                                 }));
                                             }
@@ -176,10 +128,6 @@ public class MLModelChunkUploader {
                                             log.error("Failed to upload chunk model", e);
                                             wrappedListener.onFailure(e);
                                         }));
-                                    }, ex -> {
-                                        log.error("Failed to init model index", ex);
-                                        wrappedListener.onFailure(ex);
-                                    }));
                                 }
                             }, e -> {
                                 logException("Failed to validate model access", e, log);
@@ -206,6 +154,38 @@ public class MLModelChunkUploader {
         }
     }
 
+    private void markModelRegistered(String modelId, MLModel existingModel, ActionListener<MLUploadModelChunkResponse> listener)
+        throws Exception {
+        Semaphore semaphore = new Semaphore(1);
+        semaphore.acquire();
+        MLModel mlModelMeta = MLModel
+            .builder()
+            .name(existingModel.getName())
+            .algorithm(existingModel.getAlgorithm())
+            .version(existingModel.getVersion())
+            .modelGroupId((existingModel.getModelGroupId()))
+            .modelFormat(existingModel.getModelFormat())
+            .modelState(MLModelState.REGISTERED)
+            .modelConfig(existingModel.getModelConfig())
+            .totalChunks(existingModel.getTotalChunks())
+            .modelContentHash(existingModel.getModelContentHash())
+            .modelContentSizeInBytes(existingModel.getModelContentSizeInBytes())
+            .createdTime(existingModel.getCreatedTime())
+            .build();
+        IndexRequest indexReq = new IndexRequest(ML_MODEL_INDEX);
+        indexReq.id(modelId);
+        indexReq.source(mlModelMeta.toXContent(XContentBuilder.builder(XContentType.JSON.xContent()), ToXContent.EMPTY_PARAMS));
+        indexReq.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        client.index(indexReq, ActionListener.wrap(re -> {
+            log.debug("Index model successful", existingModel.getName());
+            semaphore.release();
+        }, e -> {
+            log.error("Failed to update model state", e);
+            semaphore.release();
+            listener.onFailure(e);
+        }));
+    }
+
     public boolean validateChunkSize(final long length) {
         var isChunkExceedsSize = false;
         if (length > ModelHelper.CHUNK_SIZE) {
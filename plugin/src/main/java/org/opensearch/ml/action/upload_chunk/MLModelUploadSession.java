@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.upload_chunk;
+
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.ml.common.FunctionName;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.Getter;
+
+/**
+ * State of a model upload session. Chunks may be uploaded in any order and in parallel; the model content is hashed in
+ * chunk order as the chunks are uploaded, and a chunk uploaded before the chunks in front of it is held until they are.
+ * If too many chunks are held, they are dropped and the content is hashed from the stored chunks at commit instead.
+ */
+public class MLModelUploadSession {
+    // Bytes of chunks held to hash the content in order.
+    static final long MAX_PENDING_BYTES = 10L * CHUNK_SIZE;
+
+    @Getter
+    private final String sessionId;
+    @Getter
+    private final String modelId;
+    @Getter
+    private final FunctionName algorithm;
+    @Getter
+    private final String user;
+    @Getter
+    private final int totalChunks;
+    @Getter
+    private final String modelContentHash;
+    @Getter
+    private final Long modelContentSizeInBytes;
+    @Getter
+    private volatile long lastAccessTime;
+
+    private final BitSet uploadedChunks = new BitSet();
+    private final Set<Integer> uploadingChunks = new HashSet<>();
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private int hashedChunks;
+    private String contentHash;
+    private long pendingBytes;
+    private boolean hashDeferred;
+    private long uploadedBytes;
+    private boolean committing;
+
+    public MLModelUploadSession(
+        String sessionId,
+        String modelId,
+        FunctionName algorithm,
+        String user,
+        int totalChunks,
+        String modelContentHash,
+        Long modelContentSizeInBytes
+    ) {
+        this.sessionId = sessionId;
+        this.modelId = modelId;
+        this.algorithm = algorithm;
+        this.user = user;
+        this.totalChunks = totalChunks;
+        this.modelContentHash = modelContentHash;
+        this.modelContentSizeInBytes = modelContentSizeInBytes;
+        this.lastAccessTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Claim a chunk before storing it, so the same chunk isn't stored twice at the same time.
+     * @param chunk chunk number
+     */
+    public synchronized void startChunk(int chunk) {
+        lastAccessTime = System.currentTimeMillis();
+        if (committing) {
+            throw new IllegalArgumentException("Upload session " + sessionId + " is being committed");
+        }
+        if (chunk < 0 || chunk >= totalChunks) {
+            throw new IllegalArgumentException("Chunk number exceeds total chunks");
+        }
+        if (uploadedChunks.get(chunk) || !uploadingChunks.add(chunk)) {
+            throw new IllegalArgumentException("Chunk " + chunk + " is uploaded already");
+        }
+    }
+
+    /**
+     * Record a stored chunk and hash it, together with the held chunks after it which it unblocks.
+     * @param chunk chunk number
+     * @param content chunk content
+     */
+    public synchronized void completeChunk(int chunk, byte[] content) {
+        uploadingChunks.remove(chunk);
+        uploadedChunks.set(chunk);
+        uploadedBytes += content.length;
+        if (hashDeferred) {
+            return;
+        }
+        pendingChunks.put(chunk, content);
+        pendingBytes += content.length;
+        byte[] next;
+        while ((next = pendingChunks.remove(hashedChunks)) != null) {
+            hasher.putBytes(next);
+            pendingBytes -= next.length;
+            hashedChunks++;
+        }
+        if (hashedChunks == totalChunks) {
+            contentHash = hasher.hash().toString();
+        } else if (pendingBytes > MAX_PENDING_BYTES) {
+            hashDeferred = true;
+            pendingChunks.clear();
+            pendingBytes = 0;
+        }
+    }
+
+    /**
+     * Release a chunk which failed to be stored, so it may be uploaded again.
+     * @param chunk chunk number
+     */
+    public synchronized void abortChunk(int chunk) {
+        uploadingChunks.remove(chunk);
+    }
+
+    /**
+     * Start committing the session once all chunks are uploaded.
+     * @return hash of the uploaded content, or null if it has to be hashed from the stored chunks
+     */
+    public synchronized String startCommit() {
+        lastAccessTime = System.currentTimeMillis();
+        if (committing) {
+            throw new IllegalArgumentException("Upload session " + sessionId + " is being committed");
+        }
+        int missingChunks = totalChunks - uploadedChunks.cardinality();
+        if (missingChunks > 0) {
+            throw new IllegalArgumentException(missingChunks + " chunks of model " + modelId + " aren't uploaded");
+        }
+        if (modelContentSizeInBytes != null && modelContentSizeInBytes != uploadedBytes) {
+            throw new IllegalArgumentException("Uploaded " + uploadedBytes + " bytes, model content size is " + modelContentSizeInBytes);
+        }
+        committing = true;
+        return contentHash;
+    }
+
+    /**
+     * Allow committing the session again after a commit failed.
+     */
+    public synchronized void abortCommit() {
+        committing = false;
+    }
+
+    public synchronized int getUploadedChunks() {
+        return uploadedChunks.cardinality();
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.upload_chunk;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE;
+import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelChunkStore;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the model upload sessions opened on this node. Opening a session reads the model meta and checks the access
+ * to the model once, rather than for every chunk. Chunks are then stored straight into the model chunk index without
+ * refreshing it, and committing the session checks the model content hash, refreshes the chunk index once and marks
+ * the model registered. Sessions live on the node which opened them, the session id carries the node id so requests
+ * of the session are sent to that node. As a session may hold chunks in memory, a node keeps a limited number of
+ * sessions open, one per model, and doesn't open any while a circuit breaker is open.
+ */
+@Log4j2
+public class MLModelUploadSessionManager {
+    // Sessions neither used nor committed for this long are dropped.
+    public static final TimeValue SESSION_TIMEOUT = TimeValue.timeValueHours(1);
+    // Interval to drop expired sessions at.
+    public static final TimeValue SESSION_SWEEP_INTERVAL = TimeValue.timeValueMinutes(5);
+    private static final String SESSION_ID_SEPARATOR = ".";
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final NamedXContentRegistry xContentRegistry;
+    private final ModelAccessControlHelper modelAccessControlHelper;
+    private final MLModelChunkStore modelChunkStore;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    private final MLStats mlStats;
+    private final Map<String, MLModelUploadSession> sessions = new ConcurrentHashMap<>();
+    private volatile int maxSessions;
+
+    public MLModelUploadSessionManager(
+        Client client,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        Settings settings,
+        NamedXContentRegistry xContentRegistry,
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLModelChunkStore modelChunkStore,
+        MLCircuitBreakerService mlCircuitBreakerService,
+        MLStats mlStats
+    ) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.xContentRegistry = xContentRegistry;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+        this.modelChunkStore = modelChunkStore;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        this.mlStats = mlStats;
+        maxSessions = ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE, it -> maxSessions = it);
+        threadPool.scheduleWithFixedDelay(() -> removeExpiredSessions(), SESSION_SWEEP_INTERVAL, GENERAL_THREAD_POOL);
+    }
+
+    /**
+     * Get the id of the node a session lives on.
+     *
+     * @param sessionId upload session id
+     * @return node id, or null if the session id is invalid
+     */
+    public static String getSessionNodeId(String sessionId) {
+        int index = sessionId == null ? -1 : sessionId.lastIndexOf(SESSION_ID_SEPARATOR);
+        return index <= 0 ? null : sessionId.substring(0, index);
+    }
+
+    /**
+     * Open an upload session for a model registered with its meta.
+     *
+     * @param modelId model id
+     * @param listener action listener, gets the session id and the number of chunks to upload
+     */
+    public void openSession(String modelId, ActionListener<MLModelUploadSessionResponse> listener) {
+        removeExpiredSessions();
+        try {
+            MLNodeUtils.checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+            checkSessionLimits(modelId);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        User user = RestActionUtils.getUserContext(client);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<MLModelUploadSessionResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            client.get(new GetRequest(ML_MODEL_INDEX).id(modelId), ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    wrappedListener.onFailure(new MLResourceNotFoundException("Failed to find model"));
+                    return;
+                }
+                MLModel model;
+                try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    model = MLModel.parse(parser, r.getSource().get(ALGORITHM_FIELD).toString());
+                }
+                if (model.getModelState() != MLModelState.REGISTERING) {
+                    throw new IllegalArgumentException("Model " + modelId + " isn't waiting for its chunks to be uploaded");
+                }
+                if (model.getTotalChunks() == null || model.getTotalChunks() <= 0 || model.getModelContentHash() == null) {
+                    throw new IllegalArgumentException("Model " + modelId + " has no total chunks or content hash");
+                }
+                modelAccessControlHelper.validateModelGroupAccess(user, model.getModelGroupId(), client, ActionListener.wrap(access -> {
+                    if (!access) {
+                        log.error("You don't have permissions to perform this operation on this model.");
+                        wrappedListener
+                            .onFailure(new IllegalArgumentException("You don't have permissions to perform this operation on this model."));
+                        return;
+                    }
+                    modelChunkStore.initChunkIndex(ActionListener.wrap(initialized -> {
+                        String sessionId = clusterService.localNode().getId() + SESSION_ID_SEPARATOR + UUIDs.randomBase64UUID();
+                        MLModelUploadSession session = new MLModelUploadSession(
+                            sessionId,
+                            modelId,
+                            model.getAlgorithm(),
+                            user == null ? null : user.getName(),
+                            model.getTotalChunks(),
+                            model.getModelContentHash(),
+                            model.getModelContentSizeInBytes()
+                        );
+                        addSession(session);
+                        log.debug("Opened upload session {} for model {}", sessionId, modelId);
+                        wrappedListener.onResponse(new MLModelUploadSessionResponse(modelId, sessionId, model.getTotalChunks(), "Opened"));
+                    }, wrappedListener::onFailure));
+                }, wrappedListener::onFailure));
+            }, e -> {
+                if (e instanceof IndexNotFoundException) {
+                    wrappedListener.onFailure(new MLResourceNotFoundException("Failed to find model"));
+                } else {
+                    log.error("Failed to get ML model " + modelId, e);
+                    wrappedListener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Failed to open upload session for model " + modelId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Store a chunk of the model in an upload session.
+     *
+     * @param sessionId upload session id
+     * @param modelId model id
+     * @param chunkNumber chunk number, starting from 0
+     * @param content chunk content
+     * @param listener action listener
+     */
+    public void uploadChunk(
+        String sessionId,
+        String modelId,
+        int chunkNumber,
+        BytesReference content,
+        ActionListener<MLModelUploadSessionResponse> listener
+    ) {
+        MLModelUploadSession session;
+        byte[] bytes;
+        IndexRequest indexRequest;
+        try {
+            session = getSession(sessionId, modelId);
+            if (content == null || content.length() == 0) {
+                throw new IllegalArgumentException("Chunk size either 0 or null");
+            }
+            if (content.length() > CHUNK_SIZE) {
+                throw new IllegalArgumentException("Chunk size exceeds 10MB");
+            }
+            session.startChunk(chunkNumber);
+            bytes = BytesReference.toBytes(content);
+            indexRequest = modelChunkStore.createIndexRequest(modelId, session.getAlgorithm(), chunkNumber, bytes);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            // The chunk index is refreshed once when the session is committed.
+            client.index(indexRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                session.completeChunk(chunkNumber, bytes);
+                listener.onResponse(new MLModelUploadSessionResponse(modelId, sessionId, null, "Uploaded"));
+            }, e -> {
+                log.error("Failed to upload chunk " + chunkNumber + " of model " + modelId, e);
+                session.abortChunk(chunkNumber);
+                listener.onFailure(e);
+            }), () -> context.restore()));
+        } catch (Exception e) {
+            session.abortChunk(chunkNumber);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Commit an upload session once all chunks are uploaded: check the model content hash and mark the model registered.
+     *
+     * @param sessionId upload session id
+     * @param modelId model id
+     * @param listener action listener
+     */
+    public void commit(String sessionId, String modelId, ActionListener<MLModelUploadSessionResponse> listener) {
+        MLModelUploadSession session;
+        String uploadedHash;
+        try {
+            session = getSession(sessionId, modelId);
+            uploadedHash = session.startCommit();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<MLModelUploadSessionResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            ActionListener<String> hashListener = ActionListener.wrap(hash -> {
+                if (!hash.equals(session.getModelContentHash())) {
+                    log.error("Model content hash can't match original hash value when committing upload session {}", sessionId);
+                    sessions.remove(sessionId);
+                    wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
+                    return;
+                }
+                modelChunkStore.refreshChunks(ActionListener.wrap(r -> {
+                    long now = Instant.now().toEpochMilli();
+                    UpdateRequest updateRequest = new UpdateRequest(ML_MODEL_INDEX, modelId)
+                        .doc(
+                            Map
+                                .of(
+                                    MLModel.MODEL_STATE_FIELD,
+                                    MLModelState.REGISTERED,
+                                    MLModel.LAST_REGISTERED_TIME_FIELD,
+                                    now,
+                                    MLModel.LAST_UPDATED_TIME_FIELD,
+                                    now
+                                )
+                        )
+                        .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                    client.update(updateRequest, ActionListener.wrap(updated -> {
+                        sessions.remove(sessionId);
+                        log.info("Model registered successfully from upload session, model id: {}", modelId);
+                        wrappedListener
+                            .onResponse(new MLModelUploadSessionResponse(modelId, sessionId, session.getTotalChunks(), "Registered"));
+                    }, e -> failCommit(session, e, wrappedListener)));
+                }, e -> failCommit(session, e, wrappedListener)));
+            }, e -> failCommit(session, e, wrappedListener));
+            if (uploadedHash != null) {
+                hashListener.onResponse(uploadedHash);
+            } else {
+                // Chunks were uploaded too far out of order to hash them as they came.
+                hashStoredChunks(modelId, 0, session.getTotalChunks(), Hashing.sha256().newHasher(), hashListener);
+            }
+        } catch (Exception e) {
+            failCommit(session, e, listener);
+        }
+    }
+
+    @VisibleForTesting
+    MLModelUploadSession getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    private MLModelUploadSession getSession(String sessionId, String modelId) {
+        MLModelUploadSession session = sessions.get(sessionId);
+        User user = RestActionUtils.getUserContext(client);
+        String userName = user == null ? null : user.getName();
+        // Don't tell sessions of other models or users apart from sessions which don't exist.
+        if (session == null || !session.getModelId().equals(modelId) || !Objects.equals(session.getUser(), userName)) {
+            throw new MLResourceNotFoundException("Failed to find upload session " + sessionId + " of model " + modelId);
+        }
+        return session;
+    }
+
+    private void hashStoredChunks(String modelId, int chunk, int totalChunks, Hasher hasher, ActionListener<String> listener) {
+        if (chunk == totalChunks) {
+            listener.onResponse(hasher.hash().toString());
+            return;
+        }
+        modelChunkStore.getChunk(modelId, chunk, ActionListener.wrap(content -> {
+            hasher.putBytes(content);
+            hashStoredChunks(modelId, chunk + 1, totalChunks, hasher, listener);
+        }, listener::onFailure));
+    }
+
+    private void failCommit(MLModelUploadSession session, Exception e, ActionListener<MLModelUploadSessionResponse> listener) {
+        log.error("Failed to commit upload session " + session.getSessionId(), e);
+        session.abortCommit();
+        listener.onFailure(e);
+    }
+
+    // Checked once more when the session is added, as other sessions may be opened while the model is read.
+    private void checkSessionLimits(String modelId) {
+        if (sessions.values().stream().anyMatch(session -> session.getModelId().equals(modelId))) {
+            throw new IllegalArgumentException("Model " + modelId + " has an upload session open already");
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new MLLimitExceededException("Exceed max upload sessions per node limit: " + maxSessions);
+        }
+    }
+
+    private synchronized void addSession(MLModelUploadSession session) {
+        checkSessionLimits(session.getModelId());
+        sessions.put(session.getSessionId(), session);
+    }
+
+    private void removeExpiredSessions() {
+        long expiredTime = System.currentTimeMillis() - SESSION_TIMEOUT.millis();
+        sessions.values().removeIf(session -> {
+            if (session.getLastAccessTime() >= expiredTime) {
+                return false;
+            }
+            log.info("Dropped expired upload session {} of model {}", session.getSessionId(), session.getModelId());
+            return true;
+        });
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.upload_chunk;
+
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionAction;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionRequest;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionResponse;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class TransportModelUploadSessionAction extends HandledTransportAction<ActionRequest, MLModelUploadSessionResponse> {
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final MLModelUploadSessionManager uploadSessionManager;
+
+    @Inject
+    public TransportModelUploadSessionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        MLModelUploadSessionManager uploadSessionManager
+    ) {
+        super(MLModelUploadSessionAction.NAME, transportService, actionFilters, MLModelUploadSessionRequest::new);
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.uploadSessionManager = uploadSessionManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLModelUploadSessionResponse> listener) {
+        MLModelUploadSessionRequest sessionRequest = MLModelUploadSessionRequest.fromActionRequest(request);
+        String modelId = sessionRequest.getModelId();
+        String sessionId = sessionRequest.getSessionId();
+        if (sessionRequest.getOperation() == MLModelUploadSessionRequest.Operation.OPEN) {
+            uploadSessionManager.openSession(modelId, listener);
+            return;
+        }
+        // Sessions live on the node which opened them.
+        String nodeId = MLModelUploadSessionManager.getSessionNodeId(sessionId);
+        if (!clusterService.localNode().getId().equals(nodeId)) {
+            DiscoveryNode node = nodeId == null ? null : clusterService.state().nodes().get(nodeId);
+            if (node == null) {
+                listener.onFailure(new MLResourceNotFoundException("Failed to find upload session " + sessionId + " of model " + modelId));
+                return;
+            }
+            transportService
+                .sendRequest(
+                    node,
+                    MLModelUploadSessionAction.NAME,
+                    sessionRequest,
+                    new ActionListenerResponseHandler<>(listener, MLModelUploadSessionResponse::new)
+                );
+            return;
+        }
+        if (sessionRequest.getOperation() == MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK) {
+            uploadSessionManager.uploadChunk(sessionId, modelId, sessionRequest.getChunkNumber(), sessionRequest.getContent(), listener);
+        } else {
+            uploadSessionManager.commit(sessionId, modelId, listener);
+        }
+    }
+}
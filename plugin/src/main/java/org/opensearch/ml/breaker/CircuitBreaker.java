@@ -14,5 +14,15 @@ public interface CircuitBreaker {
 
     boolean isOpen();
 
+    /**
+     * Check the breaker with hysteresis, so a resource usage hovering around the threshold doesn't open and close the
+     * breaker on every check. An open breaker only closes once the usage is clearly back under the threshold.
+     * @param wasOpen whether the breaker was open at the last check
+     * @return true if the breaker is open
+     */
+    default boolean isOpen(boolean wasOpen) {
+        return isOpen();
+    }
+
     String getName();
 }
@@ -19,6 +19,8 @@ public class DiskCircuitBreaker extends ThresholdCircuitBreaker<Long> {
     // TODO: make this value configurable as cluster setting
     private static final String ML_DISK_CB = "Disk Circuit Breaker";
     public static final long DEFAULT_DISK_SHORTAGE_THRESHOLD = 5L;
+    // Free space in GB to gain over the threshold before an open breaker closes.
+    public static final long DISK_SHORTAGE_HYSTERESIS = 1L;
     private static final long GB = 1024 * 1024 * 1024;
     private String diskDir;
 
@@ -39,9 +41,15 @@ public class DiskCircuitBreaker extends ThresholdCircuitBreaker<Long> {
 
     @Override
     public boolean isOpen() {
+        return isOpen(false);
+    }
+
+    @Override
+    public boolean isOpen(boolean wasOpen) {
+        long threshold = wasOpen ? getThreshold() + DISK_SHORTAGE_HYSTERESIS : getThreshold();
         try {
             return AccessController.doPrivileged((PrivilegedExceptionAction<Boolean>) () -> {
-                return (new File(diskDir).getFreeSpace() / GB) < getThreshold();  // in GB
+                return (new File(diskDir).getFreeSpace() / GB) < threshold;  // in GB
             });
         } catch (PrivilegedActionException e) {
             throw new MLException("Failed to run disk circuit breaker");
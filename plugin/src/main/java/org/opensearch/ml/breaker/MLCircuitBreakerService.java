@@ -5,19 +5,30 @@
 
 package org.opensearch.ml.breaker;
 
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS;
+
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * This service registers internal system breakers and provide API for users to register their own breakers.
+ *
+ * Checking a breaker reads JVM, OS or file system stats, so once sampling is started the breakers are checked on a
+ * background interval and requests only read the state of the last sample.
  */
 @Log4j2
 public class MLCircuitBreakerService {
@@ -27,6 +38,13 @@ public class MLCircuitBreakerService {
     private final OsService osService;
     private final Settings settings;
     private final ClusterService clusterService;
+    // Breaker states of the last sample, only updated by the sampler.
+    private final Map<BreakerName, Boolean> sampledStates = new ConcurrentHashMap<>();
+    private volatile ThresholdCircuitBreaker sampledOpenBreaker;
+    private volatile boolean sampling;
+    private ThreadPool threadPool;
+    private Scheduler.Cancellable sampler;
+    private boolean stopped;
 
     /**
      * Constructor.
@@ -53,11 +71,17 @@ public class MLCircuitBreakerService {
         }
 
         breakers.remove(name);
+        sampledStates.remove(name);
+        if (sampling) {
+            sample();
+        }
         log.info("Removed ML breakers " + name);
     }
 
     public void clearBreakers() {
         breakers.clear();
+        sampledStates.clear();
+        sampledOpenBreaker = null;
         log.info("Cleared ML breakers.");
     }
 
@@ -85,11 +109,81 @@ public class MLCircuitBreakerService {
         return this;
     }
 
+    /**
+     * Start checking the breakers on the interval of plugins.ml_commons.circuit_breaker_sample_interval_in_millis.
+     * @param threadPool thread pool to run the sampler
+     */
+    public synchronized void startSampling(ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        scheduleSampler(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS, it -> scheduleSampler(it));
+    }
+
+    /**
+     * Stop the sampler when the node shuts down. Breakers are checked on every request afterwards.
+     */
+    public synchronized void stopSampling() {
+        stopped = true;
+        sampling = false;
+        if (sampler != null) {
+            sampler.cancel();
+            sampler = null;
+        }
+    }
+
+    private synchronized void scheduleSampler(int intervalInMillis) {
+        if (stopped) {
+            return;
+        }
+        if (sampler != null) {
+            sampler.cancel();
+            sampler = null;
+        }
+        if (intervalInMillis <= 0) {
+            sampling = false;
+            log.info("Disabled ML circuit breaker sampling, breakers are checked on every request");
+            return;
+        }
+        // Take the first sample before serving from it.
+        sample();
+        sampling = true;
+        sampler = threadPool.scheduleWithFixedDelay(() -> sample(), TimeValue.timeValueMillis(intervalInMillis), ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * Check all breakers and keep the result for the request path. An open breaker stays open until its resource usage
+     * is clearly back under the threshold.
+     */
+    @VisibleForTesting
+    void sample() {
+        ThresholdCircuitBreaker openBreaker = null;
+        for (Map.Entry<BreakerName, CircuitBreaker> entry : breakers.entrySet()) {
+            boolean wasOpen = sampledStates.getOrDefault(entry.getKey(), false);
+            boolean open;
+            try {
+                open = entry.getValue().isOpen(wasOpen);
+            } catch (Exception e) {
+                log.warn("Failed to check ML circuit breaker " + entry.getValue().getName(), e);
+                open = wasOpen;
+            }
+            sampledStates.put(entry.getKey(), open);
+            if (open && openBreaker == null) {
+                openBreaker = (ThresholdCircuitBreaker) entry.getValue();
+            }
+        }
+        sampledOpenBreaker = openBreaker;
+    }
+
     /**
      *
      * @return any open circuit breaker; otherwise return null
      */
     public ThresholdCircuitBreaker checkOpenCB() {
+        if (sampling) {
+            return sampledOpenBreaker;
+        }
         for (CircuitBreaker breaker : breakers.values()) {
             if (breaker.isOpen()) {
                 return (ThresholdCircuitBreaker) breaker;
@@ -18,6 +18,8 @@ public class MemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
     // TODO: make this value configurable as cluster setting
     private static final String ML_MEMORY_CB = "Memory Circuit Breaker";
     public static final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
+    // Percentage points the heap usage has to drop under the threshold before an open breaker closes.
+    public static final short HEAP_USAGE_HYSTERESIS = 5;
     private final JvmService jvmService;
     private volatile Integer jvmHeapMemThreshold = 85;
 
@@ -45,6 +47,12 @@ public class MemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
 
     @Override
     public boolean isOpen() {
-        return jvmService.stats().getMem().getHeapUsedPercent() > this.getThreshold();
+        return isOpen(false);
+    }
+
+    @Override
+    public boolean isOpen(boolean wasOpen) {
+        int threshold = wasOpen ? Math.max(0, this.getThreshold() - HEAP_USAGE_HYSTERESIS) : this.getThreshold();
+        return jvmService.stats().getMem().getHeapUsedPercent() > threshold;
     }
 }
@@ -17,6 +17,8 @@ import org.opensearch.monitor.os.OsService;
 public class NativeMemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
     private static final String ML_MEMORY_CB = "Native Memory Circuit Breaker";
     public static final short DEFAULT_NATIVE_MEM_USAGE_THRESHOLD = 90;
+    // Percentage points the native memory usage has to drop under the threshold before an open breaker closes.
+    public static final short NATIVE_MEM_USAGE_HYSTERESIS = 5;
     private final OsService osService;
     private volatile Integer nativeMemThreshold = 90;
 
@@ -45,6 +47,12 @@ public class NativeMemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
 
     @Override
     public boolean isOpen() {
-        return osService.stats().getMem().getUsedPercent() > this.nativeMemThreshold.shortValue();
+        return isOpen(false);
+    }
+
+    @Override
+    public boolean isOpen(boolean wasOpen) {
+        int threshold = wasOpen ? Math.max(0, this.nativeMemThreshold - NATIVE_MEM_USAGE_HYSTERESIS) : this.nativeMemThreshold;
+        return osService.stats().getMem().getUsedPercent() > threshold;
     }
 }
@@ -9,15 +9,24 @@ package org.opensearch.ml.helper;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -43,6 +52,9 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
@@ -53,13 +65,28 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ModelAccessControlHelper {
 
+    private static final int MAX_MODEL_ACCESS_CACHE_SIZE = 10_000;
+
     private volatile Boolean modelAccessControlEnabled;
+    private volatile Integer modelAccessCacheTtlInSeconds;
+    private final ClusterService clusterService;
+    // {"model_group_id": {"user_key": CachedAccess}}
+    private final Map<String, Map<String, CachedAccess>> modelAccessCache = new ConcurrentHashMap<>();
+    private int modelAccessCacheSize;
+    // Bumped on every invalidation, so decisions read before an invalidation are not cached after it.
+    private long modelAccessCacheGeneration;
 
     public ModelAccessControlHelper(ClusterService clusterService, Settings settings) {
+        this.clusterService = clusterService;
         modelAccessControlEnabled = ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.get(settings);
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED, it -> modelAccessControlEnabled = it);
+        modelAccessCacheTtlInSeconds = ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS, it -> {
+            modelAccessCacheTtlInSeconds = it;
+            invalidateModelGroupAccessCache(null);
+        });
     }
 
     private static final List<Class<?>> SUPPORTED_QUERY_TYPES = ImmutableList
@@ -139,6 +166,107 @@ public class ModelAccessControlHelper {
         }
     }
 
+    /**
+     * Same as {@link #validateModelGroupAccess(User, String, Client, ActionListener)}, but reuses the decision made for the
+     * same user and model group within the last model_access_cache_ttl_in_seconds. Meant for the predict path; actions which
+     * change models or model groups should keep using the uncached check.
+     */
+    public void validateModelGroupAccessWithCache(User user, String modelGroupId, Client client, ActionListener<Boolean> listener) {
+        if (modelGroupId == null
+            || isAdmin(user)
+            || !isSecurityEnabledAndModelAccessControlEnabled(user)
+            || modelAccessCacheTtlInSeconds <= 0) {
+            validateModelGroupAccess(user, modelGroupId, client, listener);
+            return;
+        }
+        String userKey = getAccessCacheKey(user);
+        Map<String, CachedAccess> userAccess = modelAccessCache.get(modelGroupId);
+        CachedAccess cachedAccess = userAccess == null ? null : userAccess.get(userKey);
+        if (cachedAccess != null && System.nanoTime() < cachedAccess.expireTime) {
+            listener.onResponse(cachedAccess.access);
+            return;
+        }
+        long generation = getModelAccessCacheGeneration();
+        validateModelGroupAccess(user, modelGroupId, client, ActionListener.wrap(access -> {
+            cacheModelGroupAccess(modelGroupId, userKey, access, generation);
+            listener.onResponse(access);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Drop cached access decisions of the given model groups on this node.
+     * @param modelGroupIds model group ids, all model groups if null
+     */
+    public synchronized void invalidateModelGroupAccessCache(Collection<String> modelGroupIds) {
+        modelAccessCacheGeneration++;
+        if (modelGroupIds == null) {
+            modelAccessCache.clear();
+            modelAccessCacheSize = 0;
+            return;
+        }
+        for (String modelGroupId : modelGroupIds) {
+            Map<String, CachedAccess> userAccess = modelAccessCache.remove(modelGroupId);
+            if (userAccess != null) {
+                modelAccessCacheSize -= userAccess.size();
+            }
+        }
+    }
+
+    /**
+     * Drop cached access decisions of the given model groups on all nodes, e.g. after the model group is updated or a
+     * model moved between model groups.
+     * @param modelGroupIds updated model group ids
+     * @param client client
+     */
+    public void broadcastModelGroupUpdate(Set<String> modelGroupIds, Client client) {
+        invalidateModelGroupAccessCache(modelGroupIds);
+        DiscoveryNode[] nodes = MLNodeUtils.getCacheInvalidationNodes(clusterService.state().nodes());
+        if (nodes.length == 0) {
+            return;
+        }
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().updatedModelGroupIds(modelGroupIds).build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodes, syncUpInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    MLSyncUpAction.INSTANCE,
+                    syncUpRequest,
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("Invalidated model group access cache of {}", modelGroupIds),
+                            e -> log.error("Failed to invalidate model group access cache", e)
+                        )
+                );
+        }
+    }
+
+    private synchronized long getModelAccessCacheGeneration() {
+        return modelAccessCacheGeneration;
+    }
+
+    private synchronized void cacheModelGroupAccess(String modelGroupId, String userKey, boolean access, long generation) {
+        if (generation != modelAccessCacheGeneration) {
+            return;
+        }
+        if (modelAccessCacheSize >= MAX_MODEL_ACCESS_CACHE_SIZE) {
+            modelAccessCache.clear();
+            modelAccessCacheSize = 0;
+        }
+        long expireTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(modelAccessCacheTtlInSeconds);
+        CachedAccess previous = modelAccessCache
+            .computeIfAbsent(modelGroupId, it -> new ConcurrentHashMap<>())
+            .put(userKey, new CachedAccess(access, expireTime));
+        if (previous == null) {
+            modelAccessCacheSize++;
+        }
+    }
+
+    private String getAccessCacheKey(User user) {
+        List<String> backendRoles = new ArrayList<>(Optional.ofNullable(user.getBackendRoles()).orElse(ImmutableList.of()));
+        Collections.sort(backendRoles);
+        return user.getName() + "|" + String.join(",", backendRoles);
+    }
+
     public boolean skipModelAccessControl(User user) {
         // Case 1: user == null when 1. Security is disabled. 2. When user is super-admin
         // Case 2: If Security is enabled and filter is disabled, proceed with search as
@@ -232,4 +360,14 @@ public class ModelAccessControlHelper {
     public SearchSourceBuilder createSearchSourceBuilder(User user) {
         return addUserBackendRolesFilter(user, new SearchSourceBuilder());
     }
+
+    private static class CachedAccess {
+        private final boolean access;
+        private final long expireTime;
+
+        private CachedAccess(boolean access, long expireTime) {
+            this.access = access;
+            this.expireTime = expireTime;
+        }
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesAction;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.engine.MLEngine;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the verified artifacts of models deployed on this node and serves them to nodes deploying the same models, so
+ * deploying nodes don't all read the model chunks from the few shards of the model index. A deploying node asks the
+ * eligible nodes for the artifact, fetches it range by range from the least loaded node which holds it, and falls back
+ * to the model index if no node does or the transfer fails.
+ */
+@Log4j2
+public class MLModelArtifactService {
+    // Size of the artifact ranges fetched from peers, the same as the size of the model chunks in the model index.
+    public static final int TRANSFER_CHUNK_SIZE = CHUNK_SIZE;
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final MLEngine mlEngine;
+    private final DiscoveryNodeHelper nodeHelper;
+    // Artifact ranges this node is serving at the moment, from reading a range until its response is sent. Reported to
+    // deploying nodes as the load of the node.
+    private final AtomicInteger activeTransfers = new AtomicInteger();
+    private volatile boolean peerTransferEnabled;
+    private volatile int maxConcurrentServes;
+
+    public MLModelArtifactService(
+        Client client,
+        ClusterService clusterService,
+        Settings settings,
+        MLEngine mlEngine,
+        DiscoveryNodeHelper nodeHelper
+    ) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.mlEngine = mlEngine;
+        this.nodeHelper = nodeHelper;
+        peerTransferEnabled = ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED, it -> peerTransferEnabled = it);
+        maxConcurrentServes = ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES, it -> maxConcurrentServes = it);
+    }
+
+    /**
+     * Keep the model file once its content is verified against the model content hash, to serve it to other nodes.
+     * The artifact is removed together with the other files of the model when the model is removed from this node.
+     *
+     * @param mlModel model meta
+     * @param contentHash SHA-256 hash of the model file
+     * @param modelZipFile model file, which the deployment deletes afterwards
+     */
+    public void retainArtifact(MLModel mlModel, String contentHash, File modelZipFile) {
+        if (!peerTransferEnabled || contentHash == null || !contentHash.equals(mlModel.getModelContentHash())) {
+            return;
+        }
+        Path artifact = getArtifactPath(mlModel.getModelId(), contentHash);
+        if (artifact == null) {
+            return;
+        }
+        // Link or copy to a temporary file first, so a partial artifact is never served.
+        Path tmpArtifact = artifact.resolveSibling(artifact.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(artifact.getParent());
+            Files.deleteIfExists(tmpArtifact);
+            try {
+                Files.createLink(tmpArtifact, modelZipFile.toPath());
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(modelZipFile.toPath(), tmpArtifact, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tmpArtifact, artifact, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.warn("Failed to keep artifact of model " + mlModel.getModelId(), e);
+            deleteFileQuietly(tmpArtifact.toFile());
+        }
+    }
+
+    public boolean hasArtifact(String modelId, String contentHash) {
+        Path artifact = getArtifactPath(modelId, contentHash);
+        return peerTransferEnabled && artifact != null && Files.isRegularFile(artifact);
+    }
+
+    /**
+     * Read a range of the artifact of a model.
+     *
+     * @param modelId model id
+     * @param contentHash SHA-256 hash of the model content
+     * @param offset offset of the range
+     * @param length length of the range, shorter at the end of the artifact
+     * @return content of the range
+     * @throws IOException if the artifact can't be read
+     */
+    public BytesReference readArtifact(String modelId, String contentHash, long offset, int length) throws IOException {
+        Path artifact = getArtifactPath(modelId, contentHash);
+        if (artifact == null) {
+            throw new IllegalArgumentException("Invalid model artifact " + modelId);
+        }
+        try (FileChannel channel = FileChannel.open(artifact, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (offset < 0 || offset > size) {
+                throw new IllegalArgumentException("Offset " + offset + " is out of the artifact of model " + modelId);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, size - offset));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            return new BytesArray(buffer.array(), 0, buffer.position());
+        }
+    }
+
+    /**
+     * Start serving an artifact range, unless this node already serves as many ranges as the max concurrent serves
+     * setting allows. A started transfer must be ended with {@link #endTransfer} once its response is sent.
+     *
+     * @return true if the transfer is started
+     */
+    public boolean tryStartTransfer() {
+        while (true) {
+            int active = activeTransfers.get();
+            if (active >= maxConcurrentServes) {
+                return false;
+            }
+            if (activeTransfers.compareAndSet(active, active + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void endTransfer() {
+        activeTransfers.decrementAndGet();
+    }
+
+    public int getActiveTransfers() {
+        return activeTransfers.get();
+    }
+
+    /**
+     * Find the least loaded node which holds the artifact of the model.
+     *
+     * @param mlModel model meta
+     * @param listener action listener, gets the node id, or null if the model can't be fetched from any node
+     */
+    public void findPeer(MLModel mlModel, ActionListener<String> listener) {
+        String contentHash = mlModel.getModelContentHash();
+        if (!peerTransferEnabled || contentHash == null || mlModel.getModelContentSizeInBytes() == null) {
+            listener.onResponse(null);
+            return;
+        }
+        String localNodeId = clusterService.localNode().getId();
+        String[] nodeIds = Arrays
+            .stream(nodeHelper.getEligibleNodeIds(mlModel.getAlgorithm()))
+            .filter(nodeId -> !nodeId.equals(localNodeId))
+            .toArray(String[]::new);
+        if (nodeIds.length == 0) {
+            listener.onResponse(null);
+            return;
+        }
+        MLModelArtifactNodesRequest request = new MLModelArtifactNodesRequest(nodeIds, mlModel.getModelId(), contentHash, 0, 0);
+        client.execute(MLModelArtifactNodesAction.INSTANCE, request, ActionListener.wrap(response -> {
+            List<MLModelArtifactNodeResponse> peers = response
+                .getNodes()
+                .stream()
+                .filter(MLModelArtifactNodeResponse::isAvailable)
+                .collect(Collectors.toList());
+            listener.onResponse(selectLeastLoadedPeer(peers));
+        }, e -> {
+            log.warn("Failed to find nodes holding artifact of model " + mlModel.getModelId(), e);
+            listener.onResponse(null);
+        }));
+    }
+
+    /**
+     * Fetch a range of the artifact of a model from a node.
+     *
+     * @param nodeId node holding the artifact
+     * @param mlModel model meta
+     * @param chunk number of the range, see {@link #getTransferChunks}
+     * @param listener action listener, gets the content of the range
+     */
+    public void fetchChunk(String nodeId, MLModel mlModel, int chunk, ActionListener<byte[]> listener) {
+        String modelId = mlModel.getModelId();
+        MLModelArtifactNodesRequest request = new MLModelArtifactNodesRequest(
+            new String[] { nodeId },
+            modelId,
+            mlModel.getModelContentHash(),
+            (long) chunk * TRANSFER_CHUNK_SIZE,
+            TRANSFER_CHUNK_SIZE
+        );
+        client.execute(MLModelArtifactNodesAction.INSTANCE, request, ActionListener.wrap(response -> {
+            if (response.hasFailures()) {
+                listener.onFailure(response.failures().get(0));
+                return;
+            }
+            MLModelArtifactNodeResponse nodeResponse = response.getNodes().isEmpty() ? null : response.getNodes().get(0);
+            if (nodeResponse == null || !nodeResponse.isAvailable() || nodeResponse.getContent() == null) {
+                listener.onFailure(new MLResourceNotFoundException("Node " + nodeId + " doesn't hold artifact of model " + modelId));
+                return;
+            }
+            listener.onResponse(BytesReference.toBytes(nodeResponse.getContent()));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Get the number of ranges an artifact is fetched in.
+     *
+     * @param contentSize size of the model content in bytes
+     * @return number of ranges
+     */
+    public static int getTransferChunks(long contentSize) {
+        return (int) Math.max(1, (contentSize + TRANSFER_CHUNK_SIZE - 1) / TRANSFER_CHUNK_SIZE);
+    }
+
+    @VisibleForTesting
+    static String selectLeastLoadedPeer(List<MLModelArtifactNodeResponse> peers) {
+        if (peers.isEmpty()) {
+            return null;
+        }
+        int minLoad = peers.stream().mapToInt(MLModelArtifactNodeResponse::getActiveTransfers).min().getAsInt();
+        // Pick randomly among the least loaded nodes, so nodes deploying at the same time spread over them.
+        List<MLModelArtifactNodeResponse> leastLoaded = peers
+            .stream()
+            .filter(peer -> peer.getActiveTransfers() == minLoad)
+            .collect(Collectors.toList());
+        return leastLoaded.get(Randomness.get().nextInt(leastLoaded.size())).getNode().getId();
+    }
+
+    /**
+     * Get the path of the artifact of a model.
+     *
+     * @return artifact path, or null if the model id or hash don't make a path inside the artifact folder
+     */
+    private Path getArtifactPath(String modelId, String contentHash) {
+        if (modelId == null || contentHash == null || !CONTENT_HASH_PATTERN.matcher(contentHash).matches()) {
+            return null;
+        }
+        Path rootPath = mlEngine.getModelArtifactRootPath().normalize();
+        Path modelPath = mlEngine.getModelArtifactPath(modelId).normalize();
+        if (!rootPath.equals(modelPath.getParent())) {
+            return null;
+        }
+        return modelPath.resolve(contentHash + ".zip");
+    }
+}
@@ -5,14 +5,10 @@
 
 package org.opensearch.ml.model;
 
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
 
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
@@ -20,10 +16,11 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.metrics.LatencyHistogram;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
+import org.opensearch.ml.engine.metrics.WindowedLatencyHistogram;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 
-import com.google.common.math.Quantiles;
-
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -31,6 +28,8 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCache {
+    private static final double MICROS_PER_MILLI = 1000.0;
+
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModelState modelState;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) FunctionName functionName;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Predictable predictor;
@@ -41,8 +40,9 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    private final WindowedLatencyHistogram modelInferenceDurations;
+    private final WindowedLatencyHistogram predictRequestDurations;
+    private final @Getter(AccessLevel.PROTECTED) PredictStageMetrics predictStageMetrics;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
 
@@ -53,8 +53,9 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceDurations = new WindowedLatencyHistogram(0);
+        predictRequestDurations = new WindowedLatencyHistogram(0);
+        predictStageMetrics = new PredictStageMetrics();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -152,8 +153,9 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceDurations.reset();
+        predictRequestDurations.reset();
+        predictStageMetrics.reset();
         if (predictor != null) {
             predictor.close();
         }
@@ -168,55 +170,41 @@ public class MLModelCache {
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, modelInferenceDurations);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, predictRequestDurations);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
-        }
+    private void addInferenceDuration(double duration, long maxRequestCount, WindowedLatencyHistogram durations) {
+        durations.setWindowSize(maxRequestCount);
+        // Durations are recorded in microseconds to keep sub-millisecond precision.
+        durations.record(Math.round(duration * MICROS_PER_MILLI));
     }
 
     public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
-    }
-
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
-        }
+        log.debug("resize inference duration monitoring window with size {}", maxRequestCount);
+        predictRequestDurations.setWindowSize(maxRequestCount);
+        modelInferenceDurations.setWindowSize(maxRequestCount);
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
+        WindowedLatencyHistogram durations = modelInference ? modelInferenceDurations : predictRequestDurations;
+        LatencyHistogram histogram = durations.snapshot();
+        if (histogram.getCount() == 0) {
+            return null;
         }
-        return null;
+        return MLPredictRequestStats
+            .builder()
+            .count(histogram.getCount())
+            .max(histogram.getMax() / MICROS_PER_MILLI)
+            .min(histogram.getMin() / MICROS_PER_MILLI)
+            .average(histogram.getAverage() / MICROS_PER_MILLI)
+            .p50(histogram.getPercentile(50) / MICROS_PER_MILLI)
+            .p90(histogram.getPercentile(90) / MICROS_PER_MILLI)
+            .p99(histogram.getPercentile(99) / MICROS_PER_MILLI)
+            .build();
     }
 
     public boolean isValidCache() {
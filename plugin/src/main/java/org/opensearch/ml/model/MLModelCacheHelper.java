@@ -28,6 +28,9 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 import org.opensearch.ml.profile.MLModelProfile;
 
 import lombok.extern.log4j.Log4j2;
@@ -403,6 +406,33 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Get the connector metrics key of a deployed remote model.
+     * @param modelId model id
+     * @return connector id, or model id if the model has an internal connector; null if the model isn't a deployed remote model
+     */
+    public String getConnectorMetricsKey(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || !(modelCache.getPredictor() instanceof RemoteModel)) {
+            return null;
+        }
+        return ((RemoteModel) modelCache.getPredictor()).getConnectorMetricsKey();
+    }
+
+    /**
+     * Check if any deployed remote model still records metrics under the connector metrics key.
+     * @param connectorMetricsKey connector metrics key
+     * @return true if a deployed model uses the key
+     */
+    public boolean isConnectorMetricsKeyInUse(String connectorMetricsKey) {
+        for (String modelId : getAllModels()) {
+            if (connectorMetricsKey.equals(getConnectorMetricsKey(modelId))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get all model IDs in model cache.
      * @return array of model id
@@ -538,8 +568,15 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.predictStageStats(modelCache.getPredictStageMetrics().toMap());
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        if (modelCache.getPredictor() instanceof RemoteModel) {
+            ConnectorMetrics connectorMetrics = ((RemoteModel) modelCache.getPredictor()).getConnectorMetrics();
+            if (connectorMetrics != null) {
+                builder.connectorStats(connectorMetrics.toMap());
+            }
+        }
         return builder.build();
     }
 
@@ -558,6 +595,30 @@ public class MLModelCacheHelper {
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
     }
 
+    /**
+     * Record the latency of one predict stage of model. Only recorded if the model is in the cache of this node, so
+     * coordinating nodes don't create cache entries for models which are not deployed on them.
+     * @param modelId model id
+     * @param stage predict stage
+     * @param durationNanos time in nanoseconds used by the stage
+     */
+    public void recordPredictStage(String modelId, PredictStageMetrics.Stage stage, long durationNanos) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return;
+        }
+        modelCache.getPredictStageMetrics().recordStage(stage, durationNanos);
+    }
+
+    /**
+     * Get predict stage metrics of model, so a deployed model can record the stages run inside it.
+     * @param modelId model id
+     * @return predict stage metrics
+     */
+    public PredictStageMetrics getPredictStageMetrics(String modelId) {
+        return getOrCreateModelCache(modelId).getPredictStageMetrics();
+    }
+
     public void resizeMonitoringQueue(long monitoringReqCount) {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
             entry.getValue().resizeMonitoringQueue(monitoringReqCount);
@@ -600,6 +661,19 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Drop cached model info of models in the given model groups, so the next request reads the model's current model group.
+     * @param modelGroupIds model group ids
+     */
+    public void removeModelInfo(Set<String> modelGroupIds) {
+        for (MLModelCache mlModelCache : modelCaches.values()) {
+            MLModel modelInfo = mlModelCache.getCachedModelInfo();
+            if (modelInfo != null && modelGroupIds.contains(modelInfo.getModelGroupId())) {
+                mlModelCache.setModelInfo(null);
+            }
+        }
+    }
+
     public MLModel getModelInfo(String modelId) {
         MLModelCache mlModelCache = modelCaches.get(modelId);
         if (mlModelCache == null) {
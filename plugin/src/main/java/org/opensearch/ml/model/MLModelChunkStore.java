@@ -0,0 +1,303 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.common.CommonValue.CREATE_TIME_FIELD;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.CommonValue.MODEL_CHUNK_COMPRESSION_FIELD;
+import static org.opensearch.ml.common.MLModel.CHUNK_NUMBER_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_ID_FIELD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Stores model chunks in the model chunk index rather than as model documents in the model index. The chunk content is a
+ * binary field, sent as SMILE and stored outside the source, so it's neither inflated by base64 nor parsed from JSON,
+ * and it may be compressed. Chunks of models registered before the chunk index existed are still read from the model
+ * index, and new chunks are still written there as long as the cluster has nodes which only read chunks from there.
+ */
+public class MLModelChunkStore {
+    public static final String COMPRESSION_NONE = "none";
+    public static final String COMPRESSION_DEFLATE = "deflate";
+    // Release which added the model chunk index, nodes before it only read chunks from the model index.
+    static final Version CHUNK_INDEX_VERSION = Version.V_3_0_0;
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final MLIndicesHandler mlIndicesHandler;
+    private volatile String compression;
+
+    public MLModelChunkStore(Client client, ClusterService clusterService, Settings settings, MLIndicesHandler mlIndicesHandler) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.mlIndicesHandler = mlIndicesHandler;
+        compression = ML_COMMONS_MODEL_CHUNK_COMPRESSION.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_COMPRESSION, it -> compression = it);
+    }
+
+    /**
+     * Get model chunk id.
+     *
+     * @param modelId model id
+     * @param chunkNumber model chunk number
+     * @return model chunk id
+     */
+    public static String getChunkId(String modelId, int chunkNumber) {
+        return modelId + "_" + chunkNumber;
+    }
+
+    /**
+     * Create the request which indexes a model chunk. The model chunk index must exist, see {@link #initChunkIndex}.
+     * The request doesn't refresh the index, see {@link #refreshChunks} once all chunks of the model are indexed.
+     *
+     * @param modelId model id
+     * @param algorithm algorithm of the model
+     * @param chunkNumber model chunk number
+     * @param content chunk content
+     * @return index request of the chunk
+     * @throws IOException if the request can't be built
+     */
+    public IndexRequest createIndexRequest(String modelId, FunctionName algorithm, int chunkNumber, byte[] content) throws IOException {
+        if (!isChunkIndexEnabled()) {
+            return createLegacyIndexRequest(modelId, algorithm, chunkNumber, content);
+        }
+        String chunkCompression = compression;
+        byte[] storedContent = compress(chunkCompression, content);
+        XContentBuilder builder = XContentFactory.smileBuilder();
+        builder.startObject();
+        builder.field(MODEL_ID_FIELD, modelId);
+        builder.field(CHUNK_NUMBER_FIELD, chunkNumber);
+        builder.field(MODEL_CONTENT_FIELD, storedContent);
+        builder.field(MODEL_CHUNK_COMPRESSION_FIELD, chunkCompression);
+        builder.field(MODEL_CONTENT_SIZE_IN_BYTES_FIELD, content.length);
+        builder.field(CREATE_TIME_FIELD, Instant.now().toEpochMilli());
+        builder.endObject();
+        return new IndexRequest(ML_MODEL_CHUNK_INDEX).id(getChunkId(modelId, chunkNumber)).source(builder);
+    }
+
+    /**
+     * Chunks are written to the model chunk index once all nodes read chunks from there, see {@link #CHUNK_INDEX_VERSION}.
+     */
+    @VisibleForTesting
+    boolean isChunkIndexEnabled() {
+        return clusterService.state().nodes().getMinNodeVersion().onOrAfter(CHUNK_INDEX_VERSION);
+    }
+
+    private IndexRequest createLegacyIndexRequest(String modelId, FunctionName algorithm, int chunkNumber, byte[] content)
+        throws IOException {
+        Instant now = Instant.now();
+        MLModel chunk = MLModel
+            .builder()
+            .modelId(modelId)
+            .algorithm(algorithm)
+            .chunkNumber(chunkNumber)
+            .content(Base64.getEncoder().encodeToString(content))
+            .createdTime(now)
+            .lastUpdateTime(now)
+            .build();
+        return new IndexRequest(ML_MODEL_INDEX)
+            .id(getChunkId(modelId, chunkNumber))
+            .source(chunk.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+    }
+
+    /**
+     * Store a model chunk, creating the model chunk index if absent. The chunk isn't refreshed, see
+     * {@link #refreshChunks}.
+     *
+     * @param modelId model id
+     * @param algorithm algorithm of the model
+     * @param chunkNumber model chunk number
+     * @param content chunk content
+     * @param listener action listener
+     */
+    public void putChunk(String modelId, FunctionName algorithm, int chunkNumber, byte[] content, ActionListener<IndexResponse> listener) {
+        initChunkIndex(ActionListener.wrap(r -> {
+            IndexRequest indexRequest = createIndexRequest(modelId, algorithm, chunkNumber, content);
+            client.index(indexRequest, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Refresh the stored chunks once all chunks of a model are stored, so they can be searched and deleted by query.
+     * Both indices are refreshed, as the index chunks are written to changes when the last node before
+     * {@link #CHUNK_INDEX_VERSION} leaves.
+     *
+     * @param listener action listener
+     */
+    public void refreshChunks(ActionListener<Void> listener) {
+        RefreshRequest refreshRequest = new RefreshRequest(ML_MODEL_CHUNK_INDEX, ML_MODEL_INDEX);
+        refreshRequest.indicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN);
+        client.admin().indices().refresh(refreshRequest, ActionListener.wrap(r -> listener.onResponse(null), listener::onFailure));
+    }
+
+    /**
+     * Create the model chunk index if absent.
+     *
+     * @param listener action listener, fails if the index can't be created
+     */
+    public void initChunkIndex(ActionListener<Void> listener) {
+        mlIndicesHandler.initModelChunkIndexIfAbsent(ActionListener.wrap(created -> {
+            if (!created) {
+                listener.onFailure(new MLException("Failed to create model chunk index"));
+                return;
+            }
+            listener.onResponse(null);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Read a model chunk from the model chunk index, or from the model index if the model stored its chunks there.
+     *
+     * @param modelId model id
+     * @param chunkNumber model chunk number
+     * @param listener action listener, gets the chunk content
+     */
+    public void getChunk(String modelId, int chunkNumber, ActionListener<byte[]> listener) {
+        String chunkId = getChunkId(modelId, chunkNumber);
+        GetRequest getRequest = new GetRequest(ML_MODEL_CHUNK_INDEX)
+            .id(chunkId)
+            .storedFields(MODEL_CONTENT_FIELD)
+            .fetchSourceContext(new FetchSourceContext(true));
+        client.get(getRequest, ActionListener.wrap(r -> {
+            if (r == null || !r.isExists()) {
+                getLegacyChunk(chunkId, listener);
+                return;
+            }
+            listener.onResponse(parseChunk(r));
+        }, e -> {
+            if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                getLegacyChunk(chunkId, listener);
+            } else {
+                listener.onFailure(e);
+            }
+        }));
+    }
+
+    private void getLegacyChunk(String chunkId, ActionListener<byte[]> listener) {
+        GetRequest getRequest = new GetRequest(ML_MODEL_INDEX)
+            .id(chunkId)
+            .fetchSourceContext(new FetchSourceContext(true, new String[] { MODEL_CONTENT_FIELD }, null));
+        client.get(getRequest, ActionListener.wrap(r -> {
+            Object content = r == null || !r.isExists() ? null : r.getSourceAsMap().get(MODEL_CONTENT_FIELD);
+            if (content == null) {
+                listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + chunkId));
+                return;
+            }
+            listener.onResponse(Base64.getDecoder().decode(content.toString()));
+        }, listener::onFailure));
+    }
+
+    @VisibleForTesting
+    static byte[] parseChunk(GetResponse response) throws IOException {
+        DocumentField contentField = response.getField(MODEL_CONTENT_FIELD);
+        if (contentField == null || contentField.getValue() == null) {
+            throw new MLResourceNotFoundException("Model chunk " + response.getId() + " has no content");
+        }
+        Object value = contentField.getValue();
+        byte[] content;
+        if (value instanceof BytesReference) {
+            content = BytesReference.toBytes((BytesReference) value);
+        } else if (value instanceof byte[]) {
+            content = (byte[]) value;
+        } else {
+            content = Base64.getDecoder().decode(value.toString());
+        }
+        Map<String, Object> source = response.getSourceAsMap();
+        Object chunkCompression = source == null ? null : source.get(MODEL_CHUNK_COMPRESSION_FIELD);
+        Object contentSize = source == null ? null : source.get(MODEL_CONTENT_SIZE_IN_BYTES_FIELD);
+        return decompress(
+            chunkCompression == null ? COMPRESSION_NONE : chunkCompression.toString(),
+            content,
+            contentSize == null ? -1 : ((Number) contentSize).intValue()
+        );
+    }
+
+    @VisibleForTesting
+    static byte[] compress(String compression, byte[] content) {
+        if (!COMPRESSION_DEFLATE.equals(compression)) {
+            return content;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @VisibleForTesting
+    static byte[] decompress(String compression, byte[] content, int contentSize) throws IOException {
+        if (COMPRESSION_NONE.equals(compression)) {
+            return content;
+        }
+        if (!COMPRESSION_DEFLATE.equals(compression)) {
+            throw new MLException("Unknown model chunk compression " + compression);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(content);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(contentSize > 0 ? contentSize : content.length * 2);
+            byte[] buffer = new byte[64 * 1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated model chunk content");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted model chunk content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
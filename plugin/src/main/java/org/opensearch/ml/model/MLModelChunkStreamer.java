@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.exception.MLException;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Registers a model file from its URL in a single pass: the file is hashed and cut into chunks as it's downloaded, and
+ * the chunks are indexed while the download goes on, rather than the file being downloaded, read again to hash it, split
+ * into chunk files and the chunk files read again to index them one at a time. A bounded number of chunks is indexed at
+ * the same time, which also bounds how far the download runs ahead, and the model chunk index is refreshed once at the
+ * end rather than for every chunk.
+ */
+@Log4j2
+public class MLModelChunkStreamer {
+    private final Client client;
+    private final MLModelChunkStore modelChunkStore;
+    private volatile Integer chunkIndexingConcurrency;
+
+    public MLModelChunkStreamer(Client client, ClusterService clusterService, Settings settings, MLModelChunkStore modelChunkStore) {
+        this.client = client;
+        this.modelChunkStore = modelChunkStore;
+        chunkIndexingConcurrency = ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY, it -> chunkIndexingConcurrency = it);
+    }
+
+    /**
+     * Download a model file and index it as model chunks. The model chunk index must exist, see
+     * {@link MLModelChunkStore#initChunkIndex}. This blocks while the file is downloaded, so it must run on a thread
+     * which may block; the listener is called once all chunks are indexed, on the thread indexing the last chunk.
+     * Chunks indexed before a failure are left to the caller to delete.
+     *
+     * @param modelId model id
+     * @param algorithm algorithm of the model
+     * @param url model file URL, may be a local file:// URL; a .gz file is decompressed
+     * @param modelFile file which gets a copy of the model file to check its content afterwards, null to keep no copy
+     * @param contentSizeLimit maximum size of the model file in bytes
+     * @param listener action listener, gets the number of chunks, size and SHA-256 hash of the model file
+     */
+    public void streamModel(
+        String modelId,
+        FunctionName algorithm,
+        String url,
+        File modelFile,
+        long contentSizeLimit,
+        ActionListener<StreamedModel> listener
+    ) {
+        Semaphore permits = new Semaphore(chunkIndexingConcurrency);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicReference<StreamedModel> result = new AtomicReference<>();
+        // The download holds one count too, so the listener is called once both the download and the indexing are done.
+        AtomicInteger pending = new AtomicInteger(1);
+        Runnable onPendingDone = () -> {
+            if (pending.decrementAndGet() == 0) {
+                refreshChunkIndex(modelId, failure.get(), result.get(), listener);
+            }
+        };
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                Hasher hasher = Hashing.sha256().newHasher();
+                long contentSize = 0;
+                int chunkNumber = 0;
+                try (InputStream in = openStream(url); OutputStream out = openCopy(modelFile)) {
+                    byte[] chunk;
+                    while (failure.get() == null && (chunk = in.readNBytes(CHUNK_SIZE)).length > 0) {
+                        contentSize += chunk.length;
+                        if (contentSize >= contentSizeLimit) {
+                            throw new MLException("Model file size exceeds the limit of " + contentSizeLimit + " bytes");
+                        }
+                        hasher.putBytes(chunk);
+                        if (out != null) {
+                            out.write(chunk);
+                        }
+                        IndexRequest indexRequest = modelChunkStore.createIndexRequest(modelId, algorithm, chunkNumber, chunk);
+                        permits.acquire();
+                        pending.incrementAndGet();
+                        String chunkId = MLModelChunkStore.getChunkId(modelId, chunkNumber);
+                        client.index(indexRequest, ActionListener.wrap(r -> {
+                            permits.release();
+                            onPendingDone.run();
+                        }, e -> {
+                            log.error("Failed to index model chunk " + chunkId, e);
+                            failure.compareAndSet(null, e);
+                            permits.release();
+                            onPendingDone.run();
+                        }));
+                        chunkNumber++;
+                    }
+                }
+                if (failure.get() == null && chunkNumber == 0) {
+                    throw new IllegalArgumentException("Model file is empty");
+                }
+                result.set(new StreamedModel(chunkNumber, contentSize, hasher.hash().toString()));
+                return null;
+            });
+        } catch (Exception e) {
+            failure.compareAndSet(null, e instanceof PrivilegedActionException ? (Exception) e.getCause() : e);
+        }
+        onPendingDone.run();
+    }
+
+    private void refreshChunkIndex(String modelId, Exception failure, StreamedModel result, ActionListener<StreamedModel> listener) {
+        // Refresh after a failure too, so the chunks indexed so far can be found and deleted.
+        modelChunkStore.refreshChunks(ActionListener.wrap(r -> {
+            if (failure != null) {
+                listener.onFailure(failure);
+            } else {
+                log.debug("Indexed {} chunks of model {}", result.getTotalChunks(), modelId);
+                listener.onResponse(result);
+            }
+        }, e -> {
+            log.error("Failed to refresh model chunk index", e);
+            listener.onFailure(failure != null ? failure : e);
+        }));
+    }
+
+    private InputStream openStream(String url) throws Exception {
+        URL modelUrl = new URL(url);
+        InputStream in = modelUrl.openStream();
+        return modelUrl.getPath().endsWith(".gz") ? new GZIPInputStream(in) : in;
+    }
+
+    private OutputStream openCopy(File modelFile) throws Exception {
+        if (modelFile == null) {
+            return null;
+        }
+        File parent = modelFile.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        return new BufferedOutputStream(new FileOutputStream(modelFile));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StreamedModel {
+        private final int totalChunks;
+        private final long contentSizeInBytes;
+        private final String contentHash;
+    }
+}
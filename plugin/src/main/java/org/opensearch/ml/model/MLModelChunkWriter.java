@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Writes model chunks, which may be retrieved in any order, straight into the model file at their offsets, and hashes
+ * the model content as it's written, so the chunks are neither written to files of their own and merged nor read again
+ * to verify the hash. Chunks may have any size, so a chunk is written once all chunks before it are, and a chunk which
+ * arrives early is held until then. The caller bounds how far ahead of the written chunks it retrieves.
+ */
+public class MLModelChunkWriter implements Closeable {
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    // Chunks retrieved before the chunks in front of them, by chunk number.
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private int writtenChunks;
+    private long position;
+
+    /**
+     * Create the model file.
+     * @param file model file, overwritten if it exists
+     * @param contentSize expected size of the model content to allocate up front, null if unknown
+     * @throws IOException if the file can't be created
+     */
+    public MLModelChunkWriter(File file, Long contentSize) throws IOException {
+        this.file = file;
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(contentSize == null || contentSize < 0 ? 0 : contentSize);
+        channel = randomAccessFile.getChannel();
+    }
+
+    /**
+     * Write a chunk, and the chunks held after it which it unblocks.
+     * @param chunk chunk number, starting from 0
+     * @param content chunk content
+     * @return number of chunks written in total
+     * @throws IOException if writing the file fails
+     */
+    public synchronized int write(int chunk, byte[] content) throws IOException {
+        if (chunk < writtenChunks || pendingChunks.containsKey(chunk)) {
+            throw new IllegalArgumentException("Model chunk " + chunk + " is written already");
+        }
+        pendingChunks.put(chunk, content);
+        byte[] next;
+        while ((next = pendingChunks.remove(writtenChunks)) != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(next);
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            hasher.putBytes(next);
+            writtenChunks++;
+        }
+        return writtenChunks;
+    }
+
+    public synchronized int getWrittenChunks() {
+        return writtenChunks;
+    }
+
+    /**
+     * Complete the model file once all chunks are written.
+     * @return SHA-256 hash of the model content in hex, the same as {@code FileUtils.calculateFileHash} of the file
+     * @throws IOException if completing the file fails
+     */
+    public synchronized String finish() throws IOException {
+        if (!pendingChunks.isEmpty()) {
+            throw new IllegalStateException("Model chunks " + pendingChunks.keySet() + " aren't written, a chunk before them is missing");
+        }
+        // Drop what's left of the allocated space if the content is smaller than expected.
+        channel.truncate(position);
+        channel.force(false);
+        close();
+        return hasher.hash().toString();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        pendingChunks.clear();
+        randomAccessFile.close();
+    }
+}
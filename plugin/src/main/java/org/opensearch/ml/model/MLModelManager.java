@@ -8,6 +8,7 @@ package org.opensearch.ml.model;
 import static org.opensearch.common.xcontent.XContentType.JSON;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
@@ -20,12 +21,10 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
-import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
-import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLUSTER_SERVICE;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CONNECTOR_METRICS_REGISTRY;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.MODEL_RATE_LIMITER;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.USER_RATE_LIMITER_MAP;
@@ -33,13 +32,14 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.PREDICT_STAGE_METRICS;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
@@ -47,22 +47,22 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
+import java.security.AccessController;
 import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -79,6 +79,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -118,7 +119,7 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -133,7 +134,6 @@ import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -160,10 +160,14 @@ public class MLModelManager {
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelChunkStore modelChunkStore;
+    private final MLModelArtifactService modelArtifactService;
+    private final MLModelChunkStreamer modelChunkStreamer;
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
     private volatile Integer maxDeployTasksPerNode;
+    private volatile Integer modelChunkRetrievalConcurrency;
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -189,7 +193,10 @@ public class MLModelManager {
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
-        DiscoveryNodeHelper nodeHelper
+        DiscoveryNodeHelper nodeHelper,
+        MLModelChunkStore modelChunkStore,
+        MLModelArtifactService modelArtifactService,
+        MLModelChunkStreamer modelChunkStreamer
     ) {
         this.client = client;
         this.threadPool = threadPool;
@@ -204,6 +211,9 @@ public class MLModelManager {
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.modelChunkStore = modelChunkStore;
+        this.modelArtifactService = modelArtifactService;
+        this.modelChunkStreamer = modelChunkStreamer;
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -217,6 +227,11 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        modelChunkRetrievalConcurrency = ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY, it -> modelChunkRetrievalConcurrency = it);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -693,92 +708,45 @@ public class MLModelManager {
         String version,
         String modelId
     ) {
-        modelHelper
-            .downloadAndSplit(
-                registerModelInput.getModelFormat(),
+        // Keep a copy of the model file to check its entries once it's downloaded, the chunks are indexed meanwhile.
+        File modelZipFile = new File(mlEngine.getRegisterModelPath(modelId, modelName, version) + ".zip");
+        ActionListener<MLModelChunkStreamer.StreamedModel> streamListener = ActionListener.wrap(streamedModel -> {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                modelHelper
+                    .verifyModelZipFile(registerModelInput.getModelFormat(), modelZipFile.getAbsolutePath(), modelName, functionName);
+                return null;
+            });
+            if (!streamedModel.getContentHash().equals(registerModelInput.getHashValue())) {
+                log.error("Model content hash can't match original hash value when registering");
+                throw new IllegalArgumentException("model content changed");
+            }
+            updateModelRegisterStateAsDone(
+                registerModelInput,
+                taskId,
                 modelId,
-                modelName,
-                version,
-                registerModelInput.getUrl(),
-                registerModelInput.getHashValue(),
-                functionName,
-                ActionListener.wrap(result -> {
-                    Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
-                    if (modelSizeInBytes >= MODEL_FILE_SIZE_LIMIT) {
-                        throw new MLException("Model file size exceeds the limit of 4GB: " + modelSizeInBytes);
-                    }
-                    List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
-                    String hashValue = (String) result.get(MODEL_FILE_HASH);
-                    Semaphore semaphore = new Semaphore(1);
-                    AtomicInteger uploaded = new AtomicInteger(0);
-                    AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                    // upload chunks
-                    for (String name : chunkFiles) {
-                        semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                        if (failedToUploadChunk.get()) {
-                            throw new MLException("Failed to save model chunk");
-                        }
-                        File file = new File(name);
-                        byte[] bytes = Files.toByteArray(file);
-                        int chunkNum = Integer.parseInt(file.getName());
-                        Instant now = Instant.now();
-                        MLModel mlModel = MLModel
-                            .builder()
-                            .modelId(modelId)
-                            .name(modelName)
-                            .algorithm(functionName)
-                            .version(version)
-                            .modelFormat(registerModelInput.getModelFormat())
-                            .modelRateLimiterConfig(registerModelInput.getModelRateLimiterConfig())
-                            .chunkNumber(chunkNum)
-                            .totalChunks(chunkFiles.size())
-                            .content(Base64.getEncoder().encodeToString(bytes))
-                            .createdTime(now)
-                            .lastUpdateTime(now)
-                            .isHidden(registerModelInput.getIsHidden())
-                            .build();
-                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                        if (registerModelInput.getIsHidden()) {
-                            indexRequest.id(modelName);
-                        }
-                        String chunkId = getModelChunkId(modelId, chunkNum);
-                        indexRequest.id(chunkId);
-                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
-                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                        client.index(indexRequest, ActionListener.wrap(r -> {
-                            uploaded.getAndIncrement();
-                            if (uploaded.get() == chunkFiles.size()) {
-                                updateModelRegisterStateAsDone(
-                                    registerModelInput,
-                                    taskId,
-                                    modelId,
-                                    modelSizeInBytes,
-                                    chunkFiles,
-                                    hashValue,
-                                    version
-                                );
-                            } else {
-                                deleteFileQuietly(file);
-                            }
-                            semaphore.release();
-                        }, e -> {
-                            log.error("Failed to index model chunk " + chunkId, e);
-                            failedToUploadChunk.set(true);
-                            handleException(functionName, taskId, e);
-                            deleteFileQuietly(file);
-                            // remove model doc as failed to upload model
-                            deleteModel(modelId, registerModelInput, version);
-                            semaphore.release();
-                            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                        }));
-                    }
-                }, e -> {
-                    log.error("Failed to index chunk file", e);
-                    deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                    deleteModel(modelId, registerModelInput, version);
-                    handleException(functionName, taskId, e);
-                })
+                streamedModel.getContentSizeInBytes(),
+                streamedModel.getTotalChunks(),
+                streamedModel.getContentHash(),
+                version
             );
+        }, e -> {
+            log.error("Failed to index model chunks", e);
+            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+            // remove model doc and chunks as failed to upload model
+            deleteModel(modelId, registerModelInput, version);
+            handleException(functionName, taskId, e);
+        });
+        modelChunkStore.initChunkIndex(threadedActionListener(REGISTER_THREAD_POOL, ActionListener.wrap(r -> {
+            modelChunkStreamer
+                .streamModel(
+                    modelId,
+                    functionName,
+                    registerModelInput.getUrl(),
+                    modelZipFile,
+                    MODEL_FILE_SIZE_LIMIT,
+                    threadedActionListener(REGISTER_THREAD_POOL, streamListener)
+                );
+        }, streamListener::onFailure)));
     }
 
     private void registerPrebuiltModel(MLRegisterModelInput registerModelInput, MLTask mlTask, String modelVersion)
@@ -818,7 +786,7 @@ public class MLModelManager {
         String taskId,
         String modelId,
         Long modelSizeInBytes,
-        List<String> chunkFiles,
+        int totalChunks,
         String hashValue,
         String version
     ) {
@@ -831,7 +799,7 @@ public class MLModelManager {
                 MLModel.LAST_REGISTERED_TIME_FIELD,
                 Instant.now().toEpochMilli(),
                 MLModel.TOTAL_CHUNKS_FIELD,
-                chunkFiles.size(),
+                totalChunks,
                 MLModel.MODEL_CONTENT_HASH_VALUE_FIELD,
                 hashValue,
                 MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD,
@@ -864,7 +832,7 @@ public class MLModelManager {
         DeleteRequest deleteRequest = new DeleteRequest();
         deleteRequest.index(ML_MODEL_INDEX).id(modelId).setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
         client.delete(deleteRequest);
-        DeleteByQueryRequest deleteChunksRequest = new DeleteByQueryRequest(ML_MODEL_INDEX)
+        DeleteByQueryRequest deleteChunksRequest = new DeleteByQueryRequest(ML_MODEL_INDEX, ML_MODEL_CHUNK_INDEX)
             .setQuery(new TermQueryBuilder(MLModel.MODEL_ID_FIELD, modelId))
             .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
             .setAbortOnVersionConflict(false);
@@ -988,8 +956,9 @@ public class MLModelManager {
                 deployModelControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelArtifact(mlModel, ActionListener.wrap(modelFileAndHash -> {// read model chunks
+                    File modelZipFile = modelFileAndHash.v1();
+                    String hash = modelFileAndHash.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -997,7 +966,12 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    modelArtifactService.retainArtifact(mlModel, hash, modelZipFile);
+                    Map<String, Object> params = new HashMap<>();
+                    params.put(MODEL_ZIP_FILE, modelZipFile);
+                    params.put(MODEL_HELPER, modelHelper);
+                    params.put(ML_ENGINE, mlEngine);
+                    params.put(PREDICT_STAGE_METRICS, modelCacheHelper.getPredictStageMetrics(modelId));
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1080,6 +1054,7 @@ public class MLModelManager {
         params.put(CLIENT, client);
         params.put(XCONTENT_REGISTRY, xContentRegistry);
         params.put(CLUSTER_SERVICE, clusterService);
+        params.put(CONNECTOR_METRICS_REGISTRY, mlStats.getConnectorMetricsRegistry());
 
         if (modelRateLimiter == null && userRateLimiterMap == null) {
             log.info("Setting up basic ML predictor parameters.");
@@ -1476,46 +1451,147 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Retrieve a model's artifact into the model file, from the least loaded node which holds it, or from the model chunks
+     * in the model index if no node does or the transfer fails.
+     *
+     * @param mlModelMeta model meta
+     * @param listener action listener, gets the model file and the SHA-256 hash of its content
+     */
+    private void retrieveModelArtifact(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) {
+        String modelId = mlModelMeta.getModelId();
+        modelArtifactService.findPeer(mlModelMeta, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(nodeId -> {
+            if (nodeId == null) {
+                retrieveModelChunks(mlModelMeta, listener);
+                return;
+            }
+            log.debug("Retrieve model {} from node {}", modelId, nodeId);
+            int totalChunks = MLModelArtifactService.getTransferChunks(mlModelMeta.getModelContentSizeInBytes());
+            retrieveModelChunks(
+                mlModelMeta,
+                totalChunks,
+                (chunk, chunkListener) -> modelArtifactService.fetchChunk(nodeId, mlModelMeta, chunk, chunkListener),
+                ActionListener.wrap(modelFileAndHash -> {
+                    if (modelFileAndHash.v2().equals(mlModelMeta.getModelContentHash())) {
+                        listener.onResponse(modelFileAndHash);
+                        return;
+                    }
+                    log.warn("Model {} from node {} doesn't match the model content hash, retrieve it from model index", modelId, nodeId);
+                    deleteFileQuietly(modelFileAndHash.v1());
+                    retrieveModelChunks(mlModelMeta, listener);
+                }, e -> {
+                    log.warn("Failed to retrieve model " + modelId + " from node " + nodeId + ", retrieve it from model index", e);
+                    retrieveModelChunks(mlModelMeta, listener);
+                })
+            );
+        }, listener::onFailure)));
+    }
+
+    /**
+     * Retreive a model's all chunks from the model index into the model file.
+     *
+     * @param mlModelMeta model meta
+     * @param listener action listener, gets the model file and the SHA-256 hash of its content
+     */
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) {
+        String modelId = mlModelMeta.getModelId();
+        retrieveModelChunks(
+            mlModelMeta,
+            mlModelMeta.getTotalChunks(),
+            (chunk, chunkListener) -> modelChunkStore.getChunk(modelId, chunk, chunkListener),
+            listener
+        );
+    }
+
+    /**
+     * Retreive a model's all chunks into the model file. Chunks are retrieved in parallel, bounded by the chunk retrieval
+     * concurrency setting, and no further ahead of the chunks written to the file than that.
      * 
      * @param mlModelMeta model meta
-     * @param listener action listener
+     * @param totalChunks number of chunks
+     * @param chunkReader reads a chunk by chunk number
+     * @param listener action listener, gets the model file and the SHA-256 hash of its content
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(
+        MLModel mlModelMeta,
+        int totalChunks,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        ActionListener<Tuple<File, String>> listener
+    ) {
         String modelId = mlModelMeta.getModelId();
         String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, modelName));
+        MLModelChunkWriter chunkWriter;
+        try {
+            chunkWriter = new MLModelChunkWriter(modelZipFile, mlModelMeta.getModelContentSizeInBytes());
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        int concurrency = modelChunkRetrievalConcurrency;
+        AtomicInteger nextChunk = new AtomicInteger(0);
+        AtomicBoolean done = new AtomicBoolean(false);
+        ActionListener<Tuple<File, String>> chunksListener = new ActionListener<>() {
+            @Override
+            public void onResponse(Tuple<File, String> modelFileAndHash) {
+                listener.onResponse(modelFileAndHash);
             }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    chunkWriter.close();
+                } catch (IOException ex) {
+                    log.error("Failed to close model file " + modelZipFile, ex);
                 }
-                semaphore.release();
+                deleteFileQuietly(modelZipFile);
+                listener.onFailure(e);
+            }
+        };
+        retrieveNextModelChunks(modelId, totalChunks, chunkReader, concurrency, nextChunk, chunkWriter, done, chunksListener);
+    }
+
+    private void retrieveNextModelChunks(
+        String modelId,
+        int totalChunks,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        int concurrency,
+        AtomicInteger nextChunk,
+        MLModelChunkWriter chunkWriter,
+        AtomicBoolean done,
+        ActionListener<Tuple<File, String>> listener
+    ) {
+        while (!done.get()) {
+            int chunk = nextChunk.get();
+            // Chunks retrieved ahead of the written ones wait in memory, so don't run further ahead than the concurrency.
+            if (chunk >= totalChunks || chunk >= chunkWriter.getWrittenChunks() + concurrency) {
+                return;
+            }
+            if (!nextChunk.compareAndSet(chunk, chunk + 1)) {
+                continue;
+            }
+            String modelChunkId = this.getModelChunkId(modelId, chunk);
+            chunkReader.accept(chunk, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(content -> {
+                if (done.get()) {
+                    return;
+                }
+                int writtenChunks = chunkWriter.write(chunk, content);
+                if (writtenChunks == totalChunks) {
+                    if (done.compareAndSet(false, true)) {
+                        String hash;
+                        try {
+                            hash = chunkWriter.finish();
+                        } catch (Exception e) {
+                            listener.onFailure(e);
+                            return;
+                        }
+                        listener.onResponse(new Tuple<>(chunkWriter.getFile(), hash));
+                    }
+                    return;
+                }
+                retrieveNextModelChunks(modelId, totalChunks, chunkReader, concurrency, nextChunk, chunkWriter, done, listener);
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
                 log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
+                if (done.compareAndSet(false, true)) {
                     listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
                 }
             })));
@@ -1575,7 +1651,7 @@ public class MLModelManager {
      * @return model chunk id
      */
     public String getModelChunkId(String modelId, Integer chunkNumber) {
-        return modelId + "_" + chunkNumber;
+        return MLModelChunkStore.getChunkId(modelId, chunkNumber);
     }
 
     /**
@@ -1662,8 +1738,13 @@ public class MLModelManager {
     }
 
     private void removeModel(String modelId) {
+        String connectorMetricsKey = modelCacheHelper.getConnectorMetricsKey(modelId);
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
+        // Connector metrics are shared by the models calling the same connector, drop them with the last one.
+        if (connectorMetricsKey != null && !modelCacheHelper.isConnectorMetricsKeyInUse(connectorMetricsKey)) {
+            mlStats.getConnectorMetricsRegistry().remove(connectorMetricsKey);
+        }
     }
 
     /**
@@ -1763,9 +1844,20 @@ public class MLModelManager {
         long end = System.nanoTime();
         double durationInMs = (end - start) / 1e6;
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
+        modelCacheHelper.recordPredictStage(modelId, PredictStageMetrics.Stage.INFERENCE, end - start);
         return t;
     }
 
+    /**
+     * Record the latency of one predict stage of model.
+     * @param modelId model id
+     * @param stage predict stage
+     * @param durationNanos time in nanoseconds used by the stage
+     */
+    public void recordPredictStage(String modelId, PredictStageMetrics.Stage stage, long durationNanos) {
+        modelCacheHelper.recordPredictStage(modelId, stage, durationNanos);
+    }
+
     public FunctionName getModelFunctionName(String modelId) {
         return modelCacheHelper.getFunctionName(modelId);
     }
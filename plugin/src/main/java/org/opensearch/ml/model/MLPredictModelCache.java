@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_MODEL_CACHE_SIZE;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+import com.google.common.collect.ImmutableSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local LRU cache of models which are predicted without being deployed, e.g. KMeans and linear regression
+ * models. Each entry holds a predictable instance with the model already deserialized, so repeated predict requests
+ * skip reading the model index and deserializing the model. Entries are dropped when the model is updated or deleted.
+ */
+@Log4j2
+public class MLPredictModelCache {
+
+    // Only algorithms whose predict doesn't change the loaded model can share one instance between requests. RCF
+    // models are excluded since predicting advances the forest state.
+    private static final Set<FunctionName> CACHEABLE_ALGORITHMS = ImmutableSet
+        .of(FunctionName.KMEANS, FunctionName.LINEAR_REGRESSION, FunctionName.LOGISTIC_REGRESSION, FunctionName.AD_LIBSVM);
+
+    private final ClusterService clusterService;
+    private volatile int maxSize;
+    private final LinkedHashMap<CacheKey, CachedModel> cache = new LinkedHashMap<>(16, 0.75f, true);
+    // Bumped on every invalidation, so a model read before an invalidation is not cached after it.
+    private long generation;
+
+    public MLPredictModelCache(ClusterService clusterService, Settings settings) {
+        this.clusterService = clusterService;
+        maxSize = ML_COMMONS_PREDICT_MODEL_CACHE_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_MODEL_CACHE_SIZE, it -> {
+            maxSize = it;
+            evict();
+        });
+    }
+
+    public boolean isCacheable(FunctionName algorithm) {
+        return maxSize > 0 && CACHEABLE_ALGORITHMS.contains(algorithm);
+    }
+
+    /**
+     * Get the cached model.
+     * @param modelId model id
+     * @param parameters algorithm parameters of the predict request
+     * @return cached model, or null if the model is not cached with these parameters
+     */
+    public synchronized CachedModel get(String modelId, MLAlgoParams parameters) {
+        return cache.get(new CacheKey(modelId, parameters));
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Cache a loaded model.
+     * @param modelId model id
+     * @param parameters algorithm parameters the predictable instance was built with
+     * @param model cached model
+     * @param generation generation read before the model was read from the model index
+     */
+    public synchronized void put(String modelId, MLAlgoParams parameters, CachedModel model, long generation) {
+        if (generation != this.generation || maxSize <= 0) {
+            return;
+        }
+        cache.put(new CacheKey(modelId, parameters), model);
+        evict();
+    }
+
+    /**
+     * Drop the cached entries of the given models.
+     * @param modelIds model ids, or null to drop all entries
+     */
+    public synchronized void invalidate(Collection<String> modelIds) {
+        generation++;
+        if (modelIds == null) {
+            cache.clear();
+            return;
+        }
+        cache.keySet().removeIf(key -> modelIds.contains(key.modelId));
+    }
+
+    /**
+     * Drop the cached entries of the given models on all nodes, e.g. after the models are updated or deleted.
+     * @param modelIds updated model ids
+     * @param client client
+     */
+    public void broadcastModelUpdate(Set<String> modelIds, Client client) {
+        invalidate(modelIds);
+        DiscoveryNode[] nodes = MLNodeUtils.getCacheInvalidationNodes(clusterService.state().nodes());
+        if (nodes.length == 0) {
+            return;
+        }
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().updatedModelIds(modelIds).build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodes, syncUpInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    MLSyncUpAction.INSTANCE,
+                    syncUpRequest,
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("Invalidated cached predict models {}", modelIds),
+                            e -> log.error("Failed to invalidate cached predict models", e)
+                        )
+                );
+        }
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private synchronized void evict() {
+        while (cache.size() > maxSize) {
+            CacheKey eldest = cache.keySet().iterator().next();
+            cache.remove(eldest);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedModel {
+        private final Predictable predictable;
+        private final User user;
+    }
+
+    private static class CacheKey {
+        private final String modelId;
+        private final MLAlgoParams parameters;
+
+        private CacheKey(String modelId, MLAlgoParams parameters) {
+            this.modelId = modelId;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return modelId.equals(other.modelId) && Objects.equals(parameters, other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelId, parameters);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_CONTROLLER_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -41,6 +42,9 @@ import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
 import org.opensearch.ml.action.agents.TransportSearchAgentAction;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesAction;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesTransportAction;
+import org.opensearch.ml.action.batch.TransportBatchPredictionAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
 import org.opensearch.ml.action.connector.GetConnectorTransportAction;
 import org.opensearch.ml.action.connector.SearchConnectorTransportAction;
@@ -66,6 +70,7 @@ import org.opensearch.ml.action.models.DeleteModelTransportAction;
 import org.opensearch.ml.action.models.GetModelTransportAction;
 import org.opensearch.ml.action.models.SearchModelTransportAction;
 import org.opensearch.ml.action.models.UpdateModelTransportAction;
+import org.opensearch.ml.action.prediction.TransportBulkPredictionAction;
 import org.opensearch.ml.action.prediction.TransportPredictionTaskAction;
 import org.opensearch.ml.action.profile.MLProfileAction;
 import org.opensearch.ml.action.profile.MLProfileTransportAction;
@@ -82,6 +87,8 @@ import org.opensearch.ml.action.undeploy.TransportUndeployModelAction;
 import org.opensearch.ml.action.undeploy.TransportUndeployModelsAction;
 import org.opensearch.ml.action.update_cache.UpdateModelCacheTransportAction;
 import org.opensearch.ml.action.upload_chunk.MLModelChunkUploader;
+import org.opensearch.ml.action.upload_chunk.MLModelUploadSessionManager;
+import org.opensearch.ml.action.upload_chunk.TransportModelUploadSessionAction;
 import org.opensearch.ml.action.upload_chunk.TransportRegisterModelMetaAction;
 import org.opensearch.ml.action.upload_chunk.TransportUploadModelChunkAction;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
@@ -110,6 +117,7 @@ import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorSearchAction;
@@ -134,6 +142,7 @@ import org.opensearch.ml.common.transport.model_group.MLModelGroupGetAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupSearchAction;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
@@ -147,6 +156,7 @@ import org.opensearch.ml.common.transport.trainpredict.MLTrainAndPredictionTaskA
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheAction;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionAction;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaAction;
 import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkAction;
 import org.opensearch.ml.engine.MLEngine;
@@ -194,9 +204,15 @@ import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionTransportAction;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
+import org.opensearch.ml.model.MLModelArtifactService;
 import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.ml.model.MLModelChunkStore;
+import org.opensearch.ml.model.MLModelChunkStreamer;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
+import org.opensearch.ml.rest.RestMLBatchPredictionAction;
+import org.opensearch.ml.rest.RestMLBulkPredictionAction;
 import org.opensearch.ml.rest.RestMLCreateConnectorAction;
 import org.opensearch.ml.rest.RestMLCreateModelControllerAction;
 import org.opensearch.ml.rest.RestMLDeleteAgentAction;
@@ -215,6 +231,8 @@ import org.opensearch.ml.rest.RestMLGetModelGroupAction;
 import org.opensearch.ml.rest.RestMLGetTaskAction;
 import org.opensearch.ml.rest.RestMLGetToolAction;
 import org.opensearch.ml.rest.RestMLListToolsAction;
+import org.opensearch.ml.rest.RestMLMetricsAction;
+import org.opensearch.ml.rest.RestMLModelUploadSessionAction;
 import org.opensearch.ml.rest.RestMLPredictionAction;
 import org.opensearch.ml.rest.RestMLProfileAction;
 import org.opensearch.ml.rest.RestMLRegisterAgentAction;
@@ -255,7 +273,9 @@ import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.ml.task.MLBatchPredictionJobRunner;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
+import org.opensearch.ml.task.MLPredictQueue;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
@@ -296,12 +316,15 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     public static final String GENERAL_THREAD_POOL = "opensearch_ml_general";
     public static final String EXECUTE_THREAD_POOL = "opensearch_ml_execute";
     public static final String TRAIN_THREAD_POOL = "opensearch_ml_train";
+    // Local models predict on CPU bound threads, remote models mostly wait on connector calls, so they get their own pool.
     public static final String PREDICT_THREAD_POOL = "opensearch_ml_predict";
+    public static final String REMOTE_PREDICT_THREAD_POOL = "opensearch_ml_predict_remote";
     public static final String REGISTER_THREAD_POOL = "opensearch_ml_register";
     public static final String DEPLOY_THREAD_POOL = "opensearch_ml_deploy";
     public static final String ML_BASE_URI = "/_plugins/_ml";
 
     private MLStats mlStats;
+    private MLCircuitBreakerService mlCircuitBreakerService;
     private MLModelCacheHelper modelCacheHelper;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
@@ -311,6 +334,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     private MLPredictTaskRunner mlPredictTaskRunner;
     private MLTrainAndPredictTaskRunner mlTrainAndPredictTaskRunner;
     private MLExecuteTaskRunner mlExecuteTaskRunner;
+    private MLBatchPredictionJobRunner mlBatchPredictionJobRunner;
     private IndexUtils indexUtils;
     private ModelHelper modelHelper;
     private DiscoveryNodeHelper nodeHelper;
@@ -327,6 +351,12 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     private NamedXContentRegistry xContentRegistry;
 
     private ModelAccessControlHelper modelAccessControlHelper;
+    private MLPredictModelCache mlPredictModelCache;
+    private MLPredictQueue mlPredictQueue;
+    private MLModelChunkStore mlModelChunkStore;
+    private MLModelArtifactService mlModelArtifactService;
+    private MLModelChunkStreamer mlModelChunkStreamer;
+    private MLModelUploadSessionManager mlModelUploadSessionManager;
 
     private ConnectorAccessControlHelper connectorAccessControlHelper;
 
@@ -347,10 +377,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         return ImmutableList
             .of(
                 new ActionHandler<>(MLStatsNodesAction.INSTANCE, MLStatsNodesTransportAction.class),
+                new ActionHandler<>(MLModelArtifactNodesAction.INSTANCE, MLModelArtifactNodesTransportAction.class),
                 new ActionHandler<>(MLExecuteTaskAction.INSTANCE, TransportExecuteTaskAction.class),
                 new ActionHandler<>(MLPredictionTaskAction.INSTANCE, TransportPredictionTaskAction.class),
                 new ActionHandler<>(MLTrainingTaskAction.INSTANCE, TransportTrainingTaskAction.class),
                 new ActionHandler<>(MLTrainAndPredictionTaskAction.INSTANCE, TransportTrainAndPredictionTaskAction.class),
+                new ActionHandler<>(MLBatchPredictionAction.INSTANCE, TransportBatchPredictionAction.class),
+                new ActionHandler<>(MLBulkPredictionAction.INSTANCE, TransportBulkPredictionAction.class),
                 new ActionHandler<>(MLModelGetAction.INSTANCE, GetModelTransportAction.class),
                 new ActionHandler<>(MLModelDeleteAction.INSTANCE, DeleteModelTransportAction.class),
                 new ActionHandler<>(MLModelSearchAction.INSTANCE, SearchModelTransportAction.class),
@@ -365,6 +398,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLUndeployModelsAction.INSTANCE, TransportUndeployModelsAction.class),
                 new ActionHandler<>(MLRegisterModelMetaAction.INSTANCE, TransportRegisterModelMetaAction.class),
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
+                new ActionHandler<>(MLModelUploadSessionAction.INSTANCE, TransportModelUploadSessionAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
@@ -433,14 +467,18 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         encryptor = new EncryptorImpl(clusterService, client);
 
         mlEngine = new MLEngine(dataPath, encryptor);
+        mlEngine.setModelFormatHeaderEnabled(MLCommonsSettings.ML_COMMONS_MODEL_FORMAT_HEADER_ENABLED.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_MODEL_FORMAT_HEADER_ENABLED, mlEngine::setModelFormatHeaderEnabled);
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
-        MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService)
-            .init(dataPath);
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService).init(dataPath);
+        mlCircuitBreakerService.startSampling(threadPool);
 
         Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
         // cluster level stats
@@ -467,6 +505,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
         mlTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler);
         modelHelper = new ModelHelper(mlEngine);
+        mlModelChunkStore = new MLModelChunkStore(client, clusterService, settings, mlIndicesHandler);
+        mlModelArtifactService = new MLModelArtifactService(client, clusterService, settings, mlEngine, nodeHelper);
+        mlModelChunkStreamer = new MLModelChunkStreamer(client, clusterService, settings, mlModelChunkStore);
         mlModelManager = new MLModelManager(
             clusterService,
             scriptService,
@@ -481,14 +522,36 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             mlTaskManager,
             modelCacheHelper,
             mlEngine,
-            nodeHelper
+            nodeHelper,
+            mlModelChunkStore,
+            mlModelArtifactService,
+            mlModelChunkStreamer
         );
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
+        mlPredictModelCache = new MLPredictModelCache(clusterService, settings);
+        mlPredictQueue = new MLPredictQueue(threadPool, clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
         mlFeatureEnabledSetting = new MLFeatureEnabledSetting(clusterService, settings);
 
-        mlModelChunkUploader = new MLModelChunkUploader(mlIndicesHandler, client, xContentRegistry, modelAccessControlHelper);
+        mlModelChunkUploader = new MLModelChunkUploader(
+            mlIndicesHandler,
+            client,
+            xContentRegistry,
+            modelAccessControlHelper,
+            mlModelChunkStore
+        );
+        mlModelUploadSessionManager = new MLModelUploadSessionManager(
+            client,
+            clusterService,
+            threadPool,
+            settings,
+            xContentRegistry,
+            modelAccessControlHelper,
+            mlModelChunkStore,
+            mlCircuitBreakerService,
+            mlStats
+        );
 
         MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
         mlTrainingTaskRunner = new MLTrainingTaskRunner(
@@ -516,7 +579,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             xContentRegistry,
             mlModelManager,
             nodeHelper,
-            mlEngine
+            mlEngine,
+            mlPredictModelCache,
+            mlPredictQueue
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
             threadPool,
@@ -542,6 +607,15 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             nodeHelper,
             mlEngine
         );
+        mlBatchPredictionJobRunner = new MLBatchPredictionJobRunner(
+            client,
+            threadPool,
+            clusterService,
+            mlTaskManager,
+            mlModelManager,
+            mlCircuitBreakerService,
+            xContentRegistry
+        );
 
         // Register thread-safe ML objects here.
         LocalSampleCalculator localSampleCalculator = new LocalSampleCalculator(client, settings);
@@ -623,13 +697,19 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 mlStats,
                 mlTaskManager,
                 mlModelManager,
+                mlModelChunkStore,
+                mlModelArtifactService,
+                mlModelUploadSessionManager,
                 mlIndicesHandler,
                 mlInputDatasetHandler,
                 mlTrainingTaskRunner,
                 mlPredictTaskRunner,
                 mlTrainAndPredictTaskRunner,
                 mlExecuteTaskRunner,
+                mlBatchPredictionJobRunner,
                 modelAccessControlHelper,
+                mlPredictModelCache,
+                mlPredictQueue,
                 connectorAccessControlHelper,
                 mlFeatureEnabledSetting,
                 mlSearchHandler,
@@ -655,9 +735,12 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         Supplier<DiscoveryNodes> nodesInCluster
     ) {
         RestMLStatsAction restMLStatsAction = new RestMLStatsAction(mlStats, clusterService, indexUtils, xContentRegistry);
+        RestMLMetricsAction restMLMetricsAction = new RestMLMetricsAction(mlStats);
         RestMLTrainingAction restMLTrainingAction = new RestMLTrainingAction();
         RestMLTrainAndPredictAction restMLTrainAndPredictAction = new RestMLTrainAndPredictAction();
         RestMLPredictionAction restMLPredictionAction = new RestMLPredictionAction(mlModelManager, mlFeatureEnabledSetting);
+        RestMLBatchPredictionAction restMLBatchPredictionAction = new RestMLBatchPredictionAction(mlModelManager, mlFeatureEnabledSetting);
+        RestMLBulkPredictionAction restMLBulkPredictionAction = new RestMLBulkPredictionAction(mlModelManager, mlFeatureEnabledSetting);
         RestMLExecuteAction restMLExecuteAction = new RestMLExecuteAction();
         RestMLGetModelAction restMLGetModelAction = new RestMLGetModelAction();
         RestMLDeleteModelAction restMLDeleteModelAction = new RestMLDeleteModelAction();
@@ -676,6 +759,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         RestMLUndeployModelAction restMLUndeployModelAction = new RestMLUndeployModelAction(clusterService, settings);
         RestMLRegisterModelMetaAction restMLRegisterModelMetaAction = new RestMLRegisterModelMetaAction(clusterService, settings);
         RestMLUploadModelChunkAction restMLUploadModelChunkAction = new RestMLUploadModelChunkAction(clusterService, settings);
+        RestMLModelUploadSessionAction restMLModelUploadSessionAction = new RestMLModelUploadSessionAction(clusterService, settings);
         RestMLRegisterModelGroupAction restMLCreateModelGroupAction = new RestMLRegisterModelGroupAction();
         RestMLUpdateModelGroupAction restMLUpdateModelGroupAction = new RestMLUpdateModelGroupAction();
         RestMLGetModelGroupAction restMLGetModelGroupAction = new RestMLGetModelGroupAction();
@@ -711,8 +795,11 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         return ImmutableList
             .of(
                 restMLStatsAction,
+                restMLMetricsAction,
                 restMLTrainingAction,
                 restMLPredictionAction,
+                restMLBatchPredictionAction,
+                restMLBulkPredictionAction,
                 restMLExecuteAction,
                 restMLTrainAndPredictAction,
                 restMLGetModelAction,
@@ -729,6 +816,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 restMLUndeployModelAction,
                 restMLRegisterModelMetaAction,
                 restMLUploadModelChunkAction,
+                restMLModelUploadSessionAction,
                 restMLCreateModelGroupAction,
                 restMLUpdateModelGroupAction,
                 restMLGetModelGroupAction,
@@ -808,14 +896,30 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         FixedExecutorBuilder predictThreadPool = new FixedExecutorBuilder(
             settings,
             PREDICT_THREAD_POOL,
-            OpenSearchExecutors.allocatedProcessors(settings) * 2,
+            OpenSearchExecutors.allocatedProcessors(settings),
             10000,
             ML_THREAD_POOL_PREFIX + PREDICT_THREAD_POOL,
             false
         );
+        FixedExecutorBuilder remotePredictThreadPool = new FixedExecutorBuilder(
+            settings,
+            REMOTE_PREDICT_THREAD_POOL,
+            OpenSearchExecutors.allocatedProcessors(settings) * 4,
+            10000,
+            ML_THREAD_POOL_PREFIX + REMOTE_PREDICT_THREAD_POOL,
+            false
+        );
 
         return ImmutableList
-            .of(generalThreadPool, registerModelThreadPool, deployModelThreadPool, executeThreadPool, trainThreadPool, predictThreadPool);
+            .of(
+                generalThreadPool,
+                registerModelThreadPool,
+                deployModelThreadPool,
+                executeThreadPool,
+                trainThreadPool,
+                predictThreadPool,
+                remotePredictThreadPool
+            );
     }
 
     @Override
@@ -849,10 +953,18 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT,
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION,
+                MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS,
                 MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES,
                 MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN,
                 MLCommonsSettings.ML_COMMONS_ENABLE_INHOUSE_PYTHON_MODEL,
@@ -862,6 +974,12 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_ALLOW_MODEL_URL,
                 MLCommonsSettings.ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD,
                 MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_MODEL_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_FORMAT_HEADER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL,
+                MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS,
                 MLCommonsSettings.ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX,
                 MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
@@ -938,4 +1056,11 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             }
         }
     }
+
+    @Override
+    public void close() throws IOException {
+        if (mlCircuitBreakerService != null) {
+            mlCircuitBreakerService.stopSampling();
+        }
+    }
 }
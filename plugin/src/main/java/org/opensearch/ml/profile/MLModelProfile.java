@@ -5,7 +5,10 @@
 
 package org.opensearch.ml.profile;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
+
 import java.io.IOException;
+import java.util.Map;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -30,8 +33,11 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final Map<String, Object> connectorStats;
+    private final Map<String, Object> predictStageStats;
+    private final Map<String, Object> predictQueueStats;
 
-    @Builder
+    @Builder(toBuilder = true)
     public MLModelProfile(
         MLModelState modelState,
         String predictor,
@@ -40,7 +46,10 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        Map<String, Object> connectorStats,
+        Map<String, Object> predictStageStats,
+        Map<String, Object> predictQueueStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -50,6 +59,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.connectorStats = connectorStats;
+        this.predictStageStats = predictStageStats;
+        this.predictQueueStats = predictQueueStats;
     }
 
     @Override
@@ -79,6 +91,15 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (connectorStats != null) {
+            builder.field("connector_stats", connectorStats);
+        }
+        if (predictStageStats != null) {
+            builder.field("predict_stage_stats", predictStageStats);
+        }
+        if (predictQueueStats != null) {
+            builder.field("predict_queue_stats", predictQueueStats);
+        }
         builder.endObject();
         return builder;
     }
@@ -104,6 +125,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         this.memSizeEstimationCPU = in.readOptionalLong();
         this.memSizeEstimationGPU = in.readOptionalLong();
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.connectorStats = in.readMap();
+        } else {
+            this.connectorStats = null;
+        }
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.predictStageStats = in.readMap();
+        } else {
+            this.predictStageStats = null;
+        }
+        if (in.getVersion().onOrAfter(VERSION_3_0_0) && in.readBoolean()) {
+            this.predictQueueStats = in.readMap();
+        } else {
+            this.predictQueueStats = null;
+        }
     }
 
     @Override
@@ -131,5 +167,25 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         out.writeOptionalLong(memSizeEstimationCPU);
         out.writeOptionalLong(memSizeEstimationGPU);
+        if (out.getVersion().onOrAfter(VERSION_3_0_0)) {
+            if (connectorStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(connectorStats);
+            } else {
+                out.writeBoolean(false);
+            }
+            if (predictStageStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(predictStageStats);
+            } else {
+                out.writeBoolean(false);
+            }
+            if (predictQueueStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(predictQueueStats);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
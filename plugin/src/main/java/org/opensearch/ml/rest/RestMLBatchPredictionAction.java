@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TASK_ID;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.task.MLTaskGetAction;
+import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class RestMLBatchPredictionAction extends BaseRestHandler {
+    private static final String ML_BATCH_PREDICTION_ACTION = "ml_batch_prediction_action";
+
+    private MLModelManager modelManager;
+
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    public RestMLBatchPredictionAction(MLModelManager modelManager, MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+        this.modelManager = modelManager;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+    }
+
+    @Override
+    public String getName() {
+        return ML_BATCH_PREDICTION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_batch_predict", ML_BASE_URI, PARAMETER_MODEL_ID)
+                ),
+                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/tasks/{%s}/_resume", ML_BASE_URI, PARAMETER_TASK_ID))
+            );
+    }
+
+    /**
+     * Batch jobs predict through the transport action, so remote models are checked against the remote inference
+     * setting here, with the algorithm of the model or of the resumed task.
+     */
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLBatchPredictionRequest batchPredictionRequest = getRequest(request);
+        MLBatchPredictionInput input = batchPredictionRequest.getMlBatchPredictionInput();
+        if (input == null) {
+            MLTaskGetRequest taskGetRequest = MLTaskGetRequest.builder().taskId(batchPredictionRequest.getTaskId()).build();
+            return channel -> client.execute(MLTaskGetAction.INSTANCE, taskGetRequest, ActionListener.wrap(r -> {
+                execute(client, channel, batchPredictionRequest, r.getMlTask().getFunctionName());
+            }, e -> sendError(channel, e)));
+        }
+
+        String modelId = input.getModelId();
+        Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
+        if (functionName.isPresent()) {
+            checkRemoteInferenceEnabled(functionName.get());
+            return channel -> client
+                .execute(MLBatchPredictionAction.INSTANCE, batchPredictionRequest, new RestToXContentListener<>(channel));
+        }
+
+        return channel -> {
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                modelManager.getModel(modelId, ActionListener.runBefore(ActionListener.wrap(mlModel -> {
+                    execute(client, channel, batchPredictionRequest, mlModel.getAlgorithm());
+                }, e -> {
+                    log.error("Failed to get ML model", e);
+                    sendError(channel, RestStatus.NOT_FOUND, e);
+                }), () -> context.restore()));
+            }
+        };
+    }
+
+    private void execute(NodeClient client, RestChannel channel, MLBatchPredictionRequest request, FunctionName functionName) {
+        try {
+            checkRemoteInferenceEnabled(functionName);
+        } catch (IllegalStateException e) {
+            sendError(channel, e);
+            return;
+        }
+        client.execute(MLBatchPredictionAction.INSTANCE, request, new RestToXContentListener<>(channel));
+    }
+
+    @VisibleForTesting
+    void checkRemoteInferenceEnabled(FunctionName functionName) {
+        if (functionName == FunctionName.REMOTE && !mlFeatureEnabledSetting.isRemoteInferenceEnabled()) {
+            throw new IllegalStateException(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        }
+    }
+
+    private void sendError(RestChannel channel, Exception e) {
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (IOException ex) {
+            log.error("Failed to send error response", ex);
+        }
+    }
+
+    private void sendError(RestChannel channel, RestStatus status, Exception e) {
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, status, e));
+        } catch (IOException ex) {
+            log.error("Failed to send error response", ex);
+        }
+    }
+
+    /**
+     * Creates a MLBatchPredictionRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLBatchPredictionRequest
+     */
+    @VisibleForTesting
+    MLBatchPredictionRequest getRequest(RestRequest request) throws IOException {
+        String taskId = request.param(PARAMETER_TASK_ID);
+        if (taskId != null) {
+            return MLBatchPredictionRequest.builder().taskId(taskId).build();
+        }
+        String modelId = request.param(PARAMETER_MODEL_ID);
+        if (!request.hasContent()) {
+            throw new IOException("Batch prediction request has empty body");
+        }
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        MLBatchPredictionInput input = MLBatchPredictionInput.parse(parser, modelId);
+        return MLBatchPredictionRequest.builder().mlBatchPredictionInput(input).build();
+    }
+}
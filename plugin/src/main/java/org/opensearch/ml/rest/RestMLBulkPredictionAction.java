@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Predict with several models in one request. The request body holds a list of items, each with the model id and the
+ * same input as the predict API:
+ * <pre>
+ * {"requests": [{"model_id": "...", "input": {"text_docs": ["..."]}}, ...]}
+ * </pre>
+ * The input of an item is parsed with the algorithm of its model, which is read from the model index when the model
+ * isn't deployed on this node.
+ */
+@Log4j2
+public class RestMLBulkPredictionAction extends BaseRestHandler {
+    private static final String ML_BULK_PREDICTION_ACTION = "ml_bulk_prediction_action";
+    static final String REQUESTS_FIELD = "requests";
+    static final String MODEL_ID_FIELD = "model_id";
+    static final String ALGORITHM_FIELD = "algorithm";
+    static final String INPUT_FIELD = "input";
+
+    private MLModelManager modelManager;
+
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    public RestMLBulkPredictionAction(MLModelManager modelManager, MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+        this.modelManager = modelManager;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+    }
+
+    @Override
+    public String getName() {
+        return ML_BULK_PREDICTION_ACTION;
+    }
+
+    @Override
+    protected Set<String> responseParams() {
+        return ImmutableSet.of(ModelTensor.DATA_FORMAT_PARAM);
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList.of(new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/_bulk_predict", ML_BASE_URI)));
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (!request.hasContent()) {
+            throw new IOException("Bulk prediction request has empty body");
+        }
+        List<BulkItem> items = parseItems(request.contentParser());
+        Map<String, String> algorithms = new HashMap<>();
+        Set<String> unresolvedModelIds = new LinkedHashSet<>();
+        for (BulkItem item : items) {
+            if (item.algorithm != null) {
+                algorithms.put(item.modelId, item.algorithm);
+                continue;
+            }
+            Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(item.modelId);
+            if (functionName.isPresent()) {
+                algorithms.put(item.modelId, functionName.get().name());
+            } else {
+                unresolvedModelIds.add(item.modelId);
+            }
+        }
+
+        NamedXContentRegistry xContentRegistry = request.getXContentRegistry();
+        if (unresolvedModelIds.isEmpty()) {
+            MLBulkPredictionRequest bulkRequest = getRequest(items, algorithms, xContentRegistry);
+            return channel -> client.execute(MLBulkPredictionAction.INSTANCE, bulkRequest, new RestToXContentListener<>(channel));
+        }
+
+        return channel -> {
+            AtomicInteger pending = new AtomicInteger(unresolvedModelIds.size());
+            ActionListener<Void> resolvedListener = ActionListener.wrap(r -> {
+                MLBulkPredictionRequest bulkRequest = getRequest(items, algorithms, xContentRegistry);
+                client.execute(MLBulkPredictionAction.INSTANCE, bulkRequest, new RestToXContentListener<>(channel));
+            }, e -> sendError(channel, RestStatus.BAD_REQUEST, e));
+            for (String modelId : unresolvedModelIds) {
+                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                    modelManager.getModel(modelId, ActionListener.runBefore(ActionListener.wrap(mlModel -> {
+                        synchronized (algorithms) {
+                            algorithms.put(modelId, mlModel.getAlgorithm().name());
+                        }
+                        if (pending.decrementAndGet() == 0) {
+                            resolvedListener.onResponse(null);
+                        }
+                    }, e -> {
+                        log.error("Failed to get ML model " + modelId, e);
+                        if (pending.getAndSet(-1) > 0) {
+                            sendError(channel, RestStatus.NOT_FOUND, e);
+                        }
+                    }), () -> context.restore()));
+                }
+            }
+        };
+    }
+
+    private void sendError(RestChannel channel, RestStatus status, Exception e) {
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, status, e));
+        } catch (IOException ex) {
+            log.error("Failed to send error response", ex);
+        }
+    }
+
+    @VisibleForTesting
+    List<BulkItem> parseItems(XContentParser parser) throws IOException {
+        List<BulkItem> items = new ArrayList<>();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!REQUESTS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                items.add(parseItem(parser));
+            }
+        }
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk prediction request must have at least one request");
+        }
+        return items;
+    }
+
+    private BulkItem parseItem(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        String modelId = null;
+        String algorithm = null;
+        BytesReference input = null;
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    modelId = parser.text();
+                    break;
+                case ALGORITHM_FIELD:
+                    algorithm = parser.text().toUpperCase(Locale.ROOT);
+                    break;
+                case INPUT_FIELD:
+                    try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                        builder.copyCurrentStructure(parser);
+                        input = BytesReference.bytes(builder);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        if (modelId == null) {
+            throw new IllegalArgumentException("Bulk prediction request must have model id");
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("Bulk prediction request of model " + modelId + " must have input");
+        }
+        return new BulkItem(modelId, algorithm, input);
+    }
+
+    @VisibleForTesting
+    MLBulkPredictionRequest getRequest(List<BulkItem> items, Map<String, String> algorithms, NamedXContentRegistry xContentRegistry)
+        throws IOException {
+        List<MLPredictionTaskRequest> requests = new ArrayList<>(items.size());
+        for (BulkItem item : items) {
+            String algorithm = algorithms.get(item.modelId);
+            if (FunctionName.REMOTE.name().equals(algorithm) && !mlFeatureEnabledSetting.isRemoteInferenceEnabled()) {
+                throw new IllegalStateException(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+            }
+            try (
+                XContentParser parser = XContentType.JSON
+                    .xContent()
+                    .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, item.input.streamInput())
+            ) {
+                ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                MLInput mlInput = MLInput.parse(parser, algorithm);
+                requests.add(new MLPredictionTaskRequest(item.modelId, mlInput, null));
+            }
+        }
+        return new MLBulkPredictionRequest(requests);
+    }
+
+    static class BulkItem {
+        final String modelId;
+        final String algorithm;
+        final BytesReference input;
+
+        BulkItem(String modelId, String algorithm, BytesReference input) {
+            this.modelId = modelId;
+            this.algorithm = algorithm;
+            this.input = input;
+        }
+    }
+}
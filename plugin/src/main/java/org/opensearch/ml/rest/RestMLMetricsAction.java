@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.OpenMetricsExporter;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Returns the ML stats of the node which receives the request in OpenMetrics text format. Metrics scrapers call this
+ * on every node, which doesn't need a stats request to be sent to the other nodes.
+ */
+public class RestMLMetricsAction extends BaseRestHandler {
+    private static final String ML_METRICS_ACTION = "ml_metrics_action";
+
+    private final OpenMetricsExporter exporter;
+
+    public RestMLMetricsAction(MLStats mlStats) {
+        this.exporter = new OpenMetricsExporter(mlStats);
+    }
+
+    @Override
+    public String getName() {
+        return ML_METRICS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList.of(new Route(RestRequest.Method.GET, ML_BASE_URI + "/_local/metrics"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.OK, OpenMetricsExporter.CONTENT_TYPE, exporter.export()));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionAction;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Uploads the chunks of a model registered with its meta in a session: the session is opened once, the chunks are
+ * uploaded as the raw request body in any order and in parallel, and the session is committed.
+ */
+public class RestMLModelUploadSessionAction extends BaseRestHandler {
+    private static final String ML_MODEL_UPLOAD_SESSION_ACTION = "ml_model_upload_session_action";
+    private static final String COMMIT_PATH = "_commit";
+    private volatile boolean isLocalFileUploadAllowed;
+
+    /**
+     * Constructor
+     */
+    public RestMLModelUploadSessionAction(ClusterService clusterService, Settings settings) {
+        isLocalFileUploadAllowed = ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD, it -> isLocalFileUploadAllowed = it);
+    }
+
+    @Override
+    public String getName() {
+        return ML_MODEL_UPLOAD_SESSION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/models/{%s}/upload_session", ML_BASE_URI, "model_id")),
+                new Route(
+                    RestRequest.Method.POST,
+                    String
+                        .format(
+                            Locale.ROOT,
+                            "%s/models/{%s}/upload_session/{%s}/chunk/{%s}",
+                            ML_BASE_URI,
+                            "model_id",
+                            "session_id",
+                            "chunk_number"
+                        )
+                ),
+                new Route(
+                    RestRequest.Method.POST,
+                    String
+                        .format(Locale.ROOT, "%s/models/{%s}/upload_session/{%s}/%s", ML_BASE_URI, "model_id", "session_id", COMMIT_PATH)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLModelUploadSessionRequest sessionRequest = getRequest(request);
+        return channel -> client.execute(MLModelUploadSessionAction.INSTANCE, sessionRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLModelUploadSessionRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLModelUploadSessionRequest
+     */
+    @VisibleForTesting
+    MLModelUploadSessionRequest getRequest(RestRequest request) {
+        if (!isLocalFileUploadAllowed) {
+            throw new IllegalArgumentException(
+                "To upload custom model from local file, user needs to enable allow_registering_model_via_local_file settings. Otherwise please use opensearch pre-trained models."
+            );
+        }
+        String modelId = request.param("model_id");
+        String sessionId = request.param("session_id");
+        String chunkNumber = request.param("chunk_number");
+        MLModelUploadSessionRequest.MLModelUploadSessionRequestBuilder builder = MLModelUploadSessionRequest
+            .builder()
+            .modelId(modelId)
+            .sessionId(sessionId);
+        if (sessionId == null) {
+            builder.operation(MLModelUploadSessionRequest.Operation.OPEN);
+        } else if (chunkNumber != null) {
+            // The chunk is the raw request body, not parsed.
+            builder
+                .operation(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK)
+                .chunkNumber(Integer.parseInt(chunkNumber))
+                .content(request.content());
+        } else {
+            builder.operation(MLModelUploadSessionRequest.Operation.COMMIT);
+        }
+        return builder.build();
+    }
+}
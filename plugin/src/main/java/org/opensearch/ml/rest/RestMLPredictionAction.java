@@ -10,12 +10,14 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -25,6 +27,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.model.MLModelManager;
@@ -36,6 +39,7 @@ import org.opensearch.rest.action.RestToXContentListener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -60,6 +64,11 @@ public class RestMLPredictionAction extends BaseRestHandler {
         return ML_PREDICTION_ACTION;
     }
 
+    @Override
+    protected Set<String> responseParams() {
+        return ImmutableSet.of(ModelTensor.DATA_FORMAT_PARAM);
+    }
+
     @Override
     public List<Route> routes() {
         return ImmutableList
@@ -76,6 +85,8 @@ public class RestMLPredictionAction extends BaseRestHandler {
     public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
         String algorithm = request.param(PARAMETER_ALGORITHM);
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        // Parse the timeout up front, as the request may only be built after the model is read.
+        request.paramAsTime(PARAMETER_TIMEOUT, null);
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
 
         if (algorithm == null && functionName.isPresent()) {
@@ -125,7 +136,9 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        MLPredictionTaskRequest predictionTaskRequest = new MLPredictionTaskRequest(modelId, mlInput, null);
+        predictionTaskRequest.setTimeout(request.paramAsTime(PARAMETER_TIMEOUT, null));
+        return predictionTaskRequest;
     }
 
 }
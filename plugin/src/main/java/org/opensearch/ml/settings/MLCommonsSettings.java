@@ -19,7 +19,11 @@ public final class MLCommonsSettings {
     private MLCommonsSettings() {}
 
     public static final Setting<String> ML_COMMONS_TASK_DISPATCH_POLICY = Setting
-        .simpleString("plugins.ml_commons.task_dispatch_policy", "round_robin", Setting.Property.NodeScope, Setting.Property.Dynamic);
+        .simpleString("plugins.ml_commons.task_dispatch_policy", "round_robin", value -> {
+            if (!"round_robin".equals(value) && !"least_load".equals(value) && !"latency_aware".equals(value)) {
+                throw new IllegalArgumentException("Task dispatch policy must be round_robin, least_load or latency_aware: " + value);
+            }
+        }, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
@@ -34,8 +38,61 @@ public final class MLCommonsSettings {
         );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Compression of model chunks stored in the model chunk index, "none" or "deflate". Applies to chunks stored afterwards.
+    public static final Setting<String> ML_COMMONS_MODEL_CHUNK_COMPRESSION = Setting
+        .simpleString("plugins.ml_commons.model_chunk_compression", "none", value -> {
+            if (!"none".equals(value) && !"deflate".equals(value)) {
+                throw new IllegalArgumentException("Model chunk compression must be none or deflate: " + value);
+            }
+        }, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Model chunks a deploying node retrieves from the model index at the same time.
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY = Setting
+        .intSetting(
+            "plugins.ml_commons.model_chunk_retrieval_concurrency",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Model chunks a registering node indexes at the same time while it downloads the model file.
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY = Setting
+        .intSetting(
+            "plugins.ml_commons.model_chunk_indexing_concurrency",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Model upload sessions a node keeps open at the same time, each may hold up to 100MB of chunks to hash them in order.
+    public static final Setting<Integer> ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE = Setting
+        .intSetting("plugins.ml_commons.max_upload_sessions_per_node", 4, 1, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Keep the artifacts of deployed models to serve them to nodes deploying the same models, and fetch artifacts from such
+    // nodes before falling back to the model chunks in the index.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_peer_transfer_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Artifact ranges a node serves at the same time, each range holds a model chunk sized buffer until it's sent.
+    public static final Setting<Integer> ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES = Setting
+        .intSetting(
+            "plugins.ml_commons.model_peer_transfer_max_concurrent_serves",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.node_load_cache_ttl_in_millis",
+            1000,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
         .boolSetting("plugins.ml_commons.only_run_on_ml_node", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
@@ -77,6 +134,16 @@ public final class MLCommonsSettings {
     public static final Setting<Integer> ML_COMMONS_JVM_HEAP_MEM_THRESHOLD = Setting
         .intSetting("plugins.ml_commons.jvm_heap_memory_threshold", 85, 0, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Interval of refreshing the circuit breaker state in the background, 0 checks the breakers on every request instead.
+    public static final Setting<Integer> ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.circuit_breaker_sample_interval_in_millis",
+            1000,
+            0,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<String> ML_COMMONS_EXCLUDE_NODE_NAMES = Setting
         .simpleString("plugins.ml_commons.exclude_nodes._name", Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN = Setting
@@ -117,6 +184,49 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.model_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    public static final Setting<Integer> ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting(
+            "plugins.ml_commons.model_access_cache_ttl_in_seconds",
+            10,
+            0,
+            3600,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_MODEL_CACHE_SIZE = Setting
+        .intSetting("plugins.ml_commons.predict_model_cache_size", 100, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Write trained models with the versioned model format header. Only enable once no node needs to read models without it,
+    // i.e. after the whole cluster is upgraded and rolling back is no longer planned.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_FORMAT_HEADER_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_format_header_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max predict requests of one model waiting for a predict thread on a node.
+    public static final Setting<Integer> ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL = Setting
+        .intSetting(
+            "plugins.ml_commons.predict_queue_size_per_model",
+            1000,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Predict requests waiting longer than this for a predict thread are dropped instead of run, 0 never drops them.
+    public static final Setting<Integer> ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS = Setting
+        .intSetting("plugins.ml_commons.predict_queue_max_wait_in_millis", 0, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Predict requests taken from the queue of a model per turn, as "<model_id>:<weight>". Models not listed have weight 1.
+    public static final Setting<List<String>> ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS = Setting
+        .listSetting(
+            "plugins.ml_commons.predict_queue_model_weights",
+            ImmutableList.of(),
+            Function.identity(),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.connector_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
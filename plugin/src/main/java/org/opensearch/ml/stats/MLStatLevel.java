@@ -10,7 +10,8 @@ public enum MLStatLevel {
     NODE,
     ALGORITHM,
     MODEL,
-    ACTION;
+    ACTION,
+    CONNECTOR;
 
     public static MLStatLevel from(String value) {
         try {
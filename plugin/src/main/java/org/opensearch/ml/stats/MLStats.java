@@ -7,10 +7,12 @@ package org.opensearch.ml.stats;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.metrics.ConnectorMetricsRegistry;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 
 import lombok.Getter;
@@ -23,16 +25,19 @@ public class MLStats {
     private Map<Enum, MLStat<?>> stats;
     private Map<FunctionName, Map<ActionName, Map<MLActionLevelStat, MLStat>>> algoStats;// {"kmeans":{"train":{"request_count":10}}}
     private Map<String, Map<ActionName, Map<MLActionLevelStat, MLStat>>> modelStats;// {"model_id":{"train":{"request_count":10}}}
+    @Getter
+    private final ConnectorMetricsRegistry connectorMetricsRegistry;// {"connector_id":{"predict":{"request_count":10}}}
 
     /**
      * Constructor
      *
-     * @param stats Map of the stats that are to be kept
+     * @param stats Map of the stats that are to be kept, must be a concurrent map as stats are created without locking
      */
     public MLStats(Map<Enum, MLStat<?>> stats) {
         this.stats = stats;
         this.algoStats = new ConcurrentHashMap<>();
         this.modelStats = new ConcurrentHashMap<>();
+        this.connectorMetricsRegistry = new ConnectorMetricsRegistry();
     }
 
     /**
@@ -64,18 +69,38 @@ public class MLStats {
         return createAlgoStatIfAbsent(algoActionStats, stat, () -> new MLStat<>(false, new CounterSupplier()));
     }
 
+    /**
+     * Get model stat or create counter stat if absent. Stats of a model are kept until {@link #removeModelStats} is called.
+     * @param modelId model id
+     * @param action action name
+     * @param stat stat key
+     * @return existing MLStat or new MLStat
+     */
     public MLStat<?> createModelCounterStatIfAbsent(String modelId, ActionName action, MLActionLevelStat stat) {
-        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = modelStats.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = modelStats.get(modelId);
+        if (actionStats == null) {
+            actionStats = modelStats.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+        }
         Map<MLActionLevelStat, MLStat> algoActionStats = actionStats.computeIfAbsent(action, it -> new ConcurrentHashMap<>());
         return createAlgoStatIfAbsent(algoActionStats, stat, () -> new MLStat<>(false, new CounterSupplier()));
     }
 
-    public synchronized MLStat<?> createAlgoStatIfAbsent(
+    /**
+     * Drop the stats of a model, e.g. after the model is deleted.
+     * @param modelId model id
+     */
+    public void removeModelStats(String modelId) {
+        modelStats.remove(modelId);
+    }
+
+    public MLStat<?> createAlgoStatIfAbsent(
         Map<MLActionLevelStat, MLStat> algoActionStats,
         MLActionLevelStat key,
         Supplier<MLStat> supplier
     ) {
-        return algoActionStats.computeIfAbsent(key, k -> supplier.get());
+        // Look up first, so the common case of an existing stat never locks a map bin.
+        MLStat<?> existing = algoActionStats.get(key);
+        return existing != null ? existing : algoActionStats.computeIfAbsent(key, k -> supplier.get());
     }
 
     /**
@@ -84,8 +109,9 @@ public class MLStats {
      * @param supplier supplier to create MLStat
      * @return existing MLStat or new MLStat
      */
-    public synchronized MLStat<?> createStatIfAbsent(Enum key, Supplier<MLStat> supplier) {
-        return stats.computeIfAbsent(key, k -> supplier.get());
+    public MLStat<?> createStatIfAbsent(Enum key, Supplier<MLStat> supplier) {
+        MLStat<?> existing = stats.get(key);
+        return existing != null ? existing : stats.computeIfAbsent(key, k -> supplier.get());
     }
 
     /**
@@ -161,4 +187,13 @@ public class MLStats {
     public String[] getAllModels() {
         return modelStats.keySet().toArray(new String[0]);
     }
+
+    /**
+     * Get stats of remote connectors.
+     * @param connectorIds connector ids, all connectors if empty
+     * @return connector stats map: key is connector id, value is stats per connector action
+     */
+    public Map<String, Object> getConnectorStats(Set<String> connectorIds) {
+        return connectorMetricsRegistry.getConnectorStats(connectorIds);
+    }
 }
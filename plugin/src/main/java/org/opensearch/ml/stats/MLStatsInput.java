@@ -6,6 +6,7 @@
 package org.opensearch.ml.stats;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 import static org.opensearch.ml.utils.MLNodeUtils.parseArrayField;
 import static org.opensearch.ml.utils.MLNodeUtils.parseField;
 
@@ -37,6 +38,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
     public static final String ALGORITHMS = "algorithms";
     public static final String MODELS = "models";
     public static final String ACTIONS = "actions";
+    public static final String CONNECTORS = "connectors";
 
     /**
      * Retrieve which stat levels, could be one or multiple stats.
@@ -73,6 +75,11 @@ public class MLStatsInput implements ToXContentObject, Writeable {
      */
     private EnumSet<ActionName> actions;
 
+    /**
+     * Which connector's stats will be retrieved.
+     */
+    private Set<String> connectors;
+
     /**
      * Constructor
      * @param targetStatLevels target stat levels which will be retrieved
@@ -83,6 +90,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
      * @param algorithms retrieve stats for which algorithms
      * @param models retrieve stats for which models
      * @param actions retrieve stats for which actions
+     * @param connectors retrieve stats for which connectors
      */
     @Builder
     public MLStatsInput(
@@ -93,7 +101,8 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         Set<String> nodeIds,
         EnumSet<FunctionName> algorithms,
         Set<String> models,
-        EnumSet<ActionName> actions
+        EnumSet<ActionName> actions,
+        Set<String> connectors
     ) {
         this.targetStatLevels = targetStatLevels;
         this.clusterLevelStats = clusterLevelStats;
@@ -103,6 +112,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         this.algorithms = algorithms;
         this.models = models;
         this.actions = actions;
+        this.connectors = connectors;
     }
 
     public MLStatsInput() {
@@ -114,6 +124,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         this.algorithms = EnumSet.noneOf(FunctionName.class);
         this.models = new HashSet<>();
         this.actions = EnumSet.noneOf(ActionName.class);
+        this.connectors = new HashSet<>();
     }
 
     public MLStatsInput(StreamInput input) throws IOException {
@@ -125,11 +136,24 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         models = input.readBoolean() ? new HashSet<>(input.readStringList()) : new HashSet<>();
         algorithms = input.readBoolean() ? input.readEnumSet(FunctionName.class) : EnumSet.noneOf(FunctionName.class);
         actions = input.readBoolean() ? input.readEnumSet(ActionName.class) : EnumSet.noneOf(ActionName.class);
+        if (input.getVersion().onOrAfter(VERSION_3_0_0)) {
+            connectors = input.readBoolean() ? new HashSet<>(input.readStringList()) : new HashSet<>();
+        } else {
+            connectors = new HashSet<>();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
-        writeEnumSet(out, targetStatLevels);
+        boolean connectorStatsSupported = out.getVersion().onOrAfter(VERSION_3_0_0);
+        if (connectorStatsSupported || targetStatLevels == null || !targetStatLevels.contains(MLStatLevel.CONNECTOR)) {
+            writeEnumSet(out, targetStatLevels);
+        } else {
+            // Older nodes don't know the connector stat level.
+            EnumSet<MLStatLevel> levels = EnumSet.copyOf(targetStatLevels);
+            levels.remove(MLStatLevel.CONNECTOR);
+            writeEnumSet(out, levels);
+        }
         writeEnumSet(out, clusterLevelStats);
         writeEnumSet(out, nodeLevelStats);
         writeEnumSet(out, actionLevelStats);
@@ -137,6 +161,9 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         out.writeOptionalStringCollection(models);
         writeEnumSet(out, algorithms);
         writeEnumSet(out, actions);
+        if (connectorStatsSupported) {
+            out.writeOptionalStringCollection(connectors);
+        }
     }
 
     private void writeEnumSet(StreamOutput out, EnumSet<?> set) throws IOException {
@@ -157,6 +184,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         Set<String> models = new HashSet<>();
         EnumSet<FunctionName> algorithms = EnumSet.noneOf(FunctionName.class);
         EnumSet<ActionName> actions = EnumSet.noneOf(ActionName.class);
+        Set<String> connectors = new HashSet<>();
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -203,6 +231,9 @@ public class MLStatsInput implements ToXContentObject, Writeable {
                 case ACTIONS:
                     parseField(parser, actions, input -> ActionName.from(input.toUpperCase(Locale.ROOT)), ActionName.class);
                     break;
+                case CONNECTORS:
+                    parseArrayField(parser, connectors);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -218,6 +249,7 @@ public class MLStatsInput implements ToXContentObject, Writeable {
             .algorithms(algorithms)
             .models(models)
             .actions(actions)
+            .connectors(connectors)
             .build();
     }
 
@@ -248,6 +280,9 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         if (actions != null) {
             builder.field(ACTIONS, actions);
         }
+        if (connectors != null) {
+            builder.field(CONNECTORS, connectors);
+        }
         builder.endObject();
         return builder;
     }
@@ -312,7 +347,8 @@ public class MLStatsInput implements ToXContentObject, Writeable {
         return !targetStatLevels.contains(MLStatLevel.NODE)
             && !targetStatLevels.contains(MLStatLevel.ALGORITHM)
             && !targetStatLevels.contains(MLStatLevel.MODEL)
-            && !targetStatLevels.contains(MLStatLevel.ACTION);
+            && !targetStatLevels.contains(MLStatLevel.ACTION)
+            && !targetStatLevels.contains(MLStatLevel.CONNECTOR);
     }
 
     public boolean includeAlgoStats() {
@@ -322,4 +358,8 @@ public class MLStatsInput implements ToXContentObject, Writeable {
     public boolean includeModelStats() {
         return targetStatLevels.contains(MLStatLevel.MODEL) || targetStatLevels.contains(MLStatLevel.ACTION);
     }
+
+    public boolean includeConnectorStats() {
+        return targetStatLevels.contains(MLStatLevel.CONNECTOR);
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
+import org.opensearch.ml.engine.metrics.ConnectorMetricsRegistry;
+import org.opensearch.ml.engine.metrics.LatencyHistogram;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Writes the node level stats of this node in OpenMetrics text format, so they can be scraped from each node without
+ * fanning out a stats request to the cluster.
+ */
+public class OpenMetricsExporter {
+
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+    private static final double MICROS_PER_MILLI = 1000.0;
+    // Node stats which go up and down, all other node stats only increase.
+    private static final Set<MLNodeLevelStat> GAUGE_STATS = ImmutableSet
+        .of(MLNodeLevelStat.ML_JVM_HEAP_USAGE, MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT);
+
+    private final MLStats mlStats;
+
+    public OpenMetricsExporter(MLStats mlStats) {
+        this.mlStats = mlStats;
+    }
+
+    public String export() {
+        StringBuilder builder = new StringBuilder();
+        writeNodeStats(builder);
+        writeActionStats(builder);
+        writeConnectorStats(builder);
+        builder.append("# EOF\n");
+        return builder.toString();
+    }
+
+    private void writeNodeStats(StringBuilder builder) {
+        for (Map.Entry<Enum, MLStat<?>> entry : mlStats.getNodeStats().entrySet()) {
+            Object value = entry.getValue().getValue();
+            if (!(value instanceof Number)) {
+                continue;
+            }
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            if (GAUGE_STATS.contains(entry.getKey())) {
+                writeType(builder, name, "gauge");
+                writeSample(builder, name, "", (Number) value);
+            } else {
+                writeType(builder, name, "counter");
+                writeSample(builder, name + "_total", "", (Number) value);
+            }
+        }
+    }
+
+    private void writeActionStats(StringBuilder builder) {
+        for (MLActionLevelStat stat : MLActionLevelStat.values()) {
+            String statName = stat.name().toLowerCase(Locale.ROOT);
+            String algoMetric = statName.replaceFirst("^ml_action_", "ml_algorithm_");
+            writeType(builder, algoMetric, "counter");
+            for (FunctionName algorithm : mlStats.getAllAlgorithms()) {
+                Map<ActionName, MLActionStats> actionStats = mlStats.getAlgorithmStats(algorithm);
+                writeActionStat(builder, algoMetric, "algorithm", algorithm.name().toLowerCase(Locale.ROOT), actionStats, stat);
+            }
+            String modelMetric = statName.replaceFirst("^ml_action_", "ml_model_");
+            writeType(builder, modelMetric, "counter");
+            for (String modelId : mlStats.getAllModels()) {
+                writeActionStat(builder, modelMetric, "model_id", modelId, mlStats.getModelStats(modelId), stat);
+            }
+        }
+    }
+
+    private void writeActionStat(
+        StringBuilder builder,
+        String metric,
+        String labelName,
+        String labelValue,
+        Map<ActionName, MLActionStats> actionStats,
+        MLActionLevelStat stat
+    ) {
+        if (actionStats == null) {
+            return;
+        }
+        for (Map.Entry<ActionName, MLActionStats> entry : actionStats.entrySet()) {
+            Object value = entry.getValue().getActionStat(stat);
+            if (value instanceof Number) {
+                String labels = labels(labelName, labelValue, "action", entry.getKey().name().toLowerCase(Locale.ROOT));
+                writeSample(builder, metric + "_total", labels, (Number) value);
+            }
+        }
+    }
+
+    private void writeConnectorStats(StringBuilder builder) {
+        ConnectorMetricsRegistry registry = mlStats.getConnectorMetricsRegistry();
+        String[] connectorIds = registry.getAllConnectors();
+        writeConnectorCounter(builder, "ml_connector_request", connectorIds, ConnectorMetrics::getRequestCount);
+        writeConnectorCounter(builder, "ml_connector_error", connectorIds, ConnectorMetrics::getErrorCount);
+        writeConnectorCounter(builder, "ml_connector_throttled", connectorIds, ConnectorMetrics::getThrottledCount);
+        String latencyMetric = "ml_connector_latency_milliseconds";
+        writeType(builder, latencyMetric, "summary");
+        for (String connectorId : connectorIds) {
+            Map<String, ConnectorMetrics> actionMetrics = registry.getConnectorMetrics(connectorId);
+            if (actionMetrics == null) {
+                continue;
+            }
+            for (Map.Entry<String, ConnectorMetrics> entry : actionMetrics.entrySet()) {
+                for (ConnectorMetrics.Stage stage : ConnectorMetrics.Stage.values()) {
+                    LatencyHistogram histogram = entry.getValue().getStageLatency(stage);
+                    String labels = labels(
+                        "connector_id",
+                        connectorId,
+                        "action",
+                        entry.getKey(),
+                        "stage",
+                        stage.name().toLowerCase(Locale.ROOT)
+                    );
+                    writeSummary(builder, latencyMetric, labels, histogram);
+                }
+            }
+        }
+    }
+
+    private void writeConnectorCounter(
+        StringBuilder builder,
+        String metric,
+        String[] connectorIds,
+        ToLongFunction<ConnectorMetrics> counter
+    ) {
+        writeType(builder, metric, "counter");
+        for (String connectorId : connectorIds) {
+            Map<String, ConnectorMetrics> actionMetrics = mlStats.getConnectorMetricsRegistry().getConnectorMetrics(connectorId);
+            if (actionMetrics == null) {
+                continue;
+            }
+            for (Map.Entry<String, ConnectorMetrics> entry : actionMetrics.entrySet()) {
+                String labels = labels("connector_id", connectorId, "action", entry.getKey());
+                writeSample(builder, metric + "_total", labels, counter.applyAsLong(entry.getValue()));
+            }
+        }
+    }
+
+    private void writeSummary(StringBuilder builder, String metric, String labels, LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        if (count == 0) {
+            return;
+        }
+        String labelPrefix = labels.substring(0, labels.length() - 1);
+        for (double quantile : QUANTILES) {
+            String quantileLabels = labelPrefix + ",quantile=\"" + quantile + "\"}";
+            writeSample(builder, metric, quantileLabels, histogram.getPercentile(quantile * 100) / MICROS_PER_MILLI);
+        }
+        writeSample(builder, metric + "_sum", labels, histogram.getAverage() * count / MICROS_PER_MILLI);
+        writeSample(builder, metric + "_count", labels, count);
+    }
+
+    private static void writeType(StringBuilder builder, String metric, String type) {
+        builder.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String metric, String labels, Number value) {
+        builder.append(metric).append(labels).append(' ').append(value).append('\n');
+    }
+
+    static String labels(String... namesAndValues) {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(namesAndValues[i]).append("=\"").append(escape(namesAndValues[i + 1])).append('"');
+        }
+        return builder.append('}').toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
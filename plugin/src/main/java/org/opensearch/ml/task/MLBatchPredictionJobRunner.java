@@ -0,0 +1,908 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.BATCH_JOB_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.MLTask.WORKER_NODE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs batch prediction jobs on the node which receives the request. A job reads the source index with a point in time
+ * in parallel slices, predicts each page of documents with the deployed model through the predict API, and bulk upserts
+ * the model output into the target index. After each page, the slice's position is checkpointed in the ML task, so a
+ * failed or interrupted job can be resumed from where it stopped. A job has at most one update of its task in flight,
+ * each conditional on the sequence number of its previous update, so its slices don't conflict on the task doc and a
+ * run can't overwrite the checkpoints of a later run which resumed the task.
+ */
+@Log4j2
+public class MLBatchPredictionJobRunner {
+    static final String INPUT_FIELD = "input";
+    static final String SLICES_FIELD = "slices";
+    static final String SEARCH_AFTER_FIELD = "search_after";
+    static final String TOTAL_DOCS_FIELD = "total_docs";
+    static final String PROCESSED_DOCS_FIELD = "processed_docs";
+    static final String FAILED_DOCS_FIELD = "failed_docs";
+    static final String DONE_FIELD = "done";
+    static final String DOCS_PER_SECOND_FIELD = "docs_per_second";
+    static final String PIT_ID_FIELD = "pit_id";
+    // Unique across the shards of the source index, so search_after neither skips nor repeats docs between pages.
+    static final String SORT_FIELD = IdFieldMapper.NAME;
+
+    static final TimeValue PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(10);
+    static final int MAX_RETRIES = 10;
+    static final long INITIAL_RETRY_DELAY_IN_MILLIS = 1000;
+    static final long MAX_RETRY_DELAY_IN_MILLIS = 30_000;
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final MLTaskManager mlTaskManager;
+    private final MLModelManager mlModelManager;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    private final NamedXContentRegistry xContentRegistry;
+    private final Map<String, BatchPredictionJob> runningJobs = new ConcurrentHashMap<>();
+
+    public MLBatchPredictionJobRunner(
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        MLTaskManager mlTaskManager,
+        MLModelManager mlModelManager,
+        MLCircuitBreakerService mlCircuitBreakerService,
+        NamedXContentRegistry xContentRegistry
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.mlTaskManager = mlTaskManager;
+        this.mlModelManager = mlModelManager;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        this.xContentRegistry = xContentRegistry;
+    }
+
+    /**
+     * Create a batch prediction task and start its job. Responds with the task id once the task is created, the job
+     * keeps running in the background and reports its state and progress in the task.
+     * @param input batch prediction input
+     * @param listener action listener
+     */
+    public void start(MLBatchPredictionInput input, ActionListener<MLBatchPredictionResponse> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            mlModelManager.getModel(input.getModelId(), ActionListener.runBefore(ActionListener.wrap(mlModel -> {
+                BatchPredictionJob job = new BatchPredictionJob(null, input, mlModel.getAlgorithm());
+                Instant now = Instant.now();
+                MLTask mlTask = MLTask
+                    .builder()
+                    .modelId(input.getModelId())
+                    .taskType(MLTaskType.BATCH_PREDICTION)
+                    .functionName(mlModel.getAlgorithm())
+                    .state(MLTaskState.CREATED)
+                    .inputType(MLInputDataType.TEXT_DOCS)
+                    .progress(0f)
+                    .outputIndex(input.getTargetIndex())
+                    .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+                    .createTime(now)
+                    .lastUpdateTime(now)
+                    .async(true)
+                    .batchJob(job.toMap())
+                    .build();
+                mlTaskManager.createMLTask(mlTask, ActionListener.wrap(r -> {
+                    job.taskId = r.getId();
+                    job.setSeqNo(r.getSeqNo(), r.getPrimaryTerm());
+                    runningJobs.put(job.taskId, job);
+                    listener.onResponse(new MLBatchPredictionResponse(job.taskId, MLTaskState.CREATED.name()));
+                    runJob(job);
+                }, e -> {
+                    log.error("Failed to create batch prediction task for model " + input.getModelId(), e);
+                    listener.onFailure(e);
+                }));
+            }, listener::onFailure), context::restore));
+        }
+    }
+
+    /**
+     * Resume the job of a batch prediction task from its last checkpoint.
+     * @param taskId task id
+     * @param listener action listener
+     */
+    public void resume(String taskId, ActionListener<MLBatchPredictionResponse> listener) {
+        if (runningJobs.containsKey(taskId)) {
+            listener.onFailure(new IllegalArgumentException("Batch prediction task is already running: " + taskId));
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.get(new GetRequest(ML_TASK_INDEX, taskId), ActionListener.runBefore(ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    listener.onFailure(new OpenSearchStatusException("Failed to find task", RestStatus.NOT_FOUND));
+                    return;
+                }
+                BatchPredictionJob job;
+                try (
+                    XContentParser parser = XContentType.JSON
+                        .xContent()
+                        .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    MLTask mlTask = MLTask.parse(parser);
+                    if (mlTask.getTaskType() != MLTaskType.BATCH_PREDICTION || mlTask.getBatchJob() == null) {
+                        listener.onFailure(new IllegalArgumentException("Task is not a batch prediction task: " + taskId));
+                        return;
+                    }
+                    if (mlTask.getState() == MLTaskState.COMPLETED) {
+                        listener.onFailure(new IllegalArgumentException("Batch prediction task is already completed: " + taskId));
+                        return;
+                    }
+                    String workerNode = getRunningWorkerNode(mlTask);
+                    if (workerNode != null) {
+                        String message = "Batch prediction task is already running on node " + workerNode + ": " + taskId;
+                        listener.onFailure(new IllegalArgumentException(message));
+                        return;
+                    }
+                    job = BatchPredictionJob.fromMap(taskId, mlTask.getFunctionName(), mlTask.getBatchJob(), xContentRegistry);
+                }
+                if (runningJobs.putIfAbsent(taskId, job) != null) {
+                    listener.onFailure(new IllegalArgumentException("Batch prediction task is already running: " + taskId));
+                    return;
+                }
+                // Claim the task for this node, so a concurrent resume on another node fails on the version conflict.
+                Map<String, Object> updatedFields = new HashMap<>();
+                updatedFields.put(STATE_FIELD, MLTaskState.RUNNING);
+                updatedFields.put(WORKER_NODE_FIELD, ImmutableList.of(clusterService.localNode().getId()));
+                WriteRequest.RefreshPolicy refreshPolicy = WriteRequest.RefreshPolicy.NONE;
+                updateTask(taskId, updatedFields, r.getSeqNo(), r.getPrimaryTerm(), refreshPolicy, ActionListener.wrap(updated -> {
+                    job.setSeqNo(updated.getSeqNo(), updated.getPrimaryTerm());
+                    listener.onResponse(new MLBatchPredictionResponse(taskId, MLTaskState.RUNNING.name()));
+                    runJob(job);
+                }, e -> {
+                    runningJobs.remove(taskId);
+                    if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                        listener.onFailure(new IllegalArgumentException("Batch prediction task is already running: " + taskId));
+                    } else {
+                        listener.onFailure(e);
+                    }
+                }));
+            }, listener::onFailure), context::restore));
+        }
+    }
+
+    /**
+     * @return the node running the job of the task according to the task index, or null if the job isn't running
+     * anymore, e.g. its node left the cluster or restarted
+     */
+    private String getRunningWorkerNode(MLTask mlTask) {
+        if (mlTask.getState() != MLTaskState.RUNNING && mlTask.getState() != MLTaskState.CREATED) {
+            return null;
+        }
+        if (mlTask.getWorkerNodes() == null || mlTask.getWorkerNodes().isEmpty()) {
+            return null;
+        }
+        String workerNode = mlTask.getWorkerNodes().get(0);
+        // This node doesn't run the job, as it isn't in runningJobs.
+        if (workerNode.equals(clusterService.localNode().getId()) || !clusterService.state().nodes().nodeExists(workerNode)) {
+            return null;
+        }
+        return workerNode;
+    }
+
+    @VisibleForTesting
+    boolean isRunning(String taskId) {
+        return runningJobs.containsKey(taskId);
+    }
+
+    private void runJob(BatchPredictionJob job) {
+        if (job.pitId == null) {
+            createPit(job);
+            return;
+        }
+        // The checkpoints of a resumed job are only valid within the point in time they were taken in.
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .size(0)
+            .pointInTimeBuilder(new PointInTimeBuilder(job.pitId).setKeepAlive(PIT_KEEP_ALIVE));
+        client.search(new SearchRequest().source(searchSourceBuilder), threadedListener(ActionListener.wrap(r -> startSlices(job), e -> {
+            if (ExceptionsHelper.status(ExceptionsHelper.unwrapCause(e)) != RestStatus.NOT_FOUND) {
+                failJob(job, e);
+                return;
+            }
+            log.info("Point in time of batch prediction task {} expired, restarting its unfinished slices", job.taskId);
+            job.restartUnfinishedSlices();
+            createPit(job);
+        })));
+    }
+
+    private void createPit(BatchPredictionJob job) {
+        CreatePitRequest createPitRequest = new CreatePitRequest(PIT_KEEP_ALIVE, false, job.input.getSourceIndex());
+        client.createPit(createPitRequest, threadedListener(ActionListener.wrap(r -> {
+            job.pitId = r.getId();
+            startSlices(job);
+        }, e -> failJob(job, e))));
+    }
+
+    private void startSlices(BatchPredictionJob job) {
+        job.startNanos = System.nanoTime();
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(STATE_FIELD, MLTaskState.RUNNING);
+        updatedFields.put(ERROR_FIELD, null);
+        // No slice runs yet, so this update can't overlap with a checkpoint.
+        updateJobTask(job, updatedFields, WriteRequest.RefreshPolicy.NONE, ActionListener.wrap(updated -> {
+            log.info("Started batch prediction task {} with {} slices", job.taskId, job.slices.length);
+            for (int i = 0; i < job.slices.length; i++) {
+                if (job.slices[i].done) {
+                    onSliceDone(job);
+                } else {
+                    runSlice(job, i);
+                }
+            }
+        }, e -> failJob(job, e)));
+    }
+
+    private void runSlice(BatchPredictionJob job, int sliceId) {
+        if (job.failed.get()) {
+            return;
+        }
+        // Throttle the job rather than failing it while a circuit breaker is open.
+        ThresholdCircuitBreaker openCircuitBreaker = mlCircuitBreakerService.checkOpenCB();
+        if (openCircuitBreaker != null) {
+            String message = openCircuitBreaker.getName() + " is open, please check your resources!";
+            retryLater(job, sliceId, new MLLimitExceededException(message), () -> runSlice(job, sliceId));
+            return;
+        }
+        client.search(buildSearchRequest(job, sliceId), threadedListener(ActionListener.wrap(r -> {
+            try {
+                onSearchResponse(job, sliceId, r);
+            } catch (Exception e) {
+                failJob(job, e);
+            }
+        }, e -> failJob(job, e))));
+    }
+
+    @VisibleForTesting
+    SearchRequest buildSearchRequest(BatchPredictionJob job, int sliceId) {
+        SliceState slice = job.slices[sliceId];
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(QueryBuilders.existsQuery(job.input.getSourceField()))
+            .fetchSource(new String[] { job.input.getSourceField() }, null)
+            .size(job.input.getBatchSize())
+            // Sorting on _id loads its fielddata on the source index, _doc isn't unique across shards for search_after.
+            .sort(SortBuilders.fieldSort(SORT_FIELD))
+            .pointInTimeBuilder(new PointInTimeBuilder(job.pitId).setKeepAlive(PIT_KEEP_ALIVE))
+            .trackTotalHits(slice.totalDocs == null);
+        if (job.slices.length > 1) {
+            searchSourceBuilder.slice(new SliceBuilder(sliceId, job.slices.length));
+        }
+        if (slice.searchAfter != null) {
+            searchSourceBuilder.searchAfter(slice.searchAfter);
+        }
+        return new SearchRequest().source(searchSourceBuilder);
+    }
+
+    private void onSearchResponse(BatchPredictionJob job, int sliceId, SearchResponse response) {
+        SliceState slice = job.slices[sliceId];
+        if (slice.totalDocs == null && response.getHits().getTotalHits() != null) {
+            slice.totalDocs = response.getHits().getTotalHits().value;
+        }
+        SearchHit[] hits = response.getHits().getHits();
+        if (hits.length == 0) {
+            synchronized (job) {
+                slice.done = true;
+            }
+            checkpoint(job, sliceId);
+            onSliceDone(job);
+            return;
+        }
+        List<String> docIds = new ArrayList<>();
+        List<String> docs = new ArrayList<>();
+        int skippedDocs = 0;
+        for (SearchHit hit : hits) {
+            Object value = XContentMapValues.extractValue(job.input.getSourceField(), hit.getSourceAsMap());
+            if (value instanceof String) {
+                docIds.add(hit.getId());
+                docs.add((String) value);
+            } else {
+                skippedDocs++;
+            }
+        }
+        Object[] lastSortValues = hits[hits.length - 1].getSortValues();
+        if (docs.isEmpty()) {
+            onPageDone(job, sliceId, lastSortValues, 0, skippedDocs);
+            return;
+        }
+        predict(job, sliceId, docIds, docs, lastSortValues, skippedDocs);
+    }
+
+    private void predict(
+        BatchPredictionJob job,
+        int sliceId,
+        List<String> docIds,
+        List<String> docs,
+        Object[] lastSortValues,
+        int skippedDocs
+    ) {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(job.functionName)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+        MLPredictionTaskRequest predictionRequest = MLPredictionTaskRequest
+            .builder()
+            .modelId(job.input.getModelId())
+            .mlInput(mlInput)
+            .dispatchTask(true)
+            .build();
+        client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, threadedListener(ActionListener.wrap(r -> {
+            try {
+                List<Object> outputs = extractOutputs(r.getOutput(), docs.size());
+                writeOutputs(job, sliceId, docIds, outputs, lastSortValues, skippedDocs);
+            } catch (Exception e) {
+                failJob(job, e);
+            }
+        }, e -> {
+            if (isThrottled(e)) {
+                retryLater(job, sliceId, e, () -> predict(job, sliceId, docIds, docs, lastSortValues, skippedDocs));
+            } else {
+                failJob(job, e);
+            }
+        })));
+    }
+
+    /**
+     * Get the output of each document from the model output. Local models return one tensors per document, remote
+     * models may return one tensor per document in a single tensors.
+     */
+    @VisibleForTesting
+    static List<Object> extractOutputs(MLOutput output, int docCount) {
+        if (!(output instanceof ModelTensorOutput)) {
+            throw new IllegalArgumentException("Batch prediction only supports models with tensor output");
+        }
+        List<ModelTensors> modelOutputs = ((ModelTensorOutput) output).getMlModelOutputs();
+        List<ModelTensor> tensors = new ArrayList<>();
+        if (modelOutputs != null && modelOutputs.size() == docCount) {
+            for (ModelTensors modelTensors : modelOutputs) {
+                tensors.add(modelTensors.getMlModelTensors().get(0));
+            }
+        } else if (modelOutputs != null && modelOutputs.size() == 1 && modelOutputs.get(0).getMlModelTensors().size() == docCount) {
+            tensors.addAll(modelOutputs.get(0).getMlModelTensors());
+        } else {
+            throw new IllegalArgumentException("Model output doesn't match the " + docCount + " documents of the batch");
+        }
+        List<Object> outputs = new ArrayList<>(docCount);
+        for (ModelTensor tensor : tensors) {
+            if (tensor.getData() != null) {
+                outputs.add(Arrays.asList(tensor.getData()));
+            } else if (tensor.getDataAsMap() != null) {
+                outputs.add(tensor.getDataAsMap());
+            } else {
+                outputs.add(tensor.getResult());
+            }
+        }
+        return outputs;
+    }
+
+    private void writeOutputs(
+        BatchPredictionJob job,
+        int sliceId,
+        List<String> docIds,
+        List<Object> outputs,
+        Object[] lastSortValues,
+        int skippedDocs
+    ) {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < docIds.size(); i++) {
+            Map<String, Object> doc = new HashMap<>();
+            doc.put(job.input.getTargetField(), outputs.get(i));
+            // Upsert, so a page predicted again after resuming overwrites its previous output.
+            bulkRequest.add(new UpdateRequest(job.input.getTargetIndex(), docIds.get(i)).doc(doc).docAsUpsert(true));
+        }
+        client.bulk(bulkRequest, threadedListener(ActionListener.wrap(r -> {
+            int failedDocs = 0;
+            for (BulkItemResponse item : r.getItems()) {
+                if (item.isFailed()) {
+                    if (failedDocs == 0) {
+                        log.warn("Failed to write batch prediction output of task {}: {}", job.taskId, item.getFailureMessage());
+                    }
+                    failedDocs++;
+                }
+            }
+            onPageDone(job, sliceId, lastSortValues, docIds.size() - failedDocs, skippedDocs + failedDocs);
+        }, e -> {
+            if (isThrottled(e)) {
+                retryLater(job, sliceId, e, () -> writeOutputs(job, sliceId, docIds, outputs, lastSortValues, skippedDocs));
+            } else {
+                failJob(job, e);
+            }
+        })));
+    }
+
+    private void onPageDone(BatchPredictionJob job, int sliceId, Object[] lastSortValues, int processedDocs, int failedDocs) {
+        SliceState slice = job.slices[sliceId];
+        synchronized (job) {
+            slice.searchAfter = lastSortValues;
+            slice.processedDocs += processedDocs;
+            slice.failedDocs += failedDocs;
+            slice.retries = 0;
+            job.docsInRun += processedDocs;
+        }
+        checkpoint(job, sliceId);
+        runSlice(job, sliceId);
+    }
+
+    private void onSliceDone(BatchPredictionJob job) {
+        if (job.remainingSlices.decrementAndGet() > 0) {
+            return;
+        }
+        deletePit(job);
+        log.info("Batch prediction task {} completed, {} docs/s", job.taskId, job.docsPerSecond());
+        Map<String, Object> finalFields = new HashMap<>();
+        finalFields.put(STATE_FIELD, MLTaskState.COMPLETED);
+        finalFields.put(PROGRESS_FIELD, 1.0f);
+        finish(job, finalFields);
+    }
+
+    /**
+     * Persist the position of a slice. The slice goes on without waiting for its checkpoint, as a page predicted again
+     * after resuming from an older checkpoint only overwrites its previous output.
+     */
+    private void checkpoint(BatchPredictionJob job, int sliceId) {
+        synchronized (job) {
+            job.dirtySlices.add(sliceId);
+        }
+        writeTask(job);
+    }
+
+    /**
+     * Write the final state of the job to its task after its pending checkpoints, and stop writing checkpoints.
+     */
+    private void finish(BatchPredictionJob job, Map<String, Object> finalFields) {
+        synchronized (job) {
+            if (job.finalFields != null) {
+                return;
+            }
+            job.finalFields = finalFields;
+        }
+        writeTask(job);
+    }
+
+    /**
+     * Write the checkpoints of the slices which moved on since the last update of the task, or the final state of the
+     * job with all its slices. Slices which move on while an update is in flight are written by the next update.
+     */
+    private void writeTask(BatchPredictionJob job) {
+        Map<String, Object> updatedFields = new HashMap<>();
+        List<Integer> sliceIds = new ArrayList<>();
+        boolean finalUpdate;
+        synchronized (job) {
+            if (job.writing || job.finished) {
+                return;
+            }
+            finalUpdate = job.finalFields != null;
+            if (finalUpdate) {
+                for (int i = 0; i < job.slices.length; i++) {
+                    sliceIds.add(i);
+                }
+                updatedFields.putAll(job.finalFields);
+            } else if (!job.dirtySlices.isEmpty()) {
+                sliceIds.addAll(job.dirtySlices);
+                Float progress = job.progress();
+                if (progress != null) {
+                    updatedFields.put(PROGRESS_FIELD, progress);
+                }
+            } else {
+                return;
+            }
+            job.dirtySlices.clear();
+            job.writing = true;
+            // The update merges the checkpoints of these slices into the checkpoints of the other slices.
+            updatedFields.put(BATCH_JOB_FIELD, job.checkpointMap(sliceIds));
+        }
+        // Only the final update waits for a refresh, so searching the tasks finds the job done once it is.
+        WriteRequest.RefreshPolicy refreshPolicy = finalUpdate ? WriteRequest.RefreshPolicy.WAIT_UNTIL : WriteRequest.RefreshPolicy.NONE;
+        updateJobTask(job, updatedFields, refreshPolicy, ActionListener.wrap(r -> {
+            synchronized (job) {
+                job.writing = false;
+                job.finished = finalUpdate;
+                job.checkpointFailures = 0;
+            }
+            if (finalUpdate) {
+                runningJobs.remove(job.taskId, job);
+            } else {
+                writeTask(job);
+            }
+        }, e -> onWriteTaskFailure(job, sliceIds, finalUpdate, e)));
+    }
+
+    private void onWriteTaskFailure(BatchPredictionJob job, List<Integer> sliceIds, boolean finalUpdate, Exception e) {
+        if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+            // Another run resumed the task and owns its checkpoints now.
+            log.warn("Batch prediction task {} was resumed by another run, stopping this run", job.taskId);
+            job.failed.set(true);
+            stopWriting(job);
+            return;
+        }
+        if (finalUpdate) {
+            log.error("Failed to update batch prediction task " + job.taskId, e);
+            stopWriting(job);
+            return;
+        }
+        // The checkpoints are written again with the next update, the job only fails if the task can't be updated at all.
+        int failures;
+        synchronized (job) {
+            job.writing = false;
+            job.dirtySlices.addAll(sliceIds);
+            failures = ++job.checkpointFailures;
+        }
+        if (failures > MAX_RETRIES) {
+            failJob(job, e);
+            return;
+        }
+        long delay = retryDelay(failures);
+        log.warn("Failed to checkpoint batch prediction task {}, retrying in {}ms: {}", job.taskId, delay, e.getMessage());
+        threadPool.schedule(() -> writeTask(job), TimeValue.timeValueMillis(delay), GENERAL_THREAD_POOL);
+    }
+
+    private void stopWriting(BatchPredictionJob job) {
+        synchronized (job) {
+            job.writing = false;
+            job.finished = true;
+        }
+        runningJobs.remove(job.taskId, job);
+    }
+
+    private void retryLater(BatchPredictionJob job, int sliceId, Exception e, Runnable retry) {
+        int retries;
+        synchronized (job) {
+            retries = ++job.slices[sliceId].retries;
+        }
+        if (retries > MAX_RETRIES) {
+            failJob(job, e);
+            return;
+        }
+        long delay = retryDelay(retries);
+        log.debug("Throttled batch prediction task {} slice {} for {}ms: {}", job.taskId, sliceId, delay, e.getMessage());
+        threadPool.schedule(retry, TimeValue.timeValueMillis(delay), GENERAL_THREAD_POOL);
+    }
+
+    private long retryDelay(int retries) {
+        return Math.min(INITIAL_RETRY_DELAY_IN_MILLIS << (retries - 1), MAX_RETRY_DELAY_IN_MILLIS);
+    }
+
+    private void failJob(BatchPredictionJob job, Exception e) {
+        if (!job.failed.compareAndSet(false, true)) {
+            return;
+        }
+        log.error("Failed to run batch prediction task " + job.taskId, e);
+        // Keep the point in time until it expires, so the job can be resumed from its checkpoints. The job stays in
+        // runningJobs until its final update is written, so it can't be resumed on this node while it still writes.
+        Map<String, Object> finalFields = new HashMap<>();
+        finalFields.put(STATE_FIELD, MLTaskState.FAILED);
+        finalFields.put(ERROR_FIELD, ExceptionsHelper.unwrapCause(e).getMessage());
+        finish(job, finalFields);
+    }
+
+    private void deletePit(BatchPredictionJob job) {
+        if (job.pitId == null) {
+            return;
+        }
+        client.deletePits(new DeletePitRequest(job.pitId), ActionListener.wrap(r -> {}, e -> {
+            log.warn("Failed to delete point in time of batch prediction task " + job.taskId, e);
+        }));
+    }
+
+    /**
+     * Update the task of a job if nothing else updated it since the previous update of the job.
+     */
+    private void updateJobTask(
+        BatchPredictionJob job,
+        Map<String, Object> updatedFields,
+        WriteRequest.RefreshPolicy refreshPolicy,
+        ActionListener<UpdateResponse> listener
+    ) {
+        long seqNo;
+        long primaryTerm;
+        synchronized (job) {
+            seqNo = job.seqNo;
+            primaryTerm = job.primaryTerm;
+        }
+        updateTask(job.taskId, updatedFields, seqNo, primaryTerm, refreshPolicy, ActionListener.wrap(r -> {
+            job.setSeqNo(r.getSeqNo(), r.getPrimaryTerm());
+            listener.onResponse(r);
+        }, listener::onFailure));
+    }
+
+    private void updateTask(
+        String taskId,
+        Map<String, Object> updatedFields,
+        long seqNo,
+        long primaryTerm,
+        WriteRequest.RefreshPolicy refreshPolicy,
+        ActionListener<UpdateResponse> listener
+    ) {
+        UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, taskId);
+        Map<String, Object> updatedContent = new HashMap<>(updatedFields);
+        updatedContent.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+        updateRequest.doc(updatedContent);
+        if (seqNo != UNASSIGNED_SEQ_NO) {
+            updateRequest.setIfSeqNo(seqNo).setIfPrimaryTerm(primaryTerm);
+        }
+        updateRequest.setRefreshPolicy(refreshPolicy);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.update(updateRequest, threadedListener(ActionListener.runBefore(listener, context::restore)));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private boolean isThrottled(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        return cause instanceof MLLimitExceededException || ExceptionsHelper.status(cause) == RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    private <T> ActionListener<T> threadedListener(ActionListener<T> listener) {
+        return new ThreadedActionListener<>(log, threadPool, GENERAL_THREAD_POOL, listener, false);
+    }
+
+    static class SliceState {
+        Object[] searchAfter;
+        Long totalDocs;
+        long processedDocs;
+        long failedDocs;
+        boolean done;
+        int retries;
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put(SEARCH_AFTER_FIELD, searchAfter == null ? null : Arrays.asList(searchAfter));
+            map.put(TOTAL_DOCS_FIELD, totalDocs);
+            map.put(PROCESSED_DOCS_FIELD, processedDocs);
+            map.put(FAILED_DOCS_FIELD, failedDocs);
+            map.put(DONE_FIELD, done);
+            return map;
+        }
+
+        static SliceState fromMap(Map<String, Object> map) {
+            SliceState slice = new SliceState();
+            if (map == null) {
+                return slice;
+            }
+            List<?> searchAfter = (List<?>) map.get(SEARCH_AFTER_FIELD);
+            slice.searchAfter = searchAfter == null ? null : searchAfter.toArray();
+            Number totalDocs = (Number) map.get(TOTAL_DOCS_FIELD);
+            slice.totalDocs = totalDocs == null ? null : totalDocs.longValue();
+            slice.processedDocs = map.containsKey(PROCESSED_DOCS_FIELD) ? ((Number) map.get(PROCESSED_DOCS_FIELD)).longValue() : 0;
+            slice.failedDocs = map.containsKey(FAILED_DOCS_FIELD) ? ((Number) map.get(FAILED_DOCS_FIELD)).longValue() : 0;
+            slice.done = Boolean.TRUE.equals(map.get(DONE_FIELD));
+            return slice;
+        }
+    }
+
+    static class BatchPredictionJob {
+        String taskId;
+        final MLBatchPredictionInput input;
+        final FunctionName functionName;
+        final SliceState[] slices;
+        final AtomicInteger remainingSlices;
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        volatile String pitId;
+        volatile long startNanos;
+        // Docs processed since the job was started or resumed, for the throughput of this run.
+        long docsInRun;
+        // State of the task updates of the job, guarded by the job.
+        final Set<Integer> dirtySlices = new HashSet<>();
+        Map<String, Object> finalFields;
+        boolean writing;
+        boolean finished;
+        int checkpointFailures;
+        long seqNo = UNASSIGNED_SEQ_NO;
+        long primaryTerm = UNASSIGNED_PRIMARY_TERM;
+
+        BatchPredictionJob(String taskId, MLBatchPredictionInput input, FunctionName functionName) {
+            this(taskId, input, functionName, new SliceState[input.getSlices()]);
+            for (int i = 0; i < slices.length; i++) {
+                slices[i] = new SliceState();
+            }
+        }
+
+        private BatchPredictionJob(String taskId, MLBatchPredictionInput input, FunctionName functionName, SliceState[] slices) {
+            this.taskId = taskId;
+            this.input = input;
+            this.functionName = functionName;
+            this.slices = slices;
+            this.remainingSlices = new AtomicInteger(slices.length);
+        }
+
+        synchronized Map<String, Object> toMap() throws IOException {
+            List<Integer> sliceIds = new ArrayList<>();
+            for (int i = 0; i < slices.length; i++) {
+                sliceIds.add(i);
+            }
+            Map<String, Object> map = checkpointMap(sliceIds);
+            try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                input.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                map.put(INPUT_FIELD, XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2());
+            }
+            return map;
+        }
+
+        /**
+         * @return progress of the job with the checkpoints of the given slices
+         */
+        synchronized Map<String, Object> checkpointMap(List<Integer> sliceIds) {
+            Map<String, Object> map = progressMap();
+            Map<String, Object> sliceMaps = new HashMap<>();
+            for (int sliceId : sliceIds) {
+                sliceMaps.put(String.valueOf(sliceId), slices[sliceId].toMap());
+            }
+            map.put(SLICES_FIELD, sliceMaps);
+            return map;
+        }
+
+        synchronized void setSeqNo(long seqNo, long primaryTerm) {
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+        }
+
+        synchronized Map<String, Object> progressMap() {
+            long processedDocs = 0;
+            long failedDocs = 0;
+            for (SliceState slice : slices) {
+                processedDocs += slice.processedDocs;
+                failedDocs += slice.failedDocs;
+            }
+            Map<String, Object> map = new HashMap<>();
+            map.put(PROCESSED_DOCS_FIELD, processedDocs);
+            map.put(FAILED_DOCS_FIELD, failedDocs);
+            map.put(DOCS_PER_SECOND_FIELD, docsPerSecond());
+            map.put(PIT_ID_FIELD, pitId);
+            return map;
+        }
+
+        /**
+         * Restart the slices which aren't done from the beginning, as their checkpoints don't apply to a new point in
+         * time. Their docs are predicted again and their output overwritten.
+         */
+        synchronized void restartUnfinishedSlices() {
+            pitId = null;
+            for (int i = 0; i < slices.length; i++) {
+                if (!slices[i].done) {
+                    slices[i] = new SliceState();
+                }
+            }
+        }
+
+        /**
+         * @return ratio of the docs done to the docs of all slices, or null if a slice hasn't got its total yet
+         */
+        synchronized Float progress() {
+            long doneDocs = 0;
+            long totalDocs = 0;
+            for (SliceState slice : slices) {
+                if (slice.totalDocs == null) {
+                    return null;
+                }
+                doneDocs += slice.processedDocs + slice.failedDocs;
+                totalDocs += slice.totalDocs;
+            }
+            return totalDocs == 0 ? 1.0f : Math.min(1.0f, (float) doneDocs / totalDocs);
+        }
+
+        synchronized double docsPerSecond() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (startNanos == 0 || elapsedNanos <= 0) {
+                return 0;
+            }
+            return docsInRun * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        static BatchPredictionJob fromMap(
+            String taskId,
+            FunctionName functionName,
+            Map<String, Object> map,
+            NamedXContentRegistry xContentRegistry
+        ) throws IOException {
+            MLBatchPredictionInput input;
+            try (
+                XContentBuilder builder = XContentFactory.jsonBuilder().map((Map<String, Object>) map.get(INPUT_FIELD));
+                XContentParser parser = XContentType.JSON
+                    .xContent()
+                    .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, builder.toString())
+            ) {
+                ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                input = MLBatchPredictionInput.parse(parser, null);
+            }
+            Map<String, Object> sliceMaps = (Map<String, Object>) map.get(SLICES_FIELD);
+            SliceState[] slices = new SliceState[input.getSlices()];
+            for (int i = 0; i < slices.length; i++) {
+                slices[i] = SliceState.fromMap(sliceMaps == null ? null : (Map<String, Object>) sliceMaps.get(String.valueOf(i)));
+            }
+            BatchPredictionJob job = new BatchPredictionJob(taskId, input, functionName, slices);
+            job.pitId = (String) map.get(PIT_ID_FIELD);
+            return job;
+        }
+    }
+}
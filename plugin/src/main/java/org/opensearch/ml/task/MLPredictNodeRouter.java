@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.opensearch.core.action.ActionListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Picks the worker node for a predict request from per model, per node response latency and outstanding
+ * request counts: two random worker nodes are compared and the cheaper one wins. The local node is
+ * preferred when it hosts the model and its cost is not much higher than the picked node's, since that
+ * saves a transport hop.
+ */
+public class MLPredictNodeRouter {
+    // Weight of the newest latency sample in the moving average.
+    private static final double EWMA_ALPHA = 0.3;
+    // The local node is used as long as its cost is at most this many times the cost of the picked node.
+    @VisibleForTesting
+    static final double LOCAL_PREFERENCE_FACTOR = 2.0;
+
+    // {"model_id": {"node_id": NodeState}}
+    private final Map<String, Map<String, NodeState>> modelNodeStates = new ConcurrentHashMap<>();
+    private final Supplier<Random> random;
+
+    public MLPredictNodeRouter() {
+        this(ThreadLocalRandom::current);
+    }
+
+    @VisibleForTesting
+    MLPredictNodeRouter(Supplier<Random> random) {
+        this.random = random;
+    }
+
+    /**
+     * Select the worker node to run a predict request.
+     * @param modelId model id
+     * @param nodeIds worker nodes of the model
+     * @param localNodeId id of the coordinating node
+     * @return selected node id
+     */
+    public String selectNode(String modelId, String[] nodeIds, String localNodeId) {
+        if (nodeIds.length == 1) {
+            return nodeIds[0];
+        }
+        Map<String, NodeState> nodeStates = getNodeStates(modelId);
+        if (nodeStates.size() > nodeIds.length) {
+            // Forget nodes which no longer serve the model.
+            Set<String> workerNodes = ImmutableSet.copyOf(nodeIds);
+            nodeStates.keySet().removeIf(nodeId -> !workerNodes.contains(nodeId));
+        }
+
+        double unsampledLatency = estimateUnsampledLatency(nodeStates, nodeIds);
+        Random rand = random.get();
+        int first = rand.nextInt(nodeIds.length);
+        int second = rand.nextInt(nodeIds.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        double firstCost = cost(nodeStates, nodeIds[first], unsampledLatency);
+        double secondCost = cost(nodeStates, nodeIds[second], unsampledLatency);
+        String selected = firstCost <= secondCost ? nodeIds[first] : nodeIds[second];
+        if (localNodeId != null && !localNodeId.equals(selected) && contains(nodeIds, localNodeId)) {
+            double selectedCost = Math.min(firstCost, secondCost);
+            if (cost(nodeStates, localNodeId, unsampledLatency) <= LOCAL_PREFERENCE_FACTOR * selectedCost) {
+                return localNodeId;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Forget the routing state of a model, e.g. when it's undeployed.
+     * @param modelId model id
+     */
+    public void removeModel(String modelId) {
+        modelNodeStates.remove(modelId);
+    }
+
+    /**
+     * Forget the routing state of all models except the given ones.
+     * @param modelIds models which are still deployed
+     */
+    public void retainModels(Set<String> modelIds) {
+        modelNodeStates.keySet().removeIf(modelId -> !modelIds.contains(modelId));
+    }
+
+    /**
+     * Count a predict request as outstanding on the node until the returned listener completes, and
+     * feed its latency into the node's moving average.
+     * @param modelId model id
+     * @param nodeId node running the request
+     * @param listener listener of the predict request
+     * @return wrapped listener
+     */
+    public <T> ActionListener<T> track(String modelId, String nodeId, ActionListener<T> listener) {
+        NodeState state = getNodeStates(modelId).computeIfAbsent(nodeId, it -> new NodeState());
+        state.outstanding.incrementAndGet();
+        long startTime = System.nanoTime();
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                state.onComplete(System.nanoTime() - startTime, true);
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                state.onComplete(System.nanoTime() - startTime, false);
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    @VisibleForTesting
+    int getOutstanding(String modelId, String nodeId) {
+        NodeState state = getNodeStates(modelId).get(nodeId);
+        return state == null ? 0 : state.outstanding.get();
+    }
+
+    private Map<String, NodeState> getNodeStates(String modelId) {
+        return modelNodeStates.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Latency assumed for nodes without samples: the median latency of the sampled nodes, so an unsampled
+     * node is compared in the same units as its peers and its outstanding requests still count against it.
+     * A node which never completes a request thus stops getting traffic once requests pile up on it.
+     */
+    private double estimateUnsampledLatency(Map<String, NodeState> nodeStates, String[] nodeIds) {
+        double[] latencies = new double[nodeIds.length];
+        int sampled = 0;
+        for (String nodeId : nodeIds) {
+            NodeState state = nodeStates.get(nodeId);
+            if (state != null && state.latencyEwmaNanos > 0) {
+                latencies[sampled++] = state.latencyEwmaNanos;
+            }
+        }
+        if (sampled == 0) {
+            // No samples at all, nodes are compared by outstanding requests only.
+            return 1;
+        }
+        Arrays.sort(latencies, 0, sampled);
+        return latencies[sampled / 2];
+    }
+
+    private double cost(Map<String, NodeState> nodeStates, String nodeId, double unsampledLatency) {
+        NodeState state = nodeStates.get(nodeId);
+        if (state == null) {
+            return unsampledLatency;
+        }
+        double latency = state.latencyEwmaNanos > 0 ? state.latencyEwmaNanos : unsampledLatency;
+        return latency * (state.outstanding.get() + 1);
+    }
+
+    private boolean contains(String[] nodeIds, String nodeId) {
+        for (String id : nodeIds) {
+            if (id.equals(nodeId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class NodeState {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile double latencyEwmaNanos;
+
+        private synchronized void onComplete(long latencyNanos, boolean success) {
+            outstanding.decrementAndGet();
+            // A failed request is counted as twice as slow as the current average, so failing nodes are avoided.
+            double sample = success ? latencyNanos : Math.max(latencyNanos, latencyEwmaNanos * 2);
+            latencyEwmaNanos = latencyEwmaNanos == 0 ? sample : EWMA_ALPHA * sample + (1 - EWMA_ALPHA) * latencyEwmaNanos;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Queues the predict requests run on this node per model, and hands them to the predict thread pools in weighted round
+ * robin order between models. A model flooded with requests only fills its own bounded queue, so the requests of other
+ * models don't wait behind it. A request which waited longer than its deadline is dropped when dequeued instead of run.
+ * <p>
+ * Every queued request submits one runner to the thread pool of its model, and that runner runs whichever request of the
+ * thread pool is next in round robin order, so each thread pool still bounds how many requests run at the same time.
+ * The queues of each thread pool are guarded by their own lock, and the queue of a model is dropped once it drains.
+ */
+@Log4j2
+public class MLPredictQueue {
+    public static final String QUEUE_DEPTH_FIELD = "queue_depth";
+    public static final String SHED_COUNT_FIELD = "shed_count";
+    public static final String REJECTED_COUNT_FIELD = "rejected_count";
+
+    private final ThreadPool threadPool;
+    private volatile int maxQueueSize;
+    private volatile long maxWaitNanos;
+    private volatile Map<String, Integer> modelWeights;
+    // Key is the thread pool name.
+    private final Map<String, ExecutorQueue> executorQueues = new ConcurrentHashMap<>();
+    // Shed and rejected counts of each model, kept after its queue drains until the model is removed.
+    private final Map<String, QueueCounters> queueCounters = new ConcurrentHashMap<>();
+
+    public MLPredictQueue(ThreadPool threadPool, ClusterService clusterService, Settings settings) {
+        this.threadPool = threadPool;
+        maxQueueSize = ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL.get(settings);
+        maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS.get(settings));
+        modelWeights = parseModelWeights(ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL, it -> maxQueueSize = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS, it -> maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(it));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS,
+                it -> modelWeights = parseModelWeights(it),
+                MLPredictQueue::parseModelWeights
+            );
+    }
+
+    /**
+     * Queue a predict request of model with the deadline set by the max queue wait setting.
+     * @param executor name of the thread pool which runs the request
+     * @param modelId model id
+     * @param task predict request to run, its onRejection is called if the queue of the model is full
+     */
+    public void execute(String executor, String modelId, AbstractRunnable task) {
+        execute(executor, modelId, null, task);
+    }
+
+    /**
+     * Queue a predict request of model. The request is dropped at the earlier of its own deadline and the deadline set by
+     * the max queue wait setting.
+     * @param executor name of the thread pool which runs the request
+     * @param modelId model id
+     * @param deadlineNanos {@link System#nanoTime()} after which the request is dropped instead of run, null for none
+     * @param task predict request to run, its onRejection is called if the queue of the model is full
+     */
+    public void execute(String executor, String modelId, Long deadlineNanos, AbstractRunnable task) {
+        String key = modelId == null ? "" : modelId;
+        long wait = maxWaitNanos;
+        if (wait > 0) {
+            long maxWaitDeadline = System.nanoTime() + wait;
+            if (deadlineNanos == null || maxWaitDeadline - deadlineNanos < 0) {
+                deadlineNanos = maxWaitDeadline;
+            }
+        }
+        QueuedTask queuedTask = new QueuedTask(key, task, deadlineNanos, threadPool.getThreadContext());
+        QueueCounters counters = queueCounters.computeIfAbsent(key, it -> new QueueCounters());
+        ExecutorQueue executorQueue = executorQueues.computeIfAbsent(executor, it -> new ExecutorQueue());
+        boolean queued = false;
+        synchronized (executorQueue) {
+            ModelQueue modelQueue = executorQueue.modelQueues.get(key);
+            int depth = modelQueue == null ? 0 : modelQueue.tasks.size();
+            if (depth < maxQueueSize) {
+                if (modelQueue == null) {
+                    modelQueue = new ModelQueue(key, getWeight(key));
+                    executorQueue.modelQueues.put(key, modelQueue);
+                    executorQueue.activeQueues.addLast(modelQueue);
+                }
+                modelQueue.tasks.addLast(queuedTask);
+                executorQueue.queuedCount++;
+                executorQueue.pendingRunners++;
+                queued = true;
+            }
+        }
+        if (!queued) {
+            counters.rejectedCount.increment();
+            String error = String.format(Locale.ROOT, "Predict queue of model %s is full, max queue size is %d", modelId, maxQueueSize);
+            task.onRejection(new OpenSearchRejectedExecutionException(error));
+            return;
+        }
+        try {
+            threadPool.executor(executor).execute(() -> runNext(executorQueue));
+        } catch (OpenSearchRejectedExecutionException e) {
+            QueuedTask orphan = removeOrphan(executorQueue, key, queuedTask);
+            if (orphan != null) {
+                queueCounters.computeIfAbsent(orphan.modelId, it -> new QueueCounters()).rejectedCount.increment();
+                orphan.reject(e);
+            }
+        }
+    }
+
+    private void runNext(ExecutorQueue executorQueue) {
+        synchronized (executorQueue) {
+            executorQueue.pendingRunners--;
+        }
+        QueuedTask queuedTask;
+        while ((queuedTask = poll(executorQueue)) != null) {
+            if (queuedTask.shed) {
+                queuedTask
+                    .fail(
+                        new OpenSearchStatusException(
+                            "Predict request dropped since it waited in the predict queue longer than its deadline",
+                            RestStatus.TOO_MANY_REQUESTS
+                        )
+                    );
+                continue;
+            }
+            queuedTask.run();
+            return;
+        }
+    }
+
+    private QueuedTask poll(ExecutorQueue executorQueue) {
+        QueuedTask queuedTask;
+        synchronized (executorQueue) {
+            ModelQueue modelQueue = executorQueue.activeQueues.peekFirst();
+            if (modelQueue == null) {
+                return null;
+            }
+            queuedTask = modelQueue.tasks.pollFirst();
+            executorQueue.queuedCount--;
+            if (modelQueue.tasks.isEmpty()) {
+                executorQueue.activeQueues.pollFirst();
+                executorQueue.modelQueues.remove(modelQueue.modelId);
+            } else if (--modelQueue.credits <= 0) {
+                executorQueue.activeQueues.pollFirst();
+                modelQueue.credits = getWeight(modelQueue.modelId);
+                executorQueue.activeQueues.addLast(modelQueue);
+            }
+        }
+        if (queuedTask.isExpired()) {
+            queuedTask.shed = true;
+            queueCounters.computeIfAbsent(queuedTask.modelId, it -> new QueueCounters()).shedCount.increment();
+        }
+        return queuedTask;
+    }
+
+    /**
+     * Called when the thread pool rejected the runner of a queued request. Every queued request needs a runner, so one
+     * queued request is taken out to be rejected: the request itself if it's still queued, otherwise another request of
+     * the same model or thread pool, since a predict thread already took this one in its place.
+     */
+    private QueuedTask removeOrphan(ExecutorQueue executorQueue, String modelId, QueuedTask queuedTask) {
+        synchronized (executorQueue) {
+            executorQueue.pendingRunners--;
+            if (executorQueue.queuedCount <= executorQueue.pendingRunners) {
+                return null;
+            }
+            ModelQueue modelQueue = executorQueue.modelQueues.get(modelId);
+            if (modelQueue == null) {
+                modelQueue = executorQueue.activeQueues.peekLast();
+            }
+            QueuedTask orphan = modelQueue.tasks.remove(queuedTask) ? queuedTask : modelQueue.tasks.pollLast();
+            executorQueue.queuedCount--;
+            if (modelQueue.tasks.isEmpty()) {
+                executorQueue.activeQueues.remove(modelQueue);
+                executorQueue.modelQueues.remove(modelQueue.modelId);
+            }
+            return orphan;
+        }
+    }
+
+    private int getWeight(String modelId) {
+        return modelWeights.getOrDefault(modelId, 1);
+    }
+
+    /**
+     * Get the predict queue stats of model. The time requests wait in the queue is recorded as the queue_wait predict stage.
+     * @param modelId model id
+     * @return stats of the queue of the model, or null if no request of the model has been queued on this node
+     */
+    public Map<String, Object> getStats(String modelId) {
+        QueueCounters counters = queueCounters.get(modelId);
+        if (counters == null) {
+            return null;
+        }
+        int depth = 0;
+        for (ExecutorQueue executorQueue : executorQueues.values()) {
+            synchronized (executorQueue) {
+                ModelQueue modelQueue = executorQueue.modelQueues.get(modelId);
+                depth += modelQueue == null ? 0 : modelQueue.tasks.size();
+            }
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(QUEUE_DEPTH_FIELD, depth);
+        stats.put(SHED_COUNT_FIELD, counters.shedCount.sum());
+        stats.put(REJECTED_COUNT_FIELD, counters.rejectedCount.sum());
+        return stats;
+    }
+
+    /**
+     * Drop the queue stats of model, e.g. after it is undeployed from this node. Requests still queued run as usual.
+     * @param modelId model id
+     */
+    public void removeModel(String modelId) {
+        queueCounters.remove(modelId);
+    }
+
+    static Map<String, Integer> parseModelWeights(List<String> modelWeights) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String modelWeight : modelWeights) {
+            int separator = modelWeight.lastIndexOf(':');
+            if (separator <= 0 || separator == modelWeight.length() - 1) {
+                throw new IllegalArgumentException("Invalid predict queue model weight, expect <model_id>:<weight>: " + modelWeight);
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(modelWeight.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid predict queue model weight, expect <model_id>:<weight>: " + modelWeight);
+            }
+            if (weight < 1) {
+                throw new IllegalArgumentException("Predict queue model weight must be positive: " + modelWeight);
+            }
+            weights.put(modelWeight.substring(0, separator).trim(), weight);
+        }
+        return weights;
+    }
+
+    private static class ExecutorQueue {
+        // Model queues with waiting requests, key is model id.
+        private final Map<String, ModelQueue> modelQueues = new HashMap<>();
+        // Same model queues in the order they are served.
+        private final Deque<ModelQueue> activeQueues = new ArrayDeque<>();
+        private int queuedCount;
+        // Runners submitted to the thread pool and not started yet. Each queued request needs one.
+        private int pendingRunners;
+    }
+
+    private static class ModelQueue {
+        private final String modelId;
+        private final Deque<QueuedTask> tasks = new ArrayDeque<>();
+        // Requests left to take from this queue in its current round robin turn.
+        private int credits;
+
+        ModelQueue(String modelId, int credits) {
+            this.modelId = modelId;
+            this.credits = credits;
+        }
+    }
+
+    private static class QueueCounters {
+        private final LongAdder shedCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+    }
+
+    private static class QueuedTask {
+        private final String modelId;
+        private final AbstractRunnable task;
+        private final Long deadlineNanos;
+        private final ThreadContext threadContext;
+        // The predict thread which runs the request may have been submitted by another request, so restore the context
+        // of the request itself.
+        private final ThreadContext.StoredContext storedContext;
+        // Set when dequeued after the deadline.
+        private boolean shed;
+
+        QueuedTask(String modelId, AbstractRunnable task, Long deadlineNanos, ThreadContext threadContext) {
+            this.modelId = modelId;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.threadContext = threadContext;
+            this.storedContext = threadContext.newStoredContext(false);
+        }
+
+        boolean isExpired() {
+            return deadlineNanos != null && System.nanoTime() - deadlineNanos > 0;
+        }
+
+        void run() {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                storedContext.restore();
+                task.run();
+            }
+        }
+
+        void fail(Exception e) {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                storedContext.restore();
+                task.onFailure(e);
+            }
+        }
+
+        void reject(Exception e) {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                storedContext.restore();
+                task.onRejection(e);
+            }
+        }
+    }
+}
@@ -8,12 +8,18 @@ package org.opensearch.ml.task;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.DISPATCH;
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.INFERENCE;
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.QUEUE_WAIT;
+import static org.opensearch.ml.engine.metrics.PredictStageMetrics.Stage.TRANSPORT;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceNotFoundException;
@@ -24,6 +30,8 @@ import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -44,17 +52,20 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTask;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
@@ -75,6 +86,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final MLPredictModelCache mlPredictModelCache;
+    private final MLPredictQueue mlPredictQueue;
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -88,7 +101,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         NamedXContentRegistry xContentRegistry,
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        MLPredictModelCache mlPredictModelCache,
+        MLPredictQueue mlPredictQueue
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -99,6 +114,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.mlPredictModelCache = mlPredictModelCache;
+        this.mlPredictQueue = mlPredictQueue;
     }
 
     @Override
@@ -119,39 +136,87 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         ActionListener<MLTaskResponse> listener
     ) {
         String modelId = request.getModelId();
+        long dispatchStart = System.nanoTime();
         try {
+            request.ensureActive();
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
+                mlModelManager.recordPredictStage(modelId, DISPATCH, System.nanoTime() - dispatchStart);
+                ActionListener<MLTaskResponse> trackedListener = mlTaskDispatcher.trackPredictTask(modelId, node.getId(), listener);
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    executeTask(request, listener);
+                    executeTask(request, trackedListener);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
-                }
-            }, e -> { listener.onFailure(e); });
-            String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
-            if (workerNodes == null || workerNodes.length == 0) {
-                if (functionName == FunctionName.TEXT_EMBEDDING || functionName == FunctionName.REMOTE) {
-                    listener
-                        .onFailure(
-                            new IllegalArgumentException(
-                                "Model not ready yet. Please run this first: POST /_plugins/_ml/models/" + modelId + "/_deploy"
-                            )
+                    // Round trip to the worker node, which includes the queue wait and inference recorded on that node.
+                    long transportStart = System.nanoTime();
+                    ActionListener<MLTaskResponse> transportListener = ActionListener
+                        .runBefore(
+                            trackedListener,
+                            () -> mlModelManager.recordPredictStage(modelId, TRANSPORT, System.nanoTime() - transportStart)
                         );
-                    return;
-                } else {
-                    workerNodes = nodeHelper.getEligibleNodeIds(functionName);
+                    sendPredictRequest(node, request, transportService, transportListener);
                 }
-            }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            }, e -> { listener.onFailure(e); });
+            selectWorkerNode(functionName, modelId, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Forward a predict request to the worker node. The forwarded request is a child of the predict task on this node,
+     * so it's cancelled together with it, and waits for the response no longer than the time left to the request.
+     */
+    private void sendPredictRequest(
+        DiscoveryNode node,
+        MLPredictionTaskRequest request,
+        TransportService transportService,
+        ActionListener<MLTaskResponse> listener
+    ) {
+        MLPredictionTask predictionTask = request.getPredictionTask();
+        TimeValue remainingTimeout = request.getRemainingTimeout();
+        if (predictionTask == null && remainingTimeout == null) {
+            transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+            return;
+        }
+        TransportRequestOptions options = remainingTimeout == null
+            ? TransportRequestOptions.EMPTY
+            : TransportRequestOptions.builder().withTimeout(remainingTimeout).build();
+        if (predictionTask != null) {
+            transportService
+                .sendChildRequest(node, getTransportActionName(), request, predictionTask, options, getResponseHandler(listener));
+        } else {
+            transportService.sendRequest(node, getTransportActionName(), request, options, getResponseHandler(listener));
+        }
+    }
+
+    /**
+     * Pick the worker node which runs a predict request of the model.
+     * @param functionName function name of the model
+     * @param modelId model id
+     * @param listener listener of the selected node
+     */
+    public void selectWorkerNode(FunctionName functionName, String modelId, ActionListener<DiscoveryNode> listener) {
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
+        if (workerNodes == null || workerNodes.length == 0) {
+            if (functionName == FunctionName.TEXT_EMBEDDING || functionName == FunctionName.REMOTE) {
+                listener
+                    .onFailure(
+                        new IllegalArgumentException(
+                            "Model not ready yet. Please run this first: POST /_plugins/_ml/models/" + modelId + "/_deploy"
+                        )
+                    );
+                return;
+            } else {
+                workerNodes = nodeHelper.getEligibleNodeIds(functionName);
+            }
+        }
+        mlTaskDispatcher.dispatchPredictTask(modelId, workerNodes, listener);
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -162,9 +227,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         MLInputDataType inputDataType = request.getMlInput().getInputDataset().getInputDataType();
         Instant now = Instant.now();
         String modelId = request.getModelId();
+        // Task id is assigned only if the task is tracked in the task cache, see predict.
         MLTask mlTask = MLTask
             .builder()
-            .taskId(UUID.randomUUID().toString())
             .modelId(modelId)
             .taskType(MLTaskType.PREDICTION)
             .inputType(inputDataType)
@@ -191,14 +256,34 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                long queuedAt = System.nanoTime();
+                String executor = getPredictExecutor(mlInput.getAlgorithm());
+                mlPredictQueue.execute(executor, modelId, request.getDeadlineNanos(), new AbstractRunnable() {
+                    @Override
+                    public void onFailure(Exception e) {
+                        listener.onFailure(e);
+                    }
+
+                    @Override
+                    protected void doRun() {
+                        mlModelManager.recordPredictStage(modelId, QUEUE_WAIT, System.nanoTime() - queuedAt);
+                        // Skip requests cancelled while queued.
+                        request.ensureActive();
+                        MLPredictionTask predictionTask = request.getPredictionTask();
+                        ThreadContext threadContext = threadPool.getThreadContext();
+                        if (predictionTask != null && threadContext.getTransient(MLPredictionTask.THREAD_CONTEXT_KEY) == null) {
+                            // The predict queue restores the context of the request around this, so it's dropped afterwards.
+                            threadContext.putTransient(MLPredictionTask.THREAD_CONTEXT_KEY, predictionTask);
+                        }
+                        predict(modelId, mlTask, mlInput, listener);
+                    }
+                });
                 break;
         }
     }
 
     private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
-        ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
-        // track ML task count and add ML task into cache
+        // track ML task count
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
         mlStats
@@ -208,13 +293,14 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
         }
         mlTask.setState(MLTaskState.RUNNING);
-        mlTaskManager.add(mlTask);
 
         FunctionName algorithm = mlInput.getAlgorithm();
-        // run predict
+        // Synchronous predicts served by a model in memory finish quickly and are never queried as tasks, so they skip
+        // the task cache and are only counted by ML_EXECUTING_TASK_COUNT.
         if (modelId != null) {
             Predictable predictor = mlModelManager.getPredictor(modelId);
             if (predictor != null) {
+                ActionListener<MLTaskResponse> untrackedListener = untrackedCleanupListener(listener);
                 try {
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
@@ -227,16 +313,45 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
                     handleAsyncMLTaskComplete(mlTask);
                     MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                    internalListener.onResponse(response);
+                    untrackedListener.onResponse(response);
                     return;
                 } catch (Exception e) {
-                    handlePredictFailure(mlTask, internalListener, e, false, modelId);
+                    handlePredictFailure(mlTask, untrackedListener, e, false, modelId);
                     return;
                 }
             } else if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE) {
+                mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement();
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
 
+            if (mlPredictModelCache.isCacheable(algorithm)) {
+                MLPredictModelCache.CachedModel cachedModel = mlPredictModelCache.get(modelId, mlInput.getParameters());
+                if (cachedModel != null) {
+                    ActionListener<MLTaskResponse> untrackedListener = untrackedCleanupListener(listener);
+                    try {
+                        if (hasPermission(cachedModel.getUser(), modelId, mlTask, untrackedListener)) {
+                            runPredict(mlTask, () -> cachedModel.getPredictable().predict(mlInput), untrackedListener);
+                        }
+                    } catch (Exception e) {
+                        log.error("Failed to predict model " + modelId, e);
+                        untrackedListener.onFailure(e);
+                    }
+                    return;
+                }
+            }
+        }
+
+        // Models read from the model index take longer, track them in the task cache until done.
+        mlTask.setTaskId(UUID.randomUUID().toString());
+        ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
+        mlTaskManager.add(mlTask);
+
+        // run predict
+        if (modelId != null) {
+            boolean cacheable = mlPredictModelCache.isCacheable(algorithm);
+            // Read before getting the model, so a model updated in between is not cached.
+            long cacheGeneration = mlPredictModelCache.getGeneration();
+
             // search model by model id.
             try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
                 ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
@@ -255,28 +370,22 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
                         mlModel.setModelId(modelId);
                         User resourceUser = mlModel.getUser();
-                        User requestUser = getUserContext(client);
-                        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
-                            // The backend roles of request user and resource user doesn't have intersection
-                            OpenSearchException e = new OpenSearchException(
-                                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
-                            );
-                            handlePredictFailure(mlTask, internalListener, e, false, modelId);
+                        if (!hasPermission(resourceUser, modelId, mlTask, internalListener)) {
                             return;
                         }
-                        // run predict
-                        if (mlTaskManager.contains(mlTask.getTaskId())) {
-                            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-                        }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                        if (cacheable) {
+                            Predictable predictable = mlEngine.loadPredictable(mlInput, mlModel);
+                            mlPredictModelCache
+                                .put(
+                                    modelId,
+                                    mlInput.getParameters(),
+                                    new MLPredictModelCache.CachedModel(predictable, resourceUser),
+                                    cacheGeneration
+                                );
+                            runPredict(mlTask, () -> predictable.predict(mlInput), internalListener);
+                        } else {
+                            runPredict(mlTask, () -> mlEngine.predict(mlInput, mlModel), internalListener);
                         }
-
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
                     } catch (Exception e) {
                         log.error("Failed to predict model " + modelId, e);
                         internalListener.onFailure(e);
@@ -299,6 +408,50 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    private boolean hasPermission(User resourceUser, String modelId, MLTask mlTask, ActionListener<MLTaskResponse> listener) {
+        User requestUser = getUserContext(client);
+        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
+            // The backend roles of request user and resource user doesn't have intersection
+            OpenSearchException e = new OpenSearchException(
+                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+            );
+            handlePredictFailure(mlTask, listener, e, false, modelId);
+            return false;
+        }
+        return true;
+    }
+
+    private ActionListener<MLTaskResponse> untrackedCleanupListener(ActionListener<MLTaskResponse> listener) {
+        return ActionListener.runAfter(listener, () -> mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement());
+    }
+
+    private void runPredict(MLTask mlTask, Supplier<MLOutput> predictor, ActionListener<MLTaskResponse> listener) {
+        if (mlTask.getTaskId() != null && mlTaskManager.contains(mlTask.getTaskId())) {
+            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
+        }
+        long inferenceStart = System.nanoTime();
+        MLOutput output = predictor.get();
+        mlModelManager.recordPredictStage(mlTask.getModelId(), INFERENCE, System.nanoTime() - inferenceStart);
+        if (output instanceof MLPredictionOutput) {
+            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+        }
+
+        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+        handleAsyncMLTaskComplete(mlTask);
+        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+        listener.onResponse(response);
+    }
+
+    /**
+     * Get the thread pool which runs the predict requests of an algorithm. Remote models mostly wait on connector calls,
+     * so they don't share the CPU bound threads of local models.
+     * @param algorithm algorithm of the model
+     * @return name of the thread pool
+     */
+    static String getPredictExecutor(FunctionName algorithm) {
+        return algorithm == FunctionName.REMOTE ? REMOTE_PREDICT_THREAD_POOL : PREDICT_THREAD_POOL;
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(ActionListener<T> listener) {
         return new ThreadedActionListener<>(log, threadPool, PREDICT_THREAD_POOL, listener, false);
     }
@@ -6,11 +6,19 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
@@ -41,12 +49,19 @@ public class MLTaskDispatcher {
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    private final String LATENCY_AWARE = "latency_aware";
     private final ClusterService clusterService;
     private final Client client;
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
+    // Cached node load is used for at most this many TTLs when a background refresh doesn't come back.
+    private static final int MAX_NODE_LOAD_STALENESS_FACTOR = 5;
+    private volatile Integer nodeLoadCacheTtlInMillis;
+    private final Map<String, NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshingNodeLoads = new AtomicBoolean(false);
+    private final MLPredictNodeRouter predictNodeRouter = new MLPredictNodeRouter();
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -57,6 +72,10 @@ public class MLTaskDispatcher {
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        this.nodeLoadCacheTtlInMillis = ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS, it -> nodeLoadCacheTtlInMillis = it);
     }
 
     /**
@@ -65,7 +84,8 @@ public class MLTaskDispatcher {
      * @param actionListener action listener
      */
     public void dispatch(FunctionName functionName, ActionListener<DiscoveryNode> actionListener) {
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        // Latency aware routing only applies to predict requests of deployed models.
+        if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(functionName, actionListener);
         } else if (LEAST_LOAD.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(functionName, actionListener);
@@ -75,10 +95,23 @@ public class MLTaskDispatcher {
     }
 
     public void dispatchPredictTask(String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
+        dispatchPredictTask(null, nodeIds, actionListener);
+    }
+
+    /**
+     * Dispatch predict task to one of the model's worker nodes.
+     * @param modelId model id, used by latency aware routing
+     * @param nodeIds worker node ids
+     * @param actionListener action listener
+     */
+    public void dispatchPredictTask(String modelId, String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
         if (nodeIds == null || nodeIds.length == 0) {
             throw new IllegalArgumentException("no eligible node to run predict request");
         }
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        if (LATENCY_AWARE.equals(dispatchPolicy) && modelId != null) {
+            String nodeId = predictNodeRouter.selectNode(modelId, nodeIds, clusterService.localNode().getId());
+            actionListener.onResponse(nodeHelper.getNode(nodeId));
+        } else if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(
                 nodeIds,
                 ActionListener.wrap(nodeId -> actionListener.onResponse(nodeHelper.getNode(nodeId)), e -> actionListener.onFailure(e))
@@ -90,6 +123,37 @@ public class MLTaskDispatcher {
         }
     }
 
+    /**
+     * Track a predict request running on the given node, so latency aware routing knows the node's
+     * outstanding requests and response latency for the model.
+     * @param modelId model id
+     * @param nodeId node running the request
+     * @param listener listener of the predict request
+     * @return wrapped listener
+     */
+    public <T> ActionListener<T> trackPredictTask(String modelId, String nodeId, ActionListener<T> listener) {
+        if (!LATENCY_AWARE.equals(dispatchPolicy) || modelId == null) {
+            return listener;
+        }
+        return predictNodeRouter.track(modelId, nodeId, listener);
+    }
+
+    /**
+     * Drop the latency aware routing state of an undeployed model.
+     * @param modelId model id
+     */
+    public void removePredictRoutes(String modelId) {
+        predictNodeRouter.removeModel(modelId);
+    }
+
+    /**
+     * Drop the latency aware routing state of all models but the deployed ones.
+     * @param modelIds deployed model ids
+     */
+    public void retainPredictRoutes(Set<String> modelIds) {
+        predictNodeRouter.retainModels(modelIds);
+    }
+
     private <T> void dispatchTaskWithRoundRobin(T[] nodes, ActionListener<T> listener) {
         int currentNode = nextNode.getAndIncrement();
         if (currentNode > nodes.length - 1) {
@@ -105,58 +169,108 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        long now = System.nanoTime();
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(nodeLoadCacheTtlInMillis);
+        List<NodeLoad> cachedLoads = getCachedNodeLoads(nodes, now, ttlNanos * MAX_NODE_LOAD_STALENESS_FACTOR);
+        if (cachedLoads != null) {
+            boolean stale = cachedLoads.stream().anyMatch(load -> now - load.refreshTime > ttlNanos);
+            if (stale && refreshingNodeLoads.compareAndSet(false, true)) {
+                // Serve this task from the cached view and refresh it in the background.
+                refreshNodeLoads(nodes, ActionListener.wrap(loads -> refreshingNodeLoads.set(false), e -> {
+                    refreshingNodeLoads.set(false);
+                    log.warn("Failed to refresh node load", e);
+                }));
+            }
+            selectLeastLoadedNode(cachedLoads, listener);
+            return;
+        }
+        refreshNodeLoads(nodes, ActionListener.wrap(loads -> selectLeastLoadedNode(loads, listener), exception -> {
+            log.error("Failed to get node's task stats", exception);
+            listener.onFailure(exception);
+        }));
+    }
+
+    /**
+     * Get the cached load of all nodes.
+     * @return cached loads, or null if the cache is disabled or any node has no load younger than maxAgeNanos
+     */
+    private List<NodeLoad> getCachedNodeLoads(DiscoveryNode[] nodes, long now, long maxAgeNanos) {
+        if (nodeLoadCacheTtlInMillis <= 0) {
+            return null;
+        }
+        List<NodeLoad> loads = new ArrayList<>(nodes.length);
+        for (DiscoveryNode node : nodes) {
+            NodeLoad load = nodeLoads.get(node.getId());
+            if (load == null || now - load.refreshTime > maxAgeNanos) {
+                return null;
+            }
+            loads.add(load);
+        }
+        return loads;
+    }
+
+    private void refreshNodeLoads(DiscoveryNode[] nodes, ActionListener<List<NodeLoad>> listener) {
         MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
         MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
 
         client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+            long refreshTime = System.nanoTime();
+            List<NodeLoad> loads = new ArrayList<>();
+            for (MLStatsNodeResponse response : mlStatsResponse.getNodes()) {
+                NodeLoad load = new NodeLoad(
+                    response.getNode(),
+                    (Long) response.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    (Long) response.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE),
+                    refreshTime
+                );
+                nodeLoads.put(response.getNode().getId(), load);
+                loads.add(load);
             }
+            listener.onResponse(loads);
+        }, listener::onFailure));
+    }
 
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
+    private void selectLeastLoadedNode(List<NodeLoad> loads, ActionListener<DiscoveryNode> listener) {
+        // Check JVM pressure
+        List<NodeLoad> candidateNodes = loads
+            .stream()
+            .filter(load -> load.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            .collect(Collectors.toList());
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidateNodes = candidateNodes
+            .stream()
+            .filter(load -> load.executingTaskCount.get() < maxMLBatchTaskPerNode)
+            .collect(Collectors.toList());
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // sort nodes by JVM usage percentage and # of executing ML task
+        Optional<NodeLoad> targetNode = candidateNodes.stream().min((NodeLoad l1, NodeLoad l2) -> {
+            int result = Long.compare(l1.executingTaskCount.get(), l2.executingTaskCount.get());
+            if (result == 0) {
+                // if multiple nodes have same running task count, choose the one with least
+                // JVM heap usage.
+                return Long.compare(l1.jvmHeapUsage, l2.jvmHeapUsage);
+            }
+            return result;
+        });
+        // Count the dispatched task until the next refresh, so a burst of tasks doesn't all land on one node.
+        targetNode.get().executingTaskCount.incrementAndGet();
+        listener.onResponse(targetNode.get().node);
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
@@ -177,4 +291,17 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    private static class NodeLoad {
+        private final DiscoveryNode node;
+        private final AtomicLong executingTaskCount;
+        private final long jvmHeapUsage;
+        private final long refreshTime;
+
+        private NodeLoad(DiscoveryNode node, long executingTaskCount, long jvmHeapUsage, long refreshTime) {
+            this.node = node;
+            this.executingTaskCount = new AtomicLong(executingTaskCount);
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.refreshTime = refreshTime;
+        }
+    }
 }
@@ -79,24 +79,31 @@ public class MLTaskManager {
         runningTasksCount = new ConcurrentHashMap<>();
     }
 
-    public synchronized void checkLimitAndAddRunningTask(MLTask mlTask, Integer limit) {
+    public void checkLimitAndAddRunningTask(MLTask mlTask, Integer limit) {
         AtomicInteger runningTaskCount = runningTasksCount.computeIfAbsent(mlTask.getTaskType(), it -> new AtomicInteger(0));
-        if (runningTaskCount.get() < 0) {
-            runningTaskCount.set(0);
-        }
-        log.debug("Task id: {}, current running task {}: {}", mlTask.getTaskId(), mlTask.getTaskType(), runningTaskCount.get());
-        if (runningTaskCount.get() >= limit) {
-            String error = "exceed max running task limit";
-            log.warn(error + " for task " + mlTask.getTaskId());
-            throw new MLLimitExceededException(error);
+        // Reserve a running task slot with compare-and-set, so concurrent tasks can't exceed the limit without locking.
+        int current;
+        do {
+            current = runningTaskCount.get();
+            log.debug("Task id: {}, current running task {}: {}", mlTask.getTaskId(), mlTask.getTaskType(), current);
+            if (current >= limit) {
+                String error = "exceed max running task limit";
+                log.warn(error + " for task " + mlTask.getTaskId());
+                throw new MLLimitExceededException(error);
+            }
+        } while (!runningTaskCount.compareAndSet(current, Math.max(current, 0) + 1));
+        MLTaskCache taskCache = taskCaches.get(mlTask.getTaskId());
+        if (taskCache != null) {
+            taskCache.getMlTask().setState(MLTaskState.RUNNING);
+            return;
         }
-        if (contains(mlTask.getTaskId())) {
-            getMLTask(mlTask.getTaskId()).setState(MLTaskState.RUNNING);
-        } else {
-            mlTask.setState(MLTaskState.RUNNING);
+        mlTask.setState(MLTaskState.RUNNING);
+        try {
             add(mlTask);
+        } catch (RuntimeException e) {
+            runningTaskCount.decrementAndGet();
+            throw e;
         }
-        runningTaskCount.incrementAndGet();
     }
 
     /**
@@ -105,18 +112,17 @@ public class MLTaskManager {
      *
      * @param mlTask ML task
      */
-    public synchronized void add(MLTask mlTask) {
+    public void add(MLTask mlTask) {
         // todo: once circuit break is in place, we need to add those checks
         // to make sure we have some limitation while adding new tasks.
         add(mlTask, null);
     }
 
-    public synchronized void add(MLTask mlTask, List<String> workerNodes) {
+    public void add(MLTask mlTask, List<String> workerNodes) {
         String taskId = mlTask.getTaskId();
-        if (contains(taskId)) {
+        if (taskCaches.putIfAbsent(taskId, new MLTaskCache(mlTask, workerNodes)) != null) {
             throw new IllegalArgumentException("Duplicate taskId");
         }
-        taskCaches.put(taskId, new MLTaskCache(mlTask, workerNodes));
         log.debug("add ML task to cache " + taskId);
     }
 
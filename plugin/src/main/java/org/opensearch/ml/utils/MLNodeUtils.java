@@ -6,6 +6,7 @@
 package org.opensearch.ml.utils;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_0_0;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
@@ -13,6 +14,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
@@ -33,6 +35,15 @@ public class MLNodeUtils {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
 
+    /**
+     * Nodes to broadcast cache invalidations to. Older nodes keep no such caches and would run the full sync-up instead.
+     * @param nodes cluster nodes
+     * @return nodes on or after the version which added the invalidation fields
+     */
+    public static DiscoveryNode[] getCacheInvalidationNodes(DiscoveryNodes nodes) {
+        return nodes.getNodes().values().stream().filter(node -> node.getVersion().onOrAfter(VERSION_3_0_0)).toArray(DiscoveryNode[]::new);
+    }
+
     public static XContentParser createXContentParserFromRegistry(NamedXContentRegistry xContentRegistry, BytesReference bytesReference)
         throws IOException {
         return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytesReference, XContentType.JSON);
@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.model.MLModelArtifactService;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportMessageListener;
+import org.opensearch.transport.TransportService;
+
+public class MLModelArtifactNodesTransportActionTests extends OpenSearchTestCase {
+    private static final String HASH = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+
+    private MLModelArtifactService modelArtifactService;
+    private MLCircuitBreakerService mlCircuitBreakerService;
+    private MLStats mlStats;
+    private MLModelArtifactNodesTransportAction action;
+    private TransportMessageListener messageListener;
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setup() {
+        modelArtifactService = mock(MLModelArtifactService.class);
+        when(modelArtifactService.tryStartTransfer()).thenReturn(true);
+        mlCircuitBreakerService = mock(MLCircuitBreakerService.class);
+        mlStats = mock(MLStats.class);
+        ClusterService clusterService = mock(ClusterService.class);
+        localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+        TransportService transportService = mock(TransportService.class);
+        action = new MLModelArtifactNodesTransportAction(
+            mock(ThreadPool.class),
+            clusterService,
+            transportService,
+            mock(ActionFilters.class),
+            modelArtifactService,
+            mlCircuitBreakerService,
+            mlStats
+        );
+        ArgumentCaptor<TransportMessageListener> listenerCaptor = ArgumentCaptor.forClass(TransportMessageListener.class);
+        verify(transportService).addMessageListener(listenerCaptor.capture());
+        messageListener = listenerCaptor.getValue();
+    }
+
+    public void testNodeOperation_NoArtifact() {
+        when(modelArtifactService.getActiveTransfers()).thenReturn(2);
+
+        MLModelArtifactNodeResponse response = action.nodeOperation(nodeRequest(0));
+
+        assertFalse(response.isAvailable());
+        assertEquals(2, response.getActiveTransfers());
+        assertNull(response.getContent());
+        verify(modelArtifactService, never()).readArtifact("model1", HASH, 0, 0);
+    }
+
+    public void testNodeOperation_Probe() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+
+        MLModelArtifactNodeResponse response = action.nodeOperation(nodeRequest(0));
+
+        assertTrue(response.isAvailable());
+        assertNull(response.getContent());
+        verify(modelArtifactService, never()).readArtifact("model1", HASH, 0, 0);
+    }
+
+    public void testNodeOperation_ReadRange() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+        when(modelArtifactService.readArtifact("model1", HASH, 10, 4)).thenReturn(new BytesArray("test"));
+
+        MLModelArtifactNodeResponse response = action.nodeOperation(nodeRequest(4));
+
+        assertTrue(response.isAvailable());
+        assertEquals("test", response.getContent().utf8ToString());
+    }
+
+    public void testNodeOperation_ReadRange_TransferEndsWhenResponseSent() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+        when(modelArtifactService.readArtifact("model1", HASH, 10, 4)).thenReturn(new BytesArray("test"));
+
+        MLModelArtifactNodeResponse response = action.nodeOperation(nodeRequest(4));
+
+        verify(modelArtifactService).tryStartTransfer();
+        verify(modelArtifactService, never()).endTransfer();
+        messageListener.onResponseSent(1L, MLModelArtifactNodesAction.NAME + "[n]", response);
+        verify(modelArtifactService, times(1)).endTransfer();
+    }
+
+    public void testNodeOperation_Probe_NoTransfer() {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+
+        MLModelArtifactNodeResponse response = action.nodeOperation(nodeRequest(0));
+        messageListener.onResponseSent(1L, MLModelArtifactNodesAction.NAME + "[n]", response);
+
+        verify(modelArtifactService, never()).tryStartTransfer();
+        verify(modelArtifactService, never()).endTransfer();
+    }
+
+    public void testNodeOperation_TooManyTransfers() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+        when(modelArtifactService.tryStartTransfer()).thenReturn(false);
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> action.nodeOperation(nodeRequest(4)));
+        verify(modelArtifactService, never()).readArtifact(any(), any(), anyLong(), anyInt());
+        verify(modelArtifactService, never()).endTransfer();
+    }
+
+    public void testNodeOperation_CircuitBreakerOpen() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+        ThresholdCircuitBreaker circuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(circuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(circuitBreaker);
+        when(mlStats.getStat(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT)).thenReturn(mock(MLStat.class));
+
+        expectThrows(MLLimitExceededException.class, () -> action.nodeOperation(nodeRequest(4)));
+        verify(modelArtifactService, never()).tryStartTransfer();
+        verify(modelArtifactService, never()).readArtifact(any(), any(), anyLong(), anyInt());
+    }
+
+    public void testNodeOperation_ReadFailure() throws IOException {
+        when(modelArtifactService.hasArtifact("model1", HASH)).thenReturn(true);
+        when(modelArtifactService.readArtifact("model1", HASH, 10, 4)).thenThrow(new IOException("disk failure"));
+
+        expectThrows(MLException.class, () -> action.nodeOperation(nodeRequest(4)));
+        verify(modelArtifactService).endTransfer();
+    }
+
+    public void testNodesResponse_Stream() throws IOException {
+        MLModelArtifactNodeResponse nodeResponse = new MLModelArtifactNodeResponse(
+            localNode,
+            true,
+            3,
+            new BytesArray("chunk".getBytes(StandardCharsets.UTF_8))
+        );
+        MLModelArtifactNodesResponse response = action.newResponse(nodesRequest(5), List.of(nodeResponse), Collections.emptyList());
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+
+        MLModelArtifactNodesResponse parsed = new MLModelArtifactNodesResponse(output.bytes().streamInput());
+
+        assertEquals(1, parsed.getNodes().size());
+        MLModelArtifactNodeResponse parsedNode = parsed.getNodes().get(0);
+        assertEquals("node1", parsedNode.getNode().getId());
+        assertTrue(parsedNode.isAvailable());
+        assertEquals(3, parsedNode.getActiveTransfers());
+        assertEquals("chunk", parsedNode.getContent().utf8ToString());
+    }
+
+    public void testNodeRequest_Stream() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest(4).writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+
+        MLModelArtifactNodesRequest parsed = new MLModelArtifactNodeRequest(input).getModelArtifactNodesRequest();
+
+        assertEquals("model1", parsed.getModelId());
+        assertEquals(HASH, parsed.getModelContentHash());
+        assertEquals(10L, parsed.getOffset());
+        assertEquals(4, parsed.getLength());
+    }
+
+    private MLModelArtifactNodeRequest nodeRequest(int length) {
+        return action.newNodeRequest(nodesRequest(length));
+    }
+
+    private MLModelArtifactNodesRequest nodesRequest(int length) {
+        return new MLModelArtifactNodesRequest(new String[] { "node1" }, "model1", HASH, 10, length);
+    }
+}
@@ -20,6 +20,7 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -52,6 +53,8 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -98,6 +101,12 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
     @Mock
     private ModelAccessControlHelper modelAccessControlHelper;
 
+    @Mock
+    private MLPredictModelCache mlPredictModelCache;
+
+    @Mock
+    private MLStats mlStats;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -113,7 +122,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 settings,
                 xContentRegistry,
                 clusterService,
-                modelAccessControlHelper
+                modelAccessControlHelper,
+                mlPredictModelCache,
+                mlStats
             )
         );
 
@@ -233,6 +244,34 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
         verify(actionListener).onResponse(deleteResponse);
     }
 
+    public void testDeleteModel_Success_InvalidatePredictModelCache() throws IOException {
+        when(mlPredictModelCache.isCacheable(any())).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).delete(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(2);
+            BulkByScrollResponse response = new BulkByScrollResponse(new ArrayList<>(), null);
+            listener.onResponse(response);
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        GetResponse getResponse = prepareMLModel(MLModelState.REGISTERED, null, false);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+
+        deleteModelTransportAction.doExecute(null, mlModelDeleteRequest, actionListener);
+        verify(mlPredictModelCache).broadcastModelUpdate(Set.of("test_id"), client);
+        verify(mlStats).removeModelStats("test_id");
+        verify(actionListener).onResponse(deleteResponse);
+    }
+
     public void test_UserHasNoAccessException() throws IOException {
         GetResponse getResponse = prepareMLModel(MLModelState.REGISTERED, "modelGroupID", false);
         doAnswer(invocation -> {
@@ -0,0 +1,279 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionItemResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.ml.task.MLTaskDispatcher;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportBulkPredictionActionTests extends OpenSearchTestCase {
+    @Mock
+    TransportService transportService;
+    @Mock
+    ActionFilters actionFilters;
+    @Mock
+    MLModelCacheHelper modelCacheHelper;
+    @Mock
+    MLPredictTaskRunner mlPredictTaskRunner;
+    @Mock
+    ClusterService clusterService;
+    @Mock
+    Client client;
+    @Mock
+    ThreadPool threadPool;
+    @Mock
+    MLModelManager mlModelManager;
+    @Mock
+    ModelAccessControlHelper modelAccessControlHelper;
+    @Mock
+    MLTaskDispatcher mlTaskDispatcher;
+    @Mock
+    ActionListener<MLBulkPredictionResponse> listener;
+
+    private TransportBulkPredictionAction action;
+    private DiscoveryNode localNode;
+    private DiscoveryNode remoteNode;
+    private ModelTensorOutput output;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        remoteNode = new DiscoveryNode("remoteNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        output = ModelTensorOutput.builder().mlModelOutputs(List.of()).build();
+
+        for (String modelId : Arrays.asList("model1", "model2")) {
+            MLModel mlModel = MLModel
+                .builder()
+                .name(modelId)
+                .modelGroupId(modelId + "_group")
+                .algorithm(FunctionName.TEXT_EMBEDDING)
+                .build();
+            when(modelCacheHelper.getModelInfo(modelId)).thenReturn(mlModel);
+        }
+        mockAccess("model2_group", true);
+        mockAccess("model1_group", true);
+        mockWorkerNode("model1", localNode);
+        mockWorkerNode("model2", remoteNode);
+
+        doAnswer(invocation -> invocation.getArgument(2)).when(mlTaskDispatcher).trackPredictTask(any(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(mlPredictTaskRunner).run(any(), any(), any(), any());
+        doAnswer(invocation -> {
+            MLBulkPredictionRequest nodeRequest = invocation.getArgument(2);
+            ActionListenerResponseHandler<MLBulkPredictionResponse> handler = invocation.getArgument(3);
+            MLBulkPredictionItemResponse[] results = new MLBulkPredictionItemResponse[nodeRequest.getRequests().size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = MLBulkPredictionItemResponse.success(nodeRequest.getRequests().get(i).getModelId(), output);
+            }
+            handler.handleResponse(new MLBulkPredictionResponse(Arrays.asList(results)));
+            return null;
+        }).when(transportService).sendRequest(any(DiscoveryNode.class), eq(MLBulkPredictionAction.NAME), any(), any());
+
+        action = new TransportBulkPredictionAction(
+            transportService,
+            actionFilters,
+            modelCacheHelper,
+            mlPredictTaskRunner,
+            clusterService,
+            client,
+            mlModelManager,
+            modelAccessControlHelper,
+            mlTaskDispatcher
+        );
+    }
+
+    public void testDoExecute_FanOutToWorkerNodes() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1", "model2", "model1"));
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        assertEquals(3, results.size());
+        assertEquals("model1", results.get(0).getModelId());
+        assertEquals("model2", results.get(1).getModelId());
+        assertEquals("model1", results.get(2).getModelId());
+        results.forEach(result -> assertFalse(result.isFailed()));
+
+        // The items of the local worker node run here, the others are sent in one request to their worker node.
+        verify(mlPredictTaskRunner, times(2)).run(eq(FunctionName.TEXT_EMBEDDING), any(), eq(transportService), any());
+        ArgumentCaptor<MLBulkPredictionRequest> nodeRequestCaptor = ArgumentCaptor.forClass(MLBulkPredictionRequest.class);
+        verify(transportService).sendRequest(eq(remoteNode), eq(MLBulkPredictionAction.NAME), nodeRequestCaptor.capture(), any());
+        assertFalse(nodeRequestCaptor.getValue().isDispatchTask());
+        assertEquals(1, nodeRequestCaptor.getValue().getRequests().size());
+        assertEquals("model2", nodeRequestCaptor.getValue().getRequests().get(0).getModelId());
+        verify(mlTaskDispatcher, times(2)).trackPredictTask(eq("model1"), eq("localNodeId"), any());
+        verify(mlTaskDispatcher).trackPredictTask(eq("model2"), eq("remoteNodeId"), any());
+    }
+
+    public void testDoExecute_PartialFailure() {
+        when(modelCacheHelper.getModelInfo("model2")).thenReturn(null);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new MLResourceNotFoundException("Failed to find model"));
+            return null;
+        }).when(mlModelManager).getModel(eq("model2"), any());
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(3);
+            actionListener.onFailure(new IllegalArgumentException("Model not ready to be used: model1"));
+            return null;
+        }).when(mlPredictTaskRunner).run(any(), any(), any(), any());
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1", "model2", "model1"));
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        assertFalse(results.get(0).isFailed());
+        assertTrue(results.get(1).isFailed());
+        assertEquals("Failed to find model", results.get(1).getFailure().getMessage());
+        assertTrue(results.get(2).isFailed());
+        assertEquals("Model not ready to be used: model1", results.get(2).getFailure().getMessage());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), any(), any(), any());
+    }
+
+    public void testDoExecute_AccessDenied() {
+        mockAccess("model2_group", false);
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1", "model2"));
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        assertFalse(results.get(0).isFailed());
+        assertTrue(results.get(1).isFailed());
+        assertEquals("User Doesn't have privilege to perform this operation on this model", results.get(1).getFailure().getMessage());
+        verify(mlPredictTaskRunner, never()).selectWorkerNode(any(), eq("model2"), any());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), any(), any(), any());
+    }
+
+    public void testDoExecute_WorkerNode() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1", "model2"), false, null);
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        results.forEach(result -> assertFalse(result.isFailed()));
+        // Items sent by the coordinating node run on this node, without being routed or tracked again.
+        verify(mlPredictTaskRunner, times(2)).run(any(), any(), any(), any());
+        verify(mlPredictTaskRunner, never()).selectWorkerNode(any(), any(), any());
+        verify(mlTaskDispatcher, never()).trackPredictTask(any(), any(), any());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), any(), any(), any());
+    }
+
+    public void testDoExecute_WorkerNode_AccessDenied() {
+        mockAccess("model1_group", false);
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1"), false, null);
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        assertTrue(results.get(0).isFailed());
+        assertEquals("User Doesn't have privilege to perform this operation on this model", results.get(0).getFailure().getMessage());
+        verify(mlPredictTaskRunner, never()).run(any(), any(), any(), any());
+    }
+
+    public void testDoExecute_WorkerNode_Throttled() {
+        TokenBucket rateLimiter = mock(TokenBucket.class);
+        when(rateLimiter.request()).thenReturn(false);
+        when(modelCacheHelper.getModelRateLimiter("model1")).thenReturn(rateLimiter);
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(items("model1", "model2"), false, null);
+
+        action.doExecute(null, request, listener);
+
+        List<MLBulkPredictionItemResponse> results = getResults();
+        assertTrue(results.get(0).isFailed());
+        assertEquals("Request is throttled at model level.", results.get(0).getFailure().getMessage());
+        assertFalse(results.get(1).isFailed());
+        verify(mlPredictTaskRunner, times(1)).run(any(), any(), any(), any());
+    }
+
+    private List<MLBulkPredictionItemResponse> getResults() {
+        ArgumentCaptor<MLBulkPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        verify(listener).onResponse(responseCaptor.capture());
+        return responseCaptor.getValue().getItems();
+    }
+
+    private List<MLPredictionTaskRequest> items(String... modelIds) {
+        MLPredictionTaskRequest[] items = new MLPredictionTaskRequest[modelIds.length];
+        for (int i = 0; i < modelIds.length; i++) {
+            MLInput mlInput = MLInput
+                .builder()
+                .algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(List.of("hello")).build())
+                .build();
+            items[i] = MLPredictionTaskRequest.builder().modelId(modelIds[i]).mlInput(mlInput).build();
+        }
+        return Arrays.asList(items);
+    }
+
+    private void mockAccess(String modelGroupId, boolean access) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(access);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccessWithCache(any(), eq(modelGroupId), any(), any());
+    }
+
+    private void mockWorkerNode(String modelId, DiscoveryNode node) {
+        doAnswer(invocation -> {
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(node);
+            return null;
+        }).when(mlPredictTaskRunner).selectWorkerNode(any(), eq(modelId), any());
+    }
+}
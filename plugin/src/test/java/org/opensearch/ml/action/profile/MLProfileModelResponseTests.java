@@ -14,8 +14,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Before;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -92,6 +94,26 @@ public class MLProfileModelResponseTests extends OpenSearchTestCase {
         assertNull(newResponse.getWorkerNodes());
     }
 
+    public void test_MLModelProfile_OlderVersion() throws IOException {
+        MLModelProfile profile = mlModelProfile
+            .toBuilder()
+            .connectorStats(Map.of("request_count", 1))
+            .predictStageStats(Map.of("predict", Map.of("count", 1)))
+            .predictQueueStats(Map.of("queue_depth", 1))
+            .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_19_0);
+        profile.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_19_0);
+        MLModelProfile newProfile = new MLModelProfile(input);
+        assertEquals("test_predictor", newProfile.getPredictor());
+        assertNull(newProfile.getConnectorStats());
+        assertNull(newProfile.getPredictStageStats());
+        assertNull(newProfile.getPredictQueueStats());
+        assertEquals(-1, input.read());
+    }
+
     public void test_toXContent() throws IOException {
         String[] targetWorkerNodes = new String[] { "node1", "node2" };
         String[] workerNodes = new String[] { "node1" };
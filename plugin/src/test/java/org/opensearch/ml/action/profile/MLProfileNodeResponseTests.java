@@ -76,6 +76,30 @@ public class MLProfileNodeResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodeTasksSize(), response.getNodeTasksSize());
     }
 
+    public void testSerializationDeserialization_PredictStageStats() throws IOException {
+        Map<String, Object> stageStats = Map.of("forward", Map.of("count", 2L, "max", 30.0));
+        MLModelProfile modelProfile = MLModelProfile.builder().modelState(MLModelState.DEPLOYED).predictStageStats(stageStats).build();
+        MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, new HashMap<>(), Map.of("model_id", modelProfile));
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLProfileNodeResponse newResponse = new MLProfileNodeResponse(output.bytes().streamInput());
+        MLModelProfile newProfile = newResponse.getMlNodeModels().get("model_id");
+        Assert.assertEquals(stageStats, newProfile.getPredictStageStats());
+        Assert.assertNull(newProfile.getConnectorStats());
+    }
+
+    public void testSerializationDeserialization_PredictQueueStats() throws IOException {
+        Map<String, Object> queueStats = Map.of("queue_depth", 5, "shed_count", 2L, "rejected_count", 0L);
+        MLModelProfile modelProfile = MLModelProfile.builder().modelState(MLModelState.DEPLOYED).predictQueueStats(queueStats).build();
+        MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, new HashMap<>(), Map.of("model_id", modelProfile));
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLProfileNodeResponse newResponse = new MLProfileNodeResponse(output.bytes().streamInput());
+        MLModelProfile newProfile = newResponse.getMlNodeModels().get("model_id");
+        Assert.assertEquals(queueStats, newProfile.getPredictQueueStats());
+        Assert.assertNull(newProfile.getPredictStageStats());
+    }
+
     public void testSerializationDeserialization_NullNodeTasks() throws IOException {
         MLProfileNodeResponse response = new MLProfileNodeResponse(localNode, null, null);
         BytesStreamOutput output = new BytesStreamOutput();
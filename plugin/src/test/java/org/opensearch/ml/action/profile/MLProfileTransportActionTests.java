@@ -36,6 +36,7 @@ import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.profile.MLProfileInput;
+import org.opensearch.ml.task.MLPredictQueue;
 import org.opensearch.ml.task.MLTaskCache;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.test.OpenSearchIntegTestCase;
@@ -46,6 +47,7 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
     private Environment environment;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
+    private MLPredictQueue mlPredictQueue;
     private MLTask mlTask;
     private MLModelProfile mlModelProfile;
     private String testTaskId;
@@ -95,6 +97,7 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
         mlModelManager = mock(MLModelManager.class);
         when(mlModelManager.getAllModelIds()).thenReturn(new String[] { testModelId });
         when(mlModelManager.getModelProfile(testModelId)).thenReturn(mlModelProfile);
+        mlPredictQueue = mock(MLPredictQueue.class);
 
         action = new MLProfileTransportAction(
             client().threadPool(),
@@ -103,7 +106,8 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
             mock(ActionFilters.class),
             mlTaskManager,
             environment,
-            mlModelManager
+            mlModelManager,
+            mlPredictQueue
         );
     }
 
@@ -167,6 +171,27 @@ public class MLProfileTransportActionTests extends OpenSearchIntegTestCase {
         Assert.assertEquals(1, response2.getNodeModelsSize());
     }
 
+    public void testNodeOperation_PredictQueueStats() {
+        String nodeId = clusterService().localNode().getId();
+        Map<String, Object> queueStats = Map.of(MLPredictQueue.QUEUE_DEPTH_FIELD, 3, MLPredictQueue.SHED_COUNT_FIELD, 1L);
+        when(mlPredictQueue.getStats(testModelId)).thenReturn(queueStats);
+        MLProfileInput mlProfileInput = new MLProfileInput(
+            new HashSet<>(Arrays.asList(testModelId)),
+            new HashSet<>(),
+            new HashSet<>(),
+            false,
+            false
+        );
+        MLProfileRequest mlProfileRequest = new MLProfileRequest(new String[] { nodeId }, mlProfileInput);
+
+        MLProfileNodeResponse response = action.nodeOperation(new MLProfileNodeRequest(mlProfileRequest));
+
+        MLModelProfile modelProfile = response.getMlNodeModels().get(testModelId);
+        Assert.assertEquals(queueStats, modelProfile.getPredictQueueStats());
+        Assert.assertEquals("test_predictor", modelProfile.getPredictor());
+        Assert.assertArrayEquals(new String[] { "node1", "node2" }, modelProfile.getWorkerNodes());
+    }
+
     public void testNodeOperation_emptyInputs() {
         String nodeId = clusterService().localNode().getId();
         MLProfileInput mlProfileInput = new MLProfileInput(new HashSet<>(), new HashSet<>(), new HashSet<>(), false, false);
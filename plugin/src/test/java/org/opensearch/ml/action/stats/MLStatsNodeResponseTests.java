@@ -16,6 +16,7 @@ import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
@@ -57,6 +58,29 @@ public class MLStatsNodeResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodeLevelStatSize(), response.getNodeLevelStatSize());
     }
 
+    public void testSerializationDeserialization_ConnectorStats() throws IOException {
+        Map<String, Object> connectorStats = Map.of("connector1", Map.of("predict", Map.of("request_count", 1L)));
+        MLStatsNodeResponse response = new MLStatsNodeResponse(node, Map.of(), null, null, connectorStats);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLStatsNodeResponse newResponse = new MLStatsNodeResponse(output.bytes().streamInput());
+        assertEquals(connectorStats.get("connector1"), newResponse.getConnectorStats("connector1"));
+    }
+
+    public void testSerializationDeserialization_ConnectorStatsOlderVersion() throws IOException {
+        // Released 2.x nodes don't know the connector stats, they're neither sent to nor read from them.
+        Map<String, Object> connectorStats = Map.of("connector1", Map.of("predict", Map.of("request_count", 1L)));
+        MLStatsNodeResponse response = new MLStatsNodeResponse(node, Map.of(), null, null, connectorStats);
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_19_0);
+        response.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_19_0);
+        MLStatsNodeResponse newResponse = new MLStatsNodeResponse(input);
+        assertNull(newResponse.getConnectorStats("connector1"));
+        assertEquals(-1, input.read());
+    }
+
     public void testToXContent_NodeLevelStats() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         builder.startObject();
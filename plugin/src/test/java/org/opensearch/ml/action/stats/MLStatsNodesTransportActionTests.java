@@ -25,6 +25,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.env.Environment;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLActionStats;
@@ -179,4 +180,36 @@ public class MLStatsNodesTransportActionTests extends OpenSearchIntegTestCase {
         assertEquals(1l, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
     }
 
+    public void testNodeOperation_ConnectorStat() throws IOException {
+        MLStats mlStats = new MLStats(statsMap);
+        ConnectorMetrics connectorMetrics = mlStats.getConnectorMetricsRegistry().getOrCreate("connector_id", "predict");
+        connectorMetrics.recordRequest();
+        connectorMetrics.recordRemoteCall("https://test.com/predict", 5_000_000L);
+        connectorMetrics.recordResponse(200, 100);
+
+        MLStatsNodesTransportAction action = new MLStatsNodesTransportAction(
+            client().threadPool(),
+            clusterService(),
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            mlStats,
+            environment
+        );
+
+        String nodeId = clusterService().localNode().getId();
+        MLStatsInput mlStatsInput = MLStatsInput.builder().targetStatLevels(EnumSet.of(MLStatLevel.CONNECTOR)).build();
+        MLStatsNodesRequest mlStatsNodesRequest = new MLStatsNodesRequest(new String[] { nodeId }, mlStatsInput);
+
+        MLStatsNodeResponse response = action.nodeOperation(new MLStatsNodeRequest(mlStatsNodesRequest));
+
+        assertEquals(0, response.getNodeLevelStatSize());
+        assertEquals(1, response.getConnectorStatSize());
+        BytesStreamOutput out = new BytesStreamOutput();
+        response.writeTo(out);
+        MLStatsNodeResponse parsedResponse = action.newNodeResponse(out.bytes().streamInput());
+        Map<String, Object> connectorStats = (Map<String, Object>) parsedResponse.getConnectorStats("connector_id");
+        Map<String, Object> predictStats = (Map<String, Object>) connectorStats.get("predict");
+        assertEquals(1L, predictStats.get(ConnectorMetrics.REQUEST_COUNT_FIELD));
+        assertEquals(1L, ((Map<String, Object>) predictStats.get(ConnectorMetrics.STATUS_CODES_FIELD)).get("200"));
+    }
 }
@@ -64,9 +64,12 @@ import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
 import org.opensearch.ml.task.MLTaskCache;
+import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -118,6 +121,15 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     @Mock
     private MLModelCacheHelper mlModelCacheHelper;
 
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+
+    @Mock
+    private MLPredictModelCache mlPredictModelCache;
+
+    @Mock
+    private MLTaskDispatcher mlTaskDispatcher;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -135,7 +147,10 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             client,
             xContentRegistry,
             mlEngine,
-            mlModelCacheHelper
+            mlModelCacheHelper,
+            modelAccessControlHelper,
+            mlPredictModelCache,
+            mlTaskDispatcher
         );
         runningDeployModelTasks = new HashMap<>();
         runningDeployModelTasks.put("model1", ImmutableSet.of("node1"));
@@ -197,6 +212,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getModelCachePath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         when(mlEngine.getDeployModelPath(any())).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getRegisterModelPath(any())).thenReturn(Paths.get(file1.getCanonicalPath()));
+        when(mlEngine.getModelArtifactPath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         DiscoveryNode localNode = new DiscoveryNode(
             "foo0",
             "foo0",
@@ -209,9 +225,11 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(file1.getCanonicalPath()));
         when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
+        when(mlEngine.getModelArtifactRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        verify(mlTaskDispatcher).retainPredictRoutes(Set.of());
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
@@ -231,6 +249,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getModelCachePath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         when(mlEngine.getDeployModelPath(any())).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getRegisterModelPath(any())).thenReturn(Paths.get(file1.getCanonicalPath()));
+        when(mlEngine.getModelArtifactPath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         DiscoveryNode localNode = new DiscoveryNode(
             "foo0",
             "foo0",
@@ -243,18 +262,41 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(file1.getCanonicalPath()));
         when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
+        when(mlEngine.getModelArtifactRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
         when(mlTaskManager.contains(any())).thenReturn(true);
         when(mlTaskManager.containsModel(any())).thenReturn(true);
         when(mlModelManager.isModelRunningOnNode(anyString())).thenReturn(true);
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest2()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        verify(modelAccessControlHelper).invalidateModelGroupAccessCache(Set.of("modelGroupId1"));
+        verify(mlModelCacheHelper).removeModelInfo(Set.of("modelGroupId1"));
+        verify(mlPredictModelCache).invalidate(Set.of("modelId1"));
+        verify(mlTaskDispatcher).removePredictRoutes("modelId2");
+        verify(mlTaskDispatcher).retainPredictRoutes(Set.of("modelId2"));
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
         testFolder.delete();
     }
 
+    public void testNodeOperation_CacheInvalidationOnly() {
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .updatedModelGroupIds(Set.of("modelGroupId1"))
+            .updatedModelIds(Set.of("modelId1"))
+            .build();
+        final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, syncUpInput));
+        final MLSyncUpNodeResponse response = action.nodeOperation(request);
+        assertNotNull(response);
+        assertEquals("ok", response.getModelStatus());
+        verify(modelAccessControlHelper).invalidateModelGroupAccessCache(Set.of("modelGroupId1"));
+        verify(mlModelCacheHelper).removeModelInfo(Set.of("modelGroupId1"));
+        verify(mlPredictModelCache).invalidate(Set.of("modelId1"));
+        verify(mlTaskManager, never()).getAllTaskIds();
+        verify(mlEngine, never()).getRegisterModelRootPath();
+    }
+
     public void testCleanUpLocalCache_NoTasks() {
         when(mlTaskManager.getAllTaskIds()).thenReturn(null);
         action.cleanUpLocalCache(runningDeployModelTasks);
@@ -363,6 +405,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             .runningDeployModelTasks(runningDeployModelTasks)
             .clearRoutingTable(false)
             .syncRunningDeployModelTasks(true)
+            .updatedModelGroupIds(Set.of("modelGroupId1"))
+            .updatedModelIds(Set.of("modelId1"))
             .build();
         return syncUpInput;
     }
@@ -9,11 +9,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.CommonValue.NOT_FOUND;
+import static org.opensearch.ml.common.CommonValue.UNDEPLOYED;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -53,6 +56,7 @@ import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.task.MLPredictQueue;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -98,6 +102,9 @@ public class TransportUndeployModelActionTests extends OpenSearchTestCase {
     @Mock
     private ModelAccessControlHelper modelAccessControlHelper;
 
+    @Mock
+    private MLPredictQueue mlPredictQueue;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -121,7 +128,8 @@ public class TransportUndeployModelActionTests extends OpenSearchTestCase {
             nodeFilter,
             mlStats,
             xContentRegistry,
-            modelAccessControlHelper
+            modelAccessControlHelper,
+            mlPredictQueue
         );
         localNode = new DiscoveryNode(
             "foo0",
@@ -171,6 +179,19 @@ public class TransportUndeployModelActionTests extends OpenSearchTestCase {
         assertNotNull(response);
     }
 
+    public void testNodeOperation_RemovePredictQueueStats() {
+        MLStat mlStat = mock(MLStat.class);
+        when(mlStats.getStat(any())).thenReturn(mlStat);
+        when(mlModelManager.undeployModel(any())).thenReturn(Map.of("modelId1", UNDEPLOYED, "modelId2", NOT_FOUND));
+        final MLUndeployModelNodesRequest request = new MLUndeployModelNodesRequest(
+            new String[] { "nodeId1", "nodeId2" },
+            new String[] { "modelId1", "modelId2" }
+        );
+        action.nodeOperation(new MLUndeployModelNodeRequest(request));
+        verify(mlPredictQueue).removeModel("modelId1");
+        verify(mlPredictQueue, never()).removeModel("modelId2");
+    }
+
     public void testNewResponseWithUndeployedModelStatus() {
         final MLUndeployModelNodesRequest nodesRequest = new MLUndeployModelNodesRequest(
             new String[] { "nodeId1", "nodeId2" },
@@ -0,0 +1,454 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.upload_chunk;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelChunkStore;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+public class MLModelUploadSessionManagerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "modelId";
+
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+    @Mock
+    private MLModelChunkStore modelChunkStore;
+    @Mock
+    private MLCircuitBreakerService mlCircuitBreakerService;
+
+    private ThreadContext threadContext;
+    private MLStats mlStats;
+    private MLModelUploadSessionManager uploadSessionManager;
+    private Map<Integer, byte[]> storedChunks;
+    private byte[][] chunks;
+
+    @Before
+    public void setup() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        threadContext = new ThreadContext(Settings.builder().build());
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alex|IT,HR|engineering,operations");
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("node1");
+        when(clusterService.localNode()).thenReturn(localNode);
+        Settings settings = Settings.builder().put(ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE.getKey(), 2).build();
+        when(clusterService.getClusterSettings()).thenReturn(clusterSetting(settings, ML_COMMONS_MAX_UPLOAD_SESSIONS_PER_NODE));
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        mlStats = new MLStats(stats);
+
+        chunks = new byte[][] { randomByteArrayOfLength(10), randomByteArrayOfLength(10), randomByteArrayOfLength(5) };
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (byte[] chunk : chunks) {
+            hasher.putBytes(chunk);
+        }
+        mockModel(MLModelState.REGISTERING, hasher.hash().toString());
+
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(true);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(modelChunkStore).initChunkIndex(any());
+        storedChunks = new ConcurrentHashMap<>();
+        when(modelChunkStore.createIndexRequest(anyString(), any(), anyInt(), any())).thenAnswer(invocation -> {
+            storedChunks.put(invocation.getArgument(2), invocation.getArgument(3));
+            return new IndexRequest();
+        });
+        doAnswer(invocation -> {
+            ActionListener<byte[]> listener = invocation.getArgument(2);
+            listener.onResponse(storedChunks.get(invocation.<Integer>getArgument(1)));
+            return null;
+        }).when(modelChunkStore).getChunk(anyString(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(client).index(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(modelChunkStore).refreshChunks(any());
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(client).update(any(), any());
+
+        uploadSessionManager = new MLModelUploadSessionManager(
+            client,
+            clusterService,
+            threadPool,
+            settings,
+            NamedXContentRegistry.EMPTY,
+            modelAccessControlHelper,
+            modelChunkStore,
+            mlCircuitBreakerService,
+            mlStats
+        );
+    }
+
+    public void testGetSessionNodeId() {
+        assertEquals("node1", MLModelUploadSessionManager.getSessionNodeId("node1.abc"));
+        assertNull(MLModelUploadSessionManager.getSessionNodeId("abc"));
+        assertNull(MLModelUploadSessionManager.getSessionNodeId(null));
+    }
+
+    public void testOpenSession() {
+        MLModelUploadSessionResponse response = openSession();
+        assertEquals(MODEL_ID, response.getModelId());
+        assertEquals(Integer.valueOf(3), response.getTotalChunks());
+        assertEquals("node1", MLModelUploadSessionManager.getSessionNodeId(response.getSessionId()));
+        assertEquals("alex", uploadSessionManager.getSession(response.getSessionId()).getUser());
+    }
+
+    public void testOpenSession_ModelNotRegistering() throws IOException {
+        mockModel(MLModelState.REGISTERED, "hash");
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession(MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model modelId isn't waiting for its chunks to be uploaded", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testOpenSession_NoAccess() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(false);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), any());
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession(MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("You don't have permissions to perform this operation on this model.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testOpenSession_AlreadyOpen() {
+        openSession();
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession(MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model modelId has an upload session open already", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testOpenSession_ExceedMaxSessions() {
+        openSession(MODEL_ID);
+        openSession("modelId2");
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession("modelId3", listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals("Exceed max upload sessions per node limit: 2", argumentCaptor.getValue().getMessage());
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void testOpenSession_CircuitBreakerOpen() {
+        ThresholdCircuitBreaker thresholdCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(thresholdCircuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(thresholdCircuitBreaker);
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession(MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals("Memory Circuit Breaker is open, please check your resources!", argumentCaptor.getValue().getMessage());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT).getValue());
+        verify(client, never()).get(any(), any());
+    }
+
+    public void testRemoveExpiredSessions_Scheduled() {
+        ArgumentCaptor<Runnable> sweep = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool)
+            .scheduleWithFixedDelay(sweep.capture(), eq(MLModelUploadSessionManager.SESSION_SWEEP_INTERVAL), eq(GENERAL_THREAD_POOL));
+        String sessionId = openSession().getSessionId();
+
+        sweep.getValue().run();
+
+        assertNotNull(uploadSessionManager.getSession(sessionId));
+    }
+
+    public void testUploadAndCommit() {
+        String sessionId = openSession().getSessionId();
+        for (int i = 0; i < chunks.length; i++) {
+            assertEquals("Uploaded", uploadChunk(sessionId, i, chunks[i]).getStatus());
+        }
+
+        MLModelUploadSessionResponse response = commit(sessionId);
+
+        assertEquals("Registered", response.getStatus());
+        assertNull(uploadSessionManager.getSession(sessionId));
+        verify(modelChunkStore, times(1)).refreshChunks(any());
+        ArgumentCaptor<UpdateRequest> updateRequest = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateRequest.capture(), any());
+        assertEquals(MLModelState.REGISTERED.name(), updateRequest.getValue().doc().sourceAsMap().get(MLModel.MODEL_STATE_FIELD));
+        verify(modelChunkStore, never()).getChunk(anyString(), anyInt(), any());
+    }
+
+    public void testUploadAndCommit_OutOfOrder() {
+        String sessionId = openSession().getSessionId();
+        uploadChunk(sessionId, 2, chunks[2]);
+        uploadChunk(sessionId, 0, chunks[0]);
+        uploadChunk(sessionId, 1, chunks[1]);
+
+        assertEquals("Registered", commit(sessionId).getStatus());
+        verify(modelChunkStore, never()).getChunk(anyString(), anyInt(), any());
+    }
+
+    public void testUploadAndCommit_HashStoredChunks() throws IOException {
+        // Uploaded in reverse, the chunks held to hash the content in order exceed the limit and the content is
+        // hashed from the stored chunks at commit. The full chunks share one array to keep the test small.
+        byte[] fullChunk = new byte[CHUNK_SIZE];
+        int totalChunks = (int) (MLModelUploadSession.MAX_PENDING_BYTES / CHUNK_SIZE) + 2;
+        chunks = new byte[totalChunks][];
+        chunks[0] = randomByteArrayOfLength(10);
+        Hasher hasher = Hashing.sha256().newHasher().putBytes(chunks[0]);
+        for (int i = 1; i < totalChunks; i++) {
+            chunks[i] = fullChunk;
+            hasher.putBytes(fullChunk);
+        }
+        mockModel(MLModelState.REGISTERING, hasher.hash().toString());
+
+        String sessionId = openSession().getSessionId();
+        for (int i = totalChunks - 1; i >= 0; i--) {
+            uploadChunk(sessionId, i, chunks[i]);
+        }
+
+        assertEquals("Registered", commit(sessionId).getStatus());
+        verify(modelChunkStore, times(totalChunks)).getChunk(anyString(), anyInt(), any());
+    }
+
+    public void testUploadChunk_Duplicate() {
+        String sessionId = openSession().getSessionId();
+        uploadChunk(sessionId, 0, chunks[0]);
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.uploadChunk(sessionId, MODEL_ID, 0, new BytesArray(chunks[0]), listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Chunk 0 is uploaded already", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testUploadChunk_ExceedTotalChunks() {
+        String sessionId = openSession().getSessionId();
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.uploadChunk(sessionId, MODEL_ID, 3, new BytesArray(chunks[0]), listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Chunk number exceeds total chunks", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testUploadChunk_IndexFailure() {
+        String sessionId = openSession().getSessionId();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("index failure"));
+            return null;
+        }).when(client).index(any(), any());
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.uploadChunk(sessionId, MODEL_ID, 0, new BytesArray(chunks[0]), listener);
+        verify(listener).onFailure(any(RuntimeException.class));
+        assertEquals(0, uploadSessionManager.getSession(sessionId).getUploadedChunks());
+    }
+
+    public void testUploadChunk_OtherUser() {
+        String sessionId = openSession().getSessionId();
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        try (ThreadContext.StoredContext context = threadContext.stashContext()) {
+            threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "bob|IT|engineering");
+            uploadSessionManager.uploadChunk(sessionId, MODEL_ID, 0, new BytesArray(chunks[0]), listener);
+        }
+        verify(listener).onFailure(any(MLResourceNotFoundException.class));
+        verify(client, never()).index(any(), any());
+    }
+
+    public void testUploadChunk_SessionNotFound() {
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.uploadChunk("node1.unknown", MODEL_ID, 0, new BytesArray(chunks[0]), listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLResourceNotFoundException);
+        assertEquals("Failed to find upload session node1.unknown of model modelId", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testCommit_MissingChunks() {
+        String sessionId = openSession().getSessionId();
+        uploadChunk(sessionId, 0, chunks[0]);
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.commit(sessionId, MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("2 chunks of model modelId aren't uploaded", argumentCaptor.getValue().getMessage());
+        verify(client, never()).update(any(), any());
+    }
+
+    public void testCommit_HashMismatch() throws IOException {
+        mockModel(MLModelState.REGISTERING, "hash");
+        String sessionId = openSession().getSessionId();
+        for (int i = 0; i < chunks.length; i++) {
+            uploadChunk(sessionId, i, chunks[i]);
+        }
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.commit(sessionId, MODEL_ID, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("model content changed", argumentCaptor.getValue().getMessage());
+        assertNull(uploadSessionManager.getSession(sessionId));
+        verify(client, never()).update(any(), any());
+    }
+
+    public void testCommit_UpdateFailure() {
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("update failure"));
+            return null;
+        }).when(client).update(any(), any());
+        String sessionId = openSession().getSessionId();
+        for (int i = 0; i < chunks.length; i++) {
+            uploadChunk(sessionId, i, chunks[i]);
+        }
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.commit(sessionId, MODEL_ID, listener);
+        verify(listener).onFailure(any(RuntimeException.class));
+
+        // The session is kept so the commit can be retried.
+        doAnswer(invocation -> {
+            ActionListener<?> updateListener = invocation.getArgument(1);
+            updateListener.onResponse(null);
+            return null;
+        }).when(client).update(any(), any());
+        assertEquals("Registered", commit(sessionId).getStatus());
+    }
+
+    private MLModelUploadSessionResponse openSession() {
+        return openSession(MODEL_ID);
+    }
+
+    private MLModelUploadSessionResponse openSession(String modelId) {
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.openSession(modelId, listener);
+        return captureResponse(listener);
+    }
+
+    private MLModelUploadSessionResponse uploadChunk(String sessionId, int chunkNumber, byte[] content) {
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.uploadChunk(sessionId, MODEL_ID, chunkNumber, new BytesArray(content), listener);
+        return captureResponse(listener);
+    }
+
+    private MLModelUploadSessionResponse commit(String sessionId) {
+        ActionListener<MLModelUploadSessionResponse> listener = mock(ActionListener.class);
+        uploadSessionManager.commit(sessionId, MODEL_ID, listener);
+        return captureResponse(listener);
+    }
+
+    private MLModelUploadSessionResponse captureResponse(ActionListener<MLModelUploadSessionResponse> listener) {
+        ArgumentCaptor<MLModelUploadSessionResponse> argumentCaptor = ArgumentCaptor.forClass(MLModelUploadSessionResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        return argumentCaptor.getValue();
+    }
+
+    private void mockModel(MLModelState state, String hash) throws IOException {
+        long size = 0;
+        for (byte[] chunk : chunks) {
+            size += chunk.length;
+        }
+        mockModel(state, hash, chunks.length, size);
+    }
+
+    private void mockModel(MLModelState state, String hash, int totalChunks, Long size) throws IOException {
+        MLModel mlModel = MLModel
+            .builder()
+            .name("Test Model")
+            .version("1")
+            .modelGroupId("modelGroupId")
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelState(state)
+            .totalChunks(totalChunks)
+            .modelContentHash(hash)
+            .modelContentSizeInBytes(size)
+            .build();
+        XContentBuilder content = mlModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        BytesReference bytesReference = BytesReference.bytes(content);
+        GetResult getResult = new GetResult("indexName", MODEL_ID, 1L, 1L, 1L, true, bytesReference, null, null);
+        GetResponse getResponse = new GetResponse(getResult);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.upload_chunk;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionAction;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionRequest;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionResponse;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class TransportModelUploadSessionActionTests extends OpenSearchTestCase {
+
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private MLModelUploadSessionManager uploadSessionManager;
+    @Mock
+    private DiscoveryNodes discoveryNodes;
+    @Mock
+    private Task task;
+    @Mock
+    private ActionListener<MLModelUploadSessionResponse> actionListener;
+
+    private DiscoveryNode remoteNode;
+    private TransportModelUploadSessionAction action;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("node1");
+        when(clusterService.localNode()).thenReturn(localNode);
+        remoteNode = mock(DiscoveryNode.class);
+        ClusterState clusterState = mock(ClusterState.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterState.nodes()).thenReturn(discoveryNodes);
+        when(discoveryNodes.get("node2")).thenReturn(remoteNode);
+        action = new TransportModelUploadSessionAction(transportService, actionFilters, clusterService, uploadSessionManager);
+    }
+
+    public void testDoExecute_Open() {
+        action.doExecute(task, request(MLModelUploadSessionRequest.Operation.OPEN, null), actionListener);
+        verify(uploadSessionManager).openSession(eq("modelId"), any());
+    }
+
+    public void testDoExecute_LocalSession() {
+        action.doExecute(task, request(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK, "node1.session"), actionListener);
+        verify(uploadSessionManager).uploadChunk(eq("node1.session"), eq("modelId"), eq(0), any(), any());
+
+        action.doExecute(task, request(MLModelUploadSessionRequest.Operation.COMMIT, "node1.session"), actionListener);
+        verify(uploadSessionManager).commit(eq("node1.session"), eq("modelId"), any());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), anyString(), any(), any());
+    }
+
+    public void testDoExecute_RemoteSession() {
+        MLModelUploadSessionRequest request = request(MLModelUploadSessionRequest.Operation.COMMIT, "node2.session");
+        action.doExecute(task, request, actionListener);
+        verify(transportService).sendRequest(eq(remoteNode), eq(MLModelUploadSessionAction.NAME), eq(request), any());
+        verify(uploadSessionManager, never()).commit(anyString(), anyString(), any());
+    }
+
+    public void testDoExecute_SessionNodeNotFound() {
+        action.doExecute(task, request(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK, "node3.session"), actionListener);
+        verify(actionListener).onFailure(any(MLResourceNotFoundException.class));
+        verify(uploadSessionManager, never()).uploadChunk(anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    private MLModelUploadSessionRequest request(MLModelUploadSessionRequest.Operation operation, String sessionId) {
+        return MLModelUploadSessionRequest
+            .builder()
+            .operation(operation)
+            .modelId("modelId")
+            .sessionId(sessionId)
+            .chunkNumber(operation == MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK ? 0 : null)
+            .content(operation == MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK ? new BytesArray(new byte[] { 1, 2 }) : null)
+            .build();
+    }
+}
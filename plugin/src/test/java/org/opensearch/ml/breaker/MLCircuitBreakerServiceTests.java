@@ -5,7 +5,14 @@
 
 package org.opensearch.ml.breaker;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD;
 
@@ -22,9 +29,12 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.jvm.JvmStats;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class MLCircuitBreakerServiceTests {
 
@@ -123,4 +133,91 @@ public class MLCircuitBreakerServiceTests {
         Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
     }
 
+    @Test
+    public void testSampling() {
+        Settings settings = Settings.builder().put(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS.getKey(), 500).build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        ThreadPool threadPool = mock(ThreadPool.class);
+
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        verify(threadPool).scheduleWithFixedDelay(any(), eq(TimeValue.timeValueMillis(500)), eq(ThreadPool.Names.GENERIC));
+        Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+
+        // Reads serve the last sample without checking the heap again.
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+        verify(jvmService, times(1)).stats();
+
+        // An open breaker stays open until the usage drops under the threshold minus the hysteresis.
+        when(mem.getHeapUsedPercent()).thenReturn((short) 82);
+        mlCircuitBreakerService.sample();
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+        when(mem.getHeapUsedPercent()).thenReturn((short) 79);
+        mlCircuitBreakerService.sample();
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+        when(mem.getHeapUsedPercent()).thenReturn((short) 82);
+        mlCircuitBreakerService.sample();
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+    }
+
+    @Test
+    public void testStopSampling() {
+        Settings settings = Settings.builder().put(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS.getKey(), 500).build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.Cancellable sampler = mock(Scheduler.Cancellable.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), any())).thenReturn(sampler);
+
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        mlCircuitBreakerService.stopSampling();
+        verify(sampler).cancel();
+
+        // Changing the interval after the node is closed doesn't schedule the sampler again.
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS.getKey(), 1000).build());
+        verify(threadPool, times(1)).scheduleWithFixedDelay(any(), any(), any());
+
+        // Breakers are checked on every request once sampling is stopped.
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+    }
+
+    @Test
+    public void testSampling_Disabled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS.getKey(), 0).build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_CIRCUIT_BREAKER_SAMPLE_INTERVAL_IN_MILLIS))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        ThreadPool threadPool = mock(ThreadPool.class);
+
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        verify(threadPool, never()).scheduleWithFixedDelay(any(), any(), any());
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+    }
 }
@@ -60,4 +60,14 @@ public class MemoryCircuitBreakerTests {
         when(mem.getHeapUsedPercent()).thenReturn((short) 95);
         Assert.assertTrue(breaker.isOpen());
     }
+
+    @Test
+    public void testIsOpen_HysteresisClampedAtZero() {
+        CircuitBreaker breaker = new MemoryCircuitBreaker((short) 3, jvmService);
+
+        when(mem.getHeapUsedPercent()).thenReturn((short) 0);
+        Assert.assertFalse(breaker.isOpen(true));
+        when(mem.getHeapUsedPercent()).thenReturn((short) 1);
+        Assert.assertTrue(breaker.isOpen(true));
+    }
 }
@@ -76,4 +76,14 @@ public class NativeMemoryCircuitBreakerTests {
         when(mem.getUsedPercent()).thenReturn((short) 95);
         Assert.assertTrue(breaker.isOpen());
     }
+
+    @Test
+    public void testIsOpen_HysteresisClampedAtZero() {
+        CircuitBreaker breaker = new NativeMemoryCircuitBreaker(3, osService);
+
+        when(mem.getUsedPercent()).thenReturn((short) 0);
+        Assert.assertFalse(breaker.isOpen(true));
+        when(mem.getUsedPercent()).thenReturn((short) 1);
+        Assert.assertTrue(breaker.isOpen(true));
+    }
 }
@@ -5,23 +5,35 @@
 
 package org.opensearch.ml.helper;
 
+import static java.util.Collections.emptyMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -39,6 +51,8 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.MLModelGroup.MLModelGroupBuilder;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -68,7 +82,11 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.getKey(), true).build();
         threadContext = new ThreadContext(settings);
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED);
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
+            ML_COMMONS_MODEL_ACCESS_CACHE_TTL_IN_SECONDS
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         assertNotNull(modelAccessControlHelper);
@@ -161,6 +179,64 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         assertFalse(argumentCaptor.getValue());
     }
 
+    public void test_ValidateModelGroupAccessWithCache() throws IOException {
+        String owner = "owner|IT,HR|myTenant";
+        setupModelGroup(owner, AccessMode.RESTRICTED.getValue(), Arrays.asList("IT"));
+        User user = User.parse("user|IT|myTenant");
+        User otherUser = User.parse("user|HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccessWithCache(otherUser, "testGroupID", client, actionListener);
+
+        verify(client, times(2)).get(any(), any());
+        ArgumentCaptor<Boolean> argumentCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(actionListener, times(3)).onResponse(argumentCaptor.capture());
+        assertEquals(Arrays.asList(true, true, false), argumentCaptor.getAllValues());
+    }
+
+    public void test_ValidateModelGroupAccessWithCache_Invalidated() throws IOException {
+        String owner = "owner|IT,HR|myTenant";
+        setupModelGroup(owner, AccessMode.PUBLIC.getValue(), null);
+        User user = User.parse("user|IT|myTenant");
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+
+        setupModelGroup(owner, AccessMode.PRIVATE.getValue(), null);
+        modelAccessControlHelper.invalidateModelGroupAccessCache(Set.of("testGroupID"));
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+
+        verify(client, times(2)).get(any(), any());
+        ArgumentCaptor<Boolean> argumentCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(actionListener, times(2)).onResponse(argumentCaptor.capture());
+        assertEquals(Arrays.asList(true, false), argumentCaptor.getAllValues());
+    }
+
+    public void test_ValidateModelGroupAccessWithCache_NotCachedOnFailure() throws IOException {
+        User user = User.parse("user|IT|myTenant");
+        getResponse = modelGroupBuilder(null, AccessMode.RESTRICTED.getValue(), "owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateModelGroupAccessWithCache(user, "testGroupID", client, actionListener);
+
+        verify(client, times(2)).get(any(), any());
+        verify(actionListener, times(2)).onFailure(any(IllegalStateException.class));
+    }
+
+    public void test_BroadcastModelGroupUpdate() {
+        setupNodes(Version.CURRENT);
+        modelAccessControlHelper.broadcastModelGroupUpdate(Set.of("testGroupID"), client);
+
+        ArgumentCaptor<MLSyncUpNodesRequest> argumentCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(Set.of("testGroupID"), argumentCaptor.getValue().getSyncUpInput().getUpdatedModelGroupIds());
+        assertTrue(argumentCaptor.getValue().getSyncUpInput().isCacheInvalidationOnly());
+    }
+
+    public void test_BroadcastModelGroupUpdate_SkipOlderNodes() {
+        setupNodes(Version.V_2_19_0);
+        modelAccessControlHelper.broadcastModelGroupUpdate(Set.of("testGroupID"), client);
+
+        verify(client, never()).execute(any(), any(), any());
+    }
+
     public void test_SkipModelAccessControl() {
         User admin = User.parse("owner|IT,HR|all_access");
         User user = User.parse("owner|IT,HR|myTenant");
@@ -287,4 +363,13 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         return new GetResponse(getResult);
     }
 
+    private void setupNodes(Version version) {
+        Set<DiscoveryNodeRole> roleSet = Set.of(DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), roleSet, version);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(node).build())
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
+    }
 }
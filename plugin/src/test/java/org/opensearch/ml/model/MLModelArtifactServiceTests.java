@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodeResponse;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesAction;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesRequest;
+import org.opensearch.ml.action.artifact.MLModelArtifactNodesResponse;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelArtifactServiceTests extends OpenSearchTestCase {
+
+    private Client client;
+    private DiscoveryNodeHelper nodeHelper;
+    private ClusterSettings clusterSettings;
+    private MLEngine mlEngine;
+    private MLModelArtifactService modelArtifactService;
+    private File modelZipFile;
+    private MLModel model;
+
+    @Before
+    public void setup() throws IOException {
+        Settings settings = Settings.builder().build();
+        client = mock(Client.class);
+        nodeHelper = mock(DiscoveryNodeHelper.class);
+        ClusterService clusterService = mock(ClusterService.class);
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED,
+            ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.localNode()).thenReturn(node("node1"));
+        mlEngine = new MLEngine(createTempDir(), mock(Encryptor.class));
+        modelArtifactService = new MLModelArtifactService(client, clusterService, settings, mlEngine, nodeHelper);
+
+        modelZipFile = createTempFile().toFile();
+        Files.write(modelZipFile.toPath(), "model content".getBytes(StandardCharsets.UTF_8));
+        model = MLModel
+            .builder()
+            .modelId("model1")
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelContentHash(calculateFileHash(modelZipFile))
+            .modelContentSizeInBytes(modelZipFile.length())
+            .build();
+    }
+
+    public void testRetainArtifact() throws IOException {
+        modelArtifactService.retainArtifact(model, model.getModelContentHash(), modelZipFile);
+        // The deployment deletes the model file, the artifact stays.
+        Files.delete(modelZipFile.toPath());
+
+        assertTrue(modelArtifactService.hasArtifact("model1", model.getModelContentHash()));
+        assertEquals("model", modelArtifactService.readArtifact("model1", model.getModelContentHash(), 0, 5).utf8ToString());
+        assertEquals("content", modelArtifactService.readArtifact("model1", model.getModelContentHash(), 6, 100).utf8ToString());
+        assertEquals(0, modelArtifactService.getActiveTransfers());
+        expectThrows(IllegalArgumentException.class, () -> modelArtifactService.readArtifact("model1", model.getModelContentHash(), 20, 5));
+    }
+
+    public void testTryStartTransfer_MaxConcurrentServes() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_MODEL_PEER_TRANSFER_MAX_CONCURRENT_SERVES.getKey(), 2).build());
+
+        assertTrue(modelArtifactService.tryStartTransfer());
+        assertTrue(modelArtifactService.tryStartTransfer());
+        assertFalse(modelArtifactService.tryStartTransfer());
+        assertEquals(2, modelArtifactService.getActiveTransfers());
+
+        modelArtifactService.endTransfer();
+        assertTrue(modelArtifactService.tryStartTransfer());
+        assertEquals(2, modelArtifactService.getActiveTransfers());
+    }
+
+    public void testRetainArtifact_HashMismatch() {
+        String otherHash = "0".repeat(64);
+
+        modelArtifactService.retainArtifact(model, otherHash, modelZipFile);
+
+        assertFalse(modelArtifactService.hasArtifact("model1", otherHash));
+        assertFalse(modelArtifactService.hasArtifact("model1", model.getModelContentHash()));
+    }
+
+    public void testRetainArtifact_Disabled() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_MODEL_PEER_TRANSFER_ENABLED.getKey(), false).build());
+
+        modelArtifactService.retainArtifact(model, model.getModelContentHash(), modelZipFile);
+
+        assertFalse(modelArtifactService.hasArtifact("model1", model.getModelContentHash()));
+    }
+
+    public void testHasArtifact_InvalidPath() {
+        modelArtifactService.retainArtifact(model, model.getModelContentHash(), modelZipFile);
+
+        assertFalse(modelArtifactService.hasArtifact("../model1", model.getModelContentHash()));
+        assertFalse(modelArtifactService.hasArtifact("model1", "../" + model.getModelContentHash()));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> modelArtifactService.readArtifact("model1/..", model.getModelContentHash(), 0, 5)
+        );
+    }
+
+    public void testFindPeer_LeastLoaded() {
+        when(nodeHelper.getEligibleNodeIds(FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1", "node2", "node3", "node4" });
+        mockArtifactNodesResponse(
+            List
+                .of(
+                    new MLModelArtifactNodeResponse(node("node2"), true, 3, null),
+                    new MLModelArtifactNodeResponse(node("node3"), true, 1, null),
+                    new MLModelArtifactNodeResponse(node("node4"), false, 0, null)
+                ),
+            Collections.emptyList()
+        );
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        modelArtifactService.findPeer(model, listener);
+
+        verify(listener).onResponse("node3");
+        ArgumentCaptor<MLModelArtifactNodesRequest> request = ArgumentCaptor.forClass(MLModelArtifactNodesRequest.class);
+        verify(client).execute(eq(MLModelArtifactNodesAction.INSTANCE), request.capture(), any());
+        assertArrayEquals(new String[] { "node2", "node3", "node4" }, request.getValue().nodesIds());
+        assertEquals(0, request.getValue().getLength());
+    }
+
+    public void testFindPeer_NoEligibleNode() {
+        when(nodeHelper.getEligibleNodeIds(FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1" });
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        modelArtifactService.findPeer(model, listener);
+
+        verify(listener).onResponse(null);
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testFindPeer_NoContentHash() {
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        modelArtifactService.findPeer(model.toBuilder().modelContentHash(null).build(), listener);
+
+        verify(listener).onResponse(null);
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testFetchChunk() {
+        mockArtifactNodesResponse(
+            List.of(new MLModelArtifactNodeResponse(node("node2"), true, 1, new BytesArray("model"))),
+            Collections.emptyList()
+        );
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelArtifactService.fetchChunk("node2", model, 1, listener);
+
+        verify(listener).onResponse("model".getBytes(StandardCharsets.UTF_8));
+        ArgumentCaptor<MLModelArtifactNodesRequest> request = ArgumentCaptor.forClass(MLModelArtifactNodesRequest.class);
+        verify(client).execute(eq(MLModelArtifactNodesAction.INSTANCE), request.capture(), any());
+        assertEquals(MLModelArtifactService.TRANSFER_CHUNK_SIZE, request.getValue().getOffset());
+        assertEquals(MLModelArtifactService.TRANSFER_CHUNK_SIZE, request.getValue().getLength());
+    }
+
+    public void testFetchChunk_NodeFailure() {
+        mockArtifactNodesResponse(
+            Collections.emptyList(),
+            List.of(new FailedNodeException("node2", "failed", new RuntimeException("disk failure")))
+        );
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelArtifactService.fetchChunk("node2", model, 0, listener);
+
+        verify(listener).onFailure(any(FailedNodeException.class));
+    }
+
+    public void testFetchChunk_NotAvailable() {
+        mockArtifactNodesResponse(List.of(new MLModelArtifactNodeResponse(node("node2"), false, 0, null)), Collections.emptyList());
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelArtifactService.fetchChunk("node2", model, 0, listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Node node2 doesn't hold artifact of model model1", exception.getValue().getMessage());
+    }
+
+    public void testGetTransferChunks() {
+        assertEquals(1, MLModelArtifactService.getTransferChunks(0));
+        assertEquals(1, MLModelArtifactService.getTransferChunks(MLModelArtifactService.TRANSFER_CHUNK_SIZE));
+        assertEquals(2, MLModelArtifactService.getTransferChunks(MLModelArtifactService.TRANSFER_CHUNK_SIZE + 1L));
+    }
+
+    private void mockArtifactNodesResponse(List<MLModelArtifactNodeResponse> nodes, List<FailedNodeException> failures) {
+        doAnswer(invocation -> {
+            ActionListener<MLModelArtifactNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLModelArtifactNodesResponse(new ClusterName("test"), nodes, failures));
+            return null;
+        }).when(client).execute(eq(MLModelArtifactNodesAction.INSTANCE), any(), any());
+    }
+
+    private DiscoveryNode node(String nodeId) {
+        return new DiscoveryNode(nodeId, buildNewFakeTransportAddress(), Version.CURRENT);
+    }
+}
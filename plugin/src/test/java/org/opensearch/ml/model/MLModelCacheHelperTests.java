@@ -31,7 +31,9 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
+import org.opensearch.ml.engine.metrics.PredictStageMetrics;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.test.OpenSearchTestCase;
@@ -275,6 +277,19 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getWorkerNodes(modelId));
     }
 
+    public void testGetConnectorMetricsKey() {
+        assertNull(cacheHelper.getConnectorMetricsKey(modelId));
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        RemoteModel remoteModel = mock(RemoteModel.class);
+        when(remoteModel.getConnectorMetricsKey()).thenReturn("connectorId");
+        cacheHelper.setPredictor(modelId, remoteModel);
+        assertEquals("connectorId", cacheHelper.getConnectorMetricsKey(modelId));
+        assertTrue(cacheHelper.isConnectorMetricsKeyInUse("connectorId"));
+
+        cacheHelper.removeModel(modelId);
+        assertFalse(cacheHelper.isConnectorMetricsKeyInUse("connectorId"));
+    }
+
     public void testGetModelProfile_WrongModelId() {
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
         assertNull(modelProfile);
@@ -292,15 +307,38 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertArrayEquals(new String[] { nodeId }, modelProfile.getWorkerNodes());
         assertNull(modelProfile.getModelInferenceStats());
 
-        for (int i = 1; i <= maxMonitoringRequests * 2; i++) {
+        for (int i = 1; i <= maxMonitoringRequests * 3; i++) {
             cacheHelper.addModelInferenceDuration(modelId, i);
         }
+        // Stats cover the current window and the previous one, the oldest window has been dropped.
         MLPredictRequestStats predictStats = cacheHelper.getModelProfile(modelId).getModelInferenceStats();
         assertNotNull(predictStats);
         assertEquals(maxMonitoringRequests + 1, predictStats.getMin(), 1e-5);
-        assertEquals(maxMonitoringRequests * 2, predictStats.getMax(), 1e-5);
-        assertEquals((maxMonitoringRequests + 1 + maxMonitoringRequests * 2) / 2.0, predictStats.getAverage(), 1e-5);
-        assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
+        assertEquals(maxMonitoringRequests * 3, predictStats.getMax(), 1e-5);
+        assertEquals((maxMonitoringRequests + 1 + maxMonitoringRequests * 3) / 2.0, predictStats.getAverage(), 1e-5);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getCount().longValue());
+    }
+
+    public void testGetModelProfile_PredictStageStats() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelProfile(modelId).getPredictStageStats());
+
+        cacheHelper.recordPredictStage(modelId, PredictStageMetrics.Stage.ACCESS_CHECK, 2_000_000L);
+        cacheHelper.getPredictStageMetrics(modelId).recordStage(PredictStageMetrics.Stage.FORWARD, 10_000_000L);
+        Map<String, Object> stageStats = cacheHelper.getModelProfile(modelId).getPredictStageStats();
+        assertEquals(2, stageStats.size());
+        assertEquals(2.0, (Double) ((Map<String, Object>) stageStats.get("access_check")).get("max"), 1e-5);
+        assertEquals(10.0, (Double) ((Map<String, Object>) stageStats.get("forward")).get("max"), 1e-5);
+
+        cacheHelper.removeModel(modelId);
+        assertNull(cacheHelper.getModelProfile(modelId));
+    }
+
+    public void testRecordPredictStage_ModelNotInCache() {
+        cacheHelper.recordPredictStage(modelId, PredictStageMetrics.Stage.DISPATCH, 2_000_000L);
+
+        assertNull(cacheHelper.getModelProfile(modelId));
+        assertEquals(0, cacheHelper.getAllModels().length);
     }
 
     public void testGetModelProfile_Deploying() {
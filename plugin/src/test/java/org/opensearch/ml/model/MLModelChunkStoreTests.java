@@ -0,0 +1,251 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static java.util.Collections.emptyMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.AdminClient;
+import org.opensearch.client.Client;
+import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkStoreTests extends OpenSearchTestCase {
+
+    private Client client;
+    private ClusterService clusterService;
+    private MLIndicesHandler mlIndicesHandler;
+    private MLModelChunkStore modelChunkStore;
+    private List<GetRequest> getRequests;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_CHUNK_COMPRESSION.getKey(), "deflate").build();
+        client = mock(Client.class);
+        mlIndicesHandler = mock(MLIndicesHandler.class);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSetting(settings, ML_COMMONS_MODEL_CHUNK_COMPRESSION));
+        setupNodes(Version.CURRENT);
+        modelChunkStore = new MLModelChunkStore(client, clusterService, settings, mlIndicesHandler);
+        getRequests = new ArrayList<>();
+    }
+
+    public void testCompress_RoundTrip() throws IOException {
+        byte[] content = "model chunk ".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        byte[] compressed = MLModelChunkStore.compress(MLModelChunkStore.COMPRESSION_DEFLATE, content);
+
+        assertTrue(compressed.length < content.length);
+        assertArrayEquals(content, MLModelChunkStore.decompress(MLModelChunkStore.COMPRESSION_DEFLATE, compressed, content.length));
+        assertArrayEquals(content, MLModelChunkStore.compress(MLModelChunkStore.COMPRESSION_NONE, content));
+        expectThrows(IOException.class, () -> MLModelChunkStore.decompress(MLModelChunkStore.COMPRESSION_DEFLATE, content, -1));
+    }
+
+    public void testPutChunk() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initModelChunkIndexIfAbsent(any());
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(client).index(any(), any());
+        ActionListener<IndexResponse> listener = mock(ActionListener.class);
+
+        modelChunkStore.putChunk("model1", FunctionName.TEXT_EMBEDDING, 3, bytes("chunk3"), listener);
+
+        ArgumentCaptor<IndexRequest> indexRequest = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client).index(indexRequest.capture(), any());
+        assertEquals(ML_MODEL_CHUNK_INDEX, indexRequest.getValue().index());
+        assertEquals("model1_3", indexRequest.getValue().id());
+        assertEquals(WriteRequest.RefreshPolicy.NONE, indexRequest.getValue().getRefreshPolicy());
+        verify(listener).onResponse(any());
+    }
+
+    public void testCreateIndexRequest_OlderNodes() throws IOException {
+        // Released 2.x nodes only read chunks from the model index.
+        setupNodes(Version.CURRENT, Version.V_2_19_0);
+        byte[] content = bytes("chunk3");
+
+        IndexRequest indexRequest = modelChunkStore.createIndexRequest("model1", FunctionName.TEXT_EMBEDDING, 3, content);
+
+        assertEquals(ML_MODEL_INDEX, indexRequest.index());
+        assertEquals("model1_3", indexRequest.id());
+        Map<String, Object> source = indexRequest.sourceAsMap();
+        assertEquals(Base64.getEncoder().encodeToString(content), source.get(MLModel.MODEL_CONTENT_FIELD));
+        assertEquals(FunctionName.TEXT_EMBEDDING.name(), source.get(MLModel.ALGORITHM_FIELD));
+        assertEquals(3, source.get(MLModel.CHUNK_NUMBER_FIELD));
+        assertEquals("model1", source.get(MLModel.MODEL_ID_FIELD));
+    }
+
+    public void testIsChunkIndexEnabled() {
+        assertTrue(modelChunkStore.isChunkIndexEnabled());
+        setupNodes(Version.CURRENT, Version.V_2_19_0);
+        assertFalse(modelChunkStore.isChunkIndexEnabled());
+        setupNodes(MLModelChunkStore.CHUNK_INDEX_VERSION, Version.CURRENT);
+        assertTrue(modelChunkStore.isChunkIndexEnabled());
+    }
+
+    public void testRefreshChunks() {
+        AdminClient adminClient = mock(AdminClient.class);
+        IndicesAdminClient indicesAdminClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        doAnswer(invocation -> {
+            ActionListener<RefreshResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(RefreshResponse.class));
+            return null;
+        }).when(indicesAdminClient).refresh(any(), any());
+        ActionListener<Void> listener = mock(ActionListener.class);
+
+        modelChunkStore.refreshChunks(listener);
+
+        ArgumentCaptor<RefreshRequest> refreshRequest = ArgumentCaptor.forClass(RefreshRequest.class);
+        verify(indicesAdminClient).refresh(refreshRequest.capture(), any());
+        assertArrayEquals(new String[] { ML_MODEL_CHUNK_INDEX, ML_MODEL_INDEX }, refreshRequest.getValue().indices());
+        verify(listener).onResponse(null);
+    }
+
+    public void testPutChunk_IndexNotCreated() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(false);
+            return null;
+        }).when(mlIndicesHandler).initModelChunkIndexIfAbsent(any());
+        ActionListener<IndexResponse> listener = mock(ActionListener.class);
+
+        modelChunkStore.putChunk("model1", FunctionName.TEXT_EMBEDDING, 0, bytes("chunk0"), listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to create model chunk index", exception.getValue().getMessage());
+    }
+
+    public void testGetChunk() throws IOException {
+        byte[] content = bytes("chunk0");
+        byte[] compressed = MLModelChunkStore.compress(MLModelChunkStore.COMPRESSION_DEFLATE, content);
+        XContentBuilder source = XContentFactory.jsonBuilder().startObject().field("compression", "deflate").endObject();
+        Map<String, DocumentField> fields = Map
+            .of(MLModel.MODEL_CONTENT_FIELD, new DocumentField(MLModel.MODEL_CONTENT_FIELD, List.of(new BytesArray(compressed))));
+        GetResult getResult = new GetResult(ML_MODEL_CHUNK_INDEX, "model1_0", 1, 1, 1, true, BytesReference.bytes(source), fields, null);
+        mockGet(new GetResponse(getResult));
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelChunkStore.getChunk("model1", 0, listener);
+
+        verify(listener).onResponse(content);
+        assertEquals(1, getRequests.size());
+    }
+
+    public void testGetChunk_LegacyChunk() throws IOException {
+        byte[] content = bytes("chunk0");
+        XContentBuilder source = XContentFactory
+            .jsonBuilder()
+            .startObject()
+            .field(MLModel.MODEL_CONTENT_FIELD, Base64.getEncoder().encodeToString(content))
+            .endObject();
+        GetResult getResult = new GetResult(ML_MODEL_INDEX, "model1_0", 1, 1, 1, true, BytesReference.bytes(source), null, null);
+        doAnswer(invocation -> {
+            GetRequest getRequest = invocation.getArgument(0);
+            getRequests.add(getRequest);
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            if (ML_MODEL_CHUNK_INDEX.equals(getRequest.index())) {
+                listener.onFailure(new IndexNotFoundException(ML_MODEL_CHUNK_INDEX));
+            } else {
+                listener.onResponse(new GetResponse(getResult));
+            }
+            return null;
+        }).when(client).get(any(), any());
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelChunkStore.getChunk("model1", 0, listener);
+
+        verify(listener).onResponse(content);
+        assertEquals(2, getRequests.size());
+        assertEquals(ML_MODEL_INDEX, getRequests.get(1).index());
+    }
+
+    public void testGetChunk_NotFound() {
+        GetResult getResult = new GetResult(ML_MODEL_CHUNK_INDEX, "model1_0", -2, 0, -1, false, null, null, null);
+        mockGet(new GetResponse(getResult));
+        ActionListener<byte[]> listener = mock(ActionListener.class);
+
+        modelChunkStore.getChunk("model1", 0, listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Fail to find model chunk model1_0", exception.getValue().getMessage());
+    }
+
+    private void mockGet(GetResponse getResponse) {
+        doAnswer(invocation -> {
+            getRequests.add(invocation.getArgument(0));
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+
+    private void setupNodes(Version... versions) {
+        Set<DiscoveryNodeRole> roleSet = Set.of(DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < versions.length; i++) {
+            nodes.add(new DiscoveryNode("node" + i, buildNewFakeTransportAddress(), emptyMap(), roleSet, versions[i]));
+        }
+        ClusterState clusterState = ClusterState.builder(new ClusterName("test cluster")).nodes(nodes.build()).build();
+        when(clusterService.state()).thenReturn(clusterState);
+    }
+
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static java.util.Collections.emptyMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.AdminClient;
+import org.opensearch.client.Client;
+import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkStreamerTests extends OpenSearchTestCase {
+
+    private static final FunctionName ALGORITHM = FunctionName.TEXT_EMBEDDING;
+
+    private Client client;
+    private IndicesAdminClient indicesAdminClient;
+    private MLModelChunkStreamer modelChunkStreamer;
+    private List<IndexRequest> indexRequests;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY.getKey(), 2).build();
+        client = mock(Client.class);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings())
+            .thenReturn(clusterSetting(settings, ML_COMMONS_MODEL_CHUNK_COMPRESSION, ML_COMMONS_MODEL_CHUNK_INDEXING_CONCURRENCY));
+        Set<DiscoveryNodeRole> roleSet = Set.of(DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), roleSet, Version.CURRENT);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(node).build())
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
+        MLModelChunkStore modelChunkStore = new MLModelChunkStore(client, clusterService, settings, mock(MLIndicesHandler.class));
+        modelChunkStreamer = new MLModelChunkStreamer(client, clusterService, settings, modelChunkStore);
+
+        AdminClient adminClient = mock(AdminClient.class);
+        indicesAdminClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(indicesAdminClient).refresh(any(), any());
+        indexRequests = new CopyOnWriteArrayList<>();
+    }
+
+    public void testStreamModel() throws IOException {
+        mockIndex(false);
+        File source = createModelFile(CHUNK_SIZE * 2 + 10);
+        File modelFile = createTempDir().resolve("model").resolve("model.zip").toFile();
+        ActionListener<MLModelChunkStreamer.StreamedModel> listener = mock(ActionListener.class);
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, source.toURI().toString(), modelFile, Long.MAX_VALUE, listener);
+
+        ArgumentCaptor<MLModelChunkStreamer.StreamedModel> result = ArgumentCaptor.forClass(MLModelChunkStreamer.StreamedModel.class);
+        verify(listener).onResponse(result.capture());
+        assertEquals(3, result.getValue().getTotalChunks());
+        assertEquals(source.length(), result.getValue().getContentSizeInBytes());
+        assertEquals(calculateFileHash(source), result.getValue().getContentHash());
+        assertArrayEquals(Files.readAllBytes(source.toPath()), Files.readAllBytes(modelFile.toPath()));
+        assertEquals(3, indexRequests.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(MLModelChunkStore.getChunkId("model1", i), indexRequests.get(i).id());
+            assertEquals(WriteRequest.RefreshPolicy.NONE, indexRequests.get(i).getRefreshPolicy());
+        }
+        verify(indicesAdminClient, times(1)).refresh(any(RefreshRequest.class), any());
+    }
+
+    public void testStreamModel_BoundedIndexing() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(1);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            new Thread(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                listener.onResponse(null);
+            }).start();
+            return null;
+        }).when(client).index(any(IndexRequest.class), any());
+        File source = createModelFile(CHUNK_SIZE * 3 + 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger totalChunks = new AtomicInteger();
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, source.toURI().toString(), null, Long.MAX_VALUE, ActionListener.wrap(r -> {
+            totalChunks.set(r.getTotalChunks());
+            latch.countDown();
+        }, e -> fail(e.getMessage())));
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertEquals(4, totalChunks.get());
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    public void testStreamModel_IndexFailure() throws IOException {
+        mockIndex(true);
+        File source = createModelFile(100);
+        ActionListener<MLModelChunkStreamer.StreamedModel> listener = mock(ActionListener.class);
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, source.toURI().toString(), null, Long.MAX_VALUE, listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("index failure", exception.getValue().getMessage());
+        verify(listener, never()).onResponse(any());
+        // The chunks indexed so far must be searchable to be deleted.
+        verify(indicesAdminClient).refresh(any(RefreshRequest.class), any());
+    }
+
+    public void testStreamModel_ExceedSizeLimit() throws IOException {
+        mockIndex(false);
+        File source = createModelFile(100);
+        ActionListener<MLModelChunkStreamer.StreamedModel> listener = mock(ActionListener.class);
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, source.toURI().toString(), null, 50, listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertTrue(exception.getValue() instanceof MLException);
+        assertTrue(indexRequests.isEmpty());
+    }
+
+    public void testStreamModel_EmptyFile() throws IOException {
+        mockIndex(false);
+        File source = createModelFile(0);
+        ActionListener<MLModelChunkStreamer.StreamedModel> listener = mock(ActionListener.class);
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, source.toURI().toString(), null, Long.MAX_VALUE, listener);
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Model file is empty", exception.getValue().getMessage());
+    }
+
+    public void testStreamModel_InvalidUrl() {
+        ActionListener<MLModelChunkStreamer.StreamedModel> listener = mock(ActionListener.class);
+
+        modelChunkStreamer.streamModel("model1", ALGORITHM, "file:///not/existing/model.zip", null, Long.MAX_VALUE, listener);
+
+        verify(listener).onFailure(any(IOException.class));
+        verify(client, never()).index(any(IndexRequest.class), any());
+    }
+
+    private void mockIndex(boolean fail) {
+        doAnswer(invocation -> {
+            indexRequests.add(invocation.getArgument(0));
+            ActionListener<?> listener = invocation.getArgument(1);
+            if (fail) {
+                listener.onFailure(new RuntimeException("index failure"));
+            } else {
+                listener.onResponse(null);
+            }
+            return null;
+        }).when(client).index(any(IndexRequest.class), any());
+    }
+
+    private File createModelFile(int size) throws IOException {
+        File file = createTempFile().toFile();
+        Files.write(file.toPath(), randomByteArrayOfLength(size));
+        return file;
+    }
+}
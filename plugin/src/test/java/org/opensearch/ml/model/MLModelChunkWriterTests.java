@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkWriterTests extends OpenSearchTestCase {
+
+    public void testWrite_OutOfOrder() throws IOException {
+        File file = createTempDir().resolve("model").resolve("model.zip").toFile();
+        MLModelChunkWriter chunkWriter = new MLModelChunkWriter(file, 32L);
+
+        assertEquals(0, chunkWriter.write(2, bytes("chunk2")));
+        assertEquals(0, chunkWriter.write(1, bytes("chunk-1")));
+        assertEquals(3, chunkWriter.write(0, bytes("chunk_0")));
+        String hash = chunkWriter.finish();
+
+        assertEquals("chunk_0chunk-1chunk2", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertEquals(calculateFileHash(file), hash);
+    }
+
+    public void testWrite_Duplicate() throws IOException {
+        File file = createTempFile().toFile();
+        try (MLModelChunkWriter chunkWriter = new MLModelChunkWriter(file, null)) {
+            chunkWriter.write(0, bytes("chunk0"));
+            expectThrows(IllegalArgumentException.class, () -> chunkWriter.write(0, bytes("chunk0")));
+        }
+    }
+
+    public void testFinish_MissingChunk() throws IOException {
+        File file = createTempFile().toFile();
+        try (MLModelChunkWriter chunkWriter = new MLModelChunkWriter(file, null)) {
+            chunkWriter.write(1, bytes("chunk1"));
+            expectThrows(IllegalStateException.class, chunkWriter::finish);
+        }
+    }
+
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
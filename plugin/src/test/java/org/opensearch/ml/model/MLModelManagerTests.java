@@ -7,6 +7,7 @@ package org.opensearch.ml.model;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,16 +22,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_CHUNK_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
-import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
-import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.model.MLModelManager.MODEL_FILE_SIZE_LIMIT;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_COMPRESSION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
@@ -45,14 +48,12 @@ import static org.opensearch.ml.utils.MockHelper.mock_client_update;
 import static org.opensearch.ml.utils.MockHelper.mock_client_update_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_threadpool;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
-import static org.opensearch.ml.utils.TestHelper.copyFile;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,6 +82,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -154,11 +157,10 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     private String modelId;
     private String modelContentHashValue;
     private String url;
-    private String chunk0;
-    private String chunk1;
     private MLModel model;
     private MLModel modelChunk0;
     private MLModel modelChunk1;
+    private MLModelChunkStore modelChunkStore;
     private Long modelContentSize;
     @Mock
     private MLModelCacheHelper modelCacheHelper;
@@ -176,6 +178,12 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     @Mock
     private MLTask pretrainedMLTask;
 
+    @Mock
+    private MLModelArtifactService modelArtifactService;
+
+    @Mock
+    private MLModelChunkStreamer modelChunkStreamer;
+
     @Before
     public void setup() throws URISyntaxException {
         String masterKey = "m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=";
@@ -191,7 +199,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY,
+            ML_COMMONS_MODEL_CHUNK_COMPRESSION
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -217,6 +227,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             .modelFormat(modelFormat)
             .modelConfig(modelConfig)
             .url(url)
+            .hashValue(modelContentHashValue)
             .isHidden(false)
             .build();
 
@@ -249,6 +260,18 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
 
+        doAnswer(invocation -> {
+            ActionListener<Boolean> actionListener = invocation.getArgument(0);
+            actionListener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initModelChunkIndexIfAbsent(any());
+        modelChunkStore = spy(new MLModelChunkStore(client, clusterService, settings, mlIndicesHandler));
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(modelArtifactService).findPeer(any(), any());
+
         modelManager = spy(
             new MLModelManager(
                 clusterService,
@@ -264,13 +287,13 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 mlTaskManager,
                 modelCacheHelper,
                 mlEngine,
-                nodeHelper
+                nodeHelper,
+                modelChunkStore,
+                modelArtifactService,
+                modelChunkStreamer
             )
         );
 
-        chunk0 = getClass().getResource("chunk/0").toURI().getPath();
-        chunk1 = getClass().getResource("chunk/1").toURI().getPath();
-
         modelContentSize = 1000L;
         model = MLModel
             .builder()
@@ -334,7 +357,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlTaskManager).updateMLTask(anyString(), anyMap(), anyLong(), anyBoolean());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelChunkStreamer, never()).streamModel(any(), any(), any(), any(), anyLong(), any());
         verify(client, never()).index(any(), any());
     }
 
@@ -349,7 +372,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelChunkStreamer, never()).streamModel(any(), any(), any(), any(), anyLong(), any());
     }
 
     @Ignore
@@ -360,12 +383,12 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         mock_client_ThreadContext(client, threadPool, threadContext);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index_ModelChunkFailure(client, modelId);
-        setUpMock_DownloadModelFile(createTempChunkFiles(), 1000L);
+        setUpMock_DownloadModelFile(2, 1000L);
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(2)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(any(), any(), any(), any(), anyLong(), any());
     }
 
     public void testRegisterMLModel_DownloadModelFileFailure() {
@@ -374,12 +397,52 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
-        setUpMock_DownloadModelFileFailure();
+        setUpMock_DownloadModelFileFailure(new RuntimeException("download failure"));
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
+    }
+
+    public void testRegisterMLModel_StreamModelChunks() {
+        doNothing().when(mlTaskManager).checkLimitAndAddRunningTask(any(), any());
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(null);
+        when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
+        mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
+        mock_client_index(client, modelId);
+        setUpMock_DownloadModelFile(2, 1000L);
+
+        modelManager.registerMLModel(registerModelInput, mlTask);
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
+        verify(modelHelper).verifyModelZipFile(eq(modelFormat), any(), eq(modelName), eq(FunctionName.TEXT_EMBEDDING));
+        ArgumentCaptor<UpdateRequest> updateRequest = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateRequest.capture(), any());
+        Map<String, Object> updatedFields = updateRequest.getValue().doc().sourceAsMap();
+        assertEquals(2, updatedFields.get(MLModel.TOTAL_CHUNKS_FIELD));
+        assertEquals(modelContentHashValue, updatedFields.get(MLModel.MODEL_CONTENT_HASH_VALUE_FIELD));
+        verify(client, never()).execute(eq(DeleteByQueryAction.INSTANCE), any());
+    }
+
+    public void testRegisterMLModel_StreamModelChunks_HashMismatch() {
+        doNothing().when(mlTaskManager).checkLimitAndAddRunningTask(any(), any());
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(null);
+        when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
+        mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
+        mock_client_index(client, modelId);
+        setUpMock_DownloadModelFile(2, 1000L);
+
+        MLRegisterModelInput changedModelInput = registerModelInput
+            .toBuilder()
+            .hashValue("0".repeat(64))
+            .doesVersionCreateModelGroup(true)
+            .build();
+        modelManager.registerMLModel(changedModelInput, mlTask);
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
+        verify(client, never()).update(any(UpdateRequest.class), any());
+        ArgumentCaptor<DeleteByQueryRequest> deleteChunksRequest = ArgumentCaptor.forClass(DeleteByQueryRequest.class);
+        verify(client).execute(eq(DeleteByQueryAction.INSTANCE), deleteChunksRequest.capture());
+        assertArrayEquals(new String[] { ML_MODEL_INDEX, ML_MODEL_CHUNK_INDEX }, deleteChunksRequest.getValue().indices());
     }
 
     public void testRegisterMLModel_RegisterPreBuildModel() throws PrivilegedActionException, IOException {
@@ -401,16 +464,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             indexResponseActionListener.onResponse(indexResponse);
             return null;
         }).when(client).index(any(), any());
-        String[] newChunks = createTempChunkFiles();
-        doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(7);
-            Map<String, Object> result = new HashMap<>();
-            result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(newChunks[0], newChunks[1]));
-            result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
-            listener.onResponse(result);
-            return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        setUpMock_DownloadModelFile(2, modelContentSize);
         MLTask pretrainedTask = MLTask
             .builder()
             .taskId("pretrained")
@@ -479,13 +533,12 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
-        String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 1000L);
+        setUpMock_DownloadModelFile(2, 1000L);
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
     }
 
     @Ignore
@@ -495,15 +548,14 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
-        String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 1000L);
+        setUpMock_DownloadModelFile(2, 1000L);
         mock_client_update(client);
 
         MLRegisterModelInput mlRegisterModelInput = registerModelInput.toBuilder().deployModel(true).build();
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
         verify(client).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -514,15 +566,14 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
-        String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 1000L);
+        setUpMock_DownloadModelFile(2, 1000L);
         mock_client_update_failure(client);
 
         MLRegisterModelInput mlRegisterModelInput = registerModelInput.toBuilder().deployModel(true).build();
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
         verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -532,13 +583,12 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
-        String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 10 * 1024 * 1024 * 1024L);
+        setUpMock_DownloadModelFileFailure(new MLException("Model file size exceeds the limit of " + MODEL_FILE_SIZE_LIMIT + " bytes"));
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(1)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelChunkStreamer).streamModel(eq(modelId), any(), eq(url), any(), eq(MODEL_FILE_SIZE_LIMIT), any());
     }
 
     public void testRegisterModel_ClientFailedToGetThreadPool() {
@@ -701,8 +751,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         mock_client_ThreadContext(client, threadPool, threadContext);
         mock_threadpool(threadPool, taskExecutorService);
         setUpMock_GetModel(model);
-        setUpMock_GetModel(modelChunk0);
-        setUpMock_GetModel(modelChunk0);
+        setUpMock_GetChunk(0, modelChunk0);
+        setUpMock_GetChunk(1, modelChunk0);
         modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
         assertFalse(modelManager.isModelRunningOnNode(modelId));
         ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
@@ -766,6 +816,58 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             );
     }
 
+    public void testDeployModel_RetrieveModelFromPeer() {
+        ActionListener<String> listener = setUpMock_DeployModelFromPeer();
+        doAnswer(invocation -> {
+            ActionListener<byte[]> chunkListener = invocation.getArgument(3);
+            chunkListener.onResponse("test chunk1test chunk2".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(modelArtifactService).fetchChunk(eq("node2"), any(), eq(0), any());
+
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+
+        verify(modelArtifactService).fetchChunk(eq("node2"), any(), eq(0), any());
+        verify(modelChunkStore, never()).getChunk(any(), anyInt(), any());
+        verify(modelArtifactService).retainArtifact(any(), eq(modelContentHashValue), any());
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+    }
+
+    public void testDeployModel_RetrieveModelFromPeerFailed_FallBackToIndex() {
+        ActionListener<String> listener = setUpMock_DeployModelFromPeer();
+        doAnswer(invocation -> {
+            ActionListener<byte[]> chunkListener = invocation.getArgument(3);
+            chunkListener.onFailure(new RuntimeException("node left"));
+            return null;
+        }).when(modelArtifactService).fetchChunk(any(), any(), anyInt(), any());
+
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+
+        verify(modelChunkStore, times(2)).getChunk(eq(modelId), anyInt(), any());
+        verify(modelArtifactService).retainArtifact(any(), eq(modelContentHashValue), any());
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("Failed to deploy model " + modelId, exception.getValue().getMessage());
+    }
+
+    private ActionListener<String> setUpMock_DeployModelFromPeer() {
+        model = model.toBuilder().modelState(MLModelState.DEPLOYING).build();
+        mlTask.setWorkerNodes(List.of("node1", "node2"));
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModelChunks(model);
+        doAnswer(invocation -> {
+            ActionListener<String> peerListener = invocation.getArgument(1);
+            peerListener.onResponse("node2");
+            return null;
+        }).when(modelArtifactService).findPeer(any(), any());
+        return mock(ActionListener.class);
+    }
+
     public void testDeployModel_ModelAlreadyDeployed() {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
         ActionListener<String> listener = mock(ActionListener.class);
@@ -849,6 +951,30 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("undeployed", undeployModelStatus.get(modelId));
     }
 
+    public void testUndeployModel_RemoveConnectorMetrics() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.REMOTE);
+        when(modelCacheHelper.getConnectorMetricsKey(modelId)).thenReturn("connectorId");
+        when(modelCacheHelper.isConnectorMetricsKeyInUse("connectorId")).thenReturn(false);
+        mlStats.getConnectorMetricsRegistry().getOrCreate("connectorId", "predict");
+
+        modelManager.undeployModel(new String[] { modelId });
+
+        assertNull(mlStats.getConnectorMetricsRegistry().getConnectorMetrics("connectorId"));
+    }
+
+    public void testUndeployModel_KeepSharedConnectorMetrics() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.REMOTE);
+        when(modelCacheHelper.getConnectorMetricsKey(modelId)).thenReturn("connectorId");
+        when(modelCacheHelper.isConnectorMetricsKeyInUse("connectorId")).thenReturn(true);
+        mlStats.getConnectorMetricsRegistry().getOrCreate("connectorId", "predict");
+
+        modelManager.undeployModel(new String[] { modelId });
+
+        assertNotNull(mlStats.getConnectorMetricsRegistry().getConnectorMetrics("connectorId"));
+    }
+
     public void testUpdateModel_NullUpdatedFields() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         modelManager.updateModel(modelId, null, listener);
@@ -1007,67 +1133,53 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     }
 
     private void setUpMock_GetModelChunks(MLModel model) {
-        doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk0);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk1);
-            return null;
-        }).when(modelManager).getModel(any(), any());
+        setUpMock_GetModel(model);
+        setUpMock_GetChunk(0, modelChunk0);
+        setUpMock_GetChunk(1, modelChunk1);
     }
 
     private void setUpMock_GetModelMeta_FailedToGetFirstChunk(MLModel model) {
-        doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onFailure(new RuntimeException("Failed to get model"));
-            return null;
-        }).when(modelManager).getModel(any(), any());
+        setUpMock_GetModel(model);
+        setUpMock_GetChunkFailure(0);
+        setUpMock_GetChunk(1, modelChunk1);
     }
 
     private void setUpMock_GetModelMeta_FailedToGetLastChunk(MLModel model) {
+        setUpMock_GetModel(model);
+        setUpMock_GetChunk(0, modelChunk0);
+        setUpMock_GetChunkFailure(1);
+    }
+
+    private void setUpMock_GetChunk(int chunkNumber, MLModel chunk) {
         doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(model);
+            ActionListener<byte[]> listener = invocation.getArgument(2);
+            listener.onResponse(Base64.getDecoder().decode(chunk.getContent()));
             return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
-            listener.onResponse(modelChunk0);
-            return null;
-        }).doAnswer(invocation -> {
-            ActionListener<MLModel> listener = invocation.getArgument(1);
+        }).when(modelChunkStore).getChunk(any(), eq(chunkNumber), any());
+    }
+
+    private void setUpMock_GetChunkFailure(int chunkNumber) {
+        doAnswer(invocation -> {
+            ActionListener<byte[]> listener = invocation.getArgument(2);
             listener.onFailure(new RuntimeException("Failed to get model"));
             return null;
-        }).when(modelManager).getModel(any(), any());
+        }).when(modelChunkStore).getChunk(any(), eq(chunkNumber), any());
     }
 
-    private void setUpMock_DownloadModelFileFailure() {
+    private void setUpMock_DownloadModelFileFailure(Exception e) {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
-            listener.onFailure(new RuntimeException("downloadAndSplit failure"));
+            ActionListener<MLModelChunkStreamer.StreamedModel> listener = invocation.getArgument(5);
+            listener.onFailure(e);
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelChunkStreamer).streamModel(any(), any(), any(), any(), anyLong(), any());
     }
 
-    private void setUpMock_DownloadModelFile(String[] chunks, Long modelContentSize) {
+    private void setUpMock_DownloadModelFile(int totalChunks, Long modelContentSize) {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
-            Map<String, Object> result = new HashMap<>();
-            result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(chunks[0], chunks[1]));
-            result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
-            listener.onResponse(result);
+            ActionListener<MLModelChunkStreamer.StreamedModel> listener = invocation.getArgument(5);
+            listener.onResponse(new MLModelChunkStreamer.StreamedModel(totalChunks, modelContentSize, modelContentHashValue));
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelChunkStreamer).streamModel(any(), any(), any(), any(), anyLong(), any());
     }
 
     @Mock
@@ -1076,15 +1188,6 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     @Mock
     private UpdateResponse updateResponse;
 
-    private String[] createTempChunkFiles() throws IOException {
-        String tmpFolder = randomAlphaOfLength(10);
-        String newChunk0 = chunk0.substring(0, chunk0.length() - 2) + "/" + tmpFolder + "/0";
-        String newChunk1 = chunk1.substring(0, chunk1.length() - 2) + "/" + tmpFolder + "/1";
-        copyFile(chunk0, newChunk0);
-        copyFile(chunk1, newChunk1);
-        return new String[] { newChunk0, newChunk1 };
-    }
-
     public void testRegisterModelMeta() {
         setupForModelMeta();
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
@@ -1176,6 +1279,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             .modelGroupId("modelGroupId")
             .modelFormat(modelFormat)
             .functionName(FunctionName.SPARSE_ENCODING)
+            .hashValue(modelContentHashValue)
             .isHidden(true)
             .build();
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static java.util.Collections.emptyMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_MODEL_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.Set;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictModelCacheTests extends OpenSearchTestCase {
+
+    private ClusterService clusterService;
+    private ClusterSettings clusterSettings;
+    private MLPredictModelCache cache;
+    private MLPredictModelCache.CachedModel cachedModel;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.builder().put(ML_COMMONS_PREDICT_MODEL_CACHE_SIZE.getKey(), 2).build();
+        clusterService = mock(ClusterService.class);
+        clusterSettings = clusterSetting(settings, ML_COMMONS_PREDICT_MODEL_CACHE_SIZE);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        cache = new MLPredictModelCache(clusterService, settings);
+        cachedModel = new MLPredictModelCache.CachedModel(mock(Predictable.class), null);
+    }
+
+    public void testIsCacheable() {
+        assertTrue(cache.isCacheable(FunctionName.KMEANS));
+        assertTrue(cache.isCacheable(FunctionName.LINEAR_REGRESSION));
+        assertFalse(cache.isCacheable(FunctionName.BATCH_RCF));
+        assertFalse(cache.isCacheable(FunctionName.TEXT_EMBEDDING));
+    }
+
+    public void testGet_MatchParameters() {
+        KMeansParams params = KMeansParams.builder().centroids(2).build();
+        cache.put("model1", params, cachedModel, cache.getGeneration());
+        assertEquals(cachedModel, cache.get("model1", KMeansParams.builder().centroids(2).build()));
+        assertNull(cache.get("model1", KMeansParams.builder().centroids(3).build()));
+        assertNull(cache.get("model1", null));
+        assertNull(cache.get("model2", params));
+    }
+
+    public void testPut_EvictLeastRecentlyUsed() {
+        cache.put("model1", null, cachedModel, cache.getGeneration());
+        cache.put("model2", null, cachedModel, cache.getGeneration());
+        cache.get("model1", null);
+        cache.put("model3", null, cachedModel, cache.getGeneration());
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("model1", null));
+        assertNull(cache.get("model2", null));
+        assertNotNull(cache.get("model3", null));
+    }
+
+    public void testPut_StaleGeneration() {
+        long generation = cache.getGeneration();
+        cache.invalidate(Set.of("model1"));
+        cache.put("model1", null, cachedModel, generation);
+        assertNull(cache.get("model1", null));
+    }
+
+    public void testInvalidate() {
+        cache.put("model1", null, cachedModel, cache.getGeneration());
+        cache.put("model2", null, cachedModel, cache.getGeneration());
+        cache.invalidate(Set.of("model1"));
+        assertNull(cache.get("model1", null));
+        assertNotNull(cache.get("model2", null));
+        cache.invalidate(null);
+        assertEquals(0, cache.size());
+    }
+
+    public void testUpdateCacheSize() {
+        cache.put("model1", null, cachedModel, cache.getGeneration());
+        cache.put("model2", null, cachedModel, cache.getGeneration());
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_MODEL_CACHE_SIZE.getKey(), 0).build());
+        assertEquals(0, cache.size());
+        assertFalse(cache.isCacheable(FunctionName.KMEANS));
+    }
+
+    public void testBroadcastModelUpdate() {
+        Client client = mockClient();
+        setupNodes(Version.CURRENT);
+        cache.put("model1", null, cachedModel, cache.getGeneration());
+        cache.broadcastModelUpdate(Set.of("model1"), client);
+
+        assertNull(cache.get("model1", null));
+        ArgumentCaptor<MLSyncUpNodesRequest> argumentCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(Set.of("model1"), argumentCaptor.getValue().getSyncUpInput().getUpdatedModelIds());
+        assertTrue(argumentCaptor.getValue().getSyncUpInput().isCacheInvalidationOnly());
+    }
+
+    public void testBroadcastModelUpdate_SkipOlderNodes() {
+        Client client = mockClient();
+        setupNodes(Version.V_2_19_0);
+        cache.broadcastModelUpdate(Set.of("model1"), client);
+
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    private Client mockClient() {
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        return client;
+    }
+
+    private void setupNodes(Version version) {
+        Set<DiscoveryNodeRole> roleSet = Set.of(DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNode node = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), roleSet, version);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(node).build())
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
+    }
+}
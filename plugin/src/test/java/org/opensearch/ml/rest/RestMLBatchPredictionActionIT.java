@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.opensearch.client.Response;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupInput;
+import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
+import org.opensearch.ml.utils.TestHelper;
+
+public class RestMLBatchPredictionActionIT extends MLCommonsRestTestCase {
+    private static final String SOURCE_INDEX = "batch_predict_source";
+    private static final String TARGET_INDEX = "batch_predict_target";
+    private static final int DOCS = 25;
+
+    private String modelId;
+
+    @Before
+    public void setup() throws IOException, InterruptedException {
+        // Skip test if running on Mac OS, https://github.com/opensearch-project/ml-commons/issues/844
+        Assume.assumeFalse(System.getProperty("os.name").startsWith("Mac OS X"));
+        MLRegisterModelGroupInput mlRegisterModelGroupInput = MLRegisterModelGroupInput
+            .builder()
+            .name("batchPredictGroup")
+            .description("This is test Group")
+            .build();
+        String[] modelGroupId = new String[1];
+        registerModelGroup(client(), TestHelper.toJsonString(mlRegisterModelGroupInput), registerModelGroupResult -> {
+            modelGroupId[0] = (String) registerModelGroupResult.get("model_group_id");
+        });
+        MLRegisterModelInput registerModelInput = createRegisterModelInput(modelGroupId[0]);
+        String taskId = registerModel(TestHelper.toJsonString(registerModelInput));
+        waitForTask(taskId, MLTaskState.COMPLETED);
+        getTask(client(), taskId, response -> modelId = (String) response.get(MODEL_ID_FIELD));
+        waitForTask(deployModel(modelId), MLTaskState.COMPLETED);
+        ingestSourceDocs();
+    }
+
+    public void testBatchPredict_Slices() throws IOException, InterruptedException {
+        String input = "{\"source_index\":\""
+            + SOURCE_INDEX
+            + "\",\"source_field\":\"text\",\"target_index\":\""
+            + TARGET_INDEX
+            + "\",\"target_field\":\"embedding\",\"batch_size\":4,\"slices\":3}";
+        Response response = TestHelper
+            .makeRequest(client(), "POST", "/_plugins/_ml/models/" + modelId + "/_batch_predict", null, input, null);
+        assertEquals(RestStatus.OK, TestHelper.restStatus(response));
+        Map result = gson.fromJson(TestHelper.httpEntityToString(response.getEntity()), Map.class);
+        String taskId = (String) result.get("task_id");
+        assertNotNull(taskId);
+
+        waitForTask(taskId, MLTaskState.COMPLETED);
+        getTask(client(), taskId, task -> {
+            Map batchJob = (Map) task.get("batch_job");
+            assertEquals(DOCS, ((Number) batchJob.get("processed_docs")).intValue());
+            assertEquals(0, ((Number) batchJob.get("failed_docs")).intValue());
+            Map slices = (Map) batchJob.get("slices");
+            assertEquals(3, slices.size());
+            long total = 0;
+            for (Object slice : slices.values()) {
+                assertEquals(Boolean.TRUE, ((Map) slice).get("done"));
+                total += ((Number) ((Map) slice).get("total_docs")).longValue();
+            }
+            assertEquals(DOCS, total);
+        });
+
+        TestHelper.makeRequest(client(), "POST", TARGET_INDEX + "/_refresh", null, "", null);
+        Response searchResponse = TestHelper
+            .makeRequest(client(), "GET", TARGET_INDEX + "/_search", null, "{\"size\":" + (DOCS + 1) + "}", null);
+        Map searchResult = gson.fromJson(TestHelper.httpEntityToString(searchResponse.getEntity()), Map.class);
+        List<Map> hits = (List<Map>) ((Map) searchResult.get("hits")).get("hits");
+        assertEquals(DOCS, hits.size());
+        for (Map hit : hits) {
+            List embedding = (List) ((Map) hit.get("_source")).get("embedding");
+            assertEquals(768, embedding.size());
+        }
+    }
+
+    private void ingestSourceDocs() throws IOException {
+        String settings = "{\"settings\":{\"index\":{\"number_of_shards\":2,\"number_of_replicas\":0}}}";
+        TestHelper.makeRequest(client(), "PUT", SOURCE_INDEX, null, settings, null);
+        StringBuilder bulk = new StringBuilder();
+        for (int i = 0; i < DOCS; i++) {
+            bulk.append("{\"index\":{\"_index\":\"").append(SOURCE_INDEX).append("\",\"_id\":\"").append(i).append("\"}}\n");
+            bulk.append("{\"text\":\"this is test document ").append(i).append("\"}\n");
+        }
+        Response bulkResponse = TestHelper
+            .makeRequest(client(), "POST", "_bulk?refresh=true", null, TestHelper.toHttpEntity(bulk.toString()), null);
+        assertEquals(RestStatus.OK, TestHelper.restStatus(bulkResponse));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TASK_ID;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.task.MLTaskGetAction;
+import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBatchPredictionActionTests extends OpenSearchTestCase {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final String BATCH_INPUT = "{\"source_index\":\"source\",\"source_field\":\"text\","
+        + "\"target_index\":\"target\",\"target_field\":\"embedding\",\"slices\":2}";
+
+    private RestMLBatchPredictionAction restMLBatchPredictionAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+    @Mock
+    MLModelManager modelManager;
+    @Mock
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    @Before
+    public void setup() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        when(channel.request()).thenReturn(new FakeRestRequest());
+        when(channel.newErrorBuilder()).thenAnswer(invocation -> XContentFactory.jsonBuilder());
+        when(modelManager.getOptionalModelFunctionName(anyString())).thenReturn(Optional.empty());
+        when(modelManager.getOptionalModelFunctionName("local_model")).thenReturn(Optional.of(FunctionName.TEXT_EMBEDDING));
+        when(modelManager.getOptionalModelFunctionName("remote_model")).thenReturn(Optional.of(FunctionName.REMOTE));
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
+        restMLBatchPredictionAction = new RestMLBatchPredictionAction(modelManager, mlFeatureEnabledSetting);
+
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+
+        doAnswer(invocation -> null).when(client).execute(eq(MLBatchPredictionAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_batch_prediction_action", restMLBatchPredictionAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBatchPredictionAction.routes();
+        assertEquals(2, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_batch_predict", routes.get(0).getPath());
+        assertEquals("/_plugins/_ml/tasks/{task_id}/_resume", routes.get(1).getPath());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        restMLBatchPredictionAction.handleRequest(getBatchPredictRequest("local_model"), channel, client);
+
+        ArgumentCaptor<MLBatchPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        verify(modelManager, never()).getModel(anyString(), any());
+        assertEquals("local_model", argumentCaptor.getValue().getMlBatchPredictionInput().getModelId());
+        assertEquals(2, argumentCaptor.getValue().getMlBatchPredictionInput().getSlices());
+    }
+
+    public void testPrepareRequest_EmptyBody() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage("Batch prediction request has empty body");
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_ID, "local_model");
+        RestRequest request = new FakeRestRequest.Builder(getXContentRegistry()).withParams(params).build();
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+    }
+
+    public void testPrepareRequest_RemoteInferenceDisabled() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        restMLBatchPredictionAction.handleRequest(getBatchPredictRequest("remote_model"), channel, client);
+    }
+
+    public void testPrepareRequest_ReadModelAlgorithm_RemoteInferenceDisabled() throws Exception {
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(MLModel.builder().algorithm(FunctionName.REMOTE).build());
+            return null;
+        }).when(modelManager).getModel(eq("other_model"), any());
+
+        restMLBatchPredictionAction.handleRequest(getBatchPredictRequest("other_model"), channel, client);
+
+        verify(client, never()).execute(eq(MLBatchPredictionAction.INSTANCE), any(), any());
+        verifyErrorResponse(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+    }
+
+    public void testPrepareRequest_Resume() throws Exception {
+        mockGetTask(FunctionName.TEXT_EMBEDDING);
+
+        restMLBatchPredictionAction.handleRequest(getResumeRequest(), channel, client);
+
+        ArgumentCaptor<MLBatchPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("task_id", argumentCaptor.getValue().getTaskId());
+        assertNull(argumentCaptor.getValue().getMlBatchPredictionInput());
+    }
+
+    public void testPrepareRequest_Resume_RemoteInferenceDisabled() throws Exception {
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        mockGetTask(FunctionName.REMOTE);
+
+        restMLBatchPredictionAction.handleRequest(getResumeRequest(), channel, client);
+
+        verify(client, never()).execute(eq(MLBatchPredictionAction.INSTANCE), any(), any());
+        verifyErrorResponse(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+    }
+
+    private void verifyErrorResponse(String message) {
+        ArgumentCaptor<RestResponse> responseCaptor = ArgumentCaptor.forClass(RestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertTrue(responseCaptor.getValue().content().utf8ToString().contains(message));
+    }
+
+    private void mockGetTask(FunctionName functionName) {
+        MLTask mlTask = MLTask.builder().taskId("task_id").functionName(functionName).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskGetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLTaskGetResponse(mlTask));
+            return null;
+        }).when(client).execute(eq(MLTaskGetAction.INSTANCE), any(), any());
+    }
+
+    private RestRequest getBatchPredictRequest(String modelId) {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_ID, modelId);
+        return new FakeRestRequest.Builder(getXContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(BATCH_INPUT), XContentType.JSON)
+            .build();
+    }
+
+    private RestRequest getResumeRequest() {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_TASK_ID, "task_id");
+        return new FakeRestRequest.Builder(getXContentRegistry()).withParams(params).build();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
+import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBulkPredictionActionTests extends OpenSearchTestCase {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final String KMEANS_INPUT = "{\"parameters\":{\"centroids\":3},\"input_query\":{\"size\":10000},"
+        + "\"input_index\":[\"iris_data\"]}";
+
+    private RestMLBulkPredictionAction restMLBulkPredictionAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+    @Mock
+    MLModelManager modelManager;
+    @Mock
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(modelManager.getOptionalModelFunctionName(anyString())).thenReturn(Optional.empty());
+        when(modelManager.getOptionalModelFunctionName("model_1")).thenReturn(Optional.of(FunctionName.KMEANS));
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
+        restMLBulkPredictionAction = new RestMLBulkPredictionAction(modelManager, mlFeatureEnabledSetting);
+
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+
+        doAnswer(invocation -> null).when(client).execute(eq(MLBulkPredictionAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_bulk_prediction_action", restMLBulkPredictionAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBulkPredictionAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/_bulk_predict", routes.get(0).getPath());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        RestRequest request = getRestRequest("{\"requests\":[{\"model_id\":\"model_1\",\"input\":" + KMEANS_INPUT + "},"
+            + "{\"model_id\":\"model_2\",\"algorithm\":\"kmeans\",\"input\":" + KMEANS_INPUT + "}]}");
+        restMLBulkPredictionAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<MLBulkPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBulkPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBulkPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        verify(modelManager, never()).getModel(anyString(), any());
+        MLBulkPredictionRequest bulkRequest = argumentCaptor.getValue();
+        assertTrue(bulkRequest.isDispatchTask());
+        assertEquals(2, bulkRequest.getRequests().size());
+        assertEquals("model_1", bulkRequest.getRequests().get(0).getModelId());
+        assertEquals("model_2", bulkRequest.getRequests().get(1).getModelId());
+        verifyParsedKMeansMLInput(bulkRequest.getRequests().get(0).getMlInput());
+        verifyParsedKMeansMLInput(bulkRequest.getRequests().get(1).getMlInput());
+    }
+
+    public void testPrepareRequest_ReadModelAlgorithm() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(MLModel.builder().algorithm(FunctionName.KMEANS).build());
+            return null;
+        }).when(modelManager).getModel(eq("model_3"), any());
+
+        RestRequest request = getRestRequest("{\"requests\":[{\"model_id\":\"model_3\",\"input\":" + KMEANS_INPUT + "}]}");
+        restMLBulkPredictionAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<MLBulkPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBulkPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBulkPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        verifyParsedKMeansMLInput(argumentCaptor.getValue().getRequests().get(0).getMlInput());
+    }
+
+    public void testPrepareRequest_EmptyRequests() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Bulk prediction request must have at least one request");
+        restMLBulkPredictionAction.handleRequest(getRestRequest("{\"requests\":[]}"), channel, client);
+    }
+
+    public void testPrepareRequest_MissingInput() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Bulk prediction request of model model_1 must have input");
+        restMLBulkPredictionAction.handleRequest(getRestRequest("{\"requests\":[{\"model_id\":\"model_1\"}]}"), channel, client);
+    }
+
+    public void testPrepareRequest_RemoteInferenceDisabled() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        RestRequest request = getRestRequest(
+            "{\"requests\":[{\"model_id\":\"model_1\",\"algorithm\":\"remote\",\"input\":{\"parameters\":{}}}]}"
+        );
+        restMLBulkPredictionAction.handleRequest(request, channel, client);
+    }
+
+    private RestRequest getRestRequest(String content) throws IOException {
+        return new FakeRestRequest.Builder(getXContentRegistry()).withContent(new BytesArray(content), XContentType.JSON).build();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionAction;
+import org.opensearch.ml.common.transport.upload_chunk.MLModelUploadSessionRequest;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLModelUploadSessionActionTests extends OpenSearchTestCase {
+
+    private RestMLModelUploadSessionAction restUploadSessionAction;
+    private NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+    @Mock
+    private ClusterService clusterService;
+
+    private Settings settings;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        settings = Settings.builder().put(ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD.getKey(), true).build();
+        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        restUploadSessionAction = new RestMLModelUploadSessionAction(clusterService, settings);
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        doAnswer(invocation -> null).when(client).execute(eq(MLModelUploadSessionAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_model_upload_session_action", restUploadSessionAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restUploadSessionAction.routes();
+        assertEquals(3, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/upload_session", routes.get(0).getPath());
+        assertEquals("/_plugins/_ml/models/{model_id}/upload_session/{session_id}/chunk/{chunk_number}", routes.get(1).getPath());
+        assertEquals("/_plugins/_ml/models/{model_id}/upload_session/{session_id}/_commit", routes.get(2).getPath());
+    }
+
+    public void testOpenSessionRequest() throws Exception {
+        MLModelUploadSessionRequest request = executeRequest(getRestRequest(null, null));
+        assertEquals(MLModelUploadSessionRequest.Operation.OPEN, request.getOperation());
+        assertEquals("modelId", request.getModelId());
+        assertNull(request.getSessionId());
+    }
+
+    public void testUploadChunkRequest() throws Exception {
+        MLModelUploadSessionRequest request = executeRequest(getRestRequest("node1.session", "2"));
+        assertEquals(MLModelUploadSessionRequest.Operation.UPLOAD_CHUNK, request.getOperation());
+        assertEquals("node1.session", request.getSessionId());
+        assertEquals(Integer.valueOf(2), request.getChunkNumber());
+        assertEquals(new BytesArray("12345678"), request.getContent());
+    }
+
+    public void testCommitRequest() throws Exception {
+        MLModelUploadSessionRequest request = executeRequest(getRestRequest("node1.session", null));
+        assertEquals(MLModelUploadSessionRequest.Operation.COMMIT, request.getOperation());
+        assertEquals("node1.session", request.getSessionId());
+        assertNull(request.getContent());
+    }
+
+    public void testUploadSessionNotAllowed() throws Exception {
+        settings = Settings.builder().put(ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD.getKey(), false).build();
+        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        restUploadSessionAction = new RestMLModelUploadSessionAction(clusterService, settings);
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException
+            .expectMessage(
+                "To upload custom model from local file, user needs to enable allow_registering_model_via_local_file settings. Otherwise please use opensearch pre-trained models"
+            );
+        restUploadSessionAction.handleRequest(getRestRequest(null, null), channel, client);
+    }
+
+    private MLModelUploadSessionRequest executeRequest(RestRequest request) throws Exception {
+        restUploadSessionAction.handleRequest(request, channel, client);
+        ArgumentCaptor<MLModelUploadSessionRequest> argumentCaptor = ArgumentCaptor.forClass(MLModelUploadSessionRequest.class);
+        verify(client, times(1)).execute(eq(MLModelUploadSessionAction.INSTANCE), argumentCaptor.capture(), any());
+        return argumentCaptor.getValue();
+    }
+
+    private RestRequest getRestRequest(String sessionId, String chunkNumber) {
+        Map<String, String> params = new HashMap<>();
+        params.put("model_id", "modelId");
+        if (sessionId != null) {
+            params.put("session_id", sessionId);
+        }
+        if (chunkNumber != null) {
+            params.put("chunk_number", chunkNumber);
+        }
+        FakeRestRequest.Builder builder = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY)
+            .withMethod(RestRequest.Method.POST)
+            .withParams(params);
+        if (chunkNumber != null) {
+            builder.withContent(new BytesArray("12345678"), null);
+        }
+        return builder.build();
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.TestHelper.getKMeansRestRequest;
 import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
 
@@ -26,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.ml.common.FunctionName;
@@ -131,6 +133,15 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
         verifyParsedKMeansMLInput(mlInput);
     }
 
+    public void testPrepareRequest_Timeout() throws Exception {
+        RestRequest request = getRestRequest_PredictModel();
+        request.params().put(PARAMETER_TIMEOUT, "2s");
+        restMLPredictionAction.handleRequest(request, channel, client);
+        ArgumentCaptor<MLPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals(TimeValue.timeValueSeconds(2), argumentCaptor.getValue().getTimeout());
+    }
+
     @Ignore
     public void testPrepareRequest_EmptyAlgorithm() throws Exception {
         MLModel model = MLModel.builder().algorithm(FunctionName.BATCH_RCF).build();
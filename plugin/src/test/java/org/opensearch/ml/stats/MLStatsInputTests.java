@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.util.EnumSet;
 
 import org.junit.Before;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
@@ -51,6 +53,25 @@ public class MLStatsInputTests extends OpenSearchTestCase {
         verifyParsedMLStatsInput(parsedMLStatsInput);
     }
 
+    public void testSerializationDeserialization_OlderVersion() throws IOException {
+        mlStatsInput = MLStatsInput
+            .builder()
+            .targetStatLevels(EnumSet.allOf(MLStatLevel.class))
+            .models(ImmutableSet.of(modelId))
+            .connectors(ImmutableSet.of("connector_id"))
+            .build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_19_0);
+        mlStatsInput.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_19_0);
+        MLStatsInput parsedMLStatsInput = new MLStatsInput(input);
+        assertFalse(parsedMLStatsInput.getTargetStatLevels().contains(MLStatLevel.CONNECTOR));
+        assertTrue(parsedMLStatsInput.getTargetStatLevels().contains(MLStatLevel.MODEL));
+        assertTrue(parsedMLStatsInput.getConnectors().isEmpty());
+        assertEquals(-1, input.read());
+    }
+
     public void testParseMLStatsInput() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         mlStatsInput.toXContent(builder, EMPTY_PARAMS);
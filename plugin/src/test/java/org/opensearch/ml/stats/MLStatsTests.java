@@ -163,4 +163,18 @@ public class MLStatsTests extends OpenSearchTestCase {
         String[] allModels = stats.getAllModels();
         assertArrayEquals(new String[] { modelID }, allModels);
     }
+
+    public void testRemoveModelStats() {
+        MLStats stats = new MLStats(statsMap);
+        stats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+        stats.createModelCounterStatIfAbsent("other_model", ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+
+        stats.removeModelStats(modelID);
+        assertNull(stats.getModelStats(modelID));
+        assertArrayEquals(new String[] { "other_model" }, stats.getAllModels());
+
+        MLStat<?> statCounter = stats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT);
+        assertEquals(0L, statCounter.getValue());
+        assertSame(statCounter, stats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT));
+    }
 }
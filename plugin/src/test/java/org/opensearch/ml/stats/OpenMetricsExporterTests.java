@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.metrics.ConnectorMetrics;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class OpenMetricsExporterTests extends OpenSearchTestCase {
+
+    private MLStats mlStats;
+    private OpenMetricsExporter exporter;
+
+    @Before
+    public void setup() {
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLClusterLevelStat.ML_MODEL_COUNT, new MLStat<>(true, new CounterSupplier()));
+        mlStats = new MLStats(stats);
+        exporter = new OpenMetricsExporter(mlStats);
+    }
+
+    public void testExport_NodeStats() {
+        mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
+        mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
+        mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
+        String metrics = exporter.export();
+        assertTrue(metrics.contains("# TYPE ml_request_count counter\nml_request_count_total 2\n"));
+        assertTrue(metrics.contains("# TYPE ml_deployed_model_count gauge\nml_deployed_model_count 1\n"));
+        assertFalse(metrics.contains("ml_model_count"));
+        assertTrue(metrics.endsWith("# EOF\n"));
+    }
+
+    public void testExport_ActionStats() {
+        mlStats.createCounterStatIfAbsent(FunctionName.KMEANS, ActionName.TRAIN, ML_ACTION_REQUEST_COUNT).increment();
+        mlStats.createModelCounterStatIfAbsent("model\"1", ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+        String metrics = exporter.export();
+        assertTrue(metrics.contains("ml_algorithm_request_count_total{algorithm=\"kmeans\",action=\"train\"} 1\n"));
+        assertTrue(metrics.contains("ml_model_request_count_total{model_id=\"model\\\"1\",action=\"predict\"} 1\n"));
+    }
+
+    public void testExport_ConnectorStats() {
+        ConnectorMetrics connectorMetrics = mlStats.getConnectorMetricsRegistry().getOrCreate("connector1", "predict");
+        connectorMetrics.recordRequest();
+        connectorMetrics.recordError();
+        connectorMetrics.recordStage(ConnectorMetrics.Stage.REMOTE_CALL, 2_000_000L);
+        String metrics = exporter.export();
+        assertTrue(metrics.contains("ml_connector_request_total{connector_id=\"connector1\",action=\"predict\"} 1\n"));
+        assertTrue(metrics.contains("ml_connector_error_total{connector_id=\"connector1\",action=\"predict\"} 1\n"));
+        assertTrue(metrics.contains("ml_connector_throttled_total{connector_id=\"connector1\",action=\"predict\"} 0\n"));
+        String labels = "{connector_id=\"connector1\",action=\"predict\",stage=\"remote_call\"";
+        assertTrue(metrics.contains("ml_connector_latency_milliseconds" + labels + ",quantile=\"0.5\"} 2.0\n"));
+        assertTrue(metrics.contains("ml_connector_latency_milliseconds_count" + labels + "} 1\n"));
+        assertFalse(metrics.contains("stage=\"signing\""));
+    }
+}
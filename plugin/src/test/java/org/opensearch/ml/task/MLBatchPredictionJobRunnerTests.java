@@ -0,0 +1,597 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.BATCH_JOB_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLBatchPredictionJobRunnerTests extends OpenSearchTestCase {
+
+    @Mock
+    Client client;
+    @Mock
+    ThreadPool threadPool;
+    @Mock
+    ExecutorService executorService;
+    @Mock
+    ClusterService clusterService;
+    @Mock
+    MLTaskManager mlTaskManager;
+    @Mock
+    MLModelManager mlModelManager;
+    @Mock
+    MLCircuitBreakerService mlCircuitBreakerService;
+    @Mock
+    ActionListener<MLBatchPredictionResponse> listener;
+
+    private MLBatchPredictionJobRunner runner;
+    private MLBatchPredictionInput input;
+    private List<UpdateRequest> taskUpdates;
+
+    @Before
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        DiscoveryNode localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+
+        input = MLBatchPredictionInput
+            .builder()
+            .modelId("model_id")
+            .sourceIndex("source_index")
+            .sourceField("text")
+            .targetIndex("target_index")
+            .targetField("embedding")
+            .batchSize(2)
+            .build();
+
+        MLModel mlModel = MLModel.builder().name("test").algorithm(FunctionName.TEXT_EMBEDDING).build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq("model_id"), isA(ActionListener.class));
+
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> actionListener = invocation.getArgument(1);
+            IndexResponse indexResponse = mock(IndexResponse.class);
+            when(indexResponse.getId()).thenReturn("task_id");
+            when(indexResponse.getSeqNo()).thenReturn(0L);
+            when(indexResponse.getPrimaryTerm()).thenReturn(1L);
+            actionListener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> actionListener = invocation.getArgument(1);
+            CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+            when(createPitResponse.getId()).thenReturn("pit_id");
+            actionListener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+
+        taskUpdates = new ArrayList<>();
+        doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(updateResponse(taskUpdates.size() + 10));
+            return null;
+        }).when(client).update(any(), any());
+
+        // Each slice has a page of two docs, followed by an empty page.
+        doAnswer(invocation -> {
+            SearchRequest searchRequest = invocation.getArgument(0);
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse(searchRequest.source().searchAfter() == null ? 0 : -1));
+            return null;
+        }).when(client).search(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(any(), any());
+
+        runner = new MLBatchPredictionJobRunner(
+            client,
+            threadPool,
+            clusterService,
+            mlTaskManager,
+            mlModelManager,
+            mlCircuitBreakerService,
+            xContentRegistry()
+        );
+    }
+
+    public void testStart() {
+        mockPredict();
+
+        runner.start(input, listener);
+
+        ArgumentCaptor<MLBatchPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBatchPredictionResponse.class);
+        verify(listener).onResponse(responseCaptor.capture());
+        assertEquals("task_id", responseCaptor.getValue().getTaskId());
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        assertEquals(MLTaskType.BATCH_PREDICTION, taskCaptor.getValue().getTaskType());
+        assertEquals("target_index", taskCaptor.getValue().getOutputIndex());
+
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), any());
+        assertEquals(2, bulkCaptor.getValue().requests().size());
+        UpdateRequest updateRequest = (UpdateRequest) bulkCaptor.getValue().requests().get(0);
+        assertEquals("target_index", updateRequest.index());
+        assertEquals("doc0", updateRequest.id());
+        assertTrue(updateRequest.docAsUpsert());
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals(2, ((Map<String, Object>) lastUpdate.get(BATCH_JOB_FIELD)).get(MLBatchPredictionJobRunner.PROCESSED_DOCS_FIELD));
+        verify(client).deletePits(any(), any());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testStart_TaskUpdates() {
+        mockPredict();
+
+        runner.start(input, listener);
+
+        // Start, checkpoint of the page, checkpoint of the done slice and completion.
+        assertEquals(4, taskUpdates.size());
+        // Each update is conditional on the previous one.
+        assertEquals(0, taskUpdates.get(0).ifSeqNo());
+        for (int i = 1; i < taskUpdates.size(); i++) {
+            assertEquals(i + 10, taskUpdates.get(i).ifSeqNo());
+            assertEquals(1, taskUpdates.get(i).ifPrimaryTerm());
+        }
+        for (int i = 0; i < taskUpdates.size() - 1; i++) {
+            assertEquals(WriteRequest.RefreshPolicy.NONE, taskUpdates.get(i).getRefreshPolicy());
+        }
+        UpdateRequest lastUpdate = taskUpdates.get(taskUpdates.size() - 1);
+        assertEquals(WriteRequest.RefreshPolicy.WAIT_UNTIL, lastUpdate.getRefreshPolicy());
+        Map<String, Object> batchJob = (Map<String, Object>) lastUpdate.doc().sourceAsMap().get(BATCH_JOB_FIELD);
+        Map<String, Object> slices = (Map<String, Object>) batchJob.get(MLBatchPredictionJobRunner.SLICES_FIELD);
+        assertEquals(true, ((Map<String, Object>) slices.get("0")).get(MLBatchPredictionJobRunner.DONE_FIELD));
+    }
+
+    public void testStart_CheckpointFailure() {
+        mockPredict();
+        doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(updateResponse(taskUpdates.size() + 10));
+            return null;
+        }).doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new OpenSearchStatusException("Shard not available", RestStatus.SERVICE_UNAVAILABLE));
+            return null;
+        }).doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(updateResponse(taskUpdates.size() + 10));
+            return null;
+        }).when(client).update(any(), any());
+
+        runner.start(input, listener);
+
+        // The job goes on, and the next checkpoint writes the slice of the failed one again.
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(retryCaptor.capture(), eq(TimeValue.timeValueMillis(1000)), eq(GENERAL_THREAD_POOL));
+        verify(client, times(2)).search(any(), any());
+        assertEquals(4, taskUpdates.size());
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals(2, ((Map<String, Object>) lastUpdate.get(BATCH_JOB_FIELD)).get(MLBatchPredictionJobRunner.PROCESSED_DOCS_FIELD));
+        assertFalse(runner.isRunning("task_id"));
+
+        // The scheduled retry has nothing left to write.
+        retryCaptor.getValue().run();
+        assertEquals(4, taskUpdates.size());
+    }
+
+    public void testStart_ResumedByOtherRun() {
+        mockPredict();
+        doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(updateResponse(taskUpdates.size() + 10));
+            return null;
+        }).doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(0));
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new VersionConflictEngineException(new ShardId(ML_TASK_INDEX, "_na_", 0), "task_id", "conflict"));
+            return null;
+        }).when(client).update(any(), any());
+
+        runner.start(input, listener);
+
+        // The run stops without touching the task again, as it belongs to the other run now.
+        assertEquals(2, taskUpdates.size());
+        verify(client, times(1)).search(any(), any());
+        verify(threadPool, never()).schedule(any(Runnable.class), any(), anyString());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testStart_ThrottledPredict() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        runner.start(input, listener);
+
+        verify(threadPool).schedule(any(Runnable.class), eq(TimeValue.timeValueMillis(1000)), eq(GENERAL_THREAD_POOL));
+        verify(client, never()).bulk(any(), any());
+        assertTrue(runner.isRunning("task_id"));
+    }
+
+    public void testStart_PredictFailure() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new IllegalArgumentException("Model not ready to be used: model_id"));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        runner.start(input, listener);
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.FAILED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals("Model not ready to be used: model_id", lastUpdate.get(MLTask.ERROR_FIELD));
+        verify(client, never()).bulk(any(), any());
+        // The point in time is kept for resuming the job.
+        verify(client, never()).deletePits(any(), any());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testStart_MultipleSlices() {
+        mockPredict();
+        input = input.toBuilder().slices(2).build();
+
+        runner.start(input, listener);
+
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(4)).search(searchCaptor.capture(), any());
+        List<Integer> sliceIds = new ArrayList<>();
+        for (SearchRequest searchRequest : searchCaptor.getAllValues()) {
+            SearchSourceBuilder source = searchRequest.source();
+            assertEquals("pit_id", source.pointInTimeBuilder().getId());
+            assertEquals(MLBatchPredictionJobRunner.SORT_FIELD, ((FieldSortBuilder) source.sorts().get(0)).getFieldName());
+            SliceBuilder slice = source.slice();
+            assertEquals(2, slice.getMax());
+            sliceIds.add(slice.getId());
+        }
+        assertTrue(sliceIds.contains(0));
+        assertTrue(sliceIds.contains(1));
+        verify(client, times(2)).bulk(any(), any());
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals(4, ((Map<String, Object>) lastUpdate.get(BATCH_JOB_FIELD)).get(MLBatchPredictionJobRunner.PROCESSED_DOCS_FIELD));
+        verify(client, times(1)).deletePits(any(), any());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testStart_OpenCircuitBreaker() {
+        mockPredict();
+        ThresholdCircuitBreaker circuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(circuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(circuitBreaker);
+
+        runner.start(input, listener);
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(retryCaptor.capture(), eq(TimeValue.timeValueMillis(1000)), eq(GENERAL_THREAD_POOL));
+        verify(client, never()).search(any(), any());
+        assertTrue(runner.isRunning("task_id"));
+
+        // The slice backs off again while the breaker stays open.
+        retryCaptor.getValue().run();
+        verify(threadPool).schedule(any(Runnable.class), eq(TimeValue.timeValueMillis(2000)), eq(GENERAL_THREAD_POOL));
+        verify(client, never()).search(any(), any());
+
+        // And carries on once it closes.
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(null);
+        retryCaptor.getValue().run();
+        verify(client).bulk(any(), any());
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testResume_FromCheckpoint() throws Exception {
+        mockPredict();
+        mockGetTask(MLTaskState.FAILED, "localNodeId");
+
+        runner.resume("task_id", listener);
+
+        ArgumentCaptor<MLBatchPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBatchPredictionResponse.class);
+        verify(listener).onResponse(responseCaptor.capture());
+        assertEquals(MLTaskState.RUNNING.name(), responseCaptor.getValue().getStatus());
+        // The task is claimed with its version, then the job goes on in the point in time of its checkpoints.
+        UpdateRequest claim = taskUpdates.get(0);
+        assertEquals(5, claim.ifSeqNo());
+        assertEquals(1, claim.ifPrimaryTerm());
+        verify(client, never()).createPit(any(), any());
+
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(searchCaptor.capture(), any());
+        SearchSourceBuilder sliceSearch = searchCaptor.getAllValues().get(1).source();
+        assertEquals("old_pit_id", sliceSearch.pointInTimeBuilder().getId());
+        assertArrayEquals(new Object[] { 7 }, sliceSearch.searchAfter());
+        verify(client, never()).bulk(any(), any());
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals(2, ((Map<String, Object>) lastUpdate.get(BATCH_JOB_FIELD)).get(MLBatchPredictionJobRunner.PROCESSED_DOCS_FIELD));
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testResume_ExpiredPointInTime() throws Exception {
+        mockPredict();
+        mockGetTask(MLTaskState.FAILED, "localNodeId");
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new OpenSearchStatusException("No search context found", RestStatus.NOT_FOUND));
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse(0));
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse(-1));
+            return null;
+        }).when(client).search(any(), any());
+
+        runner.resume("task_id", listener);
+
+        // The slice is restarted in a new point in time and its docs are predicted again.
+        verify(client).createPit(any(), any());
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(searchCaptor.capture(), any());
+        SearchSourceBuilder sliceSearch = searchCaptor.getAllValues().get(1).source();
+        assertEquals("pit_id", sliceSearch.pointInTimeBuilder().getId());
+        assertNull(sliceSearch.searchAfter());
+        verify(client).bulk(any(), any());
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1).doc().sourceAsMap();
+        assertEquals(MLTaskState.COMPLETED.name(), lastUpdate.get(STATE_FIELD));
+        assertEquals(2, ((Map<String, Object>) lastUpdate.get(BATCH_JOB_FIELD)).get(MLBatchPredictionJobRunner.PROCESSED_DOCS_FIELD));
+    }
+
+    public void testResume_RunningOnOtherNode() throws Exception {
+        mockGetTask(MLTaskState.RUNNING, "otherNodeId");
+        DiscoveryNode otherNode = new DiscoveryNode("otherNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(clusterService.localNode()).add(otherNode).build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test cluster")).nodes(nodes).build());
+
+        runner.resume("task_id", listener);
+
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertEquals("Batch prediction task is already running on node otherNodeId: task_id", exceptionCaptor.getValue().getMessage());
+        verify(client, never()).update(any(), any());
+        verify(client, never()).search(any(), any());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testResume_RunningOnLeftNode() throws Exception {
+        mockPredict();
+        mockGetTask(MLTaskState.RUNNING, "otherNodeId");
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(clusterService.localNode()).build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test cluster")).nodes(nodes).build());
+
+        runner.resume("task_id", listener);
+
+        verify(listener).onResponse(any());
+        Map<String, Object> claim = taskUpdates.get(0).doc().sourceAsMap();
+        assertEquals(Arrays.asList("localNodeId"), claim.get(MLTask.WORKER_NODE_FIELD));
+    }
+
+    public void testResume_ConcurrentResume() throws Exception {
+        mockGetTask(MLTaskState.FAILED, "localNodeId");
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new VersionConflictEngineException(new ShardId(ML_TASK_INDEX, "_na_", 0), "task_id", "conflict"));
+            return null;
+        }).when(client).update(any(), any());
+
+        runner.resume("task_id", listener);
+
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertEquals("Batch prediction task is already running: task_id", exceptionCaptor.getValue().getMessage());
+        verify(client, never()).search(any(), any());
+        assertFalse(runner.isRunning("task_id"));
+    }
+
+    public void testExtractOutputs_OneTensorsPerDoc() {
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(Arrays.asList(tensors(tensor(1.0f)), tensors(tensor(2.0f))))
+            .build();
+        List<Object> outputs = MLBatchPredictionJobRunner.extractOutputs(output, 2);
+        assertEquals(Arrays.asList(1.0f), outputs.get(0));
+        assertEquals(Arrays.asList(2.0f), outputs.get(1));
+    }
+
+    public void testExtractOutputs_OneTensorPerDoc() {
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(tensors(tensor(1.0f), tensor(2.0f)))).build();
+        List<Object> outputs = MLBatchPredictionJobRunner.extractOutputs(output, 2);
+        assertEquals(Arrays.asList(2.0f), outputs.get(1));
+    }
+
+    public void testExtractOutputs_SizeMismatch() {
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(tensors(tensor(1.0f)))).build();
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> MLBatchPredictionJobRunner.extractOutputs(output, 2)
+        );
+        assertEquals("Model output doesn't match the 2 documents of the batch", e.getMessage());
+    }
+
+    private void mockPredict() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            ModelTensorOutput output = ModelTensorOutput
+                .builder()
+                .mlModelOutputs(Arrays.asList(tensors(tensor(1.0f)), tensors(tensor(2.0f))))
+                .build();
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+    }
+
+    /**
+     * Mock the task of a job with one slice, checkpointed after a page of two docs in the point in time old_pit_id.
+     */
+    private void mockGetTask(MLTaskState state, String workerNode) throws Exception {
+        MLBatchPredictionJobRunner.BatchPredictionJob job = new MLBatchPredictionJobRunner.BatchPredictionJob(
+            "task_id",
+            input,
+            FunctionName.TEXT_EMBEDDING
+        );
+        job.pitId = "old_pit_id";
+        job.slices[0].searchAfter = new Object[] { 7 };
+        job.slices[0].totalDocs = 4L;
+        job.slices[0].processedDocs = 2;
+        MLTask mlTask = MLTask
+            .builder()
+            .taskId("task_id")
+            .modelId("model_id")
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .functionName(FunctionName.TEXT_EMBEDDING)
+            .state(state)
+            .workerNodes(Arrays.asList(workerNode))
+            .async(true)
+            .batchJob(job.toMap())
+            .build();
+        BytesReference source = BytesReference.bytes(mlTask.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        GetResult getResult = new GetResult(ML_TASK_INDEX, "task_id", 5, 1, 1, true, source, null, null);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(), any());
+    }
+
+    private UpdateResponse updateResponse(long seqNo) {
+        UpdateResponse updateResponse = mock(UpdateResponse.class);
+        when(updateResponse.getSeqNo()).thenReturn(seqNo);
+        when(updateResponse.getPrimaryTerm()).thenReturn(1L);
+        return updateResponse;
+    }
+
+    private ModelTensors tensors(ModelTensor... tensors) {
+        return ModelTensors.builder().mlModelTensors(Arrays.asList(tensors)).build();
+    }
+
+    private ModelTensor tensor(float value) {
+        return ModelTensor.builder().name("sentence_embedding").data(new Number[] { value }).build();
+    }
+
+    /**
+     * @param page page of two docs, or -1 for an empty page
+     */
+    private SearchResponse searchResponse(int page) throws Exception {
+        SearchHit[] hits = new SearchHit[page < 0 ? 0 : 2];
+        for (int i = 0; i < hits.length; i++) {
+            String id = "doc" + (page * 2 + i);
+            hits[i] = new SearchHit(i, id, null, null)
+                .sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().startObject().field("text", "text " + id).endObject()));
+            hits[i].sortValues(new Object[] { id }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(2, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        return searchResponse;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictNodeRouterTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "test_model_id";
+    private final String[] nodeIds = new String[] { "node1", "node2" };
+    private MLPredictNodeRouter router;
+
+    @Before
+    public void setup() {
+        Random random = new Random(42);
+        router = new MLPredictNodeRouter(() -> random);
+    }
+
+    public void testSelectNode_SingleNode() {
+        assertEquals("node1", router.selectNode(MODEL_ID, new String[] { "node1" }, "node2"));
+    }
+
+    public void testSelectNode_PreferLocalNode() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("node2", router.selectNode(MODEL_ID, nodeIds, "node2"));
+        }
+    }
+
+    public void testSelectNode_LocalNodeNotWorker() {
+        String nodeId = router.selectNode(MODEL_ID, nodeIds, "node3");
+        assertTrue("node1".equals(nodeId) || "node2".equals(nodeId));
+    }
+
+    public void testSelectNode_AvoidBusyNode() {
+        for (int i = 0; i < 5; i++) {
+            router.track(MODEL_ID, "node1", mock(ActionListener.class));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("node2", router.selectNode(MODEL_ID, nodeIds, null));
+            assertEquals("node2", router.selectNode(MODEL_ID, nodeIds, "node1"));
+        }
+    }
+
+    public void testSelectNode_AvoidHungUnsampledNode() {
+        String[] workerNodes = new String[] { "node1", "node2", "node3" };
+        router.track(MODEL_ID, "node1", mock(ActionListener.class)).onResponse("response");
+        router.track(MODEL_ID, "node2", mock(ActionListener.class)).onResponse("response");
+        // node3 never completes a request, so it has no latency sample.
+        for (int i = 0; i < 5; i++) {
+            router.track(MODEL_ID, "node3", mock(ActionListener.class));
+        }
+        for (int i = 0; i < 20; i++) {
+            assertNotEquals("node3", router.selectNode(MODEL_ID, workerNodes, null));
+        }
+    }
+
+    public void testSelectNode_ProbeIdleUnsampledNode() {
+        String[] workerNodes = new String[] { "node1", "node2" };
+        router.track(MODEL_ID, "node1", mock(ActionListener.class)).onResponse("response");
+        router.track(MODEL_ID, "node1", mock(ActionListener.class));
+        // node2 has no samples and nothing outstanding, it costs the median latency and beats the busy node1.
+        for (int i = 0; i < 10; i++) {
+            assertEquals("node2", router.selectNode(MODEL_ID, workerNodes, null));
+        }
+    }
+
+    public void testRemoveModel() {
+        router.track(MODEL_ID, "node1", mock(ActionListener.class));
+        router.track("other_model", "node1", mock(ActionListener.class));
+
+        router.removeModel(MODEL_ID);
+        assertEquals(0, router.getOutstanding(MODEL_ID, "node1"));
+        assertEquals(1, router.getOutstanding("other_model", "node1"));
+
+        router.retainModels(Set.of(MODEL_ID));
+        assertEquals(0, router.getOutstanding("other_model", "node1"));
+    }
+
+    public void testTrack() {
+        ActionListener<String> listener = mock(ActionListener.class);
+        ActionListener<String> trackedListener = router.track(MODEL_ID, "node1", listener);
+        ActionListener<String> failedListener = router.track(MODEL_ID, "node1", listener);
+        assertEquals(2, router.getOutstanding(MODEL_ID, "node1"));
+
+        trackedListener.onResponse("response");
+        failedListener.onFailure(new RuntimeException("test"));
+        assertEquals(0, router.getOutstanding(MODEL_ID, "node1"));
+        verify(listener).onResponse("response");
+        verify(listener).onFailure(any(RuntimeException.class));
+    }
+
+    public void testSelectNode_ForgetRemovedNodes() {
+        router.track(MODEL_ID, "node1", mock(ActionListener.class));
+        router.track(MODEL_ID, "node2", mock(ActionListener.class));
+        router.track(MODEL_ID, "node3", mock(ActionListener.class));
+
+        router.selectNode(MODEL_ID, nodeIds, null);
+        assertEquals(0, router.getOutstanding(MODEL_ID, "node3"));
+        assertEquals(1, router.getOutstanding(MODEL_ID, "node1"));
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableList;
+
+public class MLPredictQueueTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ExecutorService executorService;
+    private ExecutorService remoteExecutorService;
+    private ThreadContext threadContext;
+    private ClusterSettings clusterSettings;
+    private MLPredictQueue predictQueue;
+    private List<Runnable> submitted;
+    private List<Runnable> remoteSubmitted;
+    private List<String> runs;
+    private List<Exception> failures;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL.getKey(), 4)
+            .putList(ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS.getKey(), "model1:2")
+            .build();
+        threadPool = mock(ThreadPool.class);
+        executorService = mock(ExecutorService.class);
+        threadContext = new ThreadContext(settings);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executorService);
+        remoteExecutorService = mock(ExecutorService.class);
+        when(threadPool.executor(REMOTE_PREDICT_THREAD_POOL)).thenReturn(remoteExecutorService);
+        submitted = new ArrayList<>();
+        doAnswer(invocation -> submitted.add(invocation.getArgument(0))).when(executorService).execute(any(Runnable.class));
+        remoteSubmitted = new ArrayList<>();
+        doAnswer(invocation -> remoteSubmitted.add(invocation.getArgument(0))).when(remoteExecutorService).execute(any(Runnable.class));
+
+        ClusterService clusterService = mock(ClusterService.class);
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL,
+            ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS,
+            ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        predictQueue = new MLPredictQueue(threadPool, clusterService, settings);
+        runs = new ArrayList<>();
+        failures = new ArrayList<>();
+    }
+
+    public void testExecute_WeightedRoundRobin() {
+        for (int i = 0; i < 4; i++) {
+            predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        }
+        predictQueue.execute(PREDICT_THREAD_POOL, "model2", task("model2"));
+        predictQueue.execute(PREDICT_THREAD_POOL, "model2", task("model2"));
+        assertEquals(4, predictQueue.getStats("model1").get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+
+        submitted.forEach(Runnable::run);
+
+        assertEquals(ImmutableList.of("model1", "model1", "model2", "model1", "model1", "model2"), runs);
+        assertTrue(failures.isEmpty());
+        assertEquals(0, predictQueue.getStats("model1").get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+        assertEquals(0, predictQueue.getStats("model2").get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+    }
+
+    public void testExecute_SeparateExecutors() {
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        predictQueue.execute(REMOTE_PREDICT_THREAD_POOL, "remote_model", task("remote_model"));
+
+        assertEquals(2, submitted.size());
+        assertEquals(1, remoteSubmitted.size());
+        remoteSubmitted.get(0).run();
+        assertEquals(ImmutableList.of("remote_model"), runs);
+        // A local predict thread never picks up remote requests.
+        submitted.forEach(Runnable::run);
+        assertEquals(ImmutableList.of("remote_model", "model1", "model1"), runs);
+    }
+
+    public void testExecute_QueueFull() {
+        for (int i = 0; i < 5; i++) {
+            predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        }
+        predictQueue.execute(PREDICT_THREAD_POOL, "model2", task("model2"));
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof OpenSearchRejectedExecutionException);
+        Map<String, Object> stats = predictQueue.getStats("model1");
+        assertEquals(4, stats.get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+        assertEquals(1L, stats.get(MLPredictQueue.REJECTED_COUNT_FIELD));
+        assertEquals(1, predictQueue.getStats("model2").get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+    }
+
+    public void testExecute_ShedExpired() {
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", System.nanoTime() - 1, task("model1"));
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", null, task("model1"));
+
+        submitted.get(0).run();
+
+        assertEquals(ImmutableList.of("model1"), runs);
+        assertEquals(1, failures.size());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ((OpenSearchStatusException) failures.get(0)).status());
+        assertEquals(1L, predictQueue.getStats("model1").get(MLPredictQueue.SHED_COUNT_FIELD));
+        submitted.get(1).run();
+        assertEquals(1, runs.size());
+    }
+
+    public void testExecute_MaxWaitSetting() throws InterruptedException {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS.getKey(), 1).build());
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        Thread.sleep(5);
+
+        submitted.get(0).run();
+
+        assertTrue(runs.isEmpty());
+        assertEquals(1, failures.size());
+        assertEquals(1L, predictQueue.getStats("model1").get(MLPredictQueue.SHED_COUNT_FIELD));
+    }
+
+    public void testExecute_EarlierOfDeadlineAndMaxWait() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS.getKey(), 60_000).build());
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", System.nanoTime() - 1, task("model1"));
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", System.nanoTime() + TimeUnit.MINUTES.toNanos(10), task("model1"));
+
+        submitted.forEach(Runnable::run);
+
+        assertEquals(ImmutableList.of("model1"), runs);
+        assertEquals(1, failures.size());
+        assertEquals(1L, predictQueue.getStats("model1").get(MLPredictQueue.SHED_COUNT_FIELD));
+    }
+
+    public void testExecute_ExecutorRejected() {
+        doThrow(new OpenSearchRejectedExecutionException("rejected")).when(executorService).execute(any(Runnable.class));
+
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+
+        assertEquals(1, failures.size());
+        assertEquals("rejected", failures.get(0).getMessage());
+        Map<String, Object> stats = predictQueue.getStats("model1");
+        assertEquals(0, stats.get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+        assertEquals(1L, stats.get(MLPredictQueue.REJECTED_COUNT_FIELD));
+    }
+
+    public void testExecute_ExecutorRejected_RejectOrphanedTask() {
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("A"));
+        predictQueue.execute(PREDICT_THREAD_POOL, "model2", task("C"));
+        // The submitted predict threads run both requests of model1 before the runner of B is rejected, which leaves C
+        // without a runner.
+        doAnswer(invocation -> {
+            submitted.forEach(Runnable::run);
+            throw new OpenSearchRejectedExecutionException("rejected");
+        }).when(executorService).execute(any(Runnable.class));
+
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("B"));
+
+        assertEquals(ImmutableList.of("A", "B"), runs);
+        assertEquals(1, failures.size());
+        assertEquals("rejected", failures.get(0).getMessage());
+        Map<String, Object> stats = predictQueue.getStats("model2");
+        assertEquals(0, stats.get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+        assertEquals(1L, stats.get(MLPredictQueue.REJECTED_COUNT_FIELD));
+        assertEquals(0L, predictQueue.getStats("model1").get(MLPredictQueue.REJECTED_COUNT_FIELD));
+    }
+
+    public void testRemoveModel() {
+        predictQueue.execute(PREDICT_THREAD_POOL, "model1", task("model1"));
+        submitted.forEach(Runnable::run);
+        assertEquals(0, predictQueue.getStats("model1").get(MLPredictQueue.QUEUE_DEPTH_FIELD));
+
+        predictQueue.removeModel("model1");
+
+        assertNull(predictQueue.getStats("model1"));
+    }
+
+    public void testExecute_RestoreThreadContext() {
+        List<String> headers = new ArrayList<>();
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("request", "request1");
+            predictQueue.execute(PREDICT_THREAD_POOL, "model1", new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    failures.add(e);
+                }
+
+                @Override
+                protected void doRun() {
+                    headers.add(threadContext.getHeader("request"));
+                }
+            });
+        }
+
+        submitted.get(0).run();
+
+        assertEquals(ImmutableList.of("request1"), headers);
+        assertNull(threadContext.getHeader("request"));
+    }
+
+    public void testGetStats_UnknownModel() {
+        assertNull(predictQueue.getStats("model1"));
+    }
+
+    public void testParseModelWeights() {
+        Map<String, Integer> weights = MLPredictQueue.parseModelWeights(ImmutableList.of("model1:3", "model:2:1"));
+        assertEquals(3, weights.get("model1").intValue());
+        assertEquals(1, weights.get("model:2").intValue());
+        expectThrows(IllegalArgumentException.class, () -> MLPredictQueue.parseModelWeights(ImmutableList.of("model1")));
+        expectThrows(IllegalArgumentException.class, () -> MLPredictQueue.parseModelWeights(ImmutableList.of("model1:a")));
+        expectThrows(IllegalArgumentException.class, () -> MLPredictQueue.parseModelWeights(ImmutableList.of("model1:0")));
+    }
+
+    private AbstractRunnable task(String modelId) {
+        return new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                failures.add(e);
+            }
+
+            @Override
+            protected void doRun() {
+                runs.add(modelId);
+            }
+        };
+    }
+}
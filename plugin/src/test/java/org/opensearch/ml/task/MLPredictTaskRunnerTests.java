@@ -9,6 +9,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -22,18 +28,22 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.get.GetResult;
@@ -49,14 +59,17 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLPredictModelCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
@@ -65,6 +78,7 @@ import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
@@ -105,6 +119,12 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     @Mock
     ActionListener<MLTaskResponse> listener;
 
+    @Mock
+    MLPredictModelCache mlPredictModelCache;
+
+    @Mock
+    Predictable predictable;
+
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
 
@@ -147,6 +167,14 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
+        ClusterSettings clusterSettings = clusterSetting(
+            Settings.EMPTY,
+            ML_COMMONS_PREDICT_QUEUE_SIZE_PER_MODEL,
+            ML_COMMONS_PREDICT_QUEUE_MAX_WAIT_IN_MILLIS,
+            ML_COMMONS_PREDICT_QUEUE_MODEL_WEIGHTS
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        MLPredictQueue mlPredictQueue = new MLPredictQueue(threadPool, clusterService, Settings.EMPTY);
         taskRunner = spy(
             new MLPredictTaskRunner(
                 threadPool,
@@ -160,7 +188,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 xContentRegistry(),
                 mlModelManager,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                mlPredictModelCache,
+                mlPredictQueue
             )
         );
 
@@ -263,12 +293,70 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("User: test_user does not have permissions to run predict by model: 111", argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_OnLocalNode_CachedModel() {
+        setupMocks(true, false, false, false);
+        when(mlPredictModelCache.isCacheable(FunctionName.BATCH_RCF)).thenReturn(true);
+        when(mlPredictModelCache.get(eq("111"), any()))
+            .thenReturn(new MLPredictModelCache.CachedModel(predictable, User.parse(USER_STRING)));
+        MLPredictionOutput output = MLPredictionOutput.builder().predictionResult(dataFrame).build();
+        when(predictable.predict(any(MLInput.class))).thenReturn(output);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(client, never()).get(any(), any());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        verify(mlTaskManager, never()).remove(anyString());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(output, argumentCaptor.getValue().getOutput());
+    }
+
+    public void testExecuteTask_OnLocalNode_CachedModel_NoPermission() {
+        setupMocks(true, false, false, false);
+        threadContext.stashContext();
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "test_user|test_role|test_tenant");
+        when(mlPredictModelCache.isCacheable(FunctionName.BATCH_RCF)).thenReturn(true);
+        when(mlPredictModelCache.get(eq("111"), any()))
+            .thenReturn(new MLPredictModelCache.CachedModel(predictable, User.parse(USER_STRING)));
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(client, never()).get(any(), any());
+        verify(predictable, never()).predict(any(MLInput.class));
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("User: test_user does not have permissions to run predict by model: 111", argumentCaptor.getValue().getMessage());
+    }
+
     public void testExecuteTask_OnRemoteNode() {
         setupMocks(false, false, false, false);
         taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
     }
 
+    public void testExecuteTask_OnRemoteNode_Timeout() {
+        setupMocks(false, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.timeValueMinutes(1));
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(transportService)
+            .sendRequest(
+                eq(remoteNode),
+                eq(MLPredictionTaskAction.NAME),
+                eq(requestWithDataFrame),
+                any(TransportRequestOptions.class),
+                any()
+            );
+    }
+
+    public void testExecuteTask_Expired() {
+        setupMocks(true, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.ZERO);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+    }
+
     public void testExecuteTask_OnLocalNode_GetModelFail() {
         setupMocks(true, false, true, false);
 
@@ -308,6 +396,12 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
+    public void testGetPredictExecutor() {
+        assertEquals(REMOTE_PREDICT_THREAD_POOL, MLPredictTaskRunner.getPredictExecutor(FunctionName.REMOTE));
+        assertEquals(PREDICT_THREAD_POOL, MLPredictTaskRunner.getPredictExecutor(FunctionName.TEXT_EMBEDDING));
+        assertEquals(PREDICT_THREAD_POOL, MLPredictTaskRunner.getPredictExecutor(FunctionName.BATCH_RCF));
+    }
+
     private void setupMocks(boolean runOnLocalNode, boolean failedToParseQueryInput, boolean failedToGetModel, boolean nullGetResponse) {
         doAnswer(invocation -> {
             ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
@@ -320,14 +414,15 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskDispatcher).dispatch(any(), any());
 
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
                 actionListener.onResponse(remoteNode);
             }
             return null;
-        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
+        when(mlTaskDispatcher.trackPredictTask(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
 
         if (failedToParseQueryInput) {
             doAnswer(invocation -> {
@@ -8,12 +8,17 @@ package org.opensearch.ml.task;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,6 +78,15 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        when(clusterService.getClusterSettings())
+            .thenReturn(
+                clusterSetting(
+                    settings,
+                    ML_COMMONS_TASK_DISPATCH_POLICY,
+                    ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                    ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS
+                )
+            );
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -158,6 +172,79 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDispatchPredictTask_LeastLoad_UseCachedNodeLoad() {
+        MLTaskDispatcher leastLoadDispatcher = createLeastLoadDispatcher(60000);
+        mlStatsNodesResponse = getNodesResponse_TwoNodes(3l, 1l);
+
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        ArgumentCaptor<DiscoveryNode> argumentCaptor = ArgumentCaptor.forClass(DiscoveryNode.class);
+        verify(listener, times(3)).onResponse(argumentCaptor.capture());
+        // node2 starts with 1 running task and gets the first two tasks, then both nodes have 3 running tasks.
+        assertEquals("node2", argumentCaptor.getAllValues().get(0).getId());
+        assertEquals("node2", argumentCaptor.getAllValues().get(1).getId());
+        assertEquals("node1", argumentCaptor.getAllValues().get(2).getId());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_CacheDisabled() {
+        MLTaskDispatcher leastLoadDispatcher = createLeastLoadDispatcher(0);
+        mlStatsNodesResponse = getNodesResponse_TwoNodes(3l, 1l);
+
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_NewNodeNotCached() {
+        MLTaskDispatcher leastLoadDispatcher = createLeastLoadDispatcher(60000);
+        mlStatsNodesResponse = getNodesResponse_TwoNodes(3l, 1l);
+        when(nodeHelper.getNodes(new String[] { "node1" })).thenReturn(new DiscoveryNode[] { dataNode1 });
+        when(nodeHelper.getNodes(new String[] { "mlNode" })).thenReturn(new DiscoveryNode[] { mlNode });
+
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "node1" }, listener);
+        leastLoadDispatcher.dispatchPredictTask(new String[] { "mlNode" }, listener);
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+    }
+
+    public void testDispatchPolicy_Invalid() {
+        Settings invalidSettings = Settings.builder().put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_loaded").build();
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> ML_COMMONS_TASK_DISPATCH_POLICY.get(invalidSettings)
+        );
+        assertEquals("Task dispatch policy must be round_robin, least_load or latency_aware: least_loaded", e.getMessage());
+    }
+
+    private MLTaskDispatcher createLeastLoadDispatcher(int cacheTtlInMillis) {
+        Settings leastLoadSettings = Settings
+            .builder()
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .put(ML_COMMONS_NODE_LOAD_CACHE_TTL_IN_MILLIS.getKey(), cacheTtlInMillis)
+            .build();
+        when(nodeHelper.getNodes(new String[] { "node1", "node2" })).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        return new MLTaskDispatcher(clusterService, client, leastLoadSettings, nodeHelper);
+    }
+
+    private MLStatsNodesResponse getNodesResponse_TwoNodes(long node1TaskCount, long node2TaskCount) {
+        Map<MLNodeLevelStat, Object> nodeStats1 = new HashMap<>();
+        nodeStats1.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
+        nodeStats1.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, node1TaskCount);
+        Map<MLNodeLevelStat, Object> nodeStats2 = new HashMap<>();
+        nodeStats2.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
+        nodeStats2.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, node2TaskCount);
+        return new MLStatsNodesResponse(
+            new ClusterName(clusterName),
+            Arrays.asList(new MLStatsNodeResponse(dataNode1, nodeStats1), new MLStatsNodeResponse(dataNode2, nodeStats2)),
+            new ArrayList<>()
+        );
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
@@ -16,6 +16,7 @@ import org.junit.Assert;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -49,4 +50,15 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         MLTask parsedMLTask = MLTask.parse(xContentParser);
         assertEquals(mlTask, parsedMLTask);
     }
+
+    public void testGetCacheInvalidationNodes() {
+        Set<DiscoveryNodeRole> roleSet = Set.of(DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNode currentNode = new DiscoveryNode("current", buildNewFakeTransportAddress(), emptyMap(), roleSet, Version.CURRENT);
+        DiscoveryNode oldNode = new DiscoveryNode("old", buildNewFakeTransportAddress(), emptyMap(), roleSet, Version.V_2_19_0);
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(currentNode).add(oldNode).build();
+
+        DiscoveryNode[] invalidationNodes = MLNodeUtils.getCacheInvalidationNodes(nodes);
+        assertEquals(1, invalidationNodes.length);
+        assertEquals(currentNode, invalidationNodes[0]);
+    }
 }
@@ -354,7 +354,7 @@ public class TestHelper {
         assertEquals(3, kMeansParams.getCentroids().intValue());
     }
 
-    private static NamedXContentRegistry getXContentRegistry() {
+    public static NamedXContentRegistry getXContentRegistry() {
         SearchModule searchModule = new SearchModule(Settings.EMPTY, Collections.emptyList());
         List<NamedXContentRegistry.Entry> entries = new ArrayList<>();
         entries.addAll(searchModule.getNamedXContents());